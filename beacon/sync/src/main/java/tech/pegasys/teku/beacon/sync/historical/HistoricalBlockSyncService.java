@@ -142,6 +142,7 @@ public class HistoricalBlockSyncService extends Service {
                     storageUpdateChannel,
                     chainData,
                     spec,
+                    asyncRunner,
                     timeProvider,
                     metricsSystem,
                     genesisStateResource))
@@ -18,6 +18,8 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import com.google.common.base.Throwables;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
@@ -40,13 +43,27 @@ import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 
+/**
+ * Rebuilds finalized states between genesis and the checkpoint sync anchor by replaying the stored
+ * blocks.
+ *
+ * <p>Slots are reconstructed in ranges of {@code SLOTS_PER_HISTORICAL_ROOT} slots. Once every state
+ * in a range has been stored, the end of the range is recorded in the database so that a restart
+ * resumes from the last completed range rather than from the last stored state snapshot. Blocks are
+ * replayed on a dedicated worker while upcoming blocks are fetched and reconstructed states are
+ * written to storage concurrently.
+ */
 public class ReconstructHistoricalStatesService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
+  static final int BLOCK_PREFETCH_LIMIT = 32;
+  static final int MAX_PENDING_STATE_WRITES = 16;
+
   private final Spec spec;
   private final CombinedChainDataClient chainDataClient;
   private final Optional<String> genesisStateResource;
   private final StorageUpdateChannel storageUpdateChannel;
+  private final AsyncRunner asyncRunner;
   private final StatusLogger statusLogger;
   private final ProgressLogger progressLogger;
 
@@ -57,6 +74,7 @@ public class ReconstructHistoricalStatesService extends Service {
       final StorageUpdateChannel storageUpdateChannel,
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
+      final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final Optional<String> genesisStateResource) {
@@ -64,6 +82,7 @@ public class ReconstructHistoricalStatesService extends Service {
         storageUpdateChannel,
         chainDataClient,
         spec,
+        asyncRunner,
         timeProvider,
         metricsSystem,
         genesisStateResource,
@@ -74,6 +93,7 @@ public class ReconstructHistoricalStatesService extends Service {
       final StorageUpdateChannel storageUpdateChannel,
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
+      final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final Optional<String> genesisStateResource,
@@ -81,6 +101,7 @@ public class ReconstructHistoricalStatesService extends Service {
     this.storageUpdateChannel = storageUpdateChannel;
     this.chainDataClient = chainDataClient;
     this.spec = spec;
+    this.asyncRunner = asyncRunner;
     this.genesisStateResource = genesisStateResource;
     this.statusLogger = statusLogger;
     this.progressLogger = new ProgressLogger(metricsSystem, statusLogger, timeProvider);
@@ -114,25 +135,11 @@ public class ReconstructHistoricalStatesService extends Service {
               final UInt64 anchorSlot = checkpoint.get().getEpochStartSlot(spec);
 
               chainDataClient
-                  .getLatestAvailableFinalizedState(anchorSlot.minusMinZero(1))
+                  .getReconstructedStatesSlot()
                   .thenComposeChecked(
-                      latestState -> {
-                        if (latestState.isPresent()) {
-                          final BeaconState state = latestState.get();
-                          return SafeFuture.completedFuture(
-                              new Context(state, state.getSlot().increment(), anchorSlot));
-                        }
-
-                        final Bytes32 genesisBlockRoot =
-                            BeaconBlockHeader.fromState(genesisState).getRoot();
-                        return storageUpdateChannel
-                            .onReconstructedFinalizedState(genesisState, genesisBlockRoot)
-                            .thenApply(
-                                __ ->
-                                    new Context(
-                                        genesisState, GENESIS_SLOT.increment(), anchorSlot));
-                      })
-                  .thenComposeChecked(this::applyNextBlock)
+                      reconstructedSlot ->
+                          createContext(genesisState, anchorSlot, reconstructedSlot))
+                  .thenComposeChecked(this::reconstructNextRange)
                   .finish(
                       error -> {
                         final Throwable rootCause = Throwables.getRootCause(error);
@@ -147,8 +154,36 @@ public class ReconstructHistoricalStatesService extends Service {
             });
   }
 
-  private SafeFuture<Void> applyNextBlock(final Context context) {
-    if (context.checkStopApplyBlock()) {
+  private SafeFuture<Context> createContext(
+      final BeaconState genesisState,
+      final UInt64 anchorSlot,
+      final Optional<UInt64> reconstructedSlot) {
+    if (reconstructedSlot.map(slot -> slot.isGreaterThanOrEqualTo(anchorSlot)).orElse(false)) {
+      return SafeFuture.completedFuture(new Context(genesisState, anchorSlot, anchorSlot));
+    }
+
+    // Databases written before progress was recorded resume from their latest stored state
+    final UInt64 resumeSlot = reconstructedSlot.orElse(anchorSlot);
+    return chainDataClient
+        .getLatestAvailableFinalizedState(resumeSlot.minusMinZero(1))
+        .thenComposeChecked(
+            latestState -> {
+              if (latestState.isPresent()) {
+                final BeaconState state = latestState.get();
+                return SafeFuture.completedFuture(
+                    new Context(state, state.getSlot().increment(), anchorSlot));
+              }
+
+              final Bytes32 genesisBlockRoot = BeaconBlockHeader.fromState(genesisState).getRoot();
+              return storageUpdateChannel
+                  .onReconstructedFinalizedState(genesisState, genesisBlockRoot)
+                  .thenApply(
+                      __ -> new Context(genesisState, GENESIS_SLOT.increment(), anchorSlot));
+            });
+  }
+
+  private SafeFuture<Void> reconstructNextRange(final Context context) {
+    if (context.isComplete()) {
       statusLogger.reconstructHistoricalStatesServiceComplete();
       stopped.complete(null);
       return SafeFuture.COMPLETE;
@@ -159,8 +194,29 @@ public class ReconstructHistoricalStatesService extends Service {
       return SafeFuture.COMPLETE;
     }
 
-    return chainDataClient
-        .getBlockAtSlotExact(context.slot)
+    final UInt64 rangeEndSlot = context.getRangeEndSlot(spec);
+    return applyNextBlock(context, rangeEndSlot)
+        .thenCompose(__ -> context.awaitStateWrites())
+        .thenCompose(
+            __ -> {
+              if (context.slot.isLessThan(rangeEndSlot)) {
+                // Stopped part way through the range
+                return SafeFuture.COMPLETE;
+              }
+              LOG.debug("Reconstructed historical states up to slot {}", rangeEndSlot);
+              return storageUpdateChannel.onReconstructedStatesProgress(rangeEndSlot);
+            })
+        .thenCompose(__ -> reconstructNextRange(context));
+  }
+
+  private SafeFuture<Void> applyNextBlock(final Context context, final UInt64 rangeEndSlot) {
+    if (context.slot.isGreaterThanOrEqualTo(rangeEndSlot) || shutdown.get()) {
+      return SafeFuture.COMPLETE;
+    }
+
+    context.fetchBlocks(chainDataClient, rangeEndSlot);
+    return context
+        .nextBlock()
         .thenComposeChecked(
             maybeBlock -> {
               if (maybeBlock.isEmpty()) {
@@ -168,13 +224,17 @@ public class ReconstructHistoricalStatesService extends Service {
               }
 
               final SignedBeaconBlock block = maybeBlock.get();
-              progressLogger.update(block, context.anchorSlot);
-              context.currentState = spec.replayValidatedBlock(context.currentState, block);
-              return storageUpdateChannel.onReconstructedFinalizedState(
-                  context.currentState, block.getRoot());
+              return asyncRunner.runAsync(
+                  () -> {
+                    progressLogger.update(block, context.anchorSlot);
+                    context.currentState = spec.replayValidatedBlock(context.currentState, block);
+                    return context.addStateWrite(
+                        storageUpdateChannel.onReconstructedFinalizedState(
+                            context.currentState, block.getRoot()));
+                  });
             })
         .thenRun(context::incrementSlot)
-        .thenCompose(__ -> applyNextBlock(context));
+        .thenCompose(__ -> applyNextBlock(context, rangeEndSlot));
   }
 
   @Override
@@ -188,16 +248,65 @@ public class ReconstructHistoricalStatesService extends Service {
     private UInt64 slot;
     private final UInt64 anchorSlot;
 
+    private final Deque<SafeFuture<Optional<SignedBeaconBlock>>> pendingBlocks =
+        new ArrayDeque<>();
+    private final Deque<SafeFuture<Void>> pendingStateWrites = new ArrayDeque<>();
+    private UInt64 nextSlotToFetch;
+
     Context(final BeaconState currentState, final UInt64 slot, final UInt64 anchorSlot) {
       this.currentState = currentState;
       this.slot = slot;
       this.anchorSlot = anchorSlot;
+      this.nextSlotToFetch = slot;
     }
 
-    private boolean checkStopApplyBlock() {
+    private boolean isComplete() {
       return slot.isGreaterThanOrEqualTo(anchorSlot);
     }
 
+    private UInt64 getRangeEndSlot(final Spec spec) {
+      final UInt64 rangeSize = UInt64.valueOf(spec.getSlotsPerHistoricalRoot(slot));
+      return slot.dividedBy(rangeSize).increment().times(rangeSize).min(anchorSlot);
+    }
+
+    private void fetchBlocks(
+        final CombinedChainDataClient chainDataClient, final UInt64 rangeEndSlot) {
+      while (pendingBlocks.size() < BLOCK_PREFETCH_LIMIT
+          && nextSlotToFetch.isLessThan(rangeEndSlot)) {
+        pendingBlocks.addLast(chainDataClient.getBlockAtSlotExact(nextSlotToFetch));
+        nextSlotToFetch = nextSlotToFetch.increment();
+      }
+    }
+
+    private SafeFuture<Optional<SignedBeaconBlock>> nextBlock() {
+      return pendingBlocks.removeFirst();
+    }
+
+    /**
+     * Tracks an in-flight state write, returning a future that completes once there is capacity
+     * for another write or fails if an earlier write has failed.
+     */
+    private SafeFuture<Void> addStateWrite(final SafeFuture<Void> stateWrite) {
+      pendingStateWrites.addLast(stateWrite);
+      while (!pendingStateWrites.isEmpty() && pendingStateWrites.peekFirst().isDone()) {
+        final SafeFuture<Void> completedWrite = pendingStateWrites.removeFirst();
+        if (completedWrite.isCompletedExceptionally()) {
+          return completedWrite;
+        }
+      }
+      if (pendingStateWrites.size() < MAX_PENDING_STATE_WRITES) {
+        return SafeFuture.COMPLETE;
+      }
+      return pendingStateWrites.removeFirst();
+    }
+
+    private SafeFuture<Void> awaitStateWrites() {
+      final SafeFuture<Void> allWrites =
+          SafeFuture.allOfFailFast(pendingStateWrites.toArray(SafeFuture<?>[]::new));
+      pendingStateWrites.clear();
+      return allWrites;
+    }
+
     private void incrementSlot() {
       slot = slot.increment();
     }
@@ -81,7 +81,13 @@ public class HistoricalBlockSyncServiceTest {
       Optional.of("https://example.com/state.ssz");
   private final ReconstructHistoricalStatesService reconstructHistoricalStatesService =
       new ReconstructHistoricalStatesService(
-          storageUpdateChannel, chainData, spec, timeProvider, metricsSystem, genesisStateResource);
+          storageUpdateChannel,
+          chainData,
+          spec,
+          asyncRunner,
+          timeProvider,
+          metricsSystem,
+          genesisStateResource);
 
   private final UInt64 batchSize = UInt64.valueOf(5);
   private final HistoricalBlockSyncService service =
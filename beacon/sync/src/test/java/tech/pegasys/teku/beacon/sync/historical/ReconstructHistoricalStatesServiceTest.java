@@ -22,6 +22,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
 import java.io.File;
 import java.io.IOException;
@@ -66,6 +67,10 @@ public class ReconstructHistoricalStatesServiceTest {
 
     when(storageUpdateChannel.onReconstructedFinalizedState(any(), any()))
         .thenReturn(SafeFuture.COMPLETE);
+    when(storageUpdateChannel.onReconstructedStatesProgress(any()))
+        .thenReturn(SafeFuture.COMPLETE);
+    when(chainDataClient.getReconstructedStatesSlot())
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
   }
 
   @Test
@@ -200,6 +205,71 @@ public class ReconstructHistoricalStatesServiceTest {
                     .onReconstructedFinalizedState(any(), eq(signedBlockAndState.getRoot())));
   }
 
+  @Test
+  void shouldRecordProgressAtEndOfEachRange(@TempDir final Path tempDir) throws IOException {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+
+    chainBuilder.generateBlocksUpToSlot(80);
+    final Checkpoint initialAnchor = getInitialAnchor();
+    final UInt64 anchorSlot = initialAnchor.getEpochStartSlot(spec);
+    final UInt64 rangeSize = UInt64.valueOf(spec.getSlotsPerHistoricalRoot(UInt64.ZERO));
+    assertThat(anchorSlot).isGreaterThan(rangeSize);
+    setUpService(tempDir, initialAnchor);
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(storageUpdateChannel, times(anchorSlot.intValue()))
+        .onReconstructedFinalizedState(any(), any());
+    verify(storageUpdateChannel).onReconstructedStatesProgress(rangeSize);
+    verify(storageUpdateChannel).onReconstructedStatesProgress(anchorSlot);
+    verify(storageUpdateChannel, times(2)).onReconstructedStatesProgress(any());
+    verify(statusLogger).reconstructHistoricalStatesServiceComplete();
+  }
+
+  @Test
+  void shouldResumeFromRecordedProgress(@TempDir final Path tempDir) throws IOException {
+    chainBuilder.generateBlocksUpToSlot(80);
+    final Checkpoint initialAnchor = getInitialAnchor();
+    final UInt64 anchorSlot = initialAnchor.getEpochStartSlot(spec);
+    final UInt64 reconstructedSlot = UInt64.valueOf(64);
+    when(chainDataClient.getReconstructedStatesSlot())
+        .thenReturn(SafeFuture.completedFuture(Optional.of(reconstructedSlot)));
+    when(chainDataClient.getLatestAvailableFinalizedState(reconstructedSlot.minus(1)))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(chainBuilder.getStateAtSlot(reconstructedSlot.minus(1)))));
+    setUpService(tempDir, initialAnchor);
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(storageUpdateChannel, times(anchorSlot.minus(reconstructedSlot).intValue()))
+        .onReconstructedFinalizedState(any(), any());
+    chainBuilder
+        .streamBlocksAndStates(reconstructedSlot, anchorSlot.minus(1))
+        .forEach(
+            signedBlockAndState ->
+                verify(storageUpdateChannel)
+                    .onReconstructedFinalizedState(any(), eq(signedBlockAndState.getRoot())));
+    verify(storageUpdateChannel).onReconstructedStatesProgress(anchorSlot);
+    verify(chainDataClient, never()).getBlockAtSlotExact(reconstructedSlot.minus(1));
+  }
+
+  @Test
+  void shouldCompleteWhenAllStatesReconstructed(@TempDir final Path tempDir) throws IOException {
+    final Checkpoint initialAnchor = getInitialAnchor();
+    when(chainDataClient.getReconstructedStatesSlot())
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(initialAnchor.getEpochStartSlot(spec))));
+    setUpService(tempDir, initialAnchor);
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(chainDataClient, never()).getLatestAvailableFinalizedState(any());
+    verify(storageUpdateChannel, never()).onReconstructedFinalizedState(any(), any());
+    verify(statusLogger).reconstructHistoricalStatesServiceComplete();
+  }
+
   private Checkpoint getInitialAnchor() {
     return chainBuilder.getCurrentCheckpointForEpoch(chainBuilder.getLatestEpoch());
   }
@@ -231,6 +301,7 @@ public class ReconstructHistoricalStatesServiceTest {
             storageUpdateChannel,
             chainDataClient,
             spec,
+            SYNC_RUNNER,
             StubTimeProvider.withTimeInSeconds(0),
             metricsSystem,
             genesisStateResource,
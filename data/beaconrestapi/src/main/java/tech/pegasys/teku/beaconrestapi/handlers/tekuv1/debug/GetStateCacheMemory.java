@@ -0,0 +1,110 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.debug;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.CACHE_NONE;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_TEKU;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BYTES32_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.INTEGER_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.LONG_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.javalin.http.Header;
+import java.util.function.Function;
+import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport.CachedStateMemory;
+
+public class GetStateCacheMemory extends RestApiEndpoint {
+  public static final String ROUTE = "/teku/v1/debug/state_cache/memory";
+
+  private static final SerializableTypeDefinition<CachedStateMemory> CACHED_STATE_TYPE =
+      SerializableTypeDefinition.object(CachedStateMemory.class)
+          .name("CachedStateMemory")
+          .withField("cache", STRING_TYPE, state -> state.state().cache())
+          .withField("slot", UINT64_TYPE, state -> state.state().slot())
+          .withField("block_root", BYTES32_TYPE, state -> state.state().blockRoot())
+          .withField("unique_bytes", LONG_TYPE, CachedStateMemory::uniqueBytes)
+          .build();
+
+  private static final SerializableTypeDefinition<StateCacheMemoryReport> REPORT_TYPE =
+      SerializableTypeDefinition.object(StateCacheMemoryReport.class)
+          .name("StateCacheMemory")
+          .withField("total_bytes", LONG_TYPE, StateCacheMemoryReport::totalBytes)
+          .withField("total_unique_bytes", LONG_TYPE, StateCacheMemoryReport::totalUniqueBytes)
+          .withField("shared_bytes", LONG_TYPE, StateCacheMemoryReport::sharedBytes)
+          .withField(
+              "states",
+              SerializableTypeDefinition.listOf(CACHED_STATE_TYPE),
+              StateCacheMemoryReport::states)
+          .withField("skipped_states", INTEGER_TYPE, StateCacheMemoryReport::skippedStates)
+          .build();
+
+  private static final SerializableTypeDefinition<StateCacheMemoryReport> RESPONSE_TYPE =
+      SerializableTypeDefinition.object(StateCacheMemoryReport.class)
+          .name("GetStateCacheMemoryResponse")
+          .withField("data", REPORT_TYPE, Function.identity())
+          .build();
+
+  private final ChainDataProvider chainDataProvider;
+  private final AsyncRunner asyncRunner;
+
+  public GetStateCacheMemory(final DataProvider dataProvider, final AsyncRunner asyncRunner) {
+    this(dataProvider.getChainDataProvider(), asyncRunner);
+  }
+
+  GetStateCacheMemory(final ChainDataProvider chainDataProvider, final AsyncRunner asyncRunner) {
+    super(
+        EndpointMetadata.get(ROUTE)
+            .operationId("getStateCacheMemory")
+            .summary("Get memory used by cached states")
+            .description(
+                "Estimates the memory retained by each state held in the in-memory store caches, "
+                    + "separating bytes unique to a state from tree nodes shared between states. "
+                    + "Walks up to the 8 most recent cached states so it is expensive to compute. "
+                    + "Older states are not analyzed and are counted in skipped_states. This API "
+                    + "is considered unstable and the returned data format may change in the "
+                    + "future.")
+            .tags(TAG_TEKU)
+            .response(SC_OK, "Request successful", RESPONSE_TYPE)
+            .withServiceUnavailableResponse()
+            .build());
+    this.chainDataProvider = chainDataProvider;
+    this.asyncRunner = asyncRunner;
+  }
+
+  @Override
+  public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+    if (!chainDataProvider.isStoreAvailable()) {
+      throw new ServiceUnavailableException();
+    }
+    request.header(Header.CACHE_CONTROL, CACHE_NONE);
+    // Walking the cached states takes a while so keep it off the request handling thread
+    request.respondAsync(
+        asyncRunner
+            .runAsync(chainDataProvider::getStateCacheMemoryReport)
+            .thenApply(AsyncApiResponse::respondOk));
+  }
+}
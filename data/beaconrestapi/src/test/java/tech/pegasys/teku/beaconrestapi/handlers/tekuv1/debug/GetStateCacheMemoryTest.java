@@ -0,0 +1,95 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.debug;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_UNAVAILABLE;
+import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.getResponseStringFromMetadata;
+import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMetadataErrorResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
+import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerTest;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport.CachedState;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport.CachedStateMemory;
+
+public class GetStateCacheMemoryTest extends AbstractMigratedBeaconHandlerTest {
+
+  private final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+  private final StateCacheMemoryReport report =
+      new StateCacheMemoryReport(
+          List.of(
+              new CachedStateMemory(
+                  new CachedState(StateCacheMemoryReport.STATES_CACHE, UInt64.ONE, blockRoot),
+                  200)),
+          100,
+          2);
+
+  @BeforeEach
+  void setup() {
+    setHandler(new GetStateCacheMemory(chainDataProvider, SYNC_RUNNER));
+  }
+
+  @Test
+  public void shouldReturnReport() throws JsonProcessingException {
+    when(chainDataProvider.isStoreAvailable()).thenReturn(true);
+    when(chainDataProvider.getStateCacheMemoryReport()).thenReturn(report);
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(request.getResponseBody()).isEqualTo(report);
+  }
+
+  @Test
+  public void shouldBeUnavailableWithoutStore() {
+    when(chainDataProvider.isStoreAvailable()).thenReturn(false);
+
+    assertThatThrownBy(() -> handler.handleRequest(request))
+        .isInstanceOf(ServiceUnavailableException.class);
+  }
+
+  @Test
+  void metadata_shouldHandle500() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void metadata_shouldHandle503() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void metadata_shouldHandle200() throws JsonProcessingException {
+    final String data = getResponseStringFromMetadata(handler, SC_OK, report);
+    assertThat(data)
+        .isEqualTo(
+            "{\"data\":{\"total_bytes\":\"300\",\"total_unique_bytes\":\"200\","
+                + "\"shared_bytes\":\"100\",\"states\":[{\"cache\":\"states\",\"slot\":\"1\","
+                + "\"block_root\":\""
+                + blockRoot.toHexString()
+                + "\",\"unique_bytes\":\"200\"}],\"skipped_states\":\"2\"}}");
+  }
+}
@@ -77,6 +77,7 @@ import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProces
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport;
 
 public class ChainDataProvider {
   private static final Logger LOG = LogManager.getLogger();
@@ -206,6 +207,10 @@ public class ChainDataProvider {
     return combinedChainDataClient.isStoreAvailable();
   }
 
+  public StateCacheMemoryReport getStateCacheMemoryReport() {
+    return recentChainData.getStore().getStateCacheMemoryReport();
+  }
+
   public SafeFuture<Optional<StateAndMetaData>> getBeaconStateAtHead() {
     return stateSelectorFactory.headSelector().getState();
   }
@@ -194,6 +194,23 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  @Benchmark
+  public void getRewardAndPenaltyDeltas(Blackhole bh) {
+    bh.consume(
+        epochProcessor.getRewardAndPenaltyDeltas(preEpochTransitionState, validatorStatuses));
+  }
+
+  @Benchmark
+  public void processInactivityUpdates(Blackhole bh) {
+    epochProcessor.processInactivityUpdates(preEpochTransitionMutableState, validatorStatuses);
+  }
+
+  @Benchmark
+  public void processEffectiveBalanceUpdates(Blackhole bh) {
+    epochProcessor.processEffectiveBalanceUpdates(
+        preEpochTransitionMutableState, validatorStatuses.getStatuses());
+  }
+
   @Benchmark
   public void applyDeltas(Blackhole bh) {
     final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
@@ -13,7 +13,9 @@
 
 package tech.pegasys.teku.benchmarks.ssz;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
@@ -34,6 +36,10 @@ public class BitlistBenchmark {
       createBitlist(
           1, 2, 6, 16, 23, 33, 65, 87, 96, 100, 101, 102, 103, 104, 110, 115, 120, 121, 125);
 
+  // One single bit attestation per committee member, as received from the attestation subnets
+  private static final List<SszBitlist> SINGLE_BIT_ATTESTATIONS =
+      IntStream.range(0, BITLIST_SIZE).mapToObj(BitlistBenchmark::createBitlist).toList();
+
   @Benchmark
   @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -63,6 +69,26 @@ public class BitlistBenchmark {
     bh.consume(MANY_BITS_SET.getBitCount());
   }
 
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void isSuperSetOf(Blackhole bh) {
+    bh.consume(MANY_BITS_SET.isSuperSetOf(LAST_BIT_SET));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void aggregateAttestations(Blackhole bh) {
+    SszBitlist aggregate = createBitlist();
+    for (SszBitlist attestation : SINGLE_BIT_ATTESTATIONS) {
+      if (!aggregate.intersects(attestation) && !aggregate.isSuperSetOf(attestation)) {
+        aggregate = aggregate.or(attestation);
+      }
+    }
+    bh.consume(aggregate.getBitCount());
+  }
+
   private static SszBitlist createBitlist(final int... setBits) {
     return BITLIST_SCHEMA.ofBits(BITLIST_SIZE, setBits);
   }
@@ -20,6 +20,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
@@ -32,18 +33,21 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
   private final BlockProvider blockProvider;
   private final Bytes32 blockRoot;
   private final StateRegenerationBaseSelector baseSelector;
+  private final PersistentHotStateCache hotStateCache;
 
   public StateGenerationTask(
       final Spec spec,
       final Bytes32 blockRoot,
       final HashTree tree,
       final BlockProvider blockProvider,
-      final StateRegenerationBaseSelector baseSelector) {
+      final StateRegenerationBaseSelector baseSelector,
+      final PersistentHotStateCache hotStateCache) {
     this.spec = spec;
     this.tree = tree;
     this.blockProvider = blockProvider;
     this.blockRoot = blockRoot;
     this.baseSelector = baseSelector;
+    this.hotStateCache = hotStateCache;
   }
 
   @Override
@@ -79,12 +83,37 @@ public class StateGenerationTask implements CacheableTask<Bytes32, StateAndBlock
         blockRoot,
         tree,
         blockProvider,
-        baseSelector.withRebasedStartingPoint(newBaseBlockAndState));
+        baseSelector.withRebasedStartingPoint(newBaseBlockAndState),
+        hotStateCache);
   }
 
   @Override
   public SafeFuture<Optional<StateAndBlockSummary>> performTask() {
-    return baseSelector.getBestBase().thenCompose(this::regenerateState);
+    // Prefer the most recent state persisted by the hot state cache over replaying blocks
+    final Optional<Bytes32> maybeCachedRoot =
+        Stream.concat(Stream.of(blockRoot), streamIntermediateSteps())
+            .filter(hotStateCache::contains)
+            .findFirst();
+    if (maybeCachedRoot.isEmpty()) {
+      return baseSelector.getBestBase().thenCompose(this::regenerateState);
+    }
+    return hotStateCache
+        .get(maybeCachedRoot.get())
+        .thenCompose(
+            maybeCachedState -> {
+              if (maybeCachedState.isEmpty()) {
+                return baseSelector.getBestBase().thenCompose(this::regenerateState);
+              }
+              final StateAndBlockSummary cachedState = maybeCachedState.get();
+              if (cachedState.getRoot().equals(blockRoot)) {
+                LOG.trace("Loaded state for block {} from hot state cache", blockRoot);
+                return SafeFuture.completedFuture(maybeCachedState);
+              }
+              return baseSelector
+                  .withRebasedStartingPoint(cachedState)
+                  .getBestBase()
+                  .thenCompose(this::regenerateState);
+            });
   }
 
   protected SafeFuture<Optional<StateAndBlockSummary>> regenerateState(
@@ -0,0 +1,61 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.lookup;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+
+/**
+ * A bounded cache of recently used hot states which is kept outside of the heap, typically on disk,
+ * so that it survives restarts. States are keyed by block root and are consulted before falling
+ * back to replaying blocks from an older base state.
+ */
+public interface PersistentHotStateCache {
+  PersistentHotStateCache NOOP =
+      new PersistentHotStateCache() {
+        @Override
+        public boolean contains(final Bytes32 blockRoot) {
+          return false;
+        }
+
+        @Override
+        public SafeFuture<Optional<StateAndBlockSummary>> get(final Bytes32 blockRoot) {
+          return SafeFuture.completedFuture(Optional.empty());
+        }
+
+        @Override
+        public void put(final StateAndBlockSummary stateAndBlockSummary) {}
+
+        @Override
+        public void remove(final Bytes32 blockRoot) {}
+
+        @Override
+        public void prune(final UInt64 finalizedSlot) {}
+      };
+
+  boolean contains(Bytes32 blockRoot);
+
+  SafeFuture<Optional<StateAndBlockSummary>> get(Bytes32 blockRoot);
+
+  /** Stores the state asynchronously, evicting the oldest entries if the cache is full. */
+  void put(StateAndBlockSummary stateAndBlockSummary);
+
+  void remove(Bytes32 blockRoot);
+
+  /** Removes all entries for blocks before the specified finalized slot. */
+  void prune(UInt64 finalizedSlot);
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +29,10 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -46,6 +49,7 @@ class StateGenerationTaskTest {
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
   private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
   private TrackingBlockProvider blockProvider;
+  private PersistentHotStateCache hotStateCache = PersistentHotStateCache.NOOP;
 
   @BeforeEach
   void setUp() {
@@ -92,6 +96,30 @@ class StateGenerationTaskTest {
     assertRequestedBlockRangeInclusive(5, 5);
   }
 
+  @Test
+  void performTask_shouldReturnStateFromHotStateCache() {
+    chainBuilder.generateBlocksUpToSlot(5);
+    hotStateCache = new MapHotStateCache(chainBuilder.getBlockAndStateAtSlot(5));
+
+    final StateGenerationTask task = createTask(0, 5);
+    final SafeFuture<Optional<StateAndBlockSummary>> result = task.performTask();
+    assertThatSafeFuture(result)
+        .isCompletedWithOptionalContaining(chainBuilder.getBlockAndStateAtSlot(5));
+    assertThat(blockProvider.getRequestedBlocks()).isEmpty();
+  }
+
+  @Test
+  void performTask_shouldRegenerateFromAncestorInHotStateCache() {
+    chainBuilder.generateBlocksUpToSlot(5);
+    hotStateCache = new MapHotStateCache(chainBuilder.getBlockAndStateAtSlot(3));
+
+    final StateGenerationTask task = createTask(0, 5);
+    final SafeFuture<Optional<StateAndBlockSummary>> result = task.performTask();
+    assertThatSafeFuture(result)
+        .isCompletedWithOptionalContaining(chainBuilder.getBlockAndStateAtSlot(5));
+    assertRequestedBlockRangeInclusive(4, 5);
+  }
+
   @Test
   void streamIntermediateSteps_shouldStreamParentBlocksUpToInitialStartingPoint() {
     chainBuilder.generateBlocksUpToSlot(5);
@@ -149,7 +177,43 @@ class StateGenerationTaskTest {
                         startBlockAndState.getRoot(), startBlockAndState.getState())),
             getStateAndBlockProvider(),
             Optional.empty(),
-            REPLAY_TOLERANCE_TO_AVOID_LOADING_IN_EPOCHS));
+            REPLAY_TOLERANCE_TO_AVOID_LOADING_IN_EPOCHS),
+        hotStateCache);
+  }
+
+  private static class MapHotStateCache implements PersistentHotStateCache {
+    private final Map<Bytes32, StateAndBlockSummary> states = new HashMap<>();
+
+    private MapHotStateCache(final StateAndBlockSummary... states) {
+      for (StateAndBlockSummary state : states) {
+        put(state);
+      }
+    }
+
+    @Override
+    public boolean contains(final Bytes32 blockRoot) {
+      return states.containsKey(blockRoot);
+    }
+
+    @Override
+    public SafeFuture<Optional<StateAndBlockSummary>> get(final Bytes32 blockRoot) {
+      return SafeFuture.completedFuture(Optional.ofNullable(states.get(blockRoot)));
+    }
+
+    @Override
+    public void put(final StateAndBlockSummary stateAndBlockSummary) {
+      states.put(stateAndBlockSummary.getRoot(), stateAndBlockSummary);
+    }
+
+    @Override
+    public void remove(final Bytes32 blockRoot) {
+      states.remove(blockRoot);
+    }
+
+    @Override
+    public void prune(final UInt64 finalizedSlot) {
+      states.values().removeIf(state -> state.getSlot().isLessThan(finalizedSlot));
+    }
   }
 
   private static class TrackingBlockProvider implements BlockProvider {
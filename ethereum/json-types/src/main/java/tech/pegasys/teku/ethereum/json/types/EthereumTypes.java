@@ -19,6 +19,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_EXEC
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_EXECUTION_PAYLOAD_VALUE;
 
 import java.math.BigInteger;
+import java.nio.channels.Channels;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -140,7 +141,7 @@ public class EthereumTypes {
   public static <X extends SszData, T extends ObjectAndMetaData<X>>
       ResponseContentTypeDefinition<? extends T> sszResponseType() {
     return new OctetStreamResponseContentTypeDefinition<>(
-        (data, out) -> data.getData().sszSerialize(out),
+        (data, out) -> data.getData().sszSerialize(Channels.newChannel(out)),
         value -> getSszHeaders(__ -> value.getMilestone(), value.getData()));
   }
 
@@ -13,11 +13,10 @@
 
 package tech.pegasys.teku.ethereum.pow.merkletree;
 
-import static tech.pegasys.teku.infrastructure.crypto.Hash.sha256;
-
 import java.util.List;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 
 class BranchMerkleTree extends MerkleTree {
 
@@ -33,7 +32,9 @@ class BranchMerkleTree extends MerkleTree {
   @Override
   public Bytes32 getRoot() {
     if (root == null) {
-      root = sha256(left.getRoot(), right.getRoot());
+      final Bytes32 leftRoot = left.getRoot();
+      final Bytes32 rightRoot = right.getRoot();
+      root = Hash.getSha256Instance().wrappedDigest(leftRoot, rightRoot);
     }
     return root;
   }
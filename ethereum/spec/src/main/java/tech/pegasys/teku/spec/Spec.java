@@ -23,8 +23,11 @@ import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +47,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
@@ -332,6 +336,23 @@ public class Spec {
         .sszDeserialize(serializedState);
   }
 
+  /**
+   * Deserializes a state of {@code length} bytes as it is read from the stream, so the serialized
+   * state doesn't need to be held in memory alongside the deserialized one
+   */
+  public BeaconState deserializeBeaconState(final InputStream serializedState, final int length)
+      throws IOException {
+    final byte[] slotPrefix =
+        serializedState.readNBytes(BeaconStateInvariants.getSlotSszEndOffset());
+    final UInt64 slot = BeaconStateInvariants.extractSlot(Bytes.wrap(slotPrefix));
+    final InputStream fullState =
+        new SequenceInputStream(new ByteArrayInputStream(slotPrefix), serializedState);
+    return atSlot(slot)
+        .getSchemaDefinitions()
+        .getBeaconStateSchema()
+        .sszDeserialize(SszReader.fromInputStream(fullState, length));
+  }
+
   public SignedBeaconBlock deserializeSignedBeaconBlock(final Bytes serializedSignedBlock) {
     final UInt64 slot =
         BeaconBlockInvariants.extractSignedBlockContainerSlot(serializedSignedBlock);
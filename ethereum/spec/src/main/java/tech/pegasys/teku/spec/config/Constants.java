@@ -52,6 +52,13 @@ public class Constants {
   public static final int REPUTATION_MANAGER_CAPACITY = 1024;
   public static final Duration STORAGE_REQUEST_TIMEOUT = Duration.ofSeconds(60);
   public static final int STORAGE_QUERY_CHANNEL_PARALLELISM = 20; // # threads
+  public static final int STORAGE_BLOCK_QUERY_PARALLELISM = 8; // # threads
+  public static final int STORAGE_BLOB_SIDECAR_QUERY_PARALLELISM = 8; // # threads
+  // Hot state lookups serve recent states for block import and duties so are latency sensitive
+  public static final int STORAGE_HOT_STATE_QUERY_PARALLELISM = 8; // # threads
+  // Finalized state queries may replay many blocks and each holds a full state in memory, so they
+  // are capped lower to bound memory use while they can't delay hot state lookups
+  public static final int STORAGE_FINALIZED_STATE_QUERY_PARALLELISM = 4; // # threads
   public static final int PROTOARRAY_FORKCHOICE_PRUNE_THRESHOLD = 256;
 
   // Teku Validator Client Specific
@@ -85,6 +85,10 @@ public class ProtoNodeData implements MinimalBeaconBlockSummary {
     return validationStatus == ProtoNodeValidationStatus.OPTIMISTIC;
   }
 
+  public boolean isFullyValidated() {
+    return validationStatus == ProtoNodeValidationStatus.VALID;
+  }
+
   public ProtoNodeValidationStatus getValidationStatus() {
     return validationStatus;
   }
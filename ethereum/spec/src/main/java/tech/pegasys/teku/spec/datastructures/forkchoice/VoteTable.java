@@ -0,0 +1,124 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.forkchoice;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Columnar storage of the latest vote of each validator, indexed by validator index.
+ *
+ * <p>Holding each field of {@link VoteTracker} in its own array avoids an object per validator and
+ * lets fork choice scan the votes of every validator in a tight loop. Validators which have never
+ * voted have {@link Bytes32#ZERO} roots, matching {@link VoteTracker#DEFAULT}.
+ *
+ * <p>Validators with a pending vote, one which would change fork choice weights even if their
+ * balance is unchanged, are tracked so they can be visited without scanning every validator.
+ *
+ * <p>Not thread safe, callers are responsible for locking.
+ */
+public class VoteTable {
+  private Bytes32[] currentRoots;
+  private Bytes32[] nextRoots;
+  private long[] nextEpochs;
+  private final BitSet currentEquivocating = new BitSet();
+  private final BitSet nextEquivocating = new BitSet();
+  private final BitSet pendingVotes = new BitSet();
+
+  public VoteTable(final int capacity) {
+    this.currentRoots = new Bytes32[capacity];
+    this.nextRoots = new Bytes32[capacity];
+    this.nextEpochs = new long[capacity];
+  }
+
+  public int capacity() {
+    return currentRoots.length;
+  }
+
+  public void ensureCapacity(final int capacity) {
+    if (capacity > currentRoots.length) {
+      currentRoots = Arrays.copyOf(currentRoots, capacity);
+      nextRoots = Arrays.copyOf(nextRoots, capacity);
+      nextEpochs = Arrays.copyOf(nextEpochs, capacity);
+    }
+  }
+
+  public boolean hasVote(final int validatorIndex) {
+    return validatorIndex < currentRoots.length && currentRoots[validatorIndex] != null;
+  }
+
+  /** Returns the vote of the validator or null if it has never voted */
+  public VoteTracker getVote(final int validatorIndex) {
+    if (!hasVote(validatorIndex)) {
+      return null;
+    }
+    return new VoteTracker(
+        currentRoots[validatorIndex],
+        nextRoots[validatorIndex],
+        UInt64.fromLongBits(nextEpochs[validatorIndex]),
+        nextEquivocating.get(validatorIndex),
+        currentEquivocating.get(validatorIndex));
+  }
+
+  public void setVote(final int validatorIndex, final VoteTracker vote) {
+    currentRoots[validatorIndex] = vote.getCurrentRoot();
+    nextRoots[validatorIndex] = vote.getNextRoot();
+    nextEpochs[validatorIndex] = vote.getNextEpoch().longValue();
+    currentEquivocating.set(validatorIndex, vote.isCurrentEquivocating());
+    nextEquivocating.set(validatorIndex, vote.isNextEquivocating());
+    pendingVotes.set(validatorIndex, isPending(vote));
+  }
+
+  private static boolean isPending(final VoteTracker vote) {
+    // Equivocating validators no longer contribute any weight so never have pending changes
+    return !vote.isCurrentEquivocating()
+        && (!vote.getCurrentRoot().equals(vote.getNextRoot()) || vote.isNextEquivocating());
+  }
+
+  /**
+   * Returns the index of the first validator at or after fromValidatorIndex with a pending vote, or
+   * -1 if there is none.
+   */
+  public int nextPendingVote(final int fromValidatorIndex) {
+    return pendingVotes.nextSetBit(fromValidatorIndex);
+  }
+
+  public int getPendingVoteCount() {
+    return pendingVotes.cardinality();
+  }
+
+  public Bytes32 getCurrentRoot(final int validatorIndex) {
+    final Bytes32 root = currentRoots[validatorIndex];
+    return root != null ? root : Bytes32.ZERO;
+  }
+
+  public Bytes32 getNextRoot(final int validatorIndex) {
+    final Bytes32 root = nextRoots[validatorIndex];
+    return root != null ? root : Bytes32.ZERO;
+  }
+
+  public long getNextEpoch(final int validatorIndex) {
+    return nextEpochs[validatorIndex];
+  }
+
+  public boolean isCurrentEquivocating(final int validatorIndex) {
+    return currentEquivocating.get(validatorIndex);
+  }
+
+  public boolean isNextEquivocating(final int validatorIndex) {
+    return nextEquivocating.get(validatorIndex);
+  }
+}
@@ -27,6 +27,16 @@ public interface VoteUpdater {
 
   void putVote(UInt64 validatorIndex, VoteTracker vote);
 
+  /**
+   * Returns the table holding every vote visible through {@link #getVote(UInt64)} if there is one,
+   * which allows all votes to be scanned without creating a {@link VoteTracker} per validator.
+   * Empty if votes have to be read individually, e.g. because this updater holds uncommitted
+   * votes.
+   */
+  default Optional<VoteTable> getVoteTable() {
+    return Optional.empty();
+  }
+
   Bytes32 applyForkChoiceScoreChanges(
       UInt64 currentEpoch,
       Checkpoint finalizedCheckpoint,
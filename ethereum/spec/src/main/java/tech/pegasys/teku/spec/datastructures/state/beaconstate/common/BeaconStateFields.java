@@ -175,7 +175,9 @@ public enum BeaconStateFields implements SszFieldName {
             BeaconStateFields.BALANCES,
             () ->
                 SszListSchema.create(
-                    SszPrimitiveSchemas.UINT64_SCHEMA, specConfig.getValidatorRegistryLimit()));
+                    SszPrimitiveSchemas.UINT64_SCHEMA,
+                    specConfig.getValidatorRegistryLimit(),
+                    SszSchemaHints.packedUInt64(5)));
     SszField randaoMixesField =
         new SszField(
             13,
@@ -48,6 +48,16 @@ public class BeaconStateInvariants {
     return List.of(GENESIS_TIME_FIELD, GENESIS_VALIDATORS_ROOT_FIELD, SLOT_FIELD);
   }
 
+  /**
+   * Returns the number of leading bytes of a serialized state required by {@link
+   * #extractSlot(Bytes)}
+   */
+  public static int getSlotSszEndOffset() {
+    return GENESIS_TIME_SCHEMA.getSszFixedPartSize()
+        + GENESIS_VALIDATORS_ROOT_SCHEMA.getSszFixedPartSize()
+        + SLOT_SCHEMA.getSszFixedPartSize();
+  }
+
   /**
    * Extract the slot value from any serialized state
    *
@@ -15,15 +15,24 @@ package tech.pegasys.teku.spec.datastructures.util;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.io.resource.ResourceLoader;
+import tech.pegasys.teku.infrastructure.io.resource.SizedInputStream;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 
 public class ChainDataLoader {
   public static BeaconState loadState(final Spec spec, final String source) throws IOException {
-    return spec.deserializeBeaconState(
+    try (InputStream in =
         ResourceLoader.urlOrFile("application/octet-stream")
-            .loadBytes(source)
-            .orElseThrow(() -> new FileNotFoundException("Not found")));
+            .load(source)
+            .orElseThrow(() -> new FileNotFoundException("Not found"))) {
+      if (in instanceof SizedInputStream sizedIn && sizedIn.getSize() <= Integer.MAX_VALUE) {
+        // Deserialize while downloading rather than buffering the whole serialized state first
+        return spec.deserializeBeaconState(in, (int) sizedIn.getSize());
+      }
+      return spec.deserializeBeaconState(Bytes.wrap(in.readAllBytes()));
+    }
   }
 }
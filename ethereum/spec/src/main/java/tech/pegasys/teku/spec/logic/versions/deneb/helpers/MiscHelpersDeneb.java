@@ -51,6 +51,7 @@ public class MiscHelpersDeneb extends MiscHelpersCapella {
   private final Predicates predicates;
   private final BeaconBlockBodySchemaDeneb<?> beaconBlockBodySchema;
   private final BlobSidecarSchema blobSidecarSchema;
+  private final long blobKzgCommitmentsGeneralizedIndex;
 
   public static MiscHelpersDeneb required(final MiscHelpers miscHelpers) {
     return miscHelpers
@@ -71,6 +72,8 @@ public class MiscHelpersDeneb extends MiscHelpersCapella {
     this.beaconBlockBodySchema =
         (BeaconBlockBodySchemaDeneb<?>) schemaDefinitions.getBeaconBlockBodySchema();
     this.blobSidecarSchema = schemaDefinitions.getBlobSidecarSchema();
+    this.blobKzgCommitmentsGeneralizedIndex =
+        beaconBlockBodySchema.getBlobKzgCommitmentsGeneralizedIndex();
   }
 
   /**
@@ -226,8 +229,6 @@ public class MiscHelpersDeneb extends MiscHelpersCapella {
   }
 
   public int getBlobSidecarKzgCommitmentGeneralizedIndex(final UInt64 blobSidecarIndex) {
-    final long blobKzgCommitmentsGeneralizedIndex =
-        beaconBlockBodySchema.getBlobKzgCommitmentsGeneralizedIndex();
     final long commitmentGeneralizedIndex =
         beaconBlockBodySchema
             .getBlobKzgCommitmentsSchema()
@@ -243,6 +244,62 @@ public class MiscHelpersDeneb extends MiscHelpersCapella {
         getBlobSidecarKzgCommitmentGeneralizedIndex(blobSidecarIndex));
   }
 
+  /**
+   * Computes the inclusion proofs for all KZG commitments in the block body, sharing the traversal
+   * of the block body tree between them.
+   *
+   * @return the inclusion proof for each commitment, in commitment index order
+   */
+  public List<List<Bytes32>> computeKzgCommitmentInclusionProofs(
+      final BeaconBlockBody beaconBlockBody) {
+    final int commitmentsCount =
+        beaconBlockBody.getOptionalBlobKzgCommitments().map(SszList::size).orElse(0);
+    final List<Long> commitmentGeneralizedIndices =
+        IntStream.range(0, commitmentsCount)
+            .mapToObj(
+                index -> (long) getBlobSidecarKzgCommitmentGeneralizedIndex(UInt64.valueOf(index)))
+            .toList();
+    return MerkleUtil.constructMerkleProofs(
+        beaconBlockBody.getBackingNode(), commitmentGeneralizedIndices);
+  }
+
+  /**
+   * Constructs the blob sidecars for all blobs of a block, computing the commitment inclusion
+   * proofs together with {@link #computeKzgCommitmentInclusionProofs(BeaconBlockBody)}.
+   */
+  public List<BlobSidecar> constructBlobSidecars(
+      final SignedBeaconBlock signedBeaconBlock,
+      final List<Blob> blobs,
+      final List<SszKZGProof> proofs) {
+    checkArgument(
+        blobs.size() == proofs.size(),
+        "Expected the same number of blobs and proofs but got %s blobs and %s proofs",
+        blobs.size(),
+        proofs.size());
+    final BeaconBlockBody beaconBlockBody = signedBeaconBlock.getMessage().getBody();
+    final SszList<SszKZGCommitment> commitments =
+        beaconBlockBody.getOptionalBlobKzgCommitments().orElseThrow();
+    checkArgument(
+        blobs.size() <= commitments.size(),
+        "Can't create %s blob sidecars because there are %s commitment(s) in block",
+        blobs.size(),
+        commitments.size());
+    final List<List<Bytes32>> kzgCommitmentInclusionProofs =
+        computeKzgCommitmentInclusionProofs(beaconBlockBody);
+    final List<BlobSidecar> blobSidecars = new ArrayList<>(blobs.size());
+    for (int index = 0; index < blobs.size(); index++) {
+      blobSidecars.add(
+          blobSidecarSchema.create(
+              UInt64.valueOf(index),
+              blobs.get(index),
+              commitments.get(index),
+              proofs.get(index),
+              signedBeaconBlock.asHeader(),
+              kzgCommitmentInclusionProofs.get(index)));
+    }
+    return blobSidecars;
+  }
+
   public BlobSidecar constructBlobSidecar(
       final SignedBeaconBlock signedBeaconBlock,
       final UInt64 index,
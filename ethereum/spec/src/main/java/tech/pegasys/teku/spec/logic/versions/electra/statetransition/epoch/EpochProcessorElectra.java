@@ -174,10 +174,8 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
               currentEffectiveBalance,
               hysteresisUpwardMultiplier,
               maxEffectiveBalance)) {
-        final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
         final UInt64 newEffectiveBalance =
-            effectiveBalanceLimit.min(
-                balance.minus(balance.mod(effectiveBalanceIncrement)).min(maxEffectiveBalance));
+            balance.minus(balance.mod(effectiveBalanceIncrement)).min(maxEffectiveBalance);
         BeaconStateCache.getTransitionCaches(state)
             .getProgressiveTotalBalances()
             .onEffectiveBalanceChange(status, newEffectiveBalance);
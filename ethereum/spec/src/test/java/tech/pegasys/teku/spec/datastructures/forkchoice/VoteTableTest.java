@@ -0,0 +1,39 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.forkchoice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class VoteTableTest {
+
+  private final Bytes32 root1 = Bytes32.fromHexStringLenient("0x01");
+  private final Bytes32 root2 = Bytes32.fromHexStringLenient("0x02");
+
+  @Test
+  void setVote_shouldClearPendingVoteOnceApplied() {
+    final VoteTable votes = new VoteTable(2);
+    votes.setVote(0, new VoteTracker(root1, root2, UInt64.ONE));
+    votes.setVote(1, new VoteTracker(root1, root1, UInt64.ONE));
+    assertThat(votes.getPendingVoteCount()).isEqualTo(1);
+    assertThat(votes.nextPendingVote(0)).isZero();
+
+    votes.setVote(0, new VoteTracker(root2, root2, UInt64.ONE));
+    assertThat(votes.getPendingVoteCount()).isZero();
+    assertThat(votes.nextPendingVote(0)).isEqualTo(-1);
+  }
+}
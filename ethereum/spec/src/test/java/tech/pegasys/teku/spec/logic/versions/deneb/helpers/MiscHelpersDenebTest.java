@@ -142,6 +142,67 @@ class MiscHelpersDenebTest {
             "Can't create blob sidecar with index 1 because there are 1 commitment(s) in block");
   }
 
+  @Test
+  void shouldConstructValidBlobSidecarsForAllBlobs() {
+    final SignedBeaconBlock signedBeaconBlock =
+        dataStructureUtil.randomSignedBeaconBlockWithCommitments(3);
+    final List<Blob> blobs =
+        List.of(
+            dataStructureUtil.randomBlob(),
+            dataStructureUtil.randomBlob(),
+            dataStructureUtil.randomBlob());
+    final List<SszKZGProof> proofs =
+        List.of(
+            dataStructureUtil.randomSszKZGProof(),
+            dataStructureUtil.randomSszKZGProof(),
+            dataStructureUtil.randomSszKZGProof());
+
+    final List<BlobSidecar> blobSidecars =
+        miscHelpersDeneb.constructBlobSidecars(signedBeaconBlock, blobs, proofs);
+
+    assertThat(blobSidecars).hasSize(3);
+    for (int i = 0; i < blobSidecars.size(); i++) {
+      final BlobSidecar blobSidecar = blobSidecars.get(i);
+      assertThat(blobSidecar)
+          .isEqualTo(
+              miscHelpersDeneb.constructBlobSidecar(
+                  signedBeaconBlock, UInt64.valueOf(i), blobs.get(i), proofs.get(i)));
+      assertThat(miscHelpersDeneb.verifyBlobKzgCommitmentInclusionProof(blobSidecar)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldThrowWhenConstructingMoreBlobSidecarsThanCommitments() {
+    final SignedBeaconBlock signedBeaconBlock =
+        dataStructureUtil.randomSignedBeaconBlockWithCommitments(1);
+    final List<Blob> blobs =
+        List.of(dataStructureUtil.randomBlob(), dataStructureUtil.randomBlob());
+    final List<SszKZGProof> proofs =
+        List.of(dataStructureUtil.randomSszKZGProof(), dataStructureUtil.randomSszKZGProof());
+
+    assertThatThrownBy(
+            () -> miscHelpersDeneb.constructBlobSidecars(signedBeaconBlock, blobs, proofs))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Can't create 2 blob sidecars because there are 1 commitment(s) in block");
+  }
+
+  @Test
+  void computeKzgCommitmentInclusionProofs_shouldMatchIndividualProofs() {
+    final BeaconBlockBodyDeneb beaconBlockBody =
+        BeaconBlockBodyDeneb.required(dataStructureUtil.randomBeaconBlockBodyWithCommitments(4));
+
+    final List<List<Bytes32>> proofs =
+        miscHelpersDeneb.computeKzgCommitmentInclusionProofs(beaconBlockBody);
+
+    assertThat(proofs).hasSize(beaconBlockBody.getBlobKzgCommitments().size());
+    for (int i = 0; i < proofs.size(); i++) {
+      assertThat(proofs.get(i))
+          .isEqualTo(
+              miscHelpersDeneb.computeKzgCommitmentInclusionProof(
+                  UInt64.valueOf(i), beaconBlockBody));
+    }
+  }
+
   @Test
   void verifyBlobKzgCommitmentInclusionProofShouldValidate() {
     final int numberOfCommitments = 4;
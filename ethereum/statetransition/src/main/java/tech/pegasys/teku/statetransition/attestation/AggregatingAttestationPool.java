@@ -14,8 +14,7 @@
 package tech.pegasys.teku.statetransition.attestation;
 
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -23,9 +22,9 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -36,6 +35,8 @@ import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
@@ -50,6 +51,11 @@ import tech.pegasys.teku.storage.client.RecentChainData;
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>Attestations are indexed by slot and locking is striped by slot, so attestations received via
+ * gossip for one slot don't contend with block production reading attestations from other slots.
+ * Attestations for blocks are selected with {@link MaxCoverageAttestationSelector} within a time
+ * limit, so a large pool can't delay block production.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
   private static final Logger LOG = LogManager.getLogger();
@@ -78,14 +84,38 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
    */
   public static final int DEFAULT_MAXIMUM_ATTESTATION_COUNT = 120_000;
 
+  /**
+   * Time allowed for collecting candidate attestations for a block. Candidates are collected from
+   * the most recent slot first and those collected before the limit is reached are still packed.
+   */
+  static final long ATTESTATION_COLLECTION_TIME_LIMIT_MILLIS = 200;
+
+  /**
+   * Total time allowed for selecting attestations for a block. Once reached, the attestations
+   * selected so far are returned.
+   */
+  static final long ATTESTATION_SELECTION_TIME_LIMIT_MILLIS = 250;
+
   private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+      new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+
+  /**
+   * Locks guarding the attestation groups and data hashes of each slot. Slots within the retention
+   * period always map to different locks.
+   */
+  private final Object[] slotLocks = new Object[(int) ATTESTATION_RETENTION_SLOTS];
+
+  /**
+   * Serializes removal of whole slots so concurrent evictions can't remove the most recent slot.
+   */
+  private final Object slotRemovalLock = new Object();
 
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final SettableGauge sizeGauge;
   private final int maximumAttestationCount;
+  private final TimeProvider timeProvider;
 
   private final AtomicInteger size = new AtomicInteger(0);
 
@@ -94,6 +124,15 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
       final RecentChainData recentChainData,
       final MetricsSystem metricsSystem,
       final int maximumAttestationCount) {
+    this(spec, recentChainData, metricsSystem, maximumAttestationCount, new SystemTimeProvider());
+  }
+
+  public AggregatingAttestationPool(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final MetricsSystem metricsSystem,
+      final int maximumAttestationCount,
+      final TimeProvider timeProvider) {
     this.spec = spec;
     this.recentChainData = recentChainData;
     this.sizeGauge =
@@ -103,26 +142,44 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             "attestation_pool_size",
             "The number of attestations available to be included in proposed blocks");
     this.maximumAttestationCount = maximumAttestationCount;
+    this.timeProvider = timeProvider;
+    for (int i = 0; i < slotLocks.length; i++) {
+      slotLocks[i] = new Object();
+    }
   }
 
-  public synchronized void add(final ValidatableAttestation attestation) {
+  private Object getSlotLock(final UInt64 slot) {
+    return slotLocks[slot.mod(ATTESTATION_RETENTION_SLOTS).intValue()];
+  }
+
+  public void add(final ValidatableAttestation attestation) {
     final Optional<Int2IntMap> committeesSize =
         attestation.getCommitteesSize().or(() -> getCommitteesSize(attestation.getAttestation()));
-    getOrCreateAttestationGroup(attestation.getAttestation(), committeesSize)
-        .ifPresent(
-            attestationGroup -> {
-              final boolean added = attestationGroup.add(attestation);
-              if (added) {
-                updateSize(1);
-              }
-            });
-    // Always keep the latest slot attestations, so we don't discard everything
-    int currentSize = getSize();
-    while (dataHashBySlot.size() > 1 && currentSize > maximumAttestationCount) {
-      LOG.trace("Attestation cache at {} exceeds {}, ", currentSize, maximumAttestationCount);
-      final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
-      removeAttestationsPriorToSlot(firstSlotToKeep);
-      currentSize = getSize();
+    synchronized (getSlotLock(attestation.getData().getSlot())) {
+      getOrCreateAttestationGroup(attestation.getAttestation(), committeesSize)
+          .ifPresent(
+              attestationGroup -> {
+                final boolean added = attestationGroup.add(attestation);
+                if (added) {
+                  updateSize(1);
+                }
+              });
+    }
+    if (getSize() > maximumAttestationCount) {
+      evictOldestSlots();
+    }
+  }
+
+  private void evictOldestSlots() {
+    synchronized (slotRemovalLock) {
+      // Always keep the latest slot attestations, so we don't discard everything. Slots are only
+      // removed while holding slotRemovalLock so the oldest slot can't be the latest one here.
+      int currentSize = getSize();
+      while (dataHashBySlot.size() > 1 && currentSize > maximumAttestationCount) {
+        LOG.trace("Attestation cache at {} exceeds {}, ", currentSize, maximumAttestationCount);
+        removeAttestationsAtSlot(dataHashBySlot.firstKey());
+        currentSize = getSize();
+      }
     }
   }
 
@@ -171,7 +228,7 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     if (slot.compareTo(ATTESTATION_RETENTION_SLOTS) <= 0) {
       return;
     }
@@ -180,38 +237,52 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   }
 
   private void removeAttestationsPriorToSlot(final UInt64 firstValidAttestationSlot) {
-    final Collection<Set<Bytes>> dataHashesToRemove =
-        dataHashBySlot.headMap(firstValidAttestationSlot, false).values();
-    dataHashesToRemove.stream()
-        .flatMap(Set::stream)
-        .forEach(
-            key -> {
-              final int removed = attestationGroupByDataHash.get(key).size();
-              attestationGroupByDataHash.remove(key);
-              updateSize(-removed);
-            });
-    if (!dataHashesToRemove.isEmpty()) {
+    final List<UInt64> slotsToRemove;
+    synchronized (slotRemovalLock) {
+      slotsToRemove =
+          new ArrayList<>(dataHashBySlot.headMap(firstValidAttestationSlot, false).keySet());
+      slotsToRemove.forEach(this::removeAttestationsAtSlot);
+    }
+    if (!slotsToRemove.isEmpty()) {
       LOG.trace(
           "firstValidAttestationSlot: {}, removing: {}",
           () -> firstValidAttestationSlot,
-          dataHashesToRemove::size);
+          slotsToRemove::size);
     }
-    dataHashesToRemove.clear();
   }
 
-  public synchronized void onAttestationsIncludedInBlock(
+  private void removeAttestationsAtSlot(final UInt64 slot) {
+    synchronized (getSlotLock(slot)) {
+      final Set<Bytes> dataHashesToRemove = dataHashBySlot.remove(slot);
+      if (dataHashesToRemove == null) {
+        return;
+      }
+      dataHashesToRemove.forEach(
+          key -> {
+            final MatchingDataAttestationGroup removed = attestationGroupByDataHash.remove(key);
+            if (removed != null) {
+              updateSize(-removed.size());
+            }
+          });
+    }
+  }
+
+  public void onAttestationsIncludedInBlock(
       final UInt64 slot, final Iterable<Attestation> attestations) {
     attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
   }
 
   private void onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
-    getOrCreateAttestationGroup(attestation, getCommitteesSize(attestation))
-        .ifPresent(
-            attestationGroup -> {
-              final int numRemoved =
-                  attestationGroup.onAttestationIncludedInBlock(slot, attestation);
-              updateSize(-numRemoved);
-            });
+    final Optional<Int2IntMap> committeesSize = getCommitteesSize(attestation);
+    synchronized (getSlotLock(attestation.getData().getSlot())) {
+      getOrCreateAttestationGroup(attestation, committeesSize)
+          .ifPresent(
+              attestationGroup -> {
+                final int numRemoved =
+                    attestationGroup.onAttestationIncludedInBlock(slot, attestation);
+                updateSize(-numRemoved);
+              });
+    }
   }
 
   private void updateSize(final int delta) {
@@ -219,12 +290,15 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  public synchronized int getSize() {
+  public int getSize() {
     return size.get();
   }
 
-  public synchronized SszList<Attestation> getAttestationsForBlock(
+  public SszList<Attestation> getAttestationsForBlock(
       final BeaconState stateAtBlockSlot, final AttestationForkChecker forkChecker) {
+    final UInt64 startTime = timeProvider.getTimeInMillis();
+    final UInt64 collectionDeadline = startTime.plus(ATTESTATION_COLLECTION_TIME_LIMIT_MILLIS);
+    final UInt64 selectionDeadline = startTime.plus(ATTESTATION_SELECTION_TIME_LIMIT_MILLIS);
     final UInt64 currentEpoch = spec.getCurrentEpoch(stateAtBlockSlot);
     final int previousEpochLimit = spec.getPreviousEpochAttestationCapacity(stateAtBlockSlot);
 
@@ -237,59 +311,92 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     final boolean blockRequiresAttestationsWithCommitteeBits =
         schemaDefinitions.getAttestationSchema().requiresCommitteeBits();
 
-    final AtomicInteger prevEpochCount = new AtomicInteger(0);
-    return dataHashBySlot
-        // We can immediately skip any attestations from the block slot or later
-        .headMap(stateAtBlockSlot.getSlot(), false)
-        .descendingMap()
-        .values()
+    final MaxCoverageAttestationSelector selector =
+        new MaxCoverageAttestationSelector(
+            spec,
+            stateAtBlockSlot.getSlot(),
+            currentEpoch,
+            Math.toIntExact(attestationsSchema.getMaxLength()),
+            previousEpochLimit);
+    boolean timeLimitReached = false;
+    // We can immediately skip any attestations from the block slot or later
+    for (Map.Entry<UInt64, Set<Bytes>> slotEntry :
+        dataHashBySlot.headMap(stateAtBlockSlot.getSlot(), false).descendingMap().entrySet()) {
+      if (timeLimitReached) {
+        break;
+      }
+      final Object slotLock = getSlotLock(slotEntry.getKey());
+      final List<MatchingDataAttestationGroup> groups;
+      synchronized (slotLock) {
+        groups =
+            slotEntry.getValue().stream()
+                .map(attestationGroupByDataHash::get)
+                .filter(Objects::nonNull)
+                .toList();
+      }
+      for (MatchingDataAttestationGroup group : groups) {
+        if (timeProvider.getTimeInMillis().isGreaterThanOrEqualTo(collectionDeadline)) {
+          LOG.debug("Attestation collection time limit reached at slot {}", slotEntry.getKey());
+          timeLimitReached = true;
+          break;
+        }
+        // The attestation data is immutable so validating it doesn't need the lock
+        if (!isValid(stateAtBlockSlot, group.getAttestationData())) {
+          continue;
+        }
+        synchronized (slotLock) {
+          if (!forkChecker.areAttestationsFromCorrectFork(group)) {
+            continue;
+          }
+          final List<Attestation> aggregates =
+              group.stream()
+                  .map(ValidatableAttestation::getAttestation)
+                  .filter(
+                      attestation ->
+                          attestation.requiresCommitteeBits()
+                              == blockRequiresAttestationsWithCommitteeBits)
+                  .toList();
+          if (!aggregates.isEmpty()) {
+            selector.addCandidates(group.copyIncludedValidators(), aggregates);
+          }
+        }
+      }
+    }
+    return selector
+        .select(() -> timeProvider.getTimeInMillis().isGreaterThanOrEqualTo(selectionDeadline))
         .stream()
-        .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
-        .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
-        .filter(forkChecker::areAttestationsFromCorrectFork)
-        .flatMap(MatchingDataAttestationGroup::stream)
-        .map(ValidatableAttestation::getAttestation)
-        .filter(
-            attestation ->
-                attestation.requiresCommitteeBits() == blockRequiresAttestationsWithCommitteeBits)
-        .limit(attestationsSchema.getMaxLength())
-        .filter(
-            attestation -> {
-              if (spec.computeEpochAtSlot(attestation.getData().getSlot())
-                  .isLessThan(currentEpoch)) {
-                final int currentCount = prevEpochCount.getAndIncrement();
-                return currentCount < previousEpochLimit;
-              }
-              return true;
-            })
         .collect(attestationsSchema.collector());
   }
 
-  public synchronized List<Attestation> getAttestations(
+  public List<Attestation> getAttestations(
       final Optional<UInt64> maybeSlot, final Optional<UInt64> maybeCommitteeIndex) {
 
-    final Predicate<Map.Entry<UInt64, Set<Bytes>>> filterForSlot =
-        (entry) -> maybeSlot.map(slot -> entry.getKey().equals(slot)).orElse(true);
-
     final UInt64 slot = maybeSlot.orElse(recentChainData.getCurrentSlot().orElse(UInt64.ZERO));
     final SchemaDefinitions schemaDefinitions = spec.atSlot(slot).getSchemaDefinitions();
 
     final boolean requiresCommitteeBits =
         schemaDefinitions.getAttestationSchema().requiresCommitteeBits();
 
-    return dataHashBySlot.descendingMap().entrySet().stream()
-        .filter(filterForSlot)
-        .map(Map.Entry::getValue)
-        .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
-        .flatMap(
-            matchingDataAttestationGroup ->
-                matchingDataAttestationGroup.stream(maybeCommitteeIndex, requiresCommitteeBits))
-        .map(ValidatableAttestation::getAttestation)
-        .toList();
+    final NavigableMap<UInt64, Set<Bytes>> slotsToInclude =
+        maybeSlot
+            .<NavigableMap<UInt64, Set<Bytes>>>map(
+                requestedSlot -> dataHashBySlot.subMap(requestedSlot, true, requestedSlot, true))
+            .orElse(dataHashBySlot);
+    final List<Attestation> attestations = new ArrayList<>();
+    slotsToInclude
+        .descendingMap()
+        .forEach(
+            (attestationSlot, dataHashes) -> {
+              synchronized (getSlotLock(attestationSlot)) {
+                dataHashes.stream()
+                    .map(attestationGroupByDataHash::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(group -> group.stream(maybeCommitteeIndex, requiresCommitteeBits))
+                    .map(ValidatableAttestation::getAttestation)
+                    .forEach(attestations::add);
+              }
+            });
+    return attestations;
   }
 
   private boolean isValid(
@@ -297,13 +404,26 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return spec.validateAttestation(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidatableAttestation> createAggregateFor(
+  public Optional<ValidatableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot, final Optional<UInt64> committeeIndex) {
-    return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
-        .flatMap(attestations -> attestations.stream(committeeIndex).findFirst());
+    final MatchingDataAttestationGroup group =
+        attestationGroupByDataHash.get(attestationHashTreeRoot);
+    if (group == null) {
+      return Optional.empty();
+    }
+    synchronized (getSlotLock(group.getAttestationData().getSlot())) {
+      return group.stream(committeeIndex).findFirst();
+    }
   }
 
-  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
-    attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+  public void onReorg(final UInt64 commonAncestorSlot) {
+    attestationGroupByDataHash
+        .values()
+        .forEach(
+            group -> {
+              synchronized (getSlotLock(group.getAttestationData().getSlot())) {
+                group.onReorg(commonAncestorSlot);
+              }
+            });
   }
 }
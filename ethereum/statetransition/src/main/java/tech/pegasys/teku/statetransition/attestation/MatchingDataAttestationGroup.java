@@ -95,6 +95,11 @@ public class MatchingDataAttestationGroup implements Iterable<ValidatableAttesta
     return attestationData;
   }
 
+  /** Returns an independent copy of the validators already included on chain for this data. */
+  public AttestationBitsAggregator copyIncludedValidators() {
+    return includedValidators.copy();
+  }
+
   /**
    * Adds an attestation to this group. When possible, the attestation will be aggregated with
    * others during iteration. Ignores attestations with no new, unseen aggregation bits.
@@ -0,0 +1,221 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.constants.IncentivizationWeights;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.statetransition.attestation.utils.AttestationBitsAggregator;
+
+/**
+ * Selects attestations for a block using a greedy weighted maximum coverage algorithm.
+ *
+ * <p>Each candidate aggregate is scored by the number of validators it adds which are neither
+ * included on chain nor covered by an already selected attestation with the same data, weighted by
+ * the participation rewards still available at its inclusion delay. The best scoring candidate is
+ * selected repeatedly. Coverage only grows as attestations are selected, so scores only decrease
+ * and a candidate only needs rescoring when it reaches the top of the queue with a stale score.
+ *
+ * <p>Ties are broken in favour of the candidate added first, so callers should add candidates from
+ * the most recent slot first.
+ */
+class MaxCoverageAttestationSelector {
+
+  private static final Comparator<Candidate> BEST_CANDIDATE_FIRST =
+      Comparator.comparingLong(Candidate::getScore)
+          .reversed()
+          .thenComparingLong(Candidate::getSequence);
+
+  private final Spec spec;
+  private final UInt64 blockSlot;
+  private final UInt64 currentEpoch;
+  private final int maxAttestations;
+  private final int previousEpochLimit;
+  private final PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_CANDIDATE_FIRST);
+  private long nextSequence = 0;
+
+  MaxCoverageAttestationSelector(
+      final Spec spec,
+      final UInt64 blockSlot,
+      final UInt64 currentEpoch,
+      final int maxAttestations,
+      final int previousEpochLimit) {
+    this.spec = spec;
+    this.blockSlot = blockSlot;
+    this.currentEpoch = currentEpoch;
+    this.maxAttestations = maxAttestations;
+    this.previousEpochLimit = previousEpochLimit;
+  }
+
+  /**
+   * Adds the aggregates of a single {@link MatchingDataAttestationGroup} as candidates.
+   *
+   * @param includedValidators the validators from the group already included on chain. Must not be
+   *     shared with the group as it is updated as attestations are selected.
+   * @param aggregates the candidate aggregates, all with the same attestation data
+   */
+  void addCandidates(
+      final AttestationBitsAggregator includedValidators, final List<Attestation> aggregates) {
+    if (aggregates.isEmpty()) {
+      return;
+    }
+    final Coverage coverage = new Coverage(includedValidators);
+    final UInt64 attestationSlot = aggregates.get(0).getData().getSlot();
+    final long rewardWeight = getRewardWeight(attestationSlot);
+    final boolean previousEpoch = spec.computeEpochAtSlot(attestationSlot).isLessThan(currentEpoch);
+    for (Attestation aggregate : aggregates) {
+      final Candidate candidate =
+          new Candidate(coverage, aggregate, rewardWeight, previousEpoch, nextSequence++);
+      if (candidate.getScore() > 0) {
+        candidates.add(candidate);
+      }
+    }
+  }
+
+  /**
+   * Selects the attestations to include, in order of selection.
+   *
+   * @param timeLimitReached checked before each step, once true the attestations selected so far
+   *     are returned
+   */
+  List<Attestation> select(final BooleanSupplier timeLimitReached) {
+    final List<Attestation> selected = new ArrayList<>();
+    int previousEpochCount = 0;
+    while (selected.size() < maxAttestations
+        && !candidates.isEmpty()
+        && !timeLimitReached.getAsBoolean()) {
+      final Candidate candidate = candidates.poll();
+      if (candidate.isPreviousEpoch() && previousEpochCount >= previousEpochLimit) {
+        continue;
+      }
+      if (candidate.isStale()) {
+        candidate.rescore();
+        if (candidate.getScore() > 0) {
+          candidates.add(candidate);
+        }
+        continue;
+      }
+      candidate.select();
+      selected.add(candidate.getAttestation());
+      if (candidate.isPreviousEpoch()) {
+        previousEpochCount++;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Approximates the reward for including a validator's attestation at the block slot. Target
+   * rewards are available throughout the inclusion window, source rewards only for the first
+   * square root of an epoch of slots and head rewards only for the next slot.
+   */
+  private long getRewardWeight(final UInt64 attestationSlot) {
+    final UInt64 inclusionDelay = blockSlot.minusMinZero(attestationSlot);
+    long weight = IncentivizationWeights.TIMELY_TARGET_WEIGHT.longValue();
+    if (inclusionDelay.isLessThanOrEqualTo(
+        spec.atSlot(attestationSlot).getConfig().getSquareRootSlotsPerEpoch())) {
+      weight += IncentivizationWeights.TIMELY_SOURCE_WEIGHT.longValue();
+    }
+    if (inclusionDelay.isLessThanOrEqualTo(UInt64.ONE)) {
+      weight += IncentivizationWeights.TIMELY_HEAD_WEIGHT.longValue();
+    }
+    return weight;
+  }
+
+  /** The validators covered so far for one attestation data, shared by its candidates. */
+  private static class Coverage {
+    private final AttestationBitsAggregator coveredValidators;
+    private int coveredCount;
+    private int version = 0;
+
+    private Coverage(final AttestationBitsAggregator coveredValidators) {
+      this.coveredValidators = coveredValidators;
+      this.coveredCount = coveredValidators.getAggregationBits().getBitCount();
+    }
+
+    private int countNewValidators(final Attestation attestation) {
+      if (coveredValidators.isSuperSetOf(attestation)) {
+        return 0;
+      }
+      final AttestationBitsAggregator combined = coveredValidators.copy();
+      combined.or(attestation);
+      return combined.getAggregationBits().getBitCount() - coveredCount;
+    }
+
+    private void add(final Attestation attestation) {
+      coveredValidators.or(attestation);
+      coveredCount = coveredValidators.getAggregationBits().getBitCount();
+      version++;
+    }
+  }
+
+  private static class Candidate {
+    private final Coverage coverage;
+    private final Attestation attestation;
+    private final long rewardWeight;
+    private final boolean previousEpoch;
+    private final long sequence;
+    private long score;
+    private int coverageVersion;
+
+    private Candidate(
+        final Coverage coverage,
+        final Attestation attestation,
+        final long rewardWeight,
+        final boolean previousEpoch,
+        final long sequence) {
+      this.coverage = coverage;
+      this.attestation = attestation;
+      this.rewardWeight = rewardWeight;
+      this.previousEpoch = previousEpoch;
+      this.sequence = sequence;
+      rescore();
+    }
+
+    private void rescore() {
+      score = coverage.countNewValidators(attestation) * rewardWeight;
+      coverageVersion = coverage.version;
+    }
+
+    private boolean isStale() {
+      return coverageVersion != coverage.version;
+    }
+
+    private void select() {
+      coverage.add(attestation);
+    }
+
+    private long getScore() {
+      return score;
+    }
+
+    private long getSequence() {
+      return sequence;
+    }
+
+    private Attestation getAttestation() {
+      return attestation;
+    }
+
+    private boolean isPreviousEpoch() {
+      return previousEpoch;
+    }
+  }
+}
@@ -23,7 +23,9 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.spec.SpecMilestone.ELECTRA;
 import static tech.pegasys.teku.spec.SpecMilestone.PHASE0;
+import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.ATTESTATION_COLLECTION_TIME_LIMIT_MILLIS;
 import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.ATTESTATION_RETENTION_SLOTS;
+import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.ATTESTATION_SELECTION_TIME_LIMIT_MILLIS;
 import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
 import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggregateAttestations;
 
@@ -41,6 +43,7 @@ import org.mockito.ArgumentMatchers;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -258,6 +261,77 @@ class AggregatingAttestationPoolTest {
         .containsExactly(attestation3, attestation2, attestation1);
   }
 
+  @TestTemplate
+  void getAttestationsForBlock_shouldIncludeAttestationsAddingMostValidatorsFirst() {
+    final Attestation attestation1 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(SLOT), 1);
+    final Attestation attestation2 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(SLOT), 2, 3, 4);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(SLOT.increment());
+
+    assertThat(aggregatingPool.getAttestationsForBlock(stateAtBlockSlot, forkChecker))
+        .containsExactly(attestation2, attestation1);
+  }
+
+  @TestTemplate
+  void getAttestationsForBlock_shouldStopCollectingAttestationsWhenTimeLimitReached() {
+    final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+    aggregatingPool =
+        createPoolAdvancingTimeOnForkCheck(timeProvider, ATTESTATION_COLLECTION_TIME_LIMIT_MILLIS);
+    addAttestationFromValidators(UInt64.valueOf(5), 1, 2);
+    addAttestationFromValidators(UInt64.valueOf(6), 3, 4);
+    final Attestation attestation3 = addAttestationFromValidators(UInt64.valueOf(7), 5, 6);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(UInt64.valueOf(10));
+
+    assertThat(aggregatingPool.getAttestationsForBlock(stateAtBlockSlot, forkChecker))
+        .containsExactly(attestation3);
+  }
+
+  @TestTemplate
+  void getAttestationsForBlock_shouldStopCollectingWithinSlotWhenTimeLimitReached() {
+    final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+    aggregatingPool =
+        createPoolAdvancingTimeOnForkCheck(timeProvider, ATTESTATION_COLLECTION_TIME_LIMIT_MILLIS);
+    final Attestation attestation1 = addAttestationFromValidators(UInt64.valueOf(7), 1, 2);
+    final Attestation attestation2 = addAttestationFromValidators(UInt64.valueOf(7), 3, 4);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(UInt64.valueOf(10));
+
+    assertThat(aggregatingPool.getAttestationsForBlock(stateAtBlockSlot, forkChecker))
+        .hasSize(1)
+        .containsAnyOf(attestation1, attestation2);
+  }
+
+  @TestTemplate
+  void getAttestationsForBlock_shouldStopSelectingAttestationsWhenTimeLimitReached() {
+    final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+    aggregatingPool =
+        createPoolAdvancingTimeOnForkCheck(timeProvider, ATTESTATION_SELECTION_TIME_LIMIT_MILLIS);
+    addAttestationFromValidators(UInt64.valueOf(7), 1, 2);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(UInt64.valueOf(10));
+
+    assertThat(aggregatingPool.getAttestationsForBlock(stateAtBlockSlot, forkChecker)).isEmpty();
+  }
+
+  private AggregatingAttestationPool createPoolAdvancingTimeOnForkCheck(
+      final StubTimeProvider timeProvider, final long millisPerForkCheck) {
+    when(forkChecker.areAttestationsFromCorrectFork(any()))
+        .thenAnswer(
+            invocation -> {
+              timeProvider.advanceTimeByMillis(millisPerForkCheck);
+              return true;
+            });
+    return new AggregatingAttestationPool(
+        mockSpec,
+        mockRecentChainData,
+        new NoOpMetricsSystem(),
+        DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+        timeProvider);
+  }
+
   @TestTemplate
   public void getAttestationsForBlock_shouldNotAddMoreAttestationsThanAllowedInBlock() {
     final BeaconState state = dataStructureUtil.randomBeaconState(ONE);
@@ -0,0 +1,131 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.attestation.utils.AttestationBitsAggregator;
+
+class MaxCoverageAttestationSelectorTest {
+  private static final int COMMITTEE_SIZE = 20;
+  private static final UInt64 BLOCK_SLOT = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema<?> attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final UInt64 currentEpoch = spec.computeEpochAtSlot(BLOCK_SLOT);
+
+  @Test
+  void shouldSelectAttestationAddingMostNewValidators() {
+    final AttestationData data = dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(1));
+    final Attestation attestation1 = createAttestation(data, 1, 2, 3, 4);
+    final Attestation attestation2 = createAttestation(data, 1, 2, 5);
+    final Attestation attestation3 = createAttestation(data, 5, 6);
+    final MaxCoverageAttestationSelector selector = createSelector(2, Integer.MAX_VALUE);
+
+    selector.addCandidates(emptyCoverage(), List.of(attestation1, attestation2, attestation3));
+
+    // attestation2 only adds validator 5 once attestation1 is selected
+    assertThat(selector.select(() -> false)).containsExactly(attestation1, attestation3);
+  }
+
+  @Test
+  void shouldNotSelectAttestationsWithOnlyIncludedValidators() {
+    final AttestationData data = dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(1));
+    final Attestation attestation1 = createAttestation(data, 1, 2);
+    final Attestation attestation2 = createAttestation(data, 3);
+    final AttestationBitsAggregator includedValidators = emptyCoverage();
+    includedValidators.or(createAttestation(data, 1, 2));
+    final MaxCoverageAttestationSelector selector = createSelector(10, Integer.MAX_VALUE);
+
+    selector.addCandidates(includedValidators, List.of(attestation1, attestation2));
+
+    assertThat(selector.select(() -> false)).containsExactly(attestation2);
+  }
+
+  @Test
+  void shouldPreferAttestationsWithHigherRewardWeight() {
+    final Attestation olderAttestation =
+        createAttestation(dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(5)), 1, 2);
+    final Attestation newerAttestation =
+        createAttestation(dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(1)), 3, 4);
+    final MaxCoverageAttestationSelector selector = createSelector(1, Integer.MAX_VALUE);
+
+    selector.addCandidates(emptyCoverage(), List.of(olderAttestation));
+    selector.addCandidates(emptyCoverage(), List.of(newerAttestation));
+
+    assertThat(selector.select(() -> false)).containsExactly(newerAttestation);
+  }
+
+  @Test
+  void shouldLimitPreviousEpochAttestations() {
+    final UInt64 previousEpochSlot = spec.computeStartSlotAtEpoch(currentEpoch).minus(1);
+    final Attestation previousEpochAttestation1 =
+        createAttestation(dataStructureUtil.randomAttestationData(previousEpochSlot), 1, 2, 3);
+    final Attestation previousEpochAttestation2 =
+        createAttestation(dataStructureUtil.randomAttestationData(previousEpochSlot), 4, 5);
+    final Attestation currentEpochAttestation =
+        createAttestation(dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(1)), 6);
+    final MaxCoverageAttestationSelector selector = createSelector(10, 1);
+
+    selector.addCandidates(emptyCoverage(), List.of(currentEpochAttestation));
+    selector.addCandidates(emptyCoverage(), List.of(previousEpochAttestation1));
+    selector.addCandidates(emptyCoverage(), List.of(previousEpochAttestation2));
+
+    assertThat(selector.select(() -> false))
+        .containsExactly(previousEpochAttestation1, currentEpochAttestation);
+  }
+
+  @Test
+  void shouldReturnAttestationsSelectedBeforeTimeLimitReached() {
+    final AttestationData data = dataStructureUtil.randomAttestationData(BLOCK_SLOT.minus(1));
+    final Attestation attestation1 = createAttestation(data, 1, 2, 3);
+    final Attestation attestation2 = createAttestation(data, 4, 5);
+    final MaxCoverageAttestationSelector selector = createSelector(10, Integer.MAX_VALUE);
+    selector.addCandidates(emptyCoverage(), List.of(attestation1, attestation2));
+    final AtomicInteger checks = new AtomicInteger();
+
+    assertThat(selector.select(() -> checks.incrementAndGet() > 1)).containsExactly(attestation1);
+  }
+
+  private MaxCoverageAttestationSelector createSelector(
+      final int maxAttestations, final int previousEpochLimit) {
+    return new MaxCoverageAttestationSelector(
+        spec, BLOCK_SLOT, currentEpoch, maxAttestations, previousEpochLimit);
+  }
+
+  private AttestationBitsAggregator emptyCoverage() {
+    return AttestationBitsAggregator.fromEmptyFromAttestationSchema(
+        attestationSchema, Optional.empty());
+  }
+
+  private Attestation createAttestation(final AttestationData data, final int... validators) {
+    return attestationSchema.create(
+        attestationSchema.getAggregationBitsSchema().ofBits(COMMITTEE_SIZE, validators),
+        data,
+        dataStructureUtil.randomSignature());
+  }
+}
@@ -24,8 +24,15 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Benchmark)
 public class HashBenchmark {
 
+  private static final int PAIR_COUNT = 1024;
+
   private final Bytes data1 = Bytes32.random();
   private final Bytes data2 = Bytes32.random();
+  private final byte[] pairs = Bytes.random(PAIR_COUNT * 64).toArrayUnsafe();
+  private final byte[] digests = new byte[PAIR_COUNT * 32];
+  private final Sha256 messageDigestSha256 =
+      new MessageDigestSha256(MessageDigestFactory.createSha256());
+  private final Sha256 twoChunkSha256 = new TwoChunkSha256(MessageDigestFactory.createSha256());
 
   @Benchmark
   @Fork(2)
@@ -38,4 +45,30 @@ public class HashBenchmark {
   public void measureSha256_multiarg(Blackhole blackhole) {
     blackhole.consume(Hash.sha256(data1, data2));
   }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_messageDigestBackend(Blackhole blackhole) {
+    blackhole.consume(messageDigestSha256.digest(data1, data2));
+  }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_twoChunkBackend(Blackhole blackhole) {
+    blackhole.consume(twoChunkSha256.digest(data1, data2));
+  }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_messageDigestBackendPairs(Blackhole blackhole) {
+    messageDigestSha256.digestPairs(pairs, 0, digests, 0, PAIR_COUNT);
+    blackhole.consume(digests);
+  }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_twoChunkBackendPairs(Blackhole blackhole) {
+    twoChunkSha256.digestPairs(pairs, 0, digests, 0, PAIR_COUNT);
+    blackhole.consume(digests);
+  }
 }
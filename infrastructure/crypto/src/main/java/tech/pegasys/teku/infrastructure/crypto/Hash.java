@@ -22,6 +22,9 @@ public class Hash {
   private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST_THREAD_LOCAL =
       ThreadLocal.withInitial(MessageDigestFactory::createSha256);
 
+  private static final ThreadLocal<Sha256> SHA256_THREAD_LOCAL =
+      ThreadLocal.withInitial(Hash::createSha256);
+
   private static final ThreadLocal<MessageDigest> KECCAK_256_MESSAGE_DIGEST_THREAD_LOCAL =
       ThreadLocal.withInitial(MessageDigestFactory::createKeccak256);
 
@@ -65,6 +68,18 @@ public class Hash {
    * @return Sha256
    */
   public static Sha256 getSha256Instance() {
-    return new Sha256(SHA256_MESSAGE_DIGEST_THREAD_LOCAL.get());
+    return SHA256_THREAD_LOCAL.get();
+  }
+
+  /**
+   * The JDK SHA-256 implementation is intrinsified by the JIT and is the fastest option when
+   * available. Otherwise the pure Java implementation specialized for merkle tree branches avoids
+   * the overhead of the generic BouncyCastle digest.
+   */
+  private static Sha256 createSha256() {
+    final MessageDigest messageDigest = MessageDigestFactory.createSha256();
+    return MessageDigestFactory.isJdkSha256Provider()
+        ? new MessageDigestSha256(messageDigest)
+        : new TwoChunkSha256(messageDigest);
   }
 }
@@ -38,6 +38,11 @@ public class MessageDigestFactory {
     }
   }
 
+  /** Returns true if SHA-256 digests are provided by the JDK rather than by BouncyCastle. */
+  public static boolean isJdkSha256Provider() {
+    return !(SHA_256_SECURITY_PROVIDER instanceof BouncyCastleProvider);
+  }
+
   @SuppressWarnings("DoNotInvokeMessageDigestDirectly")
   public static MessageDigest createKeccak256() {
     try {
@@ -0,0 +1,62 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import org.apache.tuweni.bytes.Bytes;
+
+// MessageDigest can be reused because it resets every time we call digest().
+// Reusing significantly reduces memory allocations and have less CPU overhead.
+// It is recommended to reuse wherever possible.
+
+class MessageDigestSha256 implements Sha256 {
+  private final MessageDigest messageDigest;
+
+  MessageDigestSha256(final MessageDigest messageDigest) {
+    this.messageDigest = messageDigest;
+  }
+
+  @Override
+  public byte[] digest(final Bytes a, final Bytes b) {
+    a.update(messageDigest);
+    b.update(messageDigest);
+    return messageDigest.digest();
+  }
+
+  @Override
+  public byte[] digest(final Bytes a, final Bytes b, final Bytes c) {
+    a.update(messageDigest);
+    b.update(messageDigest);
+    c.update(messageDigest);
+    return messageDigest.digest();
+  }
+
+  @Override
+  public void digestPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    try {
+      for (int i = 0; i < count; i++) {
+        messageDigest.update(input, inputOffset + i * 64, 64);
+        messageDigest.digest(output, outputOffset + i * 32, 32);
+      }
+    } catch (final DigestException e) {
+      throw new IllegalStateException("Failed to calculate SHA-256 digest", e);
+    }
+  }
+}
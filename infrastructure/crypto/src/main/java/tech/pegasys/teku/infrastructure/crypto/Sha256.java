@@ -13,35 +13,28 @@
 
 package tech.pegasys.teku.infrastructure.crypto;
 
-import java.security.MessageDigest;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
-// MessageDigest can be reused because it resets every time we call digest().
-// Reusing significantly reduces memory allocations and have less CPU overhead.
-// It is recommended to reuse wherever possible.
-
-public class Sha256 {
-  private final MessageDigest messageDigest;
+/**
+ * SHA-256 hasher optimized for merkleization. Instances keep internal state and must not be shared
+ * between threads, use {@link Hash#getSha256Instance()} to get the current thread's instance.
+ */
+public interface Sha256 {
 
-  Sha256(final MessageDigest messageDigest) {
-    this.messageDigest = messageDigest;
-  }
+  byte[] digest(Bytes a, Bytes b);
 
-  public byte[] digest(final Bytes a, final Bytes b) {
-    a.update(messageDigest);
-    b.update(messageDigest);
-    return messageDigest.digest();
-  }
+  byte[] digest(Bytes a, Bytes b, Bytes c);
 
-  public byte[] digest(final Bytes a, final Bytes b, final Bytes c) {
-    a.update(messageDigest);
-    b.update(messageDigest);
-    c.update(messageDigest);
-    return messageDigest.digest();
-  }
-
-  public Bytes32 wrappedDigest(final Bytes a, final Bytes b) {
+  default Bytes32 wrappedDigest(final Bytes a, final Bytes b) {
     return Bytes32.wrap(digest(a, b));
   }
+
+  /**
+   * Hashes {@code count} independent 64-byte inputs stored back to back in {@code input} and writes
+   * the 32-byte digests back to back to {@code output}. Inputs are processed in order and each one
+   * is fully read before its digest is written, so hashing a level of a tree in place (same array
+   * and {@code outputOffset <= inputOffset}) is supported.
+   */
+  void digestPairs(byte[] input, int inputOffset, byte[] output, int outputOffset, int count);
 }
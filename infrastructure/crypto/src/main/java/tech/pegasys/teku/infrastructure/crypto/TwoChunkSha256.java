@@ -0,0 +1,175 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.security.MessageDigest;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Pure Java SHA-256 specialized for 64-byte messages, i.e. the two 32-byte chunks hashed together
+ * for every branch of a merkle tree. The second block of such a message only contains padding, so
+ * its message schedule is the same for every input and is computed once. Inputs of any other
+ * length are delegated to a regular {@link MessageDigest}.
+ */
+class TwoChunkSha256 implements Sha256 {
+
+  private static final int[] K = {
+    0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+    0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+    0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+    0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+    0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+    0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+    0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+    0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+  };
+
+  private static final int[] INITIAL_STATE = {
+    0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+  };
+
+  // Message schedule plus round constants of the padding block of any 64-byte message
+  private static final int[] PADDING_BLOCK_SCHEDULE = createPaddingBlockSchedule();
+
+  private final MessageDigest fallback;
+  private final int[] schedule = new int[64];
+  private final int[] state = new int[8];
+
+  TwoChunkSha256(final MessageDigest fallback) {
+    this.fallback = fallback;
+  }
+
+  @Override
+  public byte[] digest(final Bytes a, final Bytes b) {
+    if (a.size() != 32 || b.size() != 32) {
+      a.update(fallback);
+      b.update(fallback);
+      return fallback.digest();
+    }
+    for (int i = 0; i < 8; i++) {
+      schedule[i] = a.getInt(i * 4);
+      schedule[i + 8] = b.getInt(i * 4);
+    }
+    final byte[] output = new byte[32];
+    hashSchedule(output, 0);
+    return output;
+  }
+
+  @Override
+  public byte[] digest(final Bytes a, final Bytes b, final Bytes c) {
+    a.update(fallback);
+    b.update(fallback);
+    c.update(fallback);
+    return fallback.digest();
+  }
+
+  @Override
+  public void digestPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      final int offset = inputOffset + i * 64;
+      for (int word = 0; word < 16; word++) {
+        schedule[word] = readInt(input, offset + word * 4);
+      }
+      hashSchedule(output, outputOffset + i * 32);
+    }
+  }
+
+  /** Hashes the message whose 16 words have been loaded into the start of the schedule */
+  private void hashSchedule(final byte[] output, final int outputOffset) {
+    expandSchedule(schedule);
+    System.arraycopy(INITIAL_STATE, 0, state, 0, 8);
+    compress(state, schedule);
+    compress(state, PADDING_BLOCK_SCHEDULE);
+    for (int i = 0; i < 8; i++) {
+      writeInt(output, outputOffset + i * 4, state[i]);
+    }
+  }
+
+  /** Expands the first 16 words to the full schedule and adds the round constants */
+  private static void expandSchedule(final int[] w) {
+    for (int t = 16; t < 64; t++) {
+      final int w15 = w[t - 15];
+      final int w2 = w[t - 2];
+      final int s0 = Integer.rotateRight(w15, 7) ^ Integer.rotateRight(w15, 18) ^ (w15 >>> 3);
+      final int s1 = Integer.rotateRight(w2, 17) ^ Integer.rotateRight(w2, 19) ^ (w2 >>> 10);
+      w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+    }
+    for (int t = 0; t < 64; t++) {
+      w[t] += K[t];
+    }
+  }
+
+  private static void compress(final int[] state, final int[] scheduleWithConstants) {
+    int a = state[0];
+    int b = state[1];
+    int c = state[2];
+    int d = state[3];
+    int e = state[4];
+    int f = state[5];
+    int g = state[6];
+    int h = state[7];
+    for (int t = 0; t < 64; t++) {
+      final int s1 =
+          Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+      final int t1 = h + s1 + ((e & f) ^ (~e & g)) + scheduleWithConstants[t];
+      final int s0 =
+          Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+      final int t2 = s0 + ((a & b) ^ (a & c) ^ (b & c));
+      h = g;
+      g = f;
+      f = e;
+      e = d + t1;
+      d = c;
+      c = b;
+      b = a;
+      a = t1 + t2;
+    }
+    state[0] += a;
+    state[1] += b;
+    state[2] += c;
+    state[3] += d;
+    state[4] += e;
+    state[5] += f;
+    state[6] += g;
+    state[7] += h;
+  }
+
+  private static int[] createPaddingBlockSchedule() {
+    final int[] w = new int[64];
+    // Single 1 bit after the message followed by the message length of 512 bits
+    w[0] = 0x80000000;
+    w[15] = 512;
+    expandSchedule(w);
+    return w;
+  }
+
+  private static int readInt(final byte[] bytes, final int offset) {
+    return (bytes[offset] << 24)
+        | ((bytes[offset + 1] & 0xff) << 16)
+        | ((bytes[offset + 2] & 0xff) << 8)
+        | (bytes[offset + 3] & 0xff);
+  }
+
+  private static void writeInt(final byte[] bytes, final int offset, final int value) {
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+}
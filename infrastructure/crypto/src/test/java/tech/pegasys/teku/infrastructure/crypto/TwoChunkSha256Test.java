@@ -0,0 +1,75 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+public class TwoChunkSha256Test {
+
+  private final Sha256 expected = new MessageDigestSha256(MessageDigestFactory.createSha256());
+  private final Sha256 sha256 = new TwoChunkSha256(MessageDigestFactory.createSha256());
+
+  @Test
+  void digest_shouldMatchMessageDigest() {
+    for (int i = 0; i < 100; i++) {
+      final Bytes32 a = Bytes32.random();
+      final Bytes32 b = Bytes32.random();
+      assertThat(sha256.digest(a, b)).isEqualTo(expected.digest(a, b));
+    }
+    assertThat(sha256.wrappedDigest(Bytes32.ZERO, Bytes32.ZERO))
+        .isEqualTo(expected.wrappedDigest(Bytes32.ZERO, Bytes32.ZERO));
+  }
+
+  @Test
+  void digest_shouldFallBackForOtherLengths() {
+    final Bytes a = Bytes.random(17);
+    final Bytes b = Bytes.random(40);
+    final Bytes c = Bytes.random(3);
+
+    assertThat(sha256.digest(a, b)).isEqualTo(expected.digest(a, b));
+    assertThat(sha256.digest(a, b, c)).isEqualTo(expected.digest(a, b, c));
+    // State of the specialized path is unaffected by the fallback
+    assertThat(sha256.digest(Bytes32.ZERO, Bytes32.ZERO))
+        .isEqualTo(expected.digest(Bytes32.ZERO, Bytes32.ZERO));
+  }
+
+  @Test
+  void digestPairs_shouldHashInPlace() {
+    final int count = 33;
+    final byte[] input = Bytes.random(count * 64 + 5).toArrayUnsafe();
+    final byte[] expectedDigests = new byte[count * 32];
+    expected.digestPairs(input, 5, expectedDigests, 0, count);
+
+    final byte[] actual = Arrays.copyOf(input, input.length);
+    sha256.digestPairs(actual, 5, actual, 5, count);
+
+    assertThat(Arrays.copyOfRange(actual, 5, 5 + count * 32)).isEqualTo(expectedDigests);
+  }
+
+  @Test
+  void digestPairs_shouldMatchSinglePairDigest() {
+    final Bytes32 a = Bytes32.random();
+    final Bytes32 b = Bytes32.random();
+    final byte[] output = new byte[32];
+
+    sha256.digestPairs(Bytes.concatenate(a, b).toArrayUnsafe(), 0, output, 0, 1);
+
+    assertThat(output).isEqualTo(Hash.sha256(a, b).toArrayUnsafe());
+  }
+}
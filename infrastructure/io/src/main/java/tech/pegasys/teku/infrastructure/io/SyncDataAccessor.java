@@ -15,6 +15,8 @@ package tech.pegasys.teku.infrastructure.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -111,6 +113,43 @@ public class SyncDataAccessor {
     }
   }
 
+  /**
+   * Writes the content produced by {@code contentWriter} to the specified path with the same
+   * guarantees as {@link #syncedWrite(Path, Bytes)}, without needing the whole content in memory.
+   *
+   * @param path the path to write to
+   * @param contentWriter writes the file content to the channel it is given
+   * @exception IOException if an IO error occurs while writing
+   */
+  public void syncedChannelWrite(final Path path, final ContentWriter contentWriter)
+      throws IOException {
+    if (atomicFileMoveSupport) {
+      final Path tmpFile = Paths.get(path + ".tmp");
+      nonAtomicSyncedWrite(tmpFile, contentWriter);
+      Files.move(
+          tmpFile,
+          path.toAbsolutePath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      nonAtomicSyncedWrite(path, contentWriter);
+    }
+  }
+
+  private static void nonAtomicSyncedWrite(final Path path, final ContentWriter contentWriter)
+      throws IOException {
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      contentWriter.writeTo(channel);
+      // Sync once at the end rather than on every chunk written by the content writer
+      channel.force(true);
+    }
+  }
+
   private static void nonAtomicSyncedWrite(final Path path, final Bytes data) throws IOException {
     Files.write(
         path,
@@ -128,6 +167,10 @@ public class SyncDataAccessor {
         tmpFile, absolutePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
   }
 
+  public interface ContentWriter {
+    void writeTo(WritableByteChannel channel) throws IOException;
+  }
+
   private static void ensurePathExists(final Path absolutePath) throws IOException {
     if (absolutePath != null) {
       final File file = absolutePath.toFile();
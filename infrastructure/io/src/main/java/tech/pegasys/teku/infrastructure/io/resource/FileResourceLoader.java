@@ -33,6 +33,7 @@ public class FileResourceLoader extends ResourceLoader {
     if (!file.exists()) {
       return Optional.empty();
     }
-    return Optional.of(new BufferedInputStream(new FileInputStream(file)));
+    return Optional.of(
+        new SizedInputStream(new BufferedInputStream(new FileInputStream(file)), file.length()));
   }
 }
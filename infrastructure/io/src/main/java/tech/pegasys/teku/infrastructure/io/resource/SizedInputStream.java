@@ -0,0 +1,32 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.io.resource;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/** An {@link InputStream} for a resource whose total size in bytes is known up front. */
+public class SizedInputStream extends FilterInputStream {
+
+  private final long size;
+
+  public SizedInputStream(final InputStream in, final long size) {
+    super(in);
+    this.size = size;
+  }
+
+  public long getSize() {
+    return size;
+  }
+}
@@ -75,6 +75,8 @@ public class URLResourceLoader extends ResourceLoader {
       InputStream stream = connection.getInputStream();
       if ("gzip".equalsIgnoreCase(encoding)) {
         stream = new GZIPInputStream(stream);
+      } else if (connection.getContentLengthLong() >= 0) {
+        stream = new SizedInputStream(stream, connection.getContentLengthLong());
       }
       return Optional.of(stream);
     } catch (final SocketTimeoutException | ConnectException e) {
@@ -13,11 +13,13 @@
 
 package tech.pegasys.teku.infrastructure.io;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assumptions.assumeThat;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -61,4 +63,19 @@ public class SyncDataAccessorTest {
     content = Files.readString(filePath);
     assertThat(content).isEqualTo("B");
   }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldWriteAndOverwriteFileContentFromChannelWriter(
+      final boolean useAtomicMove, @TempDir final Path tempDir) throws IOException {
+    final Path filePath = tempDir.resolve("myfile.tmp");
+    final SyncDataAccessor syncDataAccessor = new SyncDataAccessor(useAtomicMove);
+    syncDataAccessor.syncedChannelWrite(
+        filePath, channel -> channel.write(ByteBuffer.wrap("AAAA".getBytes(UTF_8))));
+    assertThat(Files.readString(filePath)).isEqualTo("AAAA");
+
+    syncDataAccessor.syncedChannelWrite(
+        filePath, channel -> channel.write(ByteBuffer.wrap("B".getBytes(UTF_8))));
+    assertThat(Files.readString(filePath)).isEqualTo("B");
+  }
 }
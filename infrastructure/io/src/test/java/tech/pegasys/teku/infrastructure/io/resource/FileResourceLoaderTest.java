@@ -39,6 +39,17 @@ class FileResourceLoaderTest {
     assertThat(loader.loadBytes(file.toAbsolutePath().toString())).contains(Bytes.wrap(MESSAGE));
   }
 
+  @Test
+  public void shouldReportFileSize(@TempDir final Path tempDir) throws Exception {
+    final Path file = tempDir.resolve("test.txt");
+    Files.write(file, MESSAGE);
+
+    try (InputStream in = loader.load(file.toAbsolutePath().toString()).orElseThrow()) {
+      assertThat(in).isInstanceOf(SizedInputStream.class);
+      assertThat(((SizedInputStream) in).getSize()).isEqualTo(MESSAGE.length);
+    }
+  }
+
   @Test
   public void shouldReturnEmptyWhenFileDoesNotExist(@TempDir final Path tempDir) throws Exception {
     assertThat(loader.load(tempDir.resolve("test.txt").toAbsolutePath().toString())).isEmpty();
@@ -14,9 +14,11 @@
 package tech.pegasys.teku.infrastructure.ssz;
 
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszChannelWriter;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszOutputStreamWriter;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
@@ -67,4 +69,17 @@ public interface SszData extends Merkleizable, SimpleOffsetSerializable {
   default int sszSerialize(final OutputStream out) {
     return sszSerialize(new SszOutputStreamWriter(out));
   }
+
+  /**
+   * Serializes this structure to the channel in fixed size chunks instead of allocating the whole
+   * serialized form first
+   *
+   * @return the number of bytes written
+   */
+  default int sszSerialize(final WritableByteChannel channel) {
+    final SszChannelWriter writer = new SszChannelWriter(channel);
+    final int length = sszSerialize(writer);
+    writer.flush();
+    return length;
+  }
 }
@@ -18,11 +18,16 @@ import static com.google.common.base.Preconditions.checkElementIndex;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 
+/**
+ * Immutable bitlist packed into {@code long[]} words. Aggregation operations work a word at a time
+ * and the number of set bits is counted once on creation.
+ */
 class BitlistImpl {
 
   public static int sszSerializationLength(final int size) {
@@ -31,38 +36,37 @@ class BitlistImpl {
 
   public static BitlistImpl fromSszBytes(final Bytes bytes, final long maxSize) {
     int bitlistSize = SszBitlistImpl.sszGetLengthAndValidate(bytes);
-    BitSet bitSet = BitSet.valueOf(bytes.toArrayUnsafe()).get(0, bitlistSize);
-    return new BitlistImpl(bitlistSize, bitSet, maxSize);
+    return new BitlistImpl(bitlistSize, PackedBits.fromBytes(bytes, bitlistSize), maxSize);
   }
 
-  private final BitSet data;
+  private final long[] words;
   private final int size;
   private final long maxSize;
+  private final int bitCount;
 
   public BitlistImpl(final int size, final long maxSize, final int... bitIndices) {
     checkArgument(size >= 0, "Negative size");
     checkArgument(maxSize >= size, "maxSize should be >= size");
     this.size = size;
-    this.data = new BitSet(size);
+    this.words = PackedBits.create(size, bitIndices);
     this.maxSize = maxSize;
-    for (int bitIndex : bitIndices) {
-      checkElementIndex(bitIndex, size);
-      data.set(bitIndex);
-    }
+    this.bitCount = PackedBits.bitCount(words);
   }
 
   public BitlistImpl(final int size, final long maxSize, final BitSet bitSet) {
     checkArgument(size >= 0, "Negative size");
     checkArgument(maxSize >= size, "maxSize should be >= size");
     this.size = size;
-    this.data = bitSet;
+    this.words = PackedBits.fromBitSet(bitSet, size);
     this.maxSize = maxSize;
+    this.bitCount = PackedBits.bitCount(words);
   }
 
-  private BitlistImpl(final int size, final BitSet data, final long maxSize) {
+  private BitlistImpl(final int size, final long[] words, final long maxSize) {
     this.size = size;
-    this.data = data;
+    this.words = words;
     this.maxSize = maxSize;
+    this.bitCount = PackedBits.bitCount(words);
   }
 
   /**
@@ -79,38 +83,32 @@ class BitlistImpl {
               + " > "
               + getCurrentSize());
     }
-    BitSet newData = (BitSet) this.data.clone();
-    newData.or(other.data);
-    return new BitlistImpl(size, newData, maxSize);
+    return new BitlistImpl(size, PackedBits.or(words, other.words), maxSize);
   }
 
   public boolean getBit(final int i) {
     checkElementIndex(i, size);
-    return data.get(i);
+    return PackedBits.getBit(words, i);
   }
 
   public int getBitCount() {
-    return data.cardinality();
+    return bitCount;
   }
 
   public boolean intersects(final BitlistImpl other) {
-    return data.intersects(other.data);
+    return PackedBits.intersects(words, other.words);
   }
 
   public boolean isSuperSetOf(final BitlistImpl other) {
-    return other.streamAllSetBits().allMatch(idx -> idx < getCurrentSize() && getBit(idx));
+    return PackedBits.isSuperSetOf(words, other.words);
   }
 
   public IntList getAllSetBits() {
-    final IntList setBits = new IntArrayList();
-    for (int i = data.nextSetBit(0); i >= 0; i = data.nextSetBit(i + 1)) {
-      setBits.add(i);
-    }
-    return setBits;
+    return IntArrayList.wrap(PackedBits.getSetBitIndices(words, bitCount));
   }
 
   public IntStream streamAllSetBits() {
-    return data.stream();
+    return PackedBits.streamSetBits(words, bitCount);
   }
 
   public long getMaxSize() {
@@ -121,12 +119,9 @@ class BitlistImpl {
     return size;
   }
 
-  @SuppressWarnings("NarrowingCompoundAssignment")
   public Bytes serialize() {
-    int len = size;
-    byte[] array = new byte[sszSerializationLength(len)];
-    IntStream.range(0, len).forEach(i -> array[i / 8] |= ((data.get(i) ? 1 : 0) << (i % 8)));
-    array[len / 8] |= 1 << (len % 8);
+    final byte[] array = PackedBits.toByteArray(words, sszSerializationLength(size));
+    array[size / 8] |= (byte) (1 << (size % 8));
     return Bytes.wrap(array);
   }
 
@@ -139,20 +134,18 @@ class BitlistImpl {
       return false;
     }
     final BitlistImpl bitlist = (BitlistImpl) o;
-    return size == bitlist.size && maxSize == bitlist.maxSize && Objects.equals(data, bitlist.data);
+    return size == bitlist.size
+        && maxSize == bitlist.maxSize
+        && Arrays.equals(words, bitlist.words);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(data, size, maxSize);
+    return Objects.hash(Arrays.hashCode(words), size, maxSize);
   }
 
   @Override
   public String toString() {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < getCurrentSize(); i++) {
-      sb.append(getBit(i) ? 1 : 0);
-    }
-    return sb.toString();
+    return PackedBits.toString(words, size);
   }
 }
@@ -17,13 +17,17 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkElementIndex;
 import static tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.bitsCeilToBytes;
 
-import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 
+/**
+ * Immutable bitvector packed into {@code long[]} words. Operations work a word at a time and the
+ * number of set bits is counted once on creation.
+ */
 class BitvectorImpl {
 
   public static BitvectorImpl fromBytes(final Bytes bytes, final int size) {
@@ -32,48 +36,37 @@ class BitvectorImpl {
         "Incorrect data size (%s) for Bitvector of size %s",
         bytes.size(),
         size);
-    BitSet bitset = new BitSet(size);
-
-    for (int i = size - 1; i >= 0; i--) {
-      if (((bytes.get(i / 8) >>> (i % 8)) & 0x01) == 1) {
-        bitset.set(i);
-      }
-    }
-
-    return new BitvectorImpl(bitset, size);
+    return new BitvectorImpl(PackedBits.fromBytes(bytes, size), size);
   }
 
   public static int sszSerializationLength(final int size) {
     return bitsCeilToBytes(size);
   }
 
-  private final BitSet data;
+  private final long[] words;
   private final int size;
+  private final int bitCount;
 
-  private BitvectorImpl(final BitSet bitSet, final int size) {
-    this.data = bitSet;
+  private BitvectorImpl(final long[] words, final int size) {
+    this.words = words;
     this.size = size;
+    this.bitCount = PackedBits.bitCount(words);
   }
 
   public BitvectorImpl(final int size) {
-    this.data = new BitSet(size);
-    this.size = size;
+    this(PackedBits.create(size), size);
   }
 
   public BitvectorImpl(final int size, final Iterable<Integer> indicesToSet) {
-    this(size);
-    for (int i : indicesToSet) {
-      checkElementIndex(i, size);
-      data.set(i);
-    }
+    this(PackedBits.create(size, Ints.toArray(ImmutableList.copyOf(indicesToSet))), size);
   }
 
   public BitvectorImpl(final int size, final int... indicesToSet) {
-    this(size, Arrays.stream(indicesToSet).boxed().toList());
+    this(PackedBits.create(size, indicesToSet), size);
   }
 
   public List<Integer> getSetBitIndices() {
-    return data.stream().boxed().toList();
+    return streamAllSetBits().boxed().toList();
   }
 
   public BitvectorImpl or(final BitvectorImpl other) {
@@ -81,9 +74,7 @@ class BitvectorImpl {
       throw new IllegalArgumentException(
           "Argument bitfield size is different: " + other.getSize() + " != " + getSize());
     }
-    final BitSet newData = (BitSet) this.data.clone();
-    newData.or(other.data);
-    return new BitvectorImpl(newData, size);
+    return new BitvectorImpl(PackedBits.or(words, other.words), size);
   }
 
   public BitvectorImpl and(final BitvectorImpl other) {
@@ -91,25 +82,21 @@ class BitvectorImpl {
       throw new IllegalArgumentException(
           "Argument bitfield size is different: " + other.getSize() + " != " + getSize());
     }
-    final BitSet newData = (BitSet) this.data.clone();
-    newData.and(other.data);
-    return new BitvectorImpl(newData, size);
+    return new BitvectorImpl(PackedBits.and(words, other.words), size);
   }
 
   public BitvectorImpl withBit(final int i) {
     checkElementIndex(i, size);
-    BitSet newSet = (BitSet) data.clone();
-    newSet.set(i);
-    return new BitvectorImpl(newSet, size);
+    return new BitvectorImpl(PackedBits.withBit(words, i), size);
   }
 
   public int getBitCount() {
-    return data.cardinality();
+    return bitCount;
   }
 
   public boolean getBit(final int i) {
     checkElementIndex(i, size);
-    return data.get(i);
+    return PackedBits.getBit(words, i);
   }
 
   public int getSize() {
@@ -117,28 +104,20 @@ class BitvectorImpl {
   }
 
   public int getLastSetBitIndex() {
-    return data.length() - 1;
+    return PackedBits.lastSetBitIndex(words);
   }
 
   public IntStream streamAllSetBits() {
-    return data.stream();
+    return PackedBits.streamSetBits(words, bitCount);
   }
 
-  @SuppressWarnings("NarrowingCompoundAssignment")
   public Bytes serialize() {
-    byte[] array = new byte[sszSerializationLength(size)];
-    IntStream.range(0, size).forEach(i -> array[i / 8] |= ((data.get(i) ? 1 : 0) << (i % 8)));
-    return Bytes.wrap(array);
+    return Bytes.wrap(PackedBits.toByteArray(words, sszSerializationLength(size)));
   }
 
   public BitvectorImpl rightShift(final int i) {
-    final BitSet newData = new BitSet(size);
-    for (int j = 0; j < size - i; j++) {
-      if (this.getBit(j)) {
-        newData.set(j + i);
-      }
-    }
-    return new BitvectorImpl(newData, size);
+    checkArgument(i >= 0, "Shift must not be negative: %s", i);
+    return new BitvectorImpl(PackedBits.shiftUp(words, i, size), size);
   }
 
   @Override
@@ -150,20 +129,16 @@ class BitvectorImpl {
       return false;
     }
     BitvectorImpl bitvector = (BitvectorImpl) o;
-    return getSize() == bitvector.getSize() && Objects.equal(data, bitvector.data);
+    return getSize() == bitvector.getSize() && Arrays.equals(words, bitvector.words);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(data, getSize());
+    return 31 * Arrays.hashCode(words) + getSize();
   }
 
   @Override
   public String toString() {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0; i < size; i++) {
-      sb.append(getBit(i) ? 1 : 0);
-    }
-    return sb.toString();
+    return PackedBits.toString(words, size);
   }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections.impl;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.bitsCeilToBytes;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Word level operations on bits packed little endian into {@code long[]} words, the same layout as
+ * SSZ bitfields and {@link BitSet#toLongArray()}. Arrays are always exactly {@link
+ * #wordCount(int)} words long with every bit at or above the bitfield size cleared, so bitfields
+ * of the same size can be compared and combined word by word.
+ */
+final class PackedBits {
+  private static final int WORD_SIZE_BITS = Long.SIZE;
+  private static final int BYTES_PER_WORD = Long.BYTES;
+
+  private PackedBits() {}
+
+  static int wordCount(final int size) {
+    return (size + WORD_SIZE_BITS - 1) / WORD_SIZE_BITS;
+  }
+
+  static long[] create(final int size, final int... bitIndices) {
+    final long[] words = new long[wordCount(size)];
+    for (int bitIndex : bitIndices) {
+      checkElementIndex(bitIndex, size);
+      words[bitIndex / WORD_SIZE_BITS] |= 1L << bitIndex;
+    }
+    return words;
+  }
+
+  static long[] fromBitSet(final BitSet bitSet, final int size) {
+    final long[] words = Arrays.copyOf(bitSet.toLongArray(), wordCount(size));
+    clearBitsFrom(words, size);
+    return words;
+  }
+
+  /** Reads {@code size} bits from SSZ bytes, ignoring any bits after them */
+  static long[] fromBytes(final Bytes bytes, final int size) {
+    final long[] words = new long[wordCount(size)];
+    final byte[] array = bytes.toArrayUnsafe();
+    final int byteCount = Math.min(array.length, bitsCeilToBytes(size));
+    for (int i = 0; i < byteCount; i++) {
+      words[i / BYTES_PER_WORD] |= (array[i] & 0xFFL) << ((i % BYTES_PER_WORD) * Byte.SIZE);
+    }
+    clearBitsFrom(words, size);
+    return words;
+  }
+
+  /** Writes the bits into the first {@code byteCount} bytes of a new array */
+  static byte[] toByteArray(final long[] words, final int byteCount) {
+    final byte[] array = new byte[byteCount];
+    final int dataBytes = Math.min(byteCount, words.length * BYTES_PER_WORD);
+    for (int i = 0; i < dataBytes; i++) {
+      array[i] = (byte) (words[i / BYTES_PER_WORD] >>> ((i % BYTES_PER_WORD) * Byte.SIZE));
+    }
+    return array;
+  }
+
+  static boolean getBit(final long[] words, final int bitIndex) {
+    return (words[bitIndex / WORD_SIZE_BITS] & (1L << bitIndex)) != 0;
+  }
+
+  static long[] withBit(final long[] words, final int bitIndex) {
+    final long[] result = words.clone();
+    result[bitIndex / WORD_SIZE_BITS] |= 1L << bitIndex;
+    return result;
+  }
+
+  static int bitCount(final long[] words) {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /** Returns the bits set in either array, sized to {@code target} which must be the larger */
+  static long[] or(final long[] target, final long[] other) {
+    final long[] result = target.clone();
+    for (int i = 0; i < other.length; i++) {
+      result[i] |= other[i];
+    }
+    return result;
+  }
+
+  static long[] and(final long[] target, final long[] other) {
+    final long[] result = new long[target.length];
+    final int commonLength = Math.min(target.length, other.length);
+    for (int i = 0; i < commonLength; i++) {
+      result[i] = target[i] & other[i];
+    }
+    return result;
+  }
+
+  static boolean intersects(final long[] words, final long[] other) {
+    final int commonLength = Math.min(words.length, other.length);
+    for (int i = 0; i < commonLength; i++) {
+      if ((words[i] & other[i]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isSuperSetOf(final long[] words, final long[] other) {
+    for (int i = 0; i < other.length; i++) {
+      final long word = i < words.length ? words[i] : 0;
+      if ((other[i] & ~word) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int lastSetBitIndex(final long[] words) {
+    for (int i = words.length - 1; i >= 0; i--) {
+      if (words[i] != 0) {
+        return i * WORD_SIZE_BITS + WORD_SIZE_BITS - 1 - Long.numberOfLeadingZeros(words[i]);
+      }
+    }
+    return -1;
+  }
+
+  static int[] getSetBitIndices(final long[] words, final int bitCount) {
+    final int[] indices = new int[bitCount];
+    int index = 0;
+    for (int i = 0; i < words.length; i++) {
+      long word = words[i];
+      while (word != 0) {
+        indices[index++] = i * WORD_SIZE_BITS + Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+      }
+    }
+    return indices;
+  }
+
+  static IntStream streamSetBits(final long[] words, final int bitCount) {
+    return IntStream.of(getSetBitIndices(words, bitCount));
+  }
+
+  /** Moves every bit {@code shift} positions up, dropping bits shifted to or past {@code size} */
+  static long[] shiftUp(final long[] words, final int shift, final int size) {
+    final long[] result = new long[words.length];
+    final int wordShift = shift / WORD_SIZE_BITS;
+    final int bitShift = shift % WORD_SIZE_BITS;
+    for (int i = words.length - 1; i >= wordShift; i--) {
+      long word = words[i - wordShift] << bitShift;
+      if (bitShift != 0 && i - wordShift - 1 >= 0) {
+        word |= words[i - wordShift - 1] >>> (WORD_SIZE_BITS - bitShift);
+      }
+      result[i] = word;
+    }
+    clearBitsFrom(result, size);
+    return result;
+  }
+
+  static String toString(final long[] words, final int size) {
+    final StringBuilder sb = new StringBuilder(size);
+    for (int i = 0; i < size; i++) {
+      sb.append(getBit(words, i) ? 1 : 0);
+    }
+    return sb.toString();
+  }
+
+  private static void clearBitsFrom(final long[] words, final int size) {
+    final int remainder = size % WORD_SIZE_BITS;
+    if (remainder != 0) {
+      words[words.length - 1] &= (1L << remainder) - 1;
+    }
+  }
+}
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import tech.pegasys.teku.infrastructure.ssz.tree.PackedUInt64Node;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 
 /**
@@ -54,6 +55,27 @@ public class SszSchemaHints {
     }
   }
 
+  /**
+   * Hint to use {@link PackedUInt64Node} for <code>uint64</code> lists to save the memory when the
+   * list is large and its content is mostly updated in bulk
+   *
+   * <p>The <code>depth</code> parameter specifies the maximum number (<code>2 ^ depth</code>) of
+   * 32 byte chunks (4 list elements each) a single node can contain. Increasing this parameter
+   * saves memory but makes updates of individual elements and hashTreeRoot recalculation more CPU
+   * expensive
+   */
+  public static final class SszPackedUInt64Hint extends SszSchemaHint {
+    private final int depth;
+
+    public SszPackedUInt64Hint(final int depth) {
+      this.depth = depth;
+    }
+
+    public int getDepth() {
+      return depth;
+    }
+  }
+
   public static SszSchemaHints of(final SszSchemaHint... hints) {
     return new SszSchemaHints(Arrays.asList(hints));
   }
@@ -66,6 +88,10 @@ public class SszSchemaHints {
     return of(new SszSuperNodeHint(superNodeDepth));
   }
 
+  public static SszSchemaHints packedUInt64(final int packedNodeDepth) {
+    return of(new SszPackedUInt64Hint(packedNodeDepth));
+  }
+
   private final List<SszSchemaHint> hints;
 
   private SszSchemaHints(final List<SszSchemaHint> hints) {
@@ -43,7 +43,8 @@ public interface SszPrimitiveListSchema<
     if (elementSchema.equals(SszPrimitiveSchemas.BIT_SCHEMA)) {
       return (SszPrimitiveListSchema<PrimT, SszPrimT, ?>) SszBitlistSchema.create(maxLength);
     } else if (elementSchema.equals(SszPrimitiveSchemas.UINT64_SCHEMA)) {
-      return (SszPrimitiveListSchema<PrimT, SszPrimT, ?>) SszUInt64ListSchema.create(maxLength);
+      return (SszPrimitiveListSchema<PrimT, SszPrimT, ?>)
+          SszUInt64ListSchema.create(maxLength, hints);
     } else if (elementSchema.equals(SszPrimitiveSchemas.BYTE_SCHEMA)) {
       return (SszPrimitiveListSchema<PrimT, SszPrimT, ?>) SszByteListSchema.create(maxLength);
     } else if (elementSchema.equals(SszPrimitiveSchemas.UINT8_SCHEMA)) {
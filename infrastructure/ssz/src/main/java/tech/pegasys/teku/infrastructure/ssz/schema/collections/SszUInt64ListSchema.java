@@ -15,6 +15,7 @@ package tech.pegasys.teku.infrastructure.ssz.schema.collections;
 
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.impl.SszUInt64ListSchemaImpl;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
@@ -24,4 +25,9 @@ public interface SszUInt64ListSchema<SszListT extends SszUInt64List>
   static SszUInt64ListSchema<SszUInt64List> create(final long maxLength) {
     return new SszUInt64ListSchemaImpl<>(maxLength);
   }
+
+  static SszUInt64ListSchema<SszUInt64List> create(
+      final long maxLength, final SszSchemaHints hints) {
+    return new SszUInt64ListSchemaImpl<>(maxLength, hints);
+  }
 }
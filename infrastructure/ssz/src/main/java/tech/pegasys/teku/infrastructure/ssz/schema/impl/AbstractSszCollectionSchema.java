@@ -30,14 +30,17 @@ import tech.pegasys.teku.infrastructure.ssz.SszCollection;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszCompositeSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints.SszPackedUInt64Hint;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints.SszSuperNodeHint;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.PackedUInt64Node;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszNodeTemplate;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
@@ -65,6 +68,10 @@ public abstract class AbstractSszCollectionSchema<
     this.elementSchema = elementSchema;
     this.hints = hints;
     this.treeDepth = SszCompositeSchema.super.treeDepth();
+    checkArgument(
+        hints.getHint(SszPackedUInt64Hint.class).isEmpty()
+            || elementSchema.equals(SszPrimitiveSchemas.UINT64_SCHEMA),
+        "Packed uint64 hint is only applicable to uint64 collections");
   }
 
   protected abstract TreeNode createDefaultTree();
@@ -77,6 +84,14 @@ public abstract class AbstractSszCollectionSchema<
     return defaultTree;
   }
 
+  /**
+   * Returns the depth of {@link PackedUInt64Node}s backing this collection when it has {@link
+   * SszPackedUInt64Hint}. The hinted depth is capped by the tree depth of the collection
+   */
+  protected Optional<Integer> getPackedUInt64NodeDepth() {
+    return hints.getHint(SszPackedUInt64Hint.class).map(hint -> min(hint.getDepth(), treeDepth));
+  }
+
   @Override
   public long getMaxLength() {
     return maxLength;
@@ -235,6 +250,10 @@ public abstract class AbstractSszCollectionSchema<
           "SSZ sequence length exceeds max type length");
     }
     if (getElementSchema() instanceof AbstractSszPrimitiveSchema) {
+      Optional<Integer> packedNodeDepth = getPackedUInt64NodeDepth();
+      if (packedNodeDepth.isPresent()) {
+        return sszDeserializePackedUInt64(reader, bytesSize, packedNodeDepth.get());
+      }
       int bytesRemain = bytesSize;
       List<LeafNode> childNodes = new ArrayList<>(bytesRemain / LeafNode.MAX_BYTE_SIZE + 1);
       while (bytesRemain > 0) {
@@ -267,6 +286,24 @@ public abstract class AbstractSszCollectionSchema<
     }
   }
 
+  private DeserializedData sszDeserializePackedUInt64(
+      final SszReader reader, final int bytesSize, final int packedNodeDepth) {
+    int chunkSize = (1 << packedNodeDepth) * LeafNode.MAX_BYTE_SIZE;
+    int bytesRemain = bytesSize;
+    List<PackedUInt64Node> packedNodes = new ArrayList<>(bytesRemain / chunkSize + 1);
+    while (bytesRemain > 0) {
+      int toRead = min(bytesRemain, chunkSize);
+      bytesRemain -= toRead;
+      packedNodes.add(PackedUInt64Node.fromSsz(packedNodeDepth, reader.read(toRead)));
+    }
+    TreeNode tree =
+        TreeUtil.createTree(
+            packedNodes,
+            PackedUInt64Node.empty(packedNodeDepth),
+            treeDepth() - packedNodeDepth);
+    return new DeserializedData(tree, bytesSize / Long.BYTES);
+  }
+
   private DeserializedData sszDeserializeVariable(final SszReader reader) {
     final int endOffset = reader.getAvailableBytes();
     final List<TreeNode> childNodes = new ArrayList<>();
@@ -88,6 +88,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
   private final TreeNode defaultTree;
   private final long treeWidth;
   private final int fixedPartSize;
+  private final Optional<FixedSizeContainerCodec> fixedSizeCodec;
   private final DeserializableTypeDefinition<C> jsonTypeDefinition;
 
   protected AbstractSszContainerSchema(
@@ -106,6 +107,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.fixedSizeCodec = FixedSizeContainerCodec.create(this);
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
 
@@ -120,6 +122,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.fixedSizeCodec = FixedSizeContainerCodec.create(this);
     this.jsonTypeDefinition = SszContainerTypeDefinition.createFor(this);
   }
 
@@ -205,12 +208,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public boolean isFixedSize() {
-    for (int i = 0; i < getFieldsCount(); i++) {
-      if (!getChildSchema(i).isFixedSize()) {
-        return false;
-      }
-    }
-    return true;
+    return fixedSizeCodec.isPresent();
   }
 
   @Override
@@ -250,6 +248,9 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public int sszSerializeTree(final TreeNode node, final SszWriter writer) {
+    if (fixedSizeCodec.isPresent()) {
+      return fixedSizeCodec.get().serialize(node, writer);
+    }
     int variableChildOffset = getSszFixedPartSize();
     int[] variableSizes = new int[getFieldsCount()];
     for (int i = 0; i < getFieldsCount(); i++) {
@@ -278,6 +279,9 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public TreeNode sszDeserializeTree(final SszReader reader) {
+    if (fixedSizeCodec.isPresent()) {
+      return fixedSizeCodec.get().deserialize(reader);
+    }
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
     Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.bitsCeilToBytes;
 
 import java.nio.ByteOrder;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableArrayTypeDefinition;
@@ -35,7 +36,9 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LazyBranchNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.PackedUInt64Node;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
@@ -243,6 +246,15 @@ public abstract class AbstractSszListSchema<
         nodeSource
             .loadLeafNode(lengthHash, GIndexUtil.gIdxRightGIndex(rootGIndex))
             .getInt(0, ByteOrder.LITTLE_ENDIAN);
+    final long vectorRootGIndex = GIndexUtil.gIdxLeftGIndex(rootGIndex);
+
+    final Optional<Integer> packedNodeDepth = getPackedUInt64NodeDepth();
+    if (packedNodeDepth.isPresent()) {
+      return BranchNode.create(
+          loadPackedUInt64VectorNodes(
+              nodeSource, vectorHash, vectorRootGIndex, length, packedNodeDepth.get()),
+          toLengthNode(length));
+    }
 
     final int superNodeDepth = getSuperNodeDepth();
     final ChildLoader childLoader =
@@ -265,7 +277,6 @@ public abstract class AbstractSszListSchema<
               }
               return new SszSuperNode(superNodeDepth, elementSszSupernodeTemplate.get(), data);
             };
-    final long vectorRootGIndex = GIndexUtil.gIdxLeftGIndex(rootGIndex);
     final long lastUsefulGIndex =
         getVectorLastUsefulGIndex(vectorRootGIndex, length, superNodeDepth);
     final TreeNode vectorNode =
@@ -280,6 +291,65 @@ public abstract class AbstractSszListSchema<
     return BranchNode.create(vectorNode, toLengthNode(length));
   }
 
+  /**
+   * {@link PackedUInt64Node} data is stored with the plain leaf layout, and stored branches don't
+   * align with the packed nodes. The plain tree is loaded lazily as usual and wrapped with lazy
+   * branches, so each packed node is only built from the plain leaves below it when first accessed
+   */
+  private TreeNode loadPackedUInt64VectorNodes(
+      final TreeNodeSource nodeSource,
+      final Bytes32 vectorHash,
+      final long vectorRootGIndex,
+      final int length,
+      final int packedNodeDepth) {
+    final int treeDepth = compatibleVectorSchema.treeDepth();
+    final TreeNode plainVectorNode =
+        LoadingUtil.loadNodesToDepth(
+            nodeSource,
+            vectorHash,
+            vectorRootGIndex,
+            treeDepth,
+            TreeUtil.createDefaultTree(1L << treeDepth, LeafNode.EMPTY_LEAF),
+            getVectorLastUsefulGIndex(vectorRootGIndex, length, 0),
+            (childNodeSource, childHash, childGIndex) ->
+                LoadingUtil.loadCollectionChild(
+                    childNodeSource,
+                    childHash,
+                    childGIndex,
+                    length,
+                    compatibleVectorSchema.getElementsPerChunk(),
+                    treeDepth,
+                    getElementSchema()));
+    return packLazily(plainVectorNode, GIndexUtil.SELF_G_INDEX, length, packedNodeDepth);
+  }
+
+  private TreeNode packLazily(
+      final TreeNode plainNode, final long gIndex, final int length, final int packedNodeDepth) {
+    final int treeDepth = compatibleVectorSchema.treeDepth();
+    final int depth = GIndexUtil.gIdxGetDepth(gIndex);
+    final long valuesPerNode =
+        (long) compatibleVectorSchema.getElementsPerChunk() << (treeDepth - depth);
+    final long firstValueIndex = (gIndex ^ Long.highestOneBit(gIndex)) * valuesPerNode;
+    if (firstValueIndex >= length) {
+      return compatibleVectorSchema.getDefault().getBackingNode().get(gIndex);
+    }
+    if (depth == treeDepth - packedNodeDepth) {
+      final long valuesCount = Math.min(valuesPerNode, length - firstValueIndex);
+      return PackedUInt64Node.fromSsz(
+          packedNodeDepth,
+          TreeUtil.concatenateLeavesData(plainNode)
+              .slice(0, Math.toIntExact(valuesCount * Long.BYTES)));
+    }
+    final TreeNode plainLeft = plainNode.get(GIndexUtil.LEFT_CHILD_G_INDEX);
+    final TreeNode plainRight = plainNode.get(GIndexUtil.RIGHT_CHILD_G_INDEX);
+    return LazyBranchNode.createWithKnownHash(
+        plainNode.hashTreeRoot(),
+        plainLeft.hashTreeRoot(),
+        plainRight.hashTreeRoot(),
+        () -> packLazily(plainLeft, GIndexUtil.gIdxLeftGIndex(gIndex), length, packedNodeDepth),
+        () -> packLazily(plainRight, GIndexUtil.gIdxRightGIndex(gIndex), length, packedNodeDepth));
+  }
+
   private static TreeNode toLengthNode(final int length) {
     return length == 0
         ? LeafNode.ZERO_LEAVES[8]
@@ -37,6 +37,7 @@ import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.PackedUInt64Node;
 import tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
@@ -91,12 +92,18 @@ public abstract class AbstractSszVectorSchema<
   protected TreeNode createDefaultTree() {
     if (isListBacking) {
       Optional<SszSuperNodeHint> sszSuperNodeHint = getHints().getHint(SszSuperNodeHint.class);
+      Optional<Integer> packedNodeDepth = getPackedUInt64NodeDepth();
       if (sszSuperNodeHint.isPresent()) {
         int superNodeDepth = sszSuperNodeHint.get().getDepth();
         SszSuperNode defaultSuperSszNode =
             new SszSuperNode(superNodeDepth, elementSszSupernodeTemplate.get(), Bytes.EMPTY);
         int binaryDepth = treeDepth() - superNodeDepth;
         return TreeUtil.createTree(emptyList(), defaultSuperSszNode, binaryDepth);
+      } else if (packedNodeDepth.isPresent()) {
+        return TreeUtil.createTree(
+            emptyList(),
+            PackedUInt64Node.empty(packedNodeDepth.get()),
+            treeDepth() - packedNodeDepth.get());
       } else {
         return TreeUtil.createDefaultTree(maxChunks(), LeafNode.EMPTY_LEAF);
       }
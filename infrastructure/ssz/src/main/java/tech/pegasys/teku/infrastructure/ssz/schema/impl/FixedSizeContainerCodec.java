@@ -0,0 +1,96 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+
+/**
+ * Serializer for containers whose fields are all fixed size, like {@code Checkpoint}, {@code
+ * AttestationData} or {@code Validator}.
+ *
+ * <p>The field layout is resolved once per schema, so encoding and decoding skip the offset
+ * bookkeeping of the generic container logic. Primitive fields are decoded straight from the
+ * container reader instead of through a slice of their own.
+ */
+class FixedSizeContainerCodec {
+
+  private final SszSchema<?>[] fieldSchemas;
+  private final AbstractSszPrimitiveSchema<?, ?>[] primitiveFieldSchemas;
+  private final long[] fieldGeneralizedIndices;
+  private final int[] fieldSizes;
+  private final int size;
+
+  private FixedSizeContainerCodec(final SszContainerSchema<?> schema) {
+    final int fieldsCount = schema.getFieldsCount();
+    this.fieldSchemas = new SszSchema<?>[fieldsCount];
+    this.primitiveFieldSchemas = new AbstractSszPrimitiveSchema<?, ?>[fieldsCount];
+    this.fieldGeneralizedIndices = new long[fieldsCount];
+    this.fieldSizes = new int[fieldsCount];
+    int totalSize = 0;
+    for (int i = 0; i < fieldsCount; i++) {
+      final SszSchema<?> fieldSchema = schema.getChildSchema(i);
+      fieldSchemas[i] = fieldSchema;
+      if (fieldSchema instanceof AbstractSszPrimitiveSchema<?, ?> primitiveSchema) {
+        primitiveFieldSchemas[i] = primitiveSchema;
+      }
+      fieldGeneralizedIndices[i] = schema.getChildGeneralizedIndex(i);
+      fieldSizes[i] = fieldSchema.getSszFixedPartSize();
+      totalSize += fieldSizes[i];
+    }
+    this.size = totalSize;
+  }
+
+  /** Returns a codec for the schema if all of its fields are fixed size. */
+  static Optional<FixedSizeContainerCodec> create(final SszContainerSchema<?> schema) {
+    for (int i = 0; i < schema.getFieldsCount(); i++) {
+      if (!schema.getChildSchema(i).isFixedSize()) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new FixedSizeContainerCodec(schema));
+  }
+
+  int serialize(final TreeNode node, final SszWriter writer) {
+    for (int i = 0; i < fieldSchemas.length; i++) {
+      fieldSchemas[i].sszSerializeTree(node.get(fieldGeneralizedIndices[i]), writer);
+    }
+    return size;
+  }
+
+  TreeNode deserialize(final SszReader reader) {
+    final List<TreeNode> fieldNodes = new ArrayList<>(fieldSchemas.length);
+    for (int i = 0; i < fieldSchemas.length; i++) {
+      if (primitiveFieldSchemas[i] != null) {
+        fieldNodes.add(primitiveFieldSchemas[i].createNodeFromSszBytes(reader.read(fieldSizes[i])));
+      } else {
+        try (SszReader fieldReader = reader.slice(fieldSizes[i])) {
+          fieldNodes.add(fieldSchemas[i].sszDeserializeTree(fieldReader));
+        }
+      }
+    }
+    if (reader.getAvailableBytes() > 0) {
+      throw new SszDeserializeException("Invalid SSZ: unread bytes for fixed size container");
+    }
+    return TreeUtil.createTree(fieldNodes);
+  }
+}
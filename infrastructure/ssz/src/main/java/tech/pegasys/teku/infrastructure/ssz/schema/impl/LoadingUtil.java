@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.bitsCeilToBytes
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchema;
@@ -60,6 +61,10 @@ public class LoadingUtil {
       }
       return defaultTree;
     }
+    final Optional<TreeNode> existingNode = nodeSource.findExistingNode(rootHash, rootGIndex);
+    if (existingNode.isPresent()) {
+      return existingNode.get();
+    }
     final CompressedBranchInfo rootBranchInfo = nodeSource.loadBranchNode(rootHash, rootGIndex);
     final int branchDepth = rootBranchInfo.getDepth();
     checkState(
@@ -0,0 +1,71 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link SszWriter} which collects the written bytes in a fixed size buffer and passes it to a
+ * {@link WritableByteChannel} each time it fills up, so serializing a large structure like a state
+ * never requires more memory than the buffer itself.
+ *
+ * <p>{@link #flush()} must be called once serialization completes to write out the last chunk.
+ */
+public class SszChannelWriter implements SszWriter {
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  public SszChannelWriter(final WritableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  public SszChannelWriter(final WritableByteChannel channel, final int bufferSize) {
+    checkArgument(bufferSize > 0, "Buffer size must be positive: %s", bufferSize);
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocate(bufferSize);
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) {
+    int written = 0;
+    while (written < length) {
+      if (!buffer.hasRemaining()) {
+        flush();
+      }
+      final int chunkLength = Math.min(buffer.remaining(), length - written);
+      buffer.put(bytes, offset + written, chunkLength);
+      written += chunkLength;
+    }
+  }
+
+  /** Writes all buffered bytes to the channel. */
+  public void flush() {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.clear();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * {@link SszReader} which pulls bytes from an {@link InputStream} only when they are read, so the
+ * serialized form of a large structure is never held in memory as a whole.
+ *
+ * <p>SSZ is deserialized strictly front to back and every slice is fully read before reading goes
+ * on in its parent. This reader relies on that order and fails if bytes are requested out of it.
+ */
+public class SszInputStreamReader implements SszReader {
+
+  private final StreamSource source;
+  private final long endPosition;
+  private long position;
+
+  public SszInputStreamReader(final InputStream in, final int length) {
+    this(new StreamSource(in), 0, length);
+  }
+
+  private SszInputStreamReader(
+      final StreamSource source, final long position, final long endPosition) {
+    this.source = source;
+    this.position = position;
+    this.endPosition = endPosition;
+  }
+
+  @Override
+  public int getAvailableBytes() {
+    return (int) (endPosition - position);
+  }
+
+  @Override
+  public SszReader slice(final int size) {
+    checkIfAvailable(size);
+    SszInputStreamReader ret = new SszInputStreamReader(source, position, position + size);
+    position += size;
+    return ret;
+  }
+
+  @Override
+  public Bytes read(final int length) {
+    checkIfAvailable(length);
+    Bytes ret = source.read(position, length);
+    position += length;
+    return ret;
+  }
+
+  private void checkIfAvailable(final int size) {
+    if (getAvailableBytes() < size) {
+      throw new SszDeserializeException("Invalid SSZ: trying to read more bytes than available");
+    }
+  }
+
+  @Override
+  public void close() {
+    if (getAvailableBytes() > 0) {
+      throw new SszDeserializeException("Invalid SSZ: unread bytes remain: " + getAvailableBytes());
+    }
+  }
+
+  private static class StreamSource {
+    private final InputStream in;
+    private long position = 0;
+
+    private StreamSource(final InputStream in) {
+      this.in = in;
+    }
+
+    private Bytes read(final long readPosition, final int length) {
+      if (readPosition != position) {
+        throw new IllegalStateException(
+            "SSZ stream read out of order at " + readPosition + ", stream is at " + position);
+      }
+      final byte[] bytes;
+      try {
+        bytes = in.readNBytes(length);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (bytes.length < length) {
+        throw new SszDeserializeException("Invalid SSZ: stream ended before expected length");
+      }
+      position += length;
+      return Bytes.wrap(bytes);
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.infrastructure.ssz.sos;
 
 import java.io.Closeable;
+import java.io.InputStream;
 import org.apache.tuweni.bytes.Bytes;
 
 /** Simple reader interface for SSZ stream */
@@ -24,6 +25,14 @@ public interface SszReader extends Closeable {
     return new SimpleSszReader(bytes);
   }
 
+  /**
+   * Creates an instance reading {@code length} bytes from the {@link InputStream} as they are
+   * needed. The stream is not closed by the reader
+   */
+  static SszReader fromInputStream(final InputStream in, final int length) {
+    return new SszInputStreamReader(in, length);
+  }
+
   /** Number of bytes available for reading */
   int getAvailableBytes();
 
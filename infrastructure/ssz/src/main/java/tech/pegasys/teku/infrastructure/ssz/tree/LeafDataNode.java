@@ -24,4 +24,9 @@ public interface LeafDataNode extends TreeNode {
    * LeafNode#getData()}
    */
   Bytes getData();
+
+  /** Returns the size of {@link #getData()} without necessarily materializing it */
+  default int getDataSize() {
+    return getData().size();
+  }
 }
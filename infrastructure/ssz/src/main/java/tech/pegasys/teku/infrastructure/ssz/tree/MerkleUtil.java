@@ -13,12 +13,22 @@
 
 package tech.pegasys.teku.infrastructure.ssz.tree;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 
 public class MerkleUtil {
 
@@ -33,31 +43,183 @@ public class MerkleUtil {
       // Nothing to prove or invalid index.
       return Collections.emptyList();
     }
-    // Path represented by generalized indices.
-    List<Long> rootToLeafPath = getPathToNode(leafGeneralizedIndex);
-
-    // The sibling of every node along the path is part of the proof.
-    List<Bytes32> proof = new ArrayList<>();
-
-    for (int i = 0; i < rootToLeafPath.size() - 1; i++) {
-      long currentNodeIndex = rootToLeafPath.get(i);
-      long nextNodeIndex = rootToLeafPath.get(i + 1);
-
-      if (GIndexUtil.gIdxLeftGIndex(currentNodeIndex) == nextNodeIndex) {
-        // Next node is left, so the right node is in the proof.
-        proof.add(root.get(GIndexUtil.gIdxRightGIndex(currentNodeIndex)).hashTreeRoot());
-      } else if (GIndexUtil.gIdxRightGIndex(currentNodeIndex) == nextNodeIndex) {
-        // Next node is right, so the left node is in the proof.
-        proof.add(root.get(GIndexUtil.gIdxLeftGIndex(currentNodeIndex)).hashTreeRoot());
-      } else {
-        throw new IllegalArgumentException("Invalid path from root to leaf: " + rootToLeafPath);
+    // Walk down from the root once, collecting the sibling of every node along the path.
+    final int depth = GIndexUtil.gIdxGetDepth(leafGeneralizedIndex);
+    final Bytes32[] proof = new Bytes32[depth];
+    TreeNode node = root;
+    for (int level = 0; level < depth; level++) {
+      final boolean isRight = isRightChildAtLevel(leafGeneralizedIndex, depth, level);
+      final TreeNode sibling =
+          node.get(isRight ? GIndexUtil.LEFT_CHILD_G_INDEX : GIndexUtil.RIGHT_CHILD_G_INDEX);
+      proof[depth - level - 1] = sibling.hashTreeRoot();
+      node = node.get(isRight ? GIndexUtil.RIGHT_CHILD_G_INDEX : GIndexUtil.LEFT_CHILD_G_INDEX);
+    }
+    return List.of(proof);
+  }
+
+  /**
+   * Returns the merkle inclusion proof for each of the given leaf indices, in the same order as the
+   * indices. The tree is traversed once and every node shared between the proofs is only visited
+   * once, so proofs for many leaves in the same tree (e.g. all blob KZG commitments of a block)
+   * cost far less than constructing each proof separately.
+   */
+  public static List<List<Bytes32>> constructMerkleProofs(
+      final TreeNode root, final List<Long> leafGeneralizedIndices) {
+    final LongSet siblingIndices = new LongOpenHashSet();
+    for (long leafGeneralizedIndex : leafGeneralizedIndices) {
+      for (long index = leafGeneralizedIndex; index > 1; index = GIndexUtil.gIdxGetParent(index)) {
+        siblingIndices.add(getSibling(index));
+      }
+    }
+    final Long2ObjectMap<Bytes32> hashes = getNodeHashes(root, siblingIndices);
+    final List<List<Bytes32>> proofs = new ArrayList<>(leafGeneralizedIndices.size());
+    for (long leafGeneralizedIndex : leafGeneralizedIndices) {
+      final List<Bytes32> proof = new ArrayList<>();
+      for (long index = leafGeneralizedIndex; index > 1; index = GIndexUtil.gIdxGetParent(index)) {
+        proof.add(hashes.get(getSibling(index)));
       }
+      proofs.add(Collections.unmodifiableList(proof));
     }
+    return proofs;
+  }
 
-    Collections.reverse(proof);
+  /**
+   * Returns the multiproof for the given leaf indices: the hashes of the minimal set of helper
+   * nodes, ordered as returned by {@link #getHelperIndices(Collection)}. See
+   * https://github.com/ethereum/consensus-specs/blob/dev/ssz/merkle-proofs.md#merkle-multiproofs
+   */
+  public static List<Bytes32> constructMultiProof(
+      final TreeNode root, final Collection<Long> leafGeneralizedIndices) {
+    final LongList helperIndices = getHelperIndices(leafGeneralizedIndices);
+    final Long2ObjectMap<Bytes32> hashes = getNodeHashes(root, helperIndices);
+    final List<Bytes32> proof = new ArrayList<>(helperIndices.size());
+    for (int i = 0; i < helperIndices.size(); i++) {
+      proof.add(hashes.get(helperIndices.getLong(i)));
+    }
     return Collections.unmodifiableList(proof);
   }
 
+  /**
+   * Returns the generalized indices of the nodes required to prove the given leaves, sorted in
+   * decreasing order. This is {@code get_helper_indices} from the SSZ merkle proofs spec.
+   */
+  public static LongList getHelperIndices(final Collection<Long> leafGeneralizedIndices) {
+    final LongSet branchIndices = new LongOpenHashSet();
+    final LongSet pathIndices = new LongOpenHashSet();
+    for (long leafGeneralizedIndex : leafGeneralizedIndices) {
+      checkGeneralizedIndex(leafGeneralizedIndex);
+      for (long index = leafGeneralizedIndex; index > 1; index = GIndexUtil.gIdxGetParent(index)) {
+        branchIndices.add(getSibling(index));
+        pathIndices.add(index);
+      }
+    }
+    branchIndices.removeAll(pathIndices);
+    final LongArrayList helperIndices = new LongArrayList(branchIndices);
+    helperIndices.sort((a, b) -> Long.compare(b, a));
+    return helperIndices;
+  }
+
+  /**
+   * Computes the root of the tree containing the given leaves from a multiproof created by {@link
+   * #constructMultiProof(TreeNode, Collection)}. This is {@code calculate_multi_merkle_root} from
+   * the SSZ merkle proofs spec.
+   */
+  public static Bytes32 calculateMultiMerkleRoot(
+      final List<Bytes32> leaves, final List<Bytes32> proof, final List<Long> indices) {
+    checkArgument(leaves.size() == indices.size(), "Leaves and indices must be the same size");
+    final LongList helperIndices = getHelperIndices(indices);
+    checkArgument(
+        proof.size() == helperIndices.size(),
+        "Expected %s proof nodes but got %s",
+        helperIndices.size(),
+        proof.size());
+    final Long2ObjectMap<Bytes32> nodes = new Long2ObjectOpenHashMap<>();
+    for (int i = 0; i < indices.size(); i++) {
+      nodes.put(indices.get(i).longValue(), leaves.get(i));
+    }
+    for (int i = 0; i < helperIndices.size(); i++) {
+      nodes.put(helperIndices.getLong(i), proof.get(i));
+    }
+    final LongArrayList keys = new LongArrayList(nodes.keySet());
+    keys.sort((a, b) -> Long.compare(b, a));
+    for (int pos = 0; pos < keys.size(); pos++) {
+      final long index = keys.getLong(pos);
+      final long parent = GIndexUtil.gIdxGetParent(index);
+      if (index > 1 && nodes.containsKey(getSibling(index)) && !nodes.containsKey(parent)) {
+        final long leftIndex = GIndexUtil.gIdxLeftGIndex(parent);
+        final long rightIndex = GIndexUtil.gIdxRightGIndex(parent);
+        nodes.put(parent, Hash.sha256(nodes.get(leftIndex), nodes.get(rightIndex)));
+        keys.add(parent);
+      }
+    }
+    return nodes.get(GIndexUtil.SELF_G_INDEX);
+  }
+
+  /**
+   * Returns the hash of the node at each of the given generalized indices, descending from the root
+   * once so that each node on the way to the requested nodes is only visited once.
+   */
+  public static Long2ObjectMap<Bytes32> getNodeHashes(
+      final TreeNode root, final Collection<Long> generalizedIndices) {
+    final LongArrayList targets = new LongArrayList(generalizedIndices.size());
+    for (long generalizedIndex : generalizedIndices) {
+      checkGeneralizedIndex(generalizedIndex);
+      targets.add(generalizedIndex);
+    }
+    final Long2ObjectMap<Bytes32> hashes = new Long2ObjectOpenHashMap<>(targets.size());
+    collectNodeHashes(root, GIndexUtil.SELF_G_INDEX, 0, targets, hashes);
+    return hashes;
+  }
+
+  private static void collectNodeHashes(
+      final TreeNode node,
+      final long generalizedIndex,
+      final int depth,
+      final LongList targets,
+      final Long2ObjectMap<Bytes32> hashes) {
+    final LongList leftTargets = new LongArrayList();
+    final LongList rightTargets = new LongArrayList();
+    for (int i = 0; i < targets.size(); i++) {
+      final long target = targets.getLong(i);
+      if (target == generalizedIndex) {
+        hashes.put(target, node.hashTreeRoot());
+      } else if (isRightChildAtLevel(target, GIndexUtil.gIdxGetDepth(target), depth)) {
+        rightTargets.add(target);
+      } else {
+        leftTargets.add(target);
+      }
+    }
+    if (!leftTargets.isEmpty()) {
+      collectNodeHashes(
+          node.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+          GIndexUtil.gIdxLeftGIndex(generalizedIndex),
+          depth + 1,
+          leftTargets,
+          hashes);
+    }
+    if (!rightTargets.isEmpty()) {
+      collectNodeHashes(
+          node.get(GIndexUtil.RIGHT_CHILD_G_INDEX),
+          GIndexUtil.gIdxRightGIndex(generalizedIndex),
+          depth + 1,
+          rightTargets,
+          hashes);
+    }
+  }
+
+  private static boolean isRightChildAtLevel(
+      final long generalizedIndex, final int indexDepth, final int level) {
+    return ((generalizedIndex >>> (indexDepth - level - 1)) & 1) == 1;
+  }
+
+  private static long getSibling(final long generalizedIndex) {
+    return generalizedIndex ^ 1;
+  }
+
+  private static void checkGeneralizedIndex(final long generalizedIndex) {
+    checkArgument(generalizedIndex >= 1, "Invalid node index: %s", generalizedIndex);
+  }
+
   /**
    * Returns the path from the root to the specified node as an array of generalized indices.
    * path[0] is the root itself (gIndex of 1) path[path.length - 1] is the node (gIndex of
@@ -0,0 +1,185 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.NodeRelation;
+
+/**
+ * Stores consecutive <code>uint64</code> values of a list as a plain <code>long[]</code> instead of
+ * a subtree of {@link LeafNode}s each packing 4 values.
+ *
+ * <p>This node represents a subtree of binary merkle tree with <code>2 ^ depth</code> leaf chunks
+ * of 4 values each. If the list has less values then only existing values are stored (the same way
+ * as {@link SszSuperNode} does). Leaf nodes are only created on demand when requested via {@link
+ * #get(long)}, and the subtree root is calculated straight from the array on the first {@link
+ * #hashTreeRoot()} call
+ *
+ * <p>The node is immutable: an update copies the array once for the whole batch of changed chunks.
+ * This favors large lists which are mostly rewritten in bulk (e.g. Eth2 <code>
+ * BeaconState.balances</code> which is updated for every validator each epoch)
+ */
+public class PackedUInt64Node implements TreeNode, LeafDataNode {
+
+  private static final int VALUES_PER_CHUNK = LeafNode.MAX_BYTE_SIZE / Long.BYTES;
+  private static final long[] NO_VALUES = new long[0];
+
+  private final int depth;
+  private final long[] values;
+  private volatile Bytes32 cachedHash;
+
+  private PackedUInt64Node(final int depth, final long[] values) {
+    checkArgument(
+        values.length <= (long) VALUES_PER_CHUNK << depth, "Too many values for node depth");
+    this.depth = depth;
+    this.values = values;
+  }
+
+  public static PackedUInt64Node empty(final int depth) {
+    return new PackedUInt64Node(depth, NO_VALUES);
+  }
+
+  public static PackedUInt64Node fromSsz(final int depth, final Bytes ssz) {
+    checkArgument(ssz.size() % Long.BYTES == 0, "Ssz length is not multiple of uint64 size");
+    final long[] values = new long[ssz.size() / Long.BYTES];
+    asLongBuffer(ssz.toArrayUnsafe()).get(values);
+    return new PackedUInt64Node(depth, values);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    Bytes32 cachedHash = this.cachedHash;
+    if (cachedHash == null) {
+      cachedHash = calcHashTreeRoot(Hash.getSha256Instance());
+      this.cachedHash = cachedHash;
+    }
+    return cachedHash;
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot(final Sha256 sha256) {
+    Bytes32 cachedHash = this.cachedHash;
+    if (cachedHash == null) {
+      cachedHash = calcHashTreeRoot(sha256);
+      this.cachedHash = cachedHash;
+    }
+    return cachedHash;
+  }
+
+  private Bytes32 calcHashTreeRoot(final Sha256 sha256) {
+    final int chunksCount = (values.length + VALUES_PER_CHUNK - 1) / VALUES_PER_CHUNK;
+    final byte[] chunks = new byte[(chunksCount + 1) * Bytes32.SIZE];
+    asLongBuffer(chunks).put(values);
+    return TreeUtil.merkleize(chunks, chunksCount, depth, sha256);
+  }
+
+  @NotNull
+  @Override
+  public TreeNode get(final long generalizedIndex) {
+    if (GIndexUtil.gIdxIsSelf(generalizedIndex)) {
+      return this;
+    }
+    final int nodeDepth = GIndexUtil.gIdxGetDepth(generalizedIndex);
+    checkArgument(nodeDepth <= depth, "Invalid index: %s", generalizedIndex);
+    final int valuesPerNode = VALUES_PER_CHUNK << (depth - nodeDepth);
+    final int from = GIndexUtil.gIdxGetChildIndex(generalizedIndex, nodeDepth) * valuesPerNode;
+    final int to = Math.max(from, Math.min(from + valuesPerNode, values.length));
+    if (nodeDepth < depth) {
+      return new PackedUInt64Node(depth - nodeDepth, Arrays.copyOfRange(values, from, to));
+    }
+    return from == to ? LeafNode.EMPTY_LEAF : LeafNode.create(toBytes(from, to));
+  }
+
+  @Override
+  public boolean iterate(
+      final long thisGeneralizedIndex,
+      final long startGeneralizedIndex,
+      final TreeVisitor visitor) {
+    if (GIndexUtil.gIdxCompare(thisGeneralizedIndex, startGeneralizedIndex) == NodeRelation.LEFT) {
+      return true;
+    } else {
+      return visitor.visit(this, thisGeneralizedIndex);
+    }
+  }
+
+  @Override
+  public TreeNode updated(final TreeUpdates newNodes) {
+    if (newNodes.isEmpty()) {
+      return this;
+    }
+    int newLength = values.length;
+    for (int i = 0; i < newNodes.size(); i++) {
+      final int chunkOffset = getChunkIndex(newNodes.getRelativeGIndex(i)) * VALUES_PER_CHUNK;
+      final int chunkLength = getLeafData(newNodes.getNode(i)).size() / Long.BYTES;
+      newLength = Math.max(newLength, chunkOffset + chunkLength);
+    }
+    final long[] newValues = Arrays.copyOf(values, newLength);
+    for (int i = 0; i < newNodes.size(); i++) {
+      final int chunkOffset = getChunkIndex(newNodes.getRelativeGIndex(i)) * VALUES_PER_CHUNK;
+      final Bytes data = getLeafData(newNodes.getNode(i));
+      for (int j = 0; j < data.size() / Long.BYTES; j++) {
+        newValues[chunkOffset + j] = data.getLong(j * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    return new PackedUInt64Node(depth, newValues);
+  }
+
+  private int getChunkIndex(final long relativeGIndex) {
+    checkArgument(
+        GIndexUtil.gIdxGetDepth(relativeGIndex) == depth,
+        "Only leaf chunks can be updated: %s",
+        relativeGIndex);
+    return GIndexUtil.gIdxGetChildIndex(relativeGIndex, depth);
+  }
+
+  private static Bytes getLeafData(final TreeNode node) {
+    checkArgument(node instanceof LeafDataNode, "Leaf node expected: %s", node);
+    return ((LeafDataNode) node).getData();
+  }
+
+  @Override
+  public Bytes getData() {
+    return toBytes(0, values.length);
+  }
+
+  @Override
+  public int getDataSize() {
+    return values.length * Long.BYTES;
+  }
+
+  private Bytes toBytes(final int from, final int to) {
+    final byte[] bytes = new byte[(to - from) * Long.BYTES];
+    asLongBuffer(bytes).put(values, from, to - from);
+    return Bytes.wrap(bytes);
+  }
+
+  private static LongBuffer asLongBuffer(final byte[] bytes) {
+    return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+  }
+
+  @Override
+  public String toString() {
+    return "PackedUInt64Node{depth=" + depth + ", values=" + Arrays.toString(values) + "}";
+  }
+}
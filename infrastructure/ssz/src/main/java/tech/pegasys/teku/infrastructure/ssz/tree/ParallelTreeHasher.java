@@ -0,0 +1,77 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+/**
+ * Calculates the root of a tree whose unhashed part is large (e.g. a {@code BeaconState} after an
+ * epoch transition updated every balance) by splitting the unhashed subtrees across the common
+ * {@link ForkJoinPool}. Small updates are hashed on the calling thread as before.
+ *
+ * <p>Only {@link SimpleBranchNode}s without a cached hash are considered unhashed. Subtrees are
+ * split until they contain fewer than {@link #SPLIT_THRESHOLD} unhashed branches, and every task
+ * then hashes its subtree sequentially, caching hashes bottom up so the final pass over the upper
+ * levels only needs to combine already known child roots.
+ */
+final class ParallelTreeHasher {
+
+  static final int PARALLEL_THRESHOLD = 4096;
+  static final int SPLIT_THRESHOLD = 1024;
+
+  private ParallelTreeHasher() {}
+
+  static Bytes32 hashTreeRoot(final SimpleBranchNode node) {
+    if (ForkJoinPool.getCommonPoolParallelism() > 1
+        && countUnhashedBranches(node, PARALLEL_THRESHOLD) >= PARALLEL_THRESHOLD) {
+      ForkJoinPool.commonPool().invoke(new HashSubtreeTask(node));
+    }
+    return node.hashTreeRoot(Hash.getSha256Instance());
+  }
+
+  /** Counts unhashed branch nodes of the subtree, stopping as soon as {@code limit} is reached */
+  static int countUnhashedBranches(final TreeNode node, final int limit) {
+    if (!(node instanceof SimpleBranchNode branch) || branch.isHashCached() || limit <= 0) {
+      return 0;
+    }
+    int count = 1 + countUnhashedBranches(branch.left(), limit - 1);
+    if (count < limit) {
+      count += countUnhashedBranches(branch.right(), limit - count);
+    }
+    return count;
+  }
+
+  private static class HashSubtreeTask extends RecursiveAction {
+    private final TreeNode node;
+
+    private HashSubtreeTask(final TreeNode node) {
+      this.node = node;
+    }
+
+    @Override
+    protected void compute() {
+      if (node instanceof SimpleBranchNode branch
+          && countUnhashedBranches(branch, SPLIT_THRESHOLD) >= SPLIT_THRESHOLD) {
+        final HashSubtreeTask leftTask = new HashSubtreeTask(branch.left());
+        leftTask.fork();
+        new HashSubtreeTask(branch.right()).compute();
+        leftTask.join();
+      }
+      node.hashTreeRoot(Hash.getSha256Instance());
+    }
+  }
+}
@@ -58,10 +58,9 @@ class SimpleBranchNode implements BranchNode, TreeNode {
 
   @Override
   public Bytes32 hashTreeRoot() {
-    Bytes32 cachedHash = this.cachedHash;
+    final Bytes32 cachedHash = this.cachedHash;
     if (cachedHash == null) {
-      cachedHash = BranchNode.super.hashTreeRoot();
-      this.cachedHash = cachedHash;
+      return ParallelTreeHasher.hashTreeRoot(this);
     }
     return cachedHash;
   }
@@ -76,6 +75,10 @@ class SimpleBranchNode implements BranchNode, TreeNode {
     return cachedHash;
   }
 
+  boolean isHashCached() {
+    return cachedHash != null;
+  }
+
   @Override
   @SuppressWarnings("ReferenceComparison")
   public String toString() {
@@ -43,7 +43,6 @@ import tech.pegasys.teku.infrastructure.ssz.tree.SszNodeTemplate.Location;
  * list)
  */
 public class SszSuperNode implements TreeNode, LeafDataNode {
-  private static final TreeNode DEFAULT_NODE = LeafNode.EMPTY_LEAF;
 
   private final int depth;
   private final SszNodeTemplate elementTemplate;
@@ -88,26 +87,15 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
   }
 
   private Bytes32 calcHashTreeRoot(final Sha256 sha256) {
-    return hashTreeRoot(0, 0, sha256);
-  }
-
-  private Bytes32 hashTreeRoot(final int curDepth, final int offset, final Sha256 sha256) {
-    if (curDepth == depth) {
-      if (offset < ssz.size()) {
-        return elementTemplate.calculateHashTreeRoot(ssz, offset, sha256);
-      } else {
-        assert offset <= elementTemplate.getSszLength() * (getMaxElements() - 1);
-        return DEFAULT_NODE.hashTreeRoot();
-      }
-    } else {
-      final Bytes32 leftRoot = hashTreeRoot(curDepth + 1, offset, sha256);
-      final Bytes32 rightRoot =
-          hashTreeRoot(
-              curDepth + 1,
-              offset + elementTemplate.getSszLength() * (1 << ((depth - curDepth) - 1)),
-              sha256);
-      return Bytes32.wrap(sha256.digest(leftRoot, rightRoot));
+    final int elementsCount = getElementsCount();
+    final int elementLength = elementTemplate.getSszLength();
+    final byte[] chunks = new byte[(elementsCount + 1) * Bytes32.SIZE];
+    for (int i = 0; i < elementsCount; i++) {
+      final byte[] elementRoot =
+          elementTemplate.calculateHashTreeRoot(ssz, i * elementLength, sha256).toArrayUnsafe();
+      System.arraycopy(elementRoot, 0, chunks, i * Bytes32.SIZE, Bytes32.SIZE);
     }
+    return TreeUtil.merkleize(chunks, elementsCount, depth, sha256);
   }
 
   @NotNull
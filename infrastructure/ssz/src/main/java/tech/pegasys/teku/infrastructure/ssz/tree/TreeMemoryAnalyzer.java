@@ -0,0 +1,109 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Estimates the heap memory retained by a set of trees, telling apart the nodes only reachable from
+ * a single tree and the nodes structurally shared between several of them.
+ *
+ * <p>Nodes are compared by identity, so equal but separately created subtrees are counted once per
+ * instance, as they are in memory. Node sizes are estimates of the usual JVM layout with compressed
+ * references and assume the node hash has been computed. Lazily loaded branches are not expanded
+ * so the analysis never triggers loading from storage.
+ */
+public class TreeMemoryAnalyzer {
+
+  static final int OBJECT_HEADER_SIZE = 16;
+  // A Bytes32 wrapper together with its backing array
+  static final int HASH_SIZE = 2 * OBJECT_HEADER_SIZE + Bytes32.SIZE;
+  static final int BRANCH_NODE_SIZE = OBJECT_HEADER_SIZE + 8 + HASH_SIZE;
+  // Node object, its data wrapper and the data array header
+  static final int LEAF_NODE_OVERHEAD = 3 * OBJECT_HEADER_SIZE + HASH_SIZE;
+
+  private static final int NOT_VISITED = -2;
+  private static final int SHARED = -1;
+
+  public static <K> MemoryUsage<K> analyze(final Map<K, TreeNode> roots) {
+    final List<K> keys = new ArrayList<>(roots.keySet());
+    final Reference2IntOpenHashMap<TreeNode> owners = new Reference2IntOpenHashMap<>();
+    owners.defaultReturnValue(NOT_VISITED);
+    final ArrayDeque<TreeNode> pending = new ArrayDeque<>();
+
+    for (int rootIndex = 0; rootIndex < keys.size(); rootIndex++) {
+      pending.push(roots.get(keys.get(rootIndex)));
+      while (!pending.isEmpty()) {
+        final TreeNode node = pending.pop();
+        final int owner = owners.getInt(node);
+        if (owner == rootIndex || owner == SHARED) {
+          // the whole subtree has already been accounted for
+          continue;
+        }
+        // a node first seen from an earlier tree becomes shared along with its whole subtree
+        owners.put(node, owner == NOT_VISITED ? rootIndex : SHARED);
+        if (node instanceof BranchNode branchNode && !(node instanceof LazyBranchNode)) {
+          pending.push(branchNode.right());
+          pending.push(branchNode.left());
+        }
+      }
+    }
+
+    final long[] uniqueBytes = new long[keys.size()];
+    long sharedBytes = 0;
+    for (Reference2IntMap.Entry<TreeNode> entry : owners.reference2IntEntrySet()) {
+      final long size = estimateSize(entry.getKey());
+      if (entry.getIntValue() == SHARED) {
+        sharedBytes += size;
+      } else {
+        uniqueBytes[entry.getIntValue()] += size;
+      }
+    }
+
+    final Map<K, Long> uniqueBytesByRoot = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      uniqueBytesByRoot.put(keys.get(i), uniqueBytes[i]);
+    }
+    return new MemoryUsage<>(uniqueBytesByRoot, sharedBytes);
+  }
+
+  static long estimateSize(final TreeNode node) {
+    if (node instanceof LeafDataNode leafDataNode) {
+      return LEAF_NODE_OVERHEAD + leafDataNode.getDataSize();
+    }
+    return BRANCH_NODE_SIZE;
+  }
+
+  /**
+   * @param uniqueBytes the bytes retained only by each tree, which would be freed by dropping it
+   * @param sharedBytes the bytes retained by nodes reachable from more than one tree
+   */
+  public record MemoryUsage<K>(Map<K, Long> uniqueBytes, long sharedBytes) {
+
+    public long totalUniqueBytes() {
+      return uniqueBytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long totalBytes() {
+      return totalUniqueBytes() + sharedBytes;
+    }
+  }
+}
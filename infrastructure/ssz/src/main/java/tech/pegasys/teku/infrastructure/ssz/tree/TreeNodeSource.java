@@ -16,6 +16,7 @@ package tech.pegasys.teku.infrastructure.ssz.tree;
 import com.google.common.base.MoreObjects;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
@@ -24,6 +25,19 @@ public interface TreeNodeSource {
 
   Bytes loadLeafNode(Bytes32 rootHash, long gIndex);
 
+  /**
+   * Returns an already materialized node with the given root at the given generalized index if this
+   * source has one available. Loaders reuse such a node as-is rather than rebuilding the subtree
+   * from stored branch and leaf data.
+   *
+   * @param rootHash the hash tree root of the node to find
+   * @param gIndex the generalized index of the node in the overall tree
+   * @return the existing node or empty if the subtree has to be loaded
+   */
+  default Optional<TreeNode> findExistingNode(final Bytes32 rootHash, final long gIndex) {
+    return Optional.empty();
+  }
+
   class CompressedBranchInfo {
     private final int depth;
     private final Bytes32[] children;
@@ -18,10 +18,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
 
 /** Misc Backing binary tree utils */
 public class TreeUtil {
@@ -153,6 +155,30 @@ public class TreeUtil {
     }
   }
 
+  /**
+   * Calculates the root of a tree of the given depth whose first {@code count} leaves are the
+   * 32-byte chunks stored back to back in {@code chunks}, with all remaining leaves being zero. The
+   * tree is hashed level by level in place, so {@code chunks} must have room for {@code count + 1}
+   * chunks and its content is overwritten.
+   */
+  public static Bytes32 merkleize(
+      final byte[] chunks, final int count, final int depth, final Sha256 sha256) {
+    if (count == 0) {
+      return ZERO_TREES[depth].hashTreeRoot();
+    }
+    int levelSize = count;
+    for (int level = 0; level < depth; level++) {
+      if (levelSize % 2 == 1) {
+        final byte[] zeroRoot = ZERO_TREES[level].hashTreeRoot().toArrayUnsafe();
+        System.arraycopy(zeroRoot, 0, chunks, levelSize * Bytes32.SIZE, Bytes32.SIZE);
+        levelSize++;
+      }
+      sha256.digestPairs(chunks, 0, chunks, 0, levelSize / 2);
+      levelSize /= 2;
+    }
+    return Bytes32.wrap(Arrays.copyOf(chunks, Bytes32.SIZE));
+  }
+
   public static long nextPowerOf2(final long x) {
     return x <= 1 ? 1 : Long.highestOneBit(x - 1) << 1;
   }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.infrastructure.ssz.collections;
 import java.util.stream.Stream;
 import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszPrimitiveListSchema;
 
 public class SszPrimitiveListTest implements SszMutablePrimitiveListTestBase {
@@ -40,6 +41,12 @@ public class SszPrimitiveListTest implements SszMutablePrimitiveListTestBase {
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 16),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 17),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 300),
+        SszPrimitiveListSchema.create(
+            SszPrimitiveSchemas.UINT64_SCHEMA, 5, SszSchemaHints.packedUInt64(2)),
+        SszPrimitiveListSchema.create(
+            SszPrimitiveSchemas.UINT64_SCHEMA, 17, SszSchemaHints.packedUInt64(1)),
+        SszPrimitiveListSchema.create(
+            SszPrimitiveSchemas.UINT64_SCHEMA, 300, SszSchemaHints.packedUInt64(3)),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 0),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 1),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 31),
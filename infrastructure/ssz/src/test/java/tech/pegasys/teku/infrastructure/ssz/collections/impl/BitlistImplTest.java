@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.pegasys.teku.infrastructure.collections.PrimitiveCollectionAssert.assertThatIntCollection;
 
+import java.util.BitSet;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.MutableBytes;
@@ -113,6 +114,32 @@ class BitlistImplTest {
     assertThat(create(1, 2, 6, 7, 9).getBitCount()).isEqualTo(5);
   }
 
+  @Test
+  void countSetBits_afterOr() {
+    assertThat(create(1, 2, 6).or(create(2, 7, 9)).getBitCount()).isEqualTo(5);
+  }
+
+  @Test
+  void isSuperSetOf_acrossWordBoundaries() {
+    BitlistImpl bitlist1 = new BitlistImpl(200, BITLIST_MAX_SIZE, 0, 63, 64, 130, 199);
+    BitlistImpl bitlist2 = new BitlistImpl(150, BITLIST_MAX_SIZE, 63, 64, 130);
+    BitlistImpl bitlist3 = new BitlistImpl(150, BITLIST_MAX_SIZE, 63, 65, 130);
+    assertThat(bitlist1.isSuperSetOf(bitlist2)).isTrue();
+    assertThat(bitlist1.isSuperSetOf(bitlist3)).isFalse();
+    assertThat(bitlist2.isSuperSetOf(bitlist1)).isFalse();
+  }
+
+  @Test
+  void shouldDropBitsOutsideSizeFromBitSet() {
+    BitSet bitSet = new BitSet();
+    bitSet.set(3);
+    bitSet.set(70);
+    BitlistImpl bitlist = new BitlistImpl(10, BITLIST_MAX_SIZE, bitSet);
+
+    assertThat(bitlist.getBitCount()).isEqualTo(1);
+    assertThat(bitlist).isEqualTo(new BitlistImpl(10, BITLIST_MAX_SIZE, 3));
+  }
+
   @Test
   void serializationTest() {
     BitlistImpl bitlist = createBitlist();
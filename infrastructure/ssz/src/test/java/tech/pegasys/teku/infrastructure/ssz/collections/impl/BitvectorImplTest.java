@@ -50,6 +50,26 @@ class BitvectorImplTest {
     Assertions.assertEquals(bitvector.getBit(8), true);
   }
 
+  @Test
+  void rightShift_acrossWordBoundary() {
+    BitvectorImpl bitvector = new BitvectorImpl(130, 0, 62, 63, 100, 129);
+
+    assertThat(bitvector.rightShift(2).getSetBitIndices()).containsExactly(2, 64, 65, 102);
+    assertThat(bitvector.rightShift(2).getBitCount()).isEqualTo(4);
+  }
+
+  @Test
+  void rightShift_shouldRejectNegativeShift() {
+    assertThatThrownBy(() -> createBitvector().rightShift(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void getLastSetBitIndex() {
+    assertThat(new BitvectorImpl(130, 3, 70).getLastSetBitIndex()).isEqualTo(70);
+    assertThat(new BitvectorImpl(130).getLastSetBitIndex()).isEqualTo(-1);
+  }
+
   @Test
   void serializationTest() {
     BitvectorImpl bitvector = createBitvector();
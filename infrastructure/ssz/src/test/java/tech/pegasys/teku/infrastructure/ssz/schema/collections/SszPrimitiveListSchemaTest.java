@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszPrimitiveVector;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszPrimitiveListSchemaTest extends SszListSchemaTestBase {
@@ -54,6 +55,10 @@ public class SszPrimitiveListSchemaTest extends SszListSchemaTestBase {
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 3),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 4),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 5),
+        SszPrimitiveListSchema.create(
+            SszPrimitiveSchemas.UINT64_SCHEMA, 5, SszSchemaHints.packedUInt64(2)),
+        SszPrimitiveListSchema.create(
+            SszPrimitiveSchemas.UINT64_SCHEMA, 100, SszSchemaHints.packedUInt64(3)),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 0),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 1),
         SszPrimitiveListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 10));
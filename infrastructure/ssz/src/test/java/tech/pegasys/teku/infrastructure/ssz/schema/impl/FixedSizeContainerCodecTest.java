@@ -0,0 +1,74 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.schema.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSmallContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.TestSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class FixedSizeContainerCodecTest {
+
+  @Test
+  void shouldOnlyBeCreatedForFixedSizeContainers() {
+    assertThat(FixedSizeContainerCodec.create(TestContainer.SSZ_SCHEMA)).isPresent();
+    assertThat(FixedSizeContainerCodec.create(VariableSizeContainer.SSZ_SCHEMA)).isEmpty();
+  }
+
+  @Test
+  void shouldRoundTripNestedContainer() {
+    final TestContainer container =
+        new TestContainer(
+            new TestSubContainer(UInt64.valueOf(7), Bytes32.random()), UInt64.valueOf(42));
+    final Bytes ssz = container.sszSerialize();
+
+    assertThat(ssz.size()).isEqualTo(TestContainer.SSZ_SCHEMA.getSszFixedPartSize());
+    final TestContainer result = TestContainer.SSZ_SCHEMA.sszDeserialize(ssz);
+    assertThat(result).isEqualTo(container);
+    assertThat(result.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+  }
+
+  @Test
+  void shouldRejectExtraBytes() {
+    final Bytes ssz =
+        Bytes.concatenate(
+            new TestSubContainer(UInt64.ONE, Bytes32.ZERO).sszSerialize(), Bytes.of(0));
+
+    assertThatThrownBy(() -> TestSubContainer.SSZ_SCHEMA.sszDeserialize(ssz))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldRejectTruncatedInput() {
+    final Bytes ssz = new TestSubContainer(UInt64.ONE, Bytes32.ZERO).sszSerialize();
+
+    assertThatThrownBy(
+            () -> TestSubContainer.SSZ_SCHEMA.sszDeserialize(ssz.slice(0, ssz.size() - 1)))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldValidatePrimitiveFields() {
+    assertThatThrownBy(() -> TestSmallContainer.SSZ_SCHEMA.sszDeserialize(Bytes.of(2)))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
+
+public class SszChannelWriterTest {
+
+  private final RandomSszDataGenerator dataGenerator = new RandomSszDataGenerator();
+
+  @Test
+  void shouldSerializeSameAsSszSerialize() {
+    final VariableSizeContainer container =
+        dataGenerator.randomData(VariableSizeContainer.SSZ_SCHEMA);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    final int length = container.sszSerialize(Channels.newChannel(out));
+
+    assertThat(Bytes.wrap(out.toByteArray())).isEqualTo(container.sszSerialize());
+    assertThat(length).isEqualTo(out.size());
+  }
+
+  @Test
+  void shouldNotWriteChunksLargerThanBuffer() {
+    final VariableSizeContainer container =
+        dataGenerator.randomData(VariableSizeContainer.SSZ_SCHEMA);
+    final List<Integer> chunkSizes = new ArrayList<>();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final WritableByteChannel outChannel = Channels.newChannel(out);
+    final SszChannelWriter writer =
+        new SszChannelWriter(
+            new WritableByteChannel() {
+              @Override
+              public int write(final ByteBuffer src) throws IOException {
+                chunkSizes.add(src.remaining());
+                return outChannel.write(src);
+              }
+
+              @Override
+              public boolean isOpen() {
+                return true;
+              }
+
+              @Override
+              public void close() {}
+            },
+            7);
+
+    container.sszSerialize(writer);
+    writer.flush();
+
+    assertThat(Bytes.wrap(out.toByteArray())).isEqualTo(container.sszSerialize());
+    assertThat(chunkSizes).allMatch(size -> size <= 7);
+  }
+}
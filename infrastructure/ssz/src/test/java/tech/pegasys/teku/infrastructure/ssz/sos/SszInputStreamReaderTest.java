@@ -0,0 +1,73 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.RandomSszDataGenerator;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.VariableSizeContainer;
+
+public class SszInputStreamReaderTest {
+
+  private final RandomSszDataGenerator dataGenerator = new RandomSszDataGenerator();
+
+  @Test
+  void shouldDeserializeSameAsFromBytes() {
+    for (int i = 0; i < 10; i++) {
+      final VariableSizeContainer container =
+          dataGenerator.randomData(VariableSizeContainer.SSZ_SCHEMA);
+      final Bytes ssz = container.sszSerialize();
+
+      final VariableSizeContainer result =
+          VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(
+              SszReader.fromInputStream(new ByteArrayInputStream(ssz.toArrayUnsafe()), ssz.size()));
+
+      assertThat(result).isEqualTo(container);
+      assertThat(result.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+    }
+  }
+
+  @Test
+  void shouldFailWhenStreamIsShorterThanLength() {
+    final Bytes ssz = dataGenerator.randomData(VariableSizeContainer.SSZ_SCHEMA).sszSerialize();
+    final ByteArrayInputStream in =
+        new ByteArrayInputStream(ssz.slice(0, ssz.size() - 1).toArray());
+
+    assertThatThrownBy(
+            () ->
+                VariableSizeContainer.SSZ_SCHEMA.sszDeserialize(
+                    SszReader.fromInputStream(in, ssz.size())))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void shouldFailWhenReadingOutOfOrder() {
+    final SszReader reader = SszReader.fromInputStream(new ByteArrayInputStream(new byte[8]), 8);
+    final SszReader slice = reader.slice(4);
+
+    assertThatThrownBy(() -> reader.read(4)).isInstanceOf(IllegalStateException.class);
+    assertThat(slice.read(4)).isEqualTo(Bytes.wrap(new byte[4]));
+  }
+
+  @Test
+  void shouldFailToReadMoreThanAvailable() {
+    final SszReader reader = SszReader.fromInputStream(new ByteArrayInputStream(new byte[8]), 4);
+
+    assertThatThrownBy(() -> reader.read(5)).isInstanceOf(SszDeserializeException.class);
+  }
+}
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 
@@ -87,6 +89,67 @@ public class MerkleUtilTest {
     assertThat(proofActual).isEqualTo(proofExpected);
   }
 
+  @Test
+  void constructMerkleProofs_shouldMatchSingleProofs() {
+    TreeNode root = createTestTree(16);
+    List<Long> leafIndices = List.of(0b10000L, 0b10011L, 0b11111L, 0b1010L, 0b11L);
+
+    List<List<Bytes32>> proofs = MerkleUtil.constructMerkleProofs(root, leafIndices);
+
+    assertThat(proofs).hasSize(leafIndices.size());
+    for (int i = 0; i < leafIndices.size(); i++) {
+      assertThat(proofs.get(i))
+          .isEqualTo(MerkleUtil.constructMerkleProof(root, leafIndices.get(i)));
+    }
+  }
+
+  @Test
+  void getHelperIndices_shouldExcludeNodesOnPaths() {
+    assertThat(MerkleUtil.getHelperIndices(List.of(0b1000L, 0b1001L, 0b1110L)))
+        .containsExactly(0b1111L, 0b110L, 0b101L);
+  }
+
+  @Test
+  void constructMultiProof_shouldProveLeavesAgainstRoot() {
+    TreeNode root = createTestTree(16);
+    List<Long> leafIndices = List.of(0b10001L, 0b10100L, 0b10101L, 0b11110L);
+
+    List<Bytes32> proof = MerkleUtil.constructMultiProof(root, leafIndices);
+    List<Bytes32> leaves = leafIndices.stream().map(i -> root.get(i).hashTreeRoot()).toList();
+
+    assertThat(proof).hasSize(MerkleUtil.getHelperIndices(leafIndices).size());
+    assertThat(MerkleUtil.calculateMultiMerkleRoot(leaves, proof, leafIndices))
+        .isEqualTo(root.hashTreeRoot());
+  }
+
+  @Test
+  void constructMultiProof_shouldNotProveModifiedLeaf() {
+    TreeNode root = createTestTree(16);
+    List<Long> leafIndices = List.of(0b10001L, 0b11110L);
+
+    List<Bytes32> proof = MerkleUtil.constructMultiProof(root, leafIndices);
+    List<Bytes32> leaves =
+        List.of(root.get(0b10001L).hashTreeRoot(), TreeTest.newTestLeaf(99).hashTreeRoot());
+
+    assertThat(MerkleUtil.calculateMultiMerkleRoot(leaves, proof, leafIndices))
+        .isNotEqualTo(root.hashTreeRoot());
+  }
+
+  @Test
+  void getNodeHashes_shouldReturnHashOfEachNode() {
+    TreeNode root = createTestTree(8);
+    List<Long> indices = List.of(1L, 0b10L, 0b111L, 0b1101L);
+
+    assertThat(MerkleUtil.getNodeHashes(root, indices))
+        .containsExactlyInAnyOrderEntriesOf(
+            indices.stream().collect(Collectors.toMap(i -> i, i -> root.get(i).hashTreeRoot())));
+  }
+
+  private static TreeNode createTestTree(final int leafCount) {
+    return TreeUtil.createTree(
+        IntStream.range(0, leafCount).mapToObj(TreeTest::newTestLeaf).toList());
+  }
+
   @Test
   void testPathInvalidIndex() {
     assertThatThrownBy(
@@ -0,0 +1,111 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class PackedUInt64NodeTest {
+
+  private static final long MAX_LENGTH = 1 << 12;
+
+  private final SszUInt64ListSchema<SszUInt64List> plainSchema =
+      SszUInt64ListSchema.create(MAX_LENGTH);
+  private final SszUInt64ListSchema<SszUInt64List> packedSchema =
+      SszUInt64ListSchema.create(MAX_LENGTH, SszSchemaHints.packedUInt64(3));
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 31, 32, 33, 100, 1000})
+  void shouldMatchPlainListWhenCreatedFromElements(final int length) {
+    final List<UInt64> values = randomValues(length, length);
+    final SszUInt64List plainList = plainSchema.of(values);
+    final SszUInt64List packedList = packedSchema.of(values);
+
+    final long firstPackedNodeGIndex = plainSchema.getChildGeneralizedIndex(0) >>> 3;
+    assertThat(packedList.getBackingNode().get(firstPackedNodeGIndex))
+        .isInstanceOf(PackedUInt64Node.class);
+    assertSameList(packedList, plainList);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 31, 32, 33, 100, 1000})
+  void shouldMatchPlainListWhenDeserialized(final int length) {
+    final SszUInt64List plainList = plainSchema.of(randomValues(length, length));
+    final SszUInt64List packedList =
+        packedSchema.sszDeserialize(SszReader.fromBytes(plainList.sszSerialize()));
+
+    assertSameList(packedList, plainList);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 5, 33, 1000})
+  void shouldMatchPlainListAfterUpdates(final int length) {
+    final List<UInt64> values = randomValues(length, length);
+    final SszMutableUInt64List plainList = plainSchema.of(values).createWritableCopy();
+    final SszMutableUInt64List packedList = packedSchema.of(values).createWritableCopy();
+
+    final Random random = new Random(length);
+    for (int i = 0; i < 10; i++) {
+      final int index = random.nextInt(length);
+      final UInt64 value = UInt64.fromLongBits(random.nextLong());
+      plainList.setElement(index, value);
+      packedList.setElement(index, value);
+    }
+    plainList.appendElement(UInt64.MAX_VALUE);
+    packedList.appendElement(UInt64.MAX_VALUE);
+
+    assertSameList(packedList.commitChanges(), plainList.commitChanges());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5, 33, 100})
+  void get_shouldReturnNodesMatchingPlainTree(final int length) {
+    final List<UInt64> values = randomValues(length, length);
+    final TreeNode plainNode = plainSchema.of(values).getBackingNode();
+    final TreeNode packedNode = packedSchema.of(values).getBackingNode();
+
+    final long lastLeafGIndex = plainSchema.getChildGeneralizedIndex((length - 1) / 4);
+    for (long gIndex = lastLeafGIndex; gIndex > 1; gIndex /= 2) {
+      assertThat(packedNode.get(gIndex).hashTreeRoot())
+          .isEqualTo(plainNode.get(gIndex).hashTreeRoot());
+    }
+    assertThat(((LeafNode) packedNode.get(lastLeafGIndex)).getData())
+        .isEqualTo(((LeafNode) plainNode.get(lastLeafGIndex)).getData());
+  }
+
+  private void assertSameList(final SszUInt64List actual, final SszUInt64List expected) {
+    assertThat(actual.size()).isEqualTo(expected.size());
+    assertThat(actual.asListUnboxed()).isEqualTo(expected.asListUnboxed());
+    assertThat(actual.sszSerialize()).isEqualTo(expected.sszSerialize());
+    assertThat(actual.hashTreeRoot()).isEqualTo(expected.hashTreeRoot());
+  }
+
+  private static List<UInt64> randomValues(final int length, final long seed) {
+    final Random random = new Random(seed);
+    return IntStream.range(0, length)
+        .mapToObj(__ -> UInt64.fromLongBits(random.nextLong()))
+        .toList();
+  }
+}
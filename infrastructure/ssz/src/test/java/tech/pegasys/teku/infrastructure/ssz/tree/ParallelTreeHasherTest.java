@@ -0,0 +1,68 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+public class ParallelTreeHasherTest {
+
+  private static final int LEAF_COUNT = 1 << 14;
+
+  @Test
+  void hashTreeRoot_shouldMatchSequentialHashOfLargeTree() {
+    final TreeNode parallelTree = createTree();
+    final TreeNode sequentialTree = createTree();
+
+    assertThat(parallelTree.hashTreeRoot())
+        .isEqualTo(sequentialTree.hashTreeRoot(Hash.getSha256Instance()));
+  }
+
+  @Test
+  void hashTreeRoot_shouldOnlyRehashUpdatedPath() {
+    final TreeNode tree = createTree();
+    tree.hashTreeRoot();
+    assertThat(ParallelTreeHasher.countUnhashedBranches(tree, Integer.MAX_VALUE)).isZero();
+
+    final TreeNode updated = tree.updated(LEAF_COUNT + 5L, TreeTest.newTestLeaf(-1));
+    assertThat(ParallelTreeHasher.countUnhashedBranches(updated, Integer.MAX_VALUE))
+        .isEqualTo(14);
+    assertThat(updated.hashTreeRoot())
+        .isEqualTo(
+            TreeUtil.createTree(
+                    IntStream.range(0, LEAF_COUNT)
+                        .mapToObj(i -> TreeTest.newTestLeaf(i == 5 ? -1 : i))
+                        .toList())
+                .hashTreeRoot(Hash.getSha256Instance()));
+  }
+
+  @Test
+  void countUnhashedBranches_shouldStopAtLimit() {
+    final TreeNode tree = createTree();
+
+    assertThat(ParallelTreeHasher.countUnhashedBranches(tree, 100)).isEqualTo(100);
+    assertThat(ParallelTreeHasher.countUnhashedBranches(tree, Integer.MAX_VALUE))
+        .isEqualTo(LEAF_COUNT - 1);
+  }
+
+  private static TreeNode createTree() {
+    final List<LeafNode> leaves =
+        IntStream.range(0, LEAF_COUNT).mapToObj(TreeTest::newTestLeaf).toList();
+    return TreeUtil.createTree(leaves);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAnalyzer.BRANCH_NODE_SIZE;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAnalyzer.LEAF_NODE_OVERHEAD;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAnalyzer.MemoryUsage;
+
+public class TreeMemoryAnalyzerTest {
+
+  private static final long LEAF_SIZE = LEAF_NODE_OVERHEAD + Bytes32.SIZE;
+
+  @Test
+  void shouldCountSingleTreeAsUnique() {
+    final TreeNode tree = BranchNode.create(leaf(), leaf());
+
+    final MemoryUsage<String> usage = TreeMemoryAnalyzer.analyze(Map.of("a", tree));
+
+    assertThat(usage.uniqueBytes()).containsEntry("a", BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+    assertThat(usage.sharedBytes()).isZero();
+  }
+
+  @Test
+  void shouldSeparateSharedSubtrees() {
+    final TreeNode shared = BranchNode.create(leaf(), leaf());
+    final TreeNode treeA = BranchNode.create(shared, leaf());
+    final TreeNode treeB = BranchNode.create(shared, BranchNode.create(leaf(), leaf()));
+
+    final MemoryUsage<String> usage = TreeMemoryAnalyzer.analyze(Map.of("a", treeA, "b", treeB));
+
+    assertThat(usage.sharedBytes()).isEqualTo(BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+    assertThat(usage.uniqueBytes())
+        .containsEntry("a", BRANCH_NODE_SIZE + LEAF_SIZE)
+        .containsEntry("b", 2 * BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+    assertThat(usage.totalBytes()).isEqualTo(5 * BRANCH_NODE_SIZE + 5 * LEAF_SIZE);
+  }
+
+  @Test
+  void shouldCountNodeReachableTwiceWithinTreeOnce() {
+    final TreeNode leaf = leaf();
+    final TreeNode tree = BranchNode.create(leaf, leaf);
+
+    final MemoryUsage<String> usage = TreeMemoryAnalyzer.analyze(Map.of("a", tree));
+
+    assertThat(usage.uniqueBytes()).containsEntry("a", BRANCH_NODE_SIZE + LEAF_SIZE);
+    assertThat(usage.sharedBytes()).isZero();
+  }
+
+  @Test
+  void shouldTreatIdenticalTreesAsFullyShared() {
+    final TreeNode tree = BranchNode.create(leaf(), leaf());
+
+    final MemoryUsage<String> usage = TreeMemoryAnalyzer.analyze(Map.of("a", tree, "b", tree));
+
+    assertThat(usage.uniqueBytes()).containsEntry("a", 0L).containsEntry("b", 0L);
+    assertThat(usage.sharedBytes()).isEqualTo(BRANCH_NODE_SIZE + 2 * LEAF_SIZE);
+  }
+
+  @Test
+  void shouldUsePackedValuesSizeForPackedNodes() {
+    final TreeNode packed = PackedUInt64Node.empty(3);
+
+    assertThat(TreeMemoryAnalyzer.estimateSize(packed)).isEqualTo(LEAF_NODE_OVERHEAD);
+  }
+
+  private static TreeNode leaf() {
+    return LeafNode.create(Bytes32.random());
+  }
+}
@@ -26,8 +26,10 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
 import tech.pegasys.teku.infrastructure.ssz.TestUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates.Update;
 
@@ -69,6 +71,22 @@ public class TreeTest {
     assertThat(n11.get(0b100)).isSameAs(n110.left());
   }
 
+  @Test
+  public void merkleize_shouldMatchTreeRoot() {
+    final int depth = 4;
+    for (int count = 0; count <= 1 << depth; count++) {
+      final List<LeafNode> leaves =
+          IntStream.range(0, count).mapToObj(TreeTest::newTestLeaf).toList();
+      final byte[] chunks = new byte[(count + 1) * Bytes32.SIZE];
+      for (int i = 0; i < count; i++) {
+        leaves.get(i).hashTreeRoot().copyTo(MutableBytes.wrap(chunks), i * Bytes32.SIZE);
+      }
+
+      assertThat(TreeUtil.merkleize(chunks, count, depth, Hash.getSha256Instance()))
+          .isEqualTo(TreeUtil.createTree(leaves, depth).hashTreeRoot());
+    }
+  }
+
   @Test
   public void testZeroLeafDefaultTree() {
     TreeNode n1 = TreeUtil.createDefaultTree(5, LeafNode.EMPTY_LEAF);
@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -43,6 +44,7 @@ import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodV
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockInvariants;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
@@ -232,7 +234,7 @@ public class BeaconBlocksByRangeMessageHandler
 
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
+      final RequestState requestState, final Optional<Bytes> block) {
     return block
         .map(requestState::sendBlock)
         .orElse(SafeFuture.COMPLETE)
@@ -285,13 +287,14 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+    SafeFuture<Void> sendBlock(final Bytes blockSsz) {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
+      // Blocks are sent as loaded from storage, without deserializing and serializing them again
+      return callback.respondSsz(currentSlot, blockSsz).thenRun(sentBlocks::incrementAndGet);
     }
 
     void decrementRemainingBlocks() {
@@ -302,14 +305,19 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    SafeFuture<Optional<Bytes>> loadNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
         // Known root so lookup by root
         return combinedChainDataClient
-            .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .getBlockAsSszByBlockRoot(knownBlockRoot)
+            .thenApply(
+                maybeBlock ->
+                    maybeBlock.filter(
+                        block ->
+                            BeaconBlockInvariants.extractSignedBlockContainerSlot(block)
+                                .equals(slot)));
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
@@ -317,7 +325,7 @@ public class BeaconBlocksByRangeMessageHandler
         return SafeFuture.completedFuture(Optional.empty());
       } else {
         // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        return combinedChainDataClient.getBlockAsSszAtSlotExact(slot);
       }
     }
   }
@@ -206,10 +206,7 @@ public class BlobSidecarsByRangeMessageHandler
 
   private SafeFuture<RequestState> sendBlobSidecars(final RequestState requestState) {
     return requestState
-        .loadNextBlobSidecar()
-        .thenCompose(
-            maybeBlobSidecar ->
-                maybeBlobSidecar.map(requestState::sendBlobSidecar).orElse(SafeFuture.COMPLETE))
+        .loadAndSendNextBlobSidecar()
         .thenCompose(
             __ -> {
               if (requestState.isComplete()) {
@@ -269,44 +266,55 @@ public class BlobSidecarsByRangeMessageHandler
       this.maxRequestBlobSidecars = maxRequestBlobSidecars;
     }
 
-    SafeFuture<Void> sendBlobSidecar(final BlobSidecar blobSidecar) {
-      return callback.respond(blobSidecar).thenRun(sentBlobSidecars::incrementAndGet);
-    }
-
-    SafeFuture<Optional<BlobSidecar>> loadNextBlobSidecar() {
+    SafeFuture<Void> loadAndSendNextBlobSidecar() {
       if (blobSidecarKeysIterator.isEmpty()) {
         return combinedChainDataClient
             .getBlobSidecarKeys(startSlot, endSlot, maxRequestBlobSidecars)
             .thenCompose(
                 keys -> {
                   blobSidecarKeysIterator = Optional.of(keys.iterator());
-                  return getNextBlobSidecar(blobSidecarKeysIterator.get());
+                  return sendNextBlobSidecar(blobSidecarKeysIterator.get());
                 });
       } else {
-        return getNextBlobSidecar(blobSidecarKeysIterator.get());
+        return sendNextBlobSidecar(blobSidecarKeysIterator.get());
       }
     }
 
-    private SafeFuture<Optional<BlobSidecar>> getNextBlobSidecar(
+    private SafeFuture<Void> sendNextBlobSidecar(
         final Iterator<SlotAndBlockRootAndBlobIndex> blobSidecarKeysIterator) {
       if (blobSidecarKeysIterator.hasNext()) {
         final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex =
             blobSidecarKeysIterator.next();
 
         if (finalizedSlot.isGreaterThanOrEqualTo(slotAndBlockRootAndBlobIndex.getSlot())) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return sendBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // not finalized, let's check if it is on canonical chain
         if (isCanonicalHotBlobSidecar(slotAndBlockRootAndBlobIndex)) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return sendBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // non-canonical, try next one
-        return getNextBlobSidecar(blobSidecarKeysIterator);
+        return sendNextBlobSidecar(blobSidecarKeysIterator);
       }
 
-      return SafeFuture.completedFuture(Optional.empty());
+      return SafeFuture.COMPLETE;
+    }
+
+    private SafeFuture<Void> sendBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
+      // Sidecars are sent as loaded from storage, without deserializing and serializing them again
+      return combinedChainDataClient
+          .getBlobSidecarAsSszByKey(key)
+          .thenCompose(
+              maybeBlobSidecar ->
+                  maybeBlobSidecar
+                      .map(
+                          blobSidecar ->
+                              callback
+                                  .respondSsz(key.getSlot(), blobSidecar)
+                                  .thenRun(sentBlobSidecars::incrementAndGet))
+                      .orElse(SafeFuture.COMPLETE));
     }
 
     private boolean isCanonicalHotBlobSidecar(
@@ -13,11 +13,22 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Sends a response which is already serialized as SSZ, such as data loaded directly from the
+   * database, avoiding the cost of deserializing it only to serialize it again.
+   *
+   * @param slot the slot of the response, used to determine the fork digest context
+   * @param sszPayload the SSZ bytes of the response
+   */
+  SafeFuture<Void> respondSsz(UInt64 slot, Bytes sszPayload);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCE
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +37,12 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  public Bytes encodeSuccessfulSszResponse(final UInt64 slot, final Bytes sszPayload) {
+    final Bytes context = contextCodec.encodeContextForSlot(slot);
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodeSszPayload(sszPayload));
+  }
+
   public Bytes encodeErrorResponse(final RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -70,10 +70,15 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     final RpcPayloadEncoder<T> payloadEncoder =
         payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
     final Bytes payload = payloadEncoder.encode(message);
-    if (payload.isEmpty()) {
-      return payload;
+    return encodeSszPayload(payload);
+  }
+
+  @Override
+  public Bytes encodeSszPayload(final Bytes sszPayload) {
+    if (sszPayload.isEmpty()) {
+      return sszPayload;
     }
-    return encodeMessageWithLength(payload);
+    return encodeMessageWithLength(sszPayload);
   }
 
   @Override
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 
@@ -21,5 +22,15 @@ public interface RpcPayloadEncoder<T> {
 
   T decode(Bytes message) throws RpcException;
 
+  /**
+   * Decodes all readable bytes of {@code message}. The buffer may be released once this returns, so
+   * the decoded value must not retain references to it.
+   */
+  default T decode(final ByteBuf message) throws RpcException {
+    final byte[] bytes = new byte[message.readableBytes()];
+    message.readBytes(bytes);
+    return decode(Bytes.wrap(bytes));
+  }
+
   boolean isLengthWithinBounds(long length);
 }
@@ -18,6 +18,7 @@ import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcByteBufDecoder;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -39,5 +40,8 @@ public interface RpcContextCodec<TContext, TPayload extends SszData> {
 
   Bytes encodeContext(TPayload responsePayload);
 
+  /** Encodes the context for a payload from the given slot which is only available as SSZ. */
+  Bytes encodeContextForSlot(UInt64 slot);
+
   Optional<SszSchema<TPayload>> getSchemaFromContext(final TContext context);
 }
@@ -13,12 +13,15 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.ssz;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DeserializationFailedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcPayloadEncoder;
@@ -48,6 +51,19 @@ public class DefaultRpcPayloadEncoder<T extends SszData> implements RpcPayloadEn
     }
   }
 
+  @Override
+  public T decode(final ByteBuf message) throws RpcException {
+    final int length = message.readableBytes();
+    try {
+      // The reader copies out each field as it is decoded, so nothing refers to the buffer after
+      return type.sszDeserialize(
+          SszReader.fromInputStream(new ByteBufInputStream(message), length));
+    } catch (final SszDeserializeException e) {
+      LOG.trace("Failed to parse network message of {} bytes", length, e);
+      throw new DeserializationFailedException();
+    }
+  }
+
   @Override
   public boolean isLengthWithinBounds(final long length) {
     return type.getSszLengthBounds().isWithinBounds(length);
@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -103,7 +104,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(peer.approveBlocksRequest(any(), anyLong())).thenReturn(allowedObjectsRequest);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondSsz(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -227,7 +228,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     withCanonicalHeadBlock(blocksWStates.get(1));
     withAncestorRoots(startBlock, count, skip, hotBlocks());
 
-    when(combinedChainDataClient.getBlockAtSlotExact(any()))
+    when(combinedChainDataClient.getBlockAsSszAtSlotExact(any()))
         .thenReturn(completedFuture(Optional.empty()));
 
     requestBlocks(startBlock, count, skip);
@@ -408,7 +409,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
 
     verifyNoBlocksReturned();
     // The first block is after the best block available, so we shouldn't request anything
-    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any(), any());
+    verify(combinedChainDataClient, never()).getBlockAsSszAtSlotExact(any());
   }
 
   @Test
@@ -466,7 +467,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      final SignedBeaconBlock block = blocks.get(slot);
+      inOrder.verify(listener).respondSsz(block.getSlot(), block.sszSerialize());
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
@@ -493,8 +495,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
             slot -> {
               final SignedBeaconBlock block = blocks.get(slot);
               blockRoots.put(UInt64.valueOf(slot), block.getRoot());
-              when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot()))
-                  .thenReturn(SafeFuture.completedFuture(Optional.of(block)));
+              when(combinedChainDataClient.getBlockAsSszByBlockRoot(block.getRoot()))
+                  .thenReturn(SafeFuture.completedFuture(Optional.of(block.sszSerialize())));
             });
     return blockRoots;
   }
@@ -504,10 +506,12 @@ class BeaconBlocksByRangeMessageHandlerTest {
         .forEach(
             slot -> {
               final SignedBeaconBlock block = blocks.get(slot);
-              final SafeFuture<Optional<SignedBeaconBlock>> result =
-                  completedFuture(Optional.of(block));
-              when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
-              when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
+              final SafeFuture<Optional<Bytes>> result =
+                  completedFuture(Optional.of(block.sszSerialize()));
+              when(combinedChainDataClient.getBlockAsSszByBlockRoot(block.getRoot()))
+                  .thenReturn(result);
+              when(combinedChainDataClient.getBlockAsSszAtSlotExact(block.getSlot()))
+                  .thenReturn(result);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
   }
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
@@ -131,7 +132,7 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // everything is finalized by default
     when(combinedChainDataClient.getFinalizedBlockSlot())
         .thenReturn(Optional.of(startSlot.plus(count)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondSsz(any(), any())).thenReturn(SafeFuture.COMPLETE);
 
     // mock store
     when(store.getGenesisTime()).thenReturn(genesisTime);
@@ -252,9 +253,9 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     verify(peer, times(1))
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(0)));
 
-    verify(combinedChainDataClient, never()).getBlobSidecarByKey(any());
+    verify(combinedChainDataClient, never()).getBlobSidecarAsSszByKey(any());
 
-    verify(listener, never()).respond(any());
+    verify(listener, never()).respondSsz(any(), any());
 
     verify(listener).completeSuccessfully();
   }
@@ -277,15 +278,16 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondSsz(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(expectedSent.stream().map(BlobSidecar::sszSerialize).toList());
   }
 
   @TestTemplate
@@ -335,15 +337,16 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondSsz(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(expectedSent.stream().map(BlobSidecar::sszSerialize).toList());
   }
 
   @TestTemplate
@@ -361,11 +364,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondSsz(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -389,11 +392,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondSsz(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -458,8 +461,8 @@ public class BlobSidecarsByRangeMessageHandlerTest {
             .signedBeaconBlockHeader(keyAndHeaders.getLeft())
             .index(keyAndHeaders.getValue().getBlobIndex())
             .build();
-    when(combinedChainDataClient.getBlobSidecarByKey(keyAndHeaders.getValue()))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar)));
+    when(combinedChainDataClient.getBlobSidecarAsSszByKey(keyAndHeaders.getValue()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar.sszSerialize())));
     return blobSidecar;
   }
 }
@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DeserializationFailedException;
@@ -39,4 +42,25 @@ public class DefaultRpcPayloadEncoderTest {
           .isInstanceOf(DeserializationFailedException.class);
     }
   }
+
+  @Test
+  public void decode_fromByteBuf() throws Exception {
+    final StatusMessage statusMessage = StatusMessage.createPreGenesisStatus(spec);
+    final ByteBuf encoded =
+        Unpooled.wrappedBuffer(statusMessageEncoder.encode(statusMessage).toArrayUnsafe());
+
+    assertThat(statusMessageEncoder.decode(encoded)).isEqualTo(statusMessage);
+    assertThat(encoded.readableBytes()).isZero();
+  }
+
+  @Test
+  public void decode_truncatedByteBuf() {
+    final StatusMessage statusMessage = StatusMessage.createPreGenesisStatus(spec);
+    final Bytes encoded = statusMessageEncoder.encode(statusMessage);
+    final ByteBuf truncated =
+        Unpooled.wrappedBuffer(encoded.slice(0, encoded.size() - 1).toArrayUnsafe());
+
+    assertThatThrownBy(() -> statusMessageEncoder.decode(truncated))
+        .isInstanceOf(DeserializationFailedException.class);
+  }
 }
@@ -52,6 +52,7 @@ import tech.pegasys.teku.beacon.sync.gossip.blobs.RecentBlobSidecarsFetcher;
 import tech.pegasys.teku.beacon.sync.gossip.blocks.RecentBlocksFetcher;
 import tech.pegasys.teku.beaconrestapi.BeaconRestApi;
 import tech.pegasys.teku.beaconrestapi.JsonTypeDefinitionBeaconRestApi;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.ethereum.events.ExecutionClientEventsChannel;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.ethereum.execution.types.Eth1Address;
@@ -183,6 +184,7 @@ import tech.pegasys.teku.storage.client.EarliestAvailableBlockSlot;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.client.StorageBackedRecentChainData;
 import tech.pegasys.teku.storage.client.ValidatorIsConnectedProvider;
+import tech.pegasys.teku.storage.store.DiskHotStateCache;
 import tech.pegasys.teku.storage.store.FileKeyValueStore;
 import tech.pegasys.teku.storage.store.KeyValueStore;
 import tech.pegasys.teku.storage.store.StoreConfig;
@@ -224,6 +226,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   private final EphemerySlotValidationService ephemerySlotValidationService;
 
   protected static final String KEY_VALUE_STORE_SUBDIRECTORY = "kvstore";
+  protected static final String HOT_STATE_CACHE_SUBDIRECTORY = "hot-states";
 
   protected volatile BeaconChainConfiguration beaconConfig;
   protected volatile Spec spec;
@@ -445,6 +448,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                     (blockRoot, index) ->
                         blockBlobSidecarsTrackersPool.getBlobSidecar(blockRoot, index),
                     storageQueryChannel,
+                    createHotStateCache(storeConfig),
                     storageUpdateChannel,
                     voteUpdateChannel,
                     eventChannels.getPublisher(FinalizedCheckpointChannel.class, beaconAsyncRunner),
@@ -545,6 +549,19 @@ public class BeaconChainController extends Service implements BeaconChainControl
     initValidatorIndexCacheTracker();
   }
 
+  protected PersistentHotStateCache createHotStateCache(final StoreConfig storeConfig) {
+    if (storeConfig.getHotStateDiskCacheSize() <= 0) {
+      return PersistentHotStateCache.NOOP;
+    }
+    return DiskHotStateCache.create(
+        spec,
+        asyncRunnerFactory.create("hotStateDiskCache", 1),
+        metricsSystem,
+        beaconDataDirectory.resolve(HOT_STATE_CACHE_SUBDIRECTORY),
+        storeConfig.getHotStateDiskCacheSize(),
+        storeConfig.isHotStateDiskCacheCompressionEnabled());
+  }
+
   private void initKeyValueStore() {
     keyValueStore =
         new FileKeyValueStore(beaconDataDirectory.resolve(KEY_VALUE_STORE_SUBDIRECTORY));
@@ -1191,7 +1208,11 @@ public class BeaconChainController extends Service implements BeaconChainControl
     LOG.debug("BeaconChainController.initAttestationPool()");
     attestationPool =
         new AggregatingAttestationPool(
-            spec, recentChainData, metricsSystem, DEFAULT_MAXIMUM_ATTESTATION_COUNT);
+            spec,
+            recentChainData,
+            metricsSystem,
+            DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+            timeProvider);
     eventChannels.subscribe(SlotEventsChannel.class, attestationPool);
     blockImporter.subscribeToVerifiedBlockAttestations(
         attestationPool::onAttestationsIncludedInBlock);
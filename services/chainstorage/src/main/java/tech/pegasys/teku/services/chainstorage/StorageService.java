@@ -14,6 +14,10 @@
 package tech.pegasys.teku.services.chainstorage;
 
 import static tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory.DEFAULT_MAX_QUEUE_SIZE;
+import static tech.pegasys.teku.spec.config.Constants.STORAGE_BLOB_SIDECAR_QUERY_PARALLELISM;
+import static tech.pegasys.teku.spec.config.Constants.STORAGE_BLOCK_QUERY_PARALLELISM;
+import static tech.pegasys.teku.spec.config.Constants.STORAGE_FINALIZED_STATE_QUERY_PARALLELISM;
+import static tech.pegasys.teku.spec.config.Constants.STORAGE_HOT_STATE_QUERY_PARALLELISM;
 import static tech.pegasys.teku.spec.config.Constants.STORAGE_QUERY_CHANNEL_PARALLELISM;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -44,7 +48,6 @@ import tech.pegasys.teku.storage.server.BatchingVoteUpdateChannel;
 import tech.pegasys.teku.storage.server.ChainStorage;
 import tech.pegasys.teku.storage.server.CombinedStorageChannelSplitter;
 import tech.pegasys.teku.storage.server.Database;
-import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.DepositStorage;
 import tech.pegasys.teku.storage.server.RetryingStorageUpdateChannel;
 import tech.pegasys.teku.storage.server.StorageConfiguration;
@@ -189,7 +192,9 @@ public class StorageService extends Service implements StorageServiceFacade {
                       database,
                       config.getSpec(),
                       config.getDataStorageMode(),
-                      config.getStateRebuildTimeoutSeconds());
+                      config.getStateRebuildTimeoutSeconds(),
+                      serviceConfig.getMetricsSystem(),
+                      serviceConfig.createAsyncRunner("finalized_state_prefetch", 1));
               final DepositStorage depositStorage =
                   DepositStorage.create(
                       eventChannels.getPublisher(Eth1EventsChannel.class),
@@ -207,6 +212,15 @@ public class StorageService extends Service implements StorageServiceFacade {
                   new CombinedStorageChannelSplitter(
                       serviceConfig.createAsyncRunner(
                           "storage_query", STORAGE_QUERY_CHANNEL_PARALLELISM),
+                      serviceConfig.createAsyncRunner(
+                          "storage_block_query", STORAGE_BLOCK_QUERY_PARALLELISM),
+                      serviceConfig.createAsyncRunner(
+                          "storage_blob_sidecar_query", STORAGE_BLOB_SIDECAR_QUERY_PARALLELISM),
+                      serviceConfig.createAsyncRunner(
+                          "storage_hot_state_query", STORAGE_HOT_STATE_QUERY_PARALLELISM),
+                      serviceConfig.createAsyncRunner(
+                          "storage_finalized_state_query",
+                          STORAGE_FINALIZED_STATE_QUERY_PARALLELISM),
                       new RetryingStorageUpdateChannel(
                           chainStorage, serviceConfig.getTimeProvider()),
                       chainStorage));
@@ -239,9 +253,9 @@ public class StorageService extends Service implements StorageServiceFacade {
       final Duration pruningInterval,
       final SettableLabelledGauge pruningTimingsLabelledGauge,
       final SettableLabelledGauge pruningActiveLabelledGauge) {
-    if (config.getDataStorageCreateDbVersion() == DatabaseVersion.LEVELDB_TREE) {
+    if (!database.isFinalizedStatePruningSupported()) {
       throw new InvalidConfigurationException(
-          "State pruning is not supported with leveldb_tree database.");
+          "State pruning is not supported with leveldb_tree databases holding states stored by earlier versions.");
     }
 
     LOG.info(
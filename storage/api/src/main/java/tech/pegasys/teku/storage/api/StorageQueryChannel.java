@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -53,6 +54,15 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
+  /**
+   * Returns the SSZ bytes of the finalized block at the slot exactly as stored, so it can be
+   * served to peers without being deserialized and serialized again.
+   */
+  SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
+  /** Returns the SSZ bytes of the canonical hot or finalized block exactly as stored. */
+  SafeFuture<Optional<Bytes>> getBlockAsSszByBlockRoot(Bytes32 blockRoot);
+
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
@@ -93,10 +103,18 @@ public interface StorageQueryChannel extends ChannelInterface {
    */
   SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot();
 
+  /**
+   * @return The slot before which all historical finalized states have been reconstructed
+   */
+  SafeFuture<Optional<UInt64>> getReconstructedStatesSlot();
+
   SafeFuture<Optional<BlobSidecar>> getBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
   SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** Returns the SSZ bytes of the blob sidecar exactly as stored. */
+  SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(SlotAndBlockRootAndBlobIndex key);
+
   /** This method could return non-canonical blob sidecar keys if the slot is not finalized */
   SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(UInt64 slot);
 
@@ -39,6 +39,11 @@ public interface StorageUpdateChannel extends ChannelInterface {
 
   SafeFuture<Void> onReconstructedFinalizedState(BeaconState finalizedState, Bytes32 blockRoot);
 
+  /**
+   * Records that finalized states have been reconstructed for every slot before {@code slot}.
+   */
+  SafeFuture<Void> onReconstructedStatesProgress(UInt64 slot);
+
   SafeFuture<Void> onWeakSubjectivityUpdate(WeakSubjectivityUpdate weakSubjectivityUpdate);
 
   SafeFuture<Void> onFinalizedDepositSnapshot(DepositTreeSnapshot depositTreeSnapshot);
@@ -576,6 +576,28 @@ public class DatabaseTest {
     assertThat(database.getSignedBlock(block2.getRoot())).contains(block2.getBlock());
   }
 
+  @TestTemplate
+  public void shouldGetBlocksAsSsz(final DatabaseContext context) throws IOException {
+    initialize(context, StateStorageMode.ARCHIVE);
+    final List<SignedBlockAndState> blockAndStates = chainBuilder.generateBlocksUpToSlot(6);
+    addBlocks(blockAndStates);
+    final SignedBlockAndState finalizedBlock = chainBuilder.generateBlockAtSlot(7);
+    addBlocks(finalizedBlock);
+    final SignedBlockAndState hotBlock = chainBuilder.generateBlockAtSlot(8);
+    addBlocks(hotBlock);
+    justifyAndFinalizeEpoch(
+        spec.computeEpochAtSlot(finalizedBlock.getSlot()).plus(1), finalizedBlock);
+
+    final SignedBlockAndState olderFinalizedBlock = blockAndStates.getLast();
+    assertThat(database.getFinalizedBlockAtSlotAsSsz(olderFinalizedBlock.getSlot()))
+        .contains(olderFinalizedBlock.getBlock().sszSerialize());
+    assertThat(database.getSignedBlockAsSsz(olderFinalizedBlock.getRoot()))
+        .contains(olderFinalizedBlock.getBlock().sszSerialize());
+    assertThat(database.getSignedBlockAsSsz(hotBlock.getRoot()))
+        .contains(hotBlock.getBlock().sszSerialize());
+    assertThat(database.getSignedBlockAsSsz(dataStructureUtil.randomBytes32())).isEmpty();
+  }
+
   private void commit(final StoreTransaction transaction) {
     assertThat(transaction.commit()).isCompleted();
   }
@@ -1282,6 +1304,37 @@ public class DatabaseTest {
     assertThat(database.getEarliestAvailableBlockSlot()).contains(genesisBlockAndState.getSlot());
   }
 
+  @TestTemplate
+  public void storeFinalizedBlocks_shouldConfirmBulkBackfilledBlocksOnClose(
+      final DatabaseContext context) throws IOException {
+    createStorageSystem(context, StateStorageMode.ARCHIVE, StoreConfig.createDefault(), false);
+    chainBuilder.generateBlocksUpToSlot(96);
+    final Checkpoint anchorCheckpoint = chainBuilder.getCurrentCheckpointForEpoch(12);
+    final SignedBlockAndState anchorBlockAndState =
+        chainBuilder.getBlockAndState(anchorCheckpoint.getRoot()).orElseThrow();
+    initFromAnchor(AnchorPoint.create(spec, anchorCheckpoint, anchorBlockAndState));
+
+    // Close to the finalized checkpoint blocks are confirmed immediately
+    database.storeFinalizedBlocks(getBlocks(30, 95), Map.of(), Optional.empty());
+    assertThat(database.getEarliestAvailableBlockSlot()).contains(UInt64.valueOf(30));
+
+    // More than SLOTS_PER_HISTORICAL_ROOT behind they are written in bulk
+    database.storeFinalizedBlocks(getBlocks(0, 29), Map.of(), Optional.empty());
+    assertThat(database.getEarliestAvailableBlock()).contains(genesisBlockAndState.getBlock());
+    assertThat(database.getEarliestAvailableBlockSlot()).contains(UInt64.valueOf(30));
+
+    restartStorage();
+    assertThat(database.getEarliestAvailableBlockSlot()).contains(genesisBlockAndState.getSlot());
+    assertThat(database.getEarliestAvailableBlock()).contains(genesisBlockAndState.getBlock());
+  }
+
+  private List<SignedBeaconBlock> getBlocks(final long fromSlot, final long toSlot) {
+    return chainBuilder
+        .streamBlocksAndStates(fromSlot, toSlot)
+        .map(SignedBlockAndState::getBlock)
+        .toList();
+  }
+
   @TestTemplate
   public void slotAndBlock_shouldGetStateRootsBeforeSlot(final DatabaseContext context)
       throws IOException {
@@ -2185,6 +2238,19 @@ public class DatabaseTest {
             Map.entry(state2.hashTreeRoot(), UInt64.valueOf(2)));
   }
 
+  @TestTemplate
+  public void shouldStoreReconstructedStatesSlot(final DatabaseContext context)
+      throws IOException {
+    createStorageSystem(context, StateStorageMode.ARCHIVE, StoreConfig.createDefault(), false);
+    assertThat(database.getReconstructedStatesSlot()).isEmpty();
+
+    database.storeReconstructedStatesSlot(UInt64.valueOf(64));
+    assertThat(database.getReconstructedStatesSlot()).contains(UInt64.valueOf(64));
+
+    database.storeReconstructedStatesSlot(UInt64.valueOf(128));
+    assertThat(database.getReconstructedStatesSlot()).contains(UInt64.valueOf(128));
+  }
+
   @TestTemplate
   public void updateDepositSnapshot_setValue(final DatabaseContext context) throws IOException {
     initialize(context);
@@ -0,0 +1,186 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTable;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+@Fork(1)
+@State(Scope.Thread)
+public class ComputeDeltasBenchmark {
+  private static final int BLOCK_COUNT = 64;
+  private static final UInt64 BALANCE = UInt64.valueOf(32_000_000_000L);
+  // Roughly one committee per slot has a new vote
+  private static final int PENDING_VOTE_INTERVAL = 32;
+
+  @Param({"1000000"})
+  private int validatorCount;
+
+  private final Map<Bytes32, Integer> indicesByRoot = new HashMap<>();
+  private List<UInt64> balances;
+  private long[] balanceValues;
+  private BenchmarkVoteUpdater tableVoteUpdater;
+  private BenchmarkVoteUpdater perVoteUpdater;
+  private BenchmarkVoteUpdater pendingVoteUpdater;
+
+  @Setup
+  public void setup() {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (int i = 0; i < BLOCK_COUNT; i++) {
+      final Bytes32 root = Bytes32.random();
+      roots.add(root);
+      indicesByRoot.put(root, i);
+    }
+
+    final Random random = new Random(1);
+    final VoteTable votes = new VoteTable(validatorCount);
+    final VoteTable partiallyPendingVotes = new VoteTable(validatorCount);
+    balances = new ArrayList<>(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      // Every validator moves its vote, so every vote contributes to the deltas
+      final Bytes32 currentRoot = roots.get(random.nextInt(BLOCK_COUNT));
+      final Bytes32 nextRoot = roots.get(random.nextInt(BLOCK_COUNT));
+      votes.setVote(i, new VoteTracker(currentRoot, nextRoot, UInt64.ONE));
+      partiallyPendingVotes.setVote(
+          i,
+          new VoteTracker(
+              currentRoot, i % PENDING_VOTE_INTERVAL == 0 ? nextRoot : currentRoot, UInt64.ONE));
+      balances.add(BALANCE);
+    }
+    balanceValues = ProtoArrayScoreCalculator.toLongArray(balances);
+    tableVoteUpdater = new BenchmarkVoteUpdater(votes, validatorCount, true);
+    perVoteUpdater = new BenchmarkVoteUpdater(votes, validatorCount, false);
+    pendingVoteUpdater = new BenchmarkVoteUpdater(partiallyPendingVotes, validatorCount, true);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public LongList computeDeltasFromVoteTable() {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        tableVoteUpdater,
+        BLOCK_COUNT,
+        this::getIndexByRoot,
+        balanceValues,
+        balanceValues,
+        false,
+        Optional.empty(),
+        Optional.empty(),
+        UInt64.ZERO,
+        UInt64.ZERO);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public LongList computeDeltasFromIndividualVotes() {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        perVoteUpdater,
+        BLOCK_COUNT,
+        this::getIndexByRoot,
+        balances,
+        balances,
+        Optional.empty(),
+        Optional.empty(),
+        UInt64.ZERO,
+        UInt64.ZERO);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public LongList computeDeltasFromPendingVotesOnly() {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        pendingVoteUpdater,
+        BLOCK_COUNT,
+        this::getIndexByRoot,
+        balanceValues,
+        balanceValues,
+        true,
+        Optional.empty(),
+        Optional.empty(),
+        UInt64.ZERO,
+        UInt64.ZERO);
+  }
+
+  private Optional<Integer> getIndexByRoot(final Bytes32 root) {
+    return Optional.ofNullable(indicesByRoot.get(root));
+  }
+
+  /** Discards vote updates so that every invocation processes the same vote changes. */
+  private static class BenchmarkVoteUpdater implements VoteUpdater {
+    private final VoteTable votes;
+    private final UInt64 highestVotedValidatorIndex;
+    private final boolean exposeVoteTable;
+
+    private BenchmarkVoteUpdater(
+        final VoteTable votes, final int validatorCount, final boolean exposeVoteTable) {
+      this.votes = votes;
+      this.highestVotedValidatorIndex = UInt64.valueOf(validatorCount - 1);
+      this.exposeVoteTable = exposeVoteTable;
+    }
+
+    @Override
+    public VoteTracker getVote(final UInt64 validatorIndex) {
+      return votes.getVote(validatorIndex.intValue());
+    }
+
+    @Override
+    public UInt64 getHighestVotedValidatorIndex() {
+      return highestVotedValidatorIndex;
+    }
+
+    @Override
+    public void putVote(final UInt64 validatorIndex, final VoteTracker vote) {}
+
+    @Override
+    public Optional<VoteTable> getVoteTable() {
+      return exposeVoteTable ? Optional.of(votes) : Optional.empty();
+    }
+
+    @Override
+    public Bytes32 applyForkChoiceScoreChanges(
+        final UInt64 currentEpoch,
+        final Checkpoint finalizedCheckpoint,
+        final Checkpoint justifiedCheckpoint,
+        final List<UInt64> justifiedCheckpointEffectiveBalances,
+        final Optional<Bytes32> proposerBoostRoot,
+        final UInt64 proposerScoreBoostAmount) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void commit() {}
+  }
+}
@@ -26,12 +26,14 @@ import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockInvariants;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -61,6 +63,8 @@ public class CombinedChainDataClient {
       completedFuture(Optional.empty());
   private static final SafeFuture<Optional<SignedBeaconBlock>> BLOCK_NOT_AVAILABLE =
       completedFuture(Optional.empty());
+  private static final SafeFuture<Optional<Bytes>> BLOCK_SSZ_NOT_AVAILABLE =
+      completedFuture(Optional.empty());
 
   private final RecentChainData recentChainData;
   private final StorageQueryChannel historicalChainData;
@@ -125,6 +129,34 @@ public class CombinedChainDataClient {
     return historicalChainData.getFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the SSZ of the block proposed at the requested slot on the canonical chain. Blocks are
+   * read directly from storage where possible, so they can be served to peers without being
+   * deserialized and serialized again.
+   *
+   * @param slot the slot to get the block for
+   * @return the SSZ of the block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getBlockAsSszAtSlotExact(final UInt64 slot) {
+    if (!isChainDataFullyAvailable()) {
+      return BLOCK_SSZ_NOT_AVAILABLE;
+    }
+
+    // Try to pull root from recent data
+    final Optional<Bytes32> recentRoot = recentChainData.getBlockRootInEffectBySlot(slot);
+    if (recentRoot.isPresent()) {
+      return getBlockAsSszByBlockRoot(recentRoot.get())
+          .thenApply(
+              maybeBlock ->
+                  maybeBlock.filter(
+                      blockSsz ->
+                          BeaconBlockInvariants.extractSignedBlockContainerSlot(blockSsz)
+                              .equals(slot)));
+    }
+
+    return historicalChainData.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockInEffectAtSlot(final UInt64 slot) {
     if (!isChainDataFullyAvailable()) {
       return BLOCK_NOT_AVAILABLE;
@@ -590,10 +622,39 @@ public class CombinedChainDataClient {
             });
   }
 
+  /**
+   * Returns the SSZ of the block with the given root. Blocks already held in memory are serialized,
+   * otherwise the stored SSZ is returned without being deserialized.
+   */
+  public SafeFuture<Optional<Bytes>> getBlockAsSszByBlockRoot(final Bytes32 blockRoot) {
+    if (isStoreAvailable()) {
+      final Optional<SignedBeaconBlock> cachedBlock = getStore().getBlockIfAvailable(blockRoot);
+      if (cachedBlock.isPresent()) {
+        return completedFuture(cachedBlock.map(SignedBeaconBlock::sszSerialize));
+      }
+    }
+    return historicalChainData
+        .getBlockAsSszByBlockRoot(blockRoot)
+        .thenCompose(
+            maybeBlock -> {
+              if (maybeBlock.isPresent()) {
+                return completedFuture(maybeBlock);
+              }
+              // Fall back to any other source of blocks the store may have
+              return recentChainData
+                  .retrieveSignedBlockByRoot(blockRoot)
+                  .thenApply(block -> block.map(SignedBeaconBlock::sszSerialize));
+            });
+  }
+
   public SafeFuture<Optional<UInt64>> getEarliestAvailableBlobSidecarSlot() {
     return historicalChainData.getEarliestAvailableBlobSidecarSlot();
   }
 
+  public SafeFuture<Optional<UInt64>> getReconstructedStatesSlot() {
+    return historicalChainData.getReconstructedStatesSlot();
+  }
+
   /**
    * This is supposed to be consumed by RPC only, because it returns gossip-validated but not yet
    * imported sidecars from the blobSidecar pool.
@@ -629,14 +690,33 @@ public class CombinedChainDataClient {
     final Optional<List<BlobSidecar>> maybeBlobSidecars =
         recentChainData.getBlobSidecars(key.getSlotAndBlockRoot());
     if (maybeBlobSidecars.isPresent()) {
-      return key.getBlobIndex().isLessThan(maybeBlobSidecars.get().size())
-          ? SafeFuture.completedFuture(
-              Optional.of(maybeBlobSidecars.get().get(key.getBlobIndex().intValue())))
-          : SafeFuture.completedFuture(Optional.empty());
+      return SafeFuture.completedFuture(getBlobSidecarAtIndex(maybeBlobSidecars.get(), key));
     }
     return historicalChainData.getBlobSidecar(key);
   }
 
+  /**
+   * Returns the SSZ of the blob sidecar. Sidecars already held in memory are serialized, otherwise
+   * the stored SSZ is returned without being deserialized.
+   */
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSszByKey(
+      final SlotAndBlockRootAndBlobIndex key) {
+    final Optional<List<BlobSidecar>> maybeBlobSidecars =
+        recentChainData.getBlobSidecars(key.getSlotAndBlockRoot());
+    if (maybeBlobSidecars.isPresent()) {
+      return SafeFuture.completedFuture(
+          getBlobSidecarAtIndex(maybeBlobSidecars.get(), key).map(BlobSidecar::sszSerialize));
+    }
+    return historicalChainData.getBlobSidecarAsSsz(key);
+  }
+
+  private Optional<BlobSidecar> getBlobSidecarAtIndex(
+      final List<BlobSidecar> blobSidecars, final SlotAndBlockRootAndBlobIndex key) {
+    return key.getBlobIndex().isLessThan(blobSidecars.size())
+        ? Optional.of(blobSidecars.get(key.getBlobIndex().intValue()))
+        : Optional.empty();
+  }
+
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
     return historicalChainData.getBlobSidecarKeys(startSlot, endSlot, limit);
@@ -23,6 +23,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.SingleBlobSidecarProvider;
 import tech.pegasys.teku.dataproviders.lookup.SingleBlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
@@ -45,6 +46,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
   private static final Logger LOG = LogManager.getLogger();
   private final BlockProvider blockProvider;
   private final StateAndBlockSummaryProvider stateProvider;
+  private final PersistentHotStateCache hotStateCache;
   private final StorageQueryChannel storageQueryChannel;
   private final StoreConfig storeConfig;
 
@@ -56,6 +58,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final SingleBlockProvider validatedBlockProvider,
       final SingleBlobSidecarProvider validatedBlobSidecarProvider,
       final StorageQueryChannel storageQueryChannel,
+      final PersistentHotStateCache hotStateCache,
       final StorageUpdateChannel storageUpdateChannel,
       final VoteUpdateChannel voteUpdateChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
@@ -71,6 +74,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
         validatedBlobSidecarProvider,
         storageQueryChannel::getHotStateAndBlockSummaryByBlockRoot,
         storageQueryChannel::getEarliestAvailableBlobSidecarSlot,
+        hotStateCache,
         storageUpdateChannel,
         voteUpdateChannel,
         finalizedCheckpointChannel,
@@ -81,6 +85,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
     this.storageQueryChannel = storageQueryChannel;
     this.blockProvider = storageQueryChannel::getHotBlocksByRoot;
     this.stateProvider = storageQueryChannel::getHotStateAndBlockSummaryByBlockRoot;
+    this.hotStateCache = hotStateCache;
   }
 
   public static SafeFuture<RecentChainData> create(
@@ -91,6 +96,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final SingleBlockProvider validatedBlockProvider,
       final SingleBlobSidecarProvider validatedBlobSidecarProvider,
       final StorageQueryChannel storageQueryChannel,
+      final PersistentHotStateCache hotStateCache,
       final StorageUpdateChannel storageUpdateChannel,
       final VoteUpdateChannel voteUpdateChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
@@ -106,6 +112,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             validatedBlockProvider,
             validatedBlobSidecarProvider,
             storageQueryChannel,
+            hotStateCache,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -140,6 +147,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
             validatedBlockProvider,
             validatedBlobSidecarProvider,
             storageQueryChannel,
+            PersistentHotStateCache.NOOP,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -180,6 +188,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
                   .asyncRunner(asyncRunner)
                   .blockProvider(blockProvider)
                   .stateProvider(stateProvider)
+                  .hotStateCache(hotStateCache)
                   .storeConfig(storeConfig)
                   .build();
           setStore(store);
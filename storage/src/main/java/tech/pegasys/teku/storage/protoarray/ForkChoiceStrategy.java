@@ -15,7 +15,6 @@ package tech.pegasys.teku.storage.protoarray;
 
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.longs.LongList;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -44,13 +43,21 @@ import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
 
 public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoiceStrategy {
   private static final Logger LOG = LogManager.getLogger();
+  // Number of times only pending votes are applied before all votes are recomputed again
+  static final int FULL_VOTE_RECOMPUTE_INTERVAL = 64;
   private final ReadWriteLock protoArrayLock = new ReentrantReadWriteLock();
   private final ReadWriteLock votesLock = new ReentrantReadWriteLock();
   private final ReadWriteLock balancesLock = new ReentrantReadWriteLock();
   private final Spec spec;
   private final ProtoArray protoArray;
-
-  private List<UInt64> balances;
+  // Block data queries are answered from the latest snapshot without taking protoArrayLock
+  private volatile ProtoArraySnapshot snapshot;
+
+  private long[] balances;
+  // Effective balances are cached per justified state and epoch, so the same list instance is
+  // passed in while they are unchanged. Only its identity and size are compared to detect changes.
+  private List<UInt64> balancesList;
+  private int pendingVoteApplicationsSinceFullRecompute = FULL_VOTE_RECOMPUTE_INTERVAL;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
   private UInt64 proposerBoostAmount = UInt64.ZERO;
 
@@ -58,7 +65,9 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       final Spec spec, final ProtoArray protoArray, final List<UInt64> balances) {
     this.spec = spec;
     this.protoArray = protoArray;
-    this.balances = balances;
+    this.balances = ProtoArrayScoreCalculator.toLongArray(balances);
+    this.balancesList = balances;
+    this.snapshot = ProtoArraySnapshot.create(protoArray);
   }
 
   public static ForkChoiceStrategy initialize(final Spec spec, final ProtoArray protoArray) {
@@ -111,20 +120,37 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     votesLock.writeLock().lock();
     balancesLock.writeLock().lock();
     try {
+      final boolean balancesUnchanged =
+          justifiedStateEffectiveBalances == balancesList
+              && justifiedStateEffectiveBalances.size() == balances.length;
+      final long[] newBalances =
+          balancesUnchanged
+              ? balances
+              : ProtoArrayScoreCalculator.toLongArray(justifiedStateEffectiveBalances);
+      // While balances are unchanged only validators with pending votes can change the weights.
+      // Periodically recompute from every vote anyway to guard against any missed change.
+      final boolean pendingVotesOnly =
+          balancesUnchanged
+              && pendingVoteApplicationsSinceFullRecompute < FULL_VOTE_RECOMPUTE_INTERVAL;
+      pendingVoteApplicationsSinceFullRecompute =
+          pendingVotesOnly ? pendingVoteApplicationsSinceFullRecompute + 1 : 0;
       LongList deltas =
           ProtoArrayScoreCalculator.computeDeltas(
               voteUpdater,
-              getTotalTrackedNodeCount(),
+              protoArray.getTotalTrackedNodeCount(),
               protoArray::getIndexByRoot,
               balances,
-              justifiedStateEffectiveBalances,
+              newBalances,
+              pendingVotesOnly,
               this.proposerBoostRoot,
               proposerBoostRoot,
               this.proposerBoostAmount,
               proposerBoostAmount);
 
       protoArray.applyScoreChanges(deltas, currentEpoch, justifiedCheckpoint, finalizedCheckpoint);
-      balances = justifiedStateEffectiveBalances;
+      publishSnapshot();
+      balances = newBalances;
+      balancesList = justifiedStateEffectiveBalances;
       this.proposerBoostRoot = proposerBoostRoot;
       this.proposerBoostAmount = proposerBoostAmount;
 
@@ -254,141 +280,62 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
   }
 
   public int getTotalTrackedNodeCount() {
-    protoArrayLock.readLock().lock();
-    try {
-      return protoArray.getTotalTrackedNodeCount();
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getTotalTrackedNodeCount();
   }
 
   @Override
   public boolean contains(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return protoArray.contains(blockRoot);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.contains(blockRoot);
   }
 
   @Override
   public Optional<UInt64> blockSlot(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getBlockSlot);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::getSlot);
   }
 
   @Override
   public Optional<UInt64> executionBlockNumber(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getExecutionBlockNumber);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::getExecutionBlockNumber);
   }
 
   @Override
   public Optional<Bytes32> executionBlockHash(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getExecutionBlockHash);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::getExecutionBlockHash);
   }
 
   @Override
   public Optional<Bytes32> blockParentRoot(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getParentRoot);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::getParentRoot);
   }
 
   @Override
   public boolean isFullyValidated(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::isFullyValidated).orElse(false);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::isFullyValidated).orElse(false);
   }
 
   @Override
   public Optional<ProtoNodeData> getBlockData(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getBlockData);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot);
   }
 
   @Override
   public Optional<UInt64> getWeight(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::getWeight);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::getWeight);
   }
 
   @Override
   public Optional<Boolean> isOptimistic(final Bytes32 blockRoot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return getProtoNode(blockRoot).map(ProtoNode::isOptimistic);
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getNode(blockRoot).map(ProtoNodeData::isOptimistic);
   }
 
   @Override
   public Optional<Bytes32> getAncestor(final Bytes32 blockRoot, final UInt64 slot) {
-    protoArrayLock.readLock().lock();
-    try {
-      // Note: This code could be more succinct if currentNode were an Optional and we used flatMap
-      // and map but during long periods of finality this becomes a massive hot spot in the code and
-      // our performance is dominated by the time taken to create Optional instances within the map
-      // calls.
-      final Optional<ProtoNode> startingNode = getProtoNode(blockRoot);
-      if (startingNode.isEmpty()) {
-        return Optional.empty();
-      }
-      ProtoNode currentNode = startingNode.get();
-      while (currentNode.getBlockSlot().isGreaterThan(slot)) {
-        final Optional<Integer> parentIndex = currentNode.getParentIndex();
-        if (parentIndex.isEmpty()) {
-          return Optional.empty();
-        }
-        currentNode = protoArray.getNodes().get(parentIndex.get());
-      }
-      return Optional.of(currentNode.getBlockRoot());
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getAncestor(blockRoot, slot);
   }
 
   @Override
   public List<Bytes32> getBlockRootsAtSlot(final UInt64 slot) {
-    protoArrayLock.readLock().lock();
-    try {
-      return protoArray.getNodes().stream()
-          .filter(protoNode -> protoNode.getBlockSlot().equals(slot))
-          .map(ProtoNode::getBlockRoot)
-          .toList();
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getBlockRootsAtSlot(slot);
   }
 
   /**
@@ -413,56 +360,17 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
   @Override
   public void processHashesInChainWhile(
       final Bytes32 head, final HaltableNodeProcessor nodeProcessor) {
-    protoArrayLock.readLock().lock();
-    try {
-      final Optional<ProtoNode> startingNode = getProtoNode(head);
-      if (startingNode.isEmpty()) {
-        throw new IllegalArgumentException("Unknown root supplied: " + head);
-      }
-      ProtoNode currentNode = startingNode.orElseThrow();
-
-      while (protoArray.contains(currentNode.getBlockRoot())) {
-        final boolean shouldContinue =
-            nodeProcessor.process(
-                currentNode.getBlockRoot(),
-                currentNode.getBlockSlot(),
-                currentNode.getParentRoot(),
-                currentNode.getExecutionBlockHash());
-        if (!shouldContinue || currentNode.getParentIndex().isEmpty()) {
-          break;
-        }
-        currentNode = protoArray.getNodes().get(currentNode.getParentIndex().get());
-      }
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    snapshot.processHashesInChainWhile(head, nodeProcessor);
   }
 
   @Override
   public void processAllInOrder(final NodeProcessor nodeProcessor) {
-    protoArrayLock.readLock().lock();
-    try {
-      final Object2IntMap<Bytes32> indices = protoArray.getRootIndices();
-      protoArray.getNodes().stream()
-          // Filter out nodes that could be pruned but are still in the protoarray
-          .filter(node -> indices.containsKey(node.getBlockRoot()))
-          .forEach(
-              node ->
-                  nodeProcessor.process(
-                      node.getBlockRoot(), node.getBlockSlot(), node.getParentRoot()));
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    snapshot.processAllInOrder(nodeProcessor);
   }
 
   @Override
   public List<ProtoNodeData> getBlockData() {
-    protoArrayLock.readLock().lock();
-    try {
-      return protoArray.getNodes().stream().map(ProtoNode::getBlockData).toList();
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.getBlockData();
   }
 
   @Override
@@ -477,7 +385,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
           .sorted(Comparator.comparing(BlockAndCheckpoints::getSlot))
           .forEach(
               block ->
-                  processBlock(
+                  addBlock(
                       block.getBlock().getSlot(),
                       block.getBlock().getRoot(),
                       block.getBlock().getParentRoot(),
@@ -488,6 +396,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       removedBlockRoots.forEach((root, uInt64) -> protoArray.removeBlockRoot(root));
       pulledUpBlocks.forEach(protoArray::pullUpBlockCheckpoints);
       protoArray.maybePrune(finalizedCheckpoint.getRoot());
+      publishSnapshot();
     } finally {
       protoArrayLock.writeLock().unlock();
     }
@@ -495,34 +404,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
 
   @Override
   public Optional<SlotAndBlockRoot> findCommonAncestor(final Bytes32 root1, final Bytes32 root2) {
-    protoArrayLock.readLock().lock();
-    try {
-      Optional<ProtoNode> chainHead1 = protoArray.getProtoNode(root1);
-      Optional<ProtoNode> chainHead2 = protoArray.getProtoNode(root2);
-      while (chainHead1.isPresent() && chainHead2.isPresent()) {
-        final ProtoNode node1 = chainHead1.get();
-        final ProtoNode node2 = chainHead2.get();
-        if (node1.getBlockSlot().isGreaterThan(node2.getBlockSlot())) {
-          // Chain 1 is longer than chain 2 so need to move further up chain 2
-          chainHead1 = node1.getParentIndex().map(protoArray::getNodeByIndex);
-        } else if (node2.getBlockSlot().isGreaterThan(node1.getBlockSlot())) {
-          // Chain 2 is longer than chain 1 so need to move further up chain 1
-          chainHead2 = node2.getParentIndex().map(protoArray::getNodeByIndex);
-        } else {
-          // At the same slot, check if this is the common ancestor
-          if (node1.getBlockRoot().equals(node2.getBlockRoot())) {
-            return Optional.of(new SlotAndBlockRoot(node1.getBlockSlot(), node1.getBlockRoot()));
-          }
-          // Nope, need to move further up both chains
-          chainHead1 = node1.getParentIndex().map(protoArray::getNodeByIndex);
-          chainHead2 = node2.getParentIndex().map(protoArray::getNodeByIndex);
-        }
-      }
-      // Reached the start of protoarray without finding a common ancestor
-      return Optional.empty();
-    } finally {
-      protoArrayLock.readLock().unlock();
-    }
+    return snapshot.findCommonAncestor(root1, root2);
   }
 
   @VisibleForTesting
@@ -534,6 +416,25 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       final BlockCheckpoints checkpoints,
       final UInt64 executionBlockNumber,
       final Bytes32 executionBlockHash) {
+    addBlock(
+        blockSlot,
+        blockRoot,
+        parentRoot,
+        stateRoot,
+        checkpoints,
+        executionBlockNumber,
+        executionBlockHash);
+    publishSnapshot();
+  }
+
+  private void addBlock(
+      final UInt64 blockSlot,
+      final Bytes32 blockRoot,
+      final Bytes32 parentRoot,
+      final Bytes32 stateRoot,
+      final BlockCheckpoints checkpoints,
+      final UInt64 executionBlockNumber,
+      final Bytes32 executionBlockHash) {
     protoArray.onBlock(
         blockSlot,
         blockRoot,
@@ -545,8 +446,9 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
         spec.isBlockProcessorOptimistic(blockSlot));
   }
 
-  private Optional<ProtoNode> getProtoNode(final Bytes32 blockRoot) {
-    return protoArray.getProtoNode(blockRoot);
+  /** Must be called while holding the protoArrayLock write lock, after modifying protoArray. */
+  private void publishSnapshot() {
+    snapshot = snapshot.update(protoArray);
   }
 
   public void onExecutionPayloadResult(
@@ -581,6 +483,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       } else {
         throw new IllegalArgumentException("Unknown payload validity status: " + status);
       }
+      publishSnapshot();
     } finally {
       protoArrayLock.writeLock().unlock();
     }
@@ -17,19 +17,31 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
 
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import java.util.Collections;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
 class ProtoArrayScoreCalculator {
 
+  /** Number of validators processed by each parallel task when computing deltas */
+  @VisibleForTesting static final int VALIDATORS_PER_CHUNK = 1 << 16;
+
+  private static final int NO_NODE_INDEX = -1;
+  private static final int UNRESOLVED_NODE_INDEX = -2;
+
   /**
    * Returns a list of `deltas`, where there is one delta for each of the indices in
    * `0..indices.size()`.
@@ -55,105 +67,228 @@ class ProtoArrayScoreCalculator {
       final Optional<Bytes32> newProposerBoostRoot,
       final UInt64 previousBoostAmount,
       final UInt64 newBoostAmount) {
-    LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
+    return computeDeltas(
+        store,
+        protoArraySize,
+        getIndexByRoot,
+        toLongArray(oldBalances),
+        toLongArray(newBalances),
+        false,
+        previousProposerBoostRoot,
+        newProposerBoostRoot,
+        previousBoostAmount,
+        newBoostAmount);
+  }
 
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+  /**
+   * Computes the deltas as {@link #computeDeltas(VoteUpdater, int, Function, List, List, Optional,
+   * Optional, UInt64, UInt64)} does, from balances already converted with {@link
+   * #toLongArray(List)}.
+   *
+   * <p>Votes are scanned directly from the {@link VoteTable} when the store provides one. Large
+   * validator sets are split into chunks which compute their deltas in parallel and are then
+   * summed. Changed votes are written back to the store sequentially afterwards.
+   *
+   * <p>If pendingVotesOnly is true only validators with a pending vote in the {@link VoteTable}
+   * are visited, which gives the same result as visiting every validator provided oldBalances and
+   * newBalances hold the same values.
+   */
+  static LongList computeDeltas(
+      final VoteUpdater store,
+      final int protoArraySize,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final long[] oldBalances,
+      final long[] newBalances,
+      final boolean pendingVotesOnly,
+      final Optional<Bytes32> previousProposerBoostRoot,
+      final Optional<Bytes32> newProposerBoostRoot,
+      final UInt64 previousBoostAmount,
+      final UInt64 newBoostAmount) {
+    final int voteCount = store.getHighestVotedValidatorIndex().intValue() + 1;
+    final VoteTable votes = store.getVoteTable().orElseGet(() -> copyVotes(store, voteCount));
+    final int validatorCount = Math.min(voteCount, votes.capacity());
+
+    final int visitedCount = pendingVotesOnly ? votes.getPendingVoteCount() : validatorCount;
+
+    final List<DeltaChunk> chunks;
+    if (visitedCount <= VALIDATORS_PER_CHUNK) {
+      chunks =
+          List.of(
+              computeChunkDeltas(
+                  votes,
+                  0,
+                  validatorCount,
+                  protoArraySize,
+                  getIndexByRoot,
+                  oldBalances,
+                  newBalances,
+                  pendingVotesOnly));
+    } else {
+      final int chunkCount = (validatorCount + VALIDATORS_PER_CHUNK - 1) / VALIDATORS_PER_CHUNK;
+      chunks =
+          IntStream.range(0, chunkCount)
+              .parallel()
+              .mapToObj(
+                  chunk ->
+                      computeChunkDeltas(
+                          votes,
+                          chunk * VALIDATORS_PER_CHUNK,
+                          Math.min(validatorCount, (chunk + 1) * VALIDATORS_PER_CHUNK),
+                          protoArraySize,
+                          getIndexByRoot,
+                          oldBalances,
+                          newBalances,
+                          pendingVotesOnly))
+              .toList();
+    }
+
+    final long[] deltas = chunks.get(0).deltas();
+    for (int chunk = 1; chunk < chunks.size(); chunk++) {
+      final long[] chunkDeltas = chunks.get(chunk).deltas();
+      for (int i = 0; i < deltas.length; i++) {
+        deltas[i] = addExact(deltas[i], chunkDeltas[i]);
+      }
+    }
+
+    for (DeltaChunk chunk : chunks) {
+      final IntList changedVotes = chunk.changedVotes();
+      for (int i = 0; i < changedVotes.size(); i++) {
+        final int validatorIndex = changedVotes.getInt(i);
+        final boolean nextEquivocating = votes.isNextEquivocating(validatorIndex);
+        store.putVote(
+            UInt64.valueOf(validatorIndex),
+            new VoteTracker(
+                votes.getNextRoot(validatorIndex),
+                votes.getNextRoot(validatorIndex),
+                UInt64.fromLongBits(votes.getNextEpoch(validatorIndex)),
+                nextEquivocating,
+                nextEquivocating));
+      }
+    }
 
     previousProposerBoostRoot.ifPresent(
-        root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
+        root ->
+            subtractBalance(
+                deltas, resolveIndex(getIndexByRoot, root), previousBoostAmount.longValue()));
     newProposerBoostRoot.ifPresent(
-        root -> addBalance(getIndexByRoot, deltas, root, newBoostAmount));
-    return deltas;
+        root -> addBalance(deltas, resolveIndex(getIndexByRoot, root), newBoostAmount.longValue()));
+    return LongArrayList.wrap(deltas);
   }
 
-  private static void computeDelta(
-      final VoteUpdater store,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final List<UInt64> oldBalances,
-      final List<UInt64> newBalances,
-      final LongList deltas,
-      final UInt64 validatorIndex) {
-    VoteTracker vote = store.getVote(validatorIndex);
+  static long[] toLongArray(final List<UInt64> balances) {
+    final long[] result = new long[balances.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = balances.get(i).longValue();
+    }
+    return result;
+  }
 
-    // There is no need to create a score change if the validator has never voted
-    // or both their votes are for the zero hash (alias to the genesis block).
-    if (vote.getCurrentRoot().equals(Bytes32.ZERO) && vote.getNextRoot().equals(Bytes32.ZERO)) {
-      return;
+  private static VoteTable copyVotes(final VoteUpdater store, final int voteCount) {
+    final VoteTable votes = new VoteTable(voteCount);
+    for (int i = 0; i < voteCount; i++) {
+      votes.setVote(i, store.getVote(UInt64.valueOf(i)));
     }
-    // If vote is already count as equivocated, we don't need to do anything more
-    if (vote.isCurrentEquivocating()) {
-      return;
+    return votes;
+  }
+
+  private static DeltaChunk computeChunkDeltas(
+      final VoteTable votes,
+      final int fromValidatorIndex,
+      final int toValidatorIndex,
+      final int protoArraySize,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final long[] oldBalances,
+      final long[] newBalances,
+      final boolean pendingVotesOnly) {
+    final long[] deltas = new long[protoArraySize];
+    final IntList changedVotes = new IntArrayList();
+    // Most validators vote for one of a handful of roots, usually the same instances, so resolve
+    // each root instance to its node index only once
+    final Reference2IntMap<Bytes32> nodeIndices = new Reference2IntOpenHashMap<>();
+    nodeIndices.defaultReturnValue(UNRESOLVED_NODE_INDEX);
+
+    for (int validatorIndex = nextValidator(votes, fromValidatorIndex, pendingVotesOnly);
+        validatorIndex >= 0 && validatorIndex < toValidatorIndex;
+        validatorIndex = nextValidator(votes, validatorIndex + 1, pendingVotesOnly)) {
+      final Bytes32 currentRoot = votes.getCurrentRoot(validatorIndex);
+      final Bytes32 nextRoot = votes.getNextRoot(validatorIndex);
+
+      // There is no need to create a score change if the validator has never voted
+      // or both their votes are for the zero hash (alias to the genesis block).
+      if (currentRoot.isZero() && nextRoot.isZero()) {
+        continue;
+      }
+      // If vote is already count as equivocated, we don't need to do anything more
+      if (votes.isCurrentEquivocating(validatorIndex)) {
+        continue;
+      }
+
+      // If the validator was not included in the oldBalances (i.e. it did not exist yet)
+      // then say its balance was zero.
+      final long oldBalance =
+          oldBalances.length > validatorIndex ? oldBalances[validatorIndex] : 0L;
+
+      // If the validator vote is not known in the newBalances, then use a balance of zero.
+      // It is possible that there is a vote for an unknown validator if we change our
+      // justified state to a new state with a higher epoch that is on a different fork
+      // because that may have on-boarded less validators than the prior fork.
+      final long newBalance =
+          newBalances.length > validatorIndex && !votes.isNextEquivocating(validatorIndex)
+              ? newBalances[validatorIndex]
+              : 0L;
+
+      if (!currentRoot.equals(nextRoot) || oldBalance != newBalance) {
+        subtractBalance(deltas, resolveIndex(nodeIndices, getIndexByRoot, currentRoot), oldBalance);
+        addBalance(deltas, resolveIndex(nodeIndices, getIndexByRoot, nextRoot), newBalance);
+        changedVotes.add(validatorIndex);
+      }
     }
+    return new DeltaChunk(deltas, changedVotes);
+  }
 
-    int validatorIndexInt = validatorIndex.intValue();
-    // If the validator was not included in the oldBalances (i.e. it did not exist yet)
-    // then say its balance was zero.
-    UInt64 oldBalance =
-        oldBalances.size() > validatorIndexInt ? oldBalances.get(validatorIndexInt) : UInt64.ZERO;
-
-    // If the validator vote is not known in the newBalances, then use a balance of zero.
-    // It is possible that there is a vote for an unknown validator if we change our
-    // justified state to a new state with a higher epoch that is on a different fork
-    // because that may have on-boarded less validators than the prior fork.
-    UInt64 newBalance =
-        newBalances.size() > validatorIndexInt && !vote.isNextEquivocating()
-            ? newBalances.get(validatorIndexInt)
-            : UInt64.ZERO;
-
-    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
-      subtractBalance(getIndexByRoot, deltas, vote.getCurrentRoot(), oldBalance);
-      addBalance(getIndexByRoot, deltas, vote.getNextRoot(), newBalance);
-      final VoteTracker newVote =
-          new VoteTracker(
-              vote.getNextRoot(),
-              vote.getNextRoot(),
-              vote.getNextEpoch(),
-              vote.isNextEquivocating(),
-              vote.isNextEquivocating());
-      store.putVote(validatorIndex, newVote);
+  private static int nextValidator(
+      final VoteTable votes, final int fromValidatorIndex, final boolean pendingVotesOnly) {
+    return pendingVotesOnly ? votes.nextPendingVote(fromValidatorIndex) : fromValidatorIndex;
+  }
+
+  private static int resolveIndex(
+      final Reference2IntMap<Bytes32> nodeIndices,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final Bytes32 root) {
+    int nodeIndex = nodeIndices.getInt(root);
+    if (nodeIndex == UNRESOLVED_NODE_INDEX) {
+      nodeIndex = resolveIndex(getIndexByRoot, root);
+      nodeIndices.put(root, nodeIndex);
     }
+    return nodeIndex;
+  }
+
+  private static int resolveIndex(
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot, final Bytes32 root) {
+    return getIndexByRoot.apply(root).orElse(NO_NODE_INDEX);
   }
 
   private static void addBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
-      final Bytes32 targetRoot,
-      final UInt64 balanceToAdd) {
+      final long[] deltas, final int nodeIndex, final long balanceToAdd) {
     // We ignore the vote if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            nextDeltaIndex -> {
-              checkState(
-                  nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-              long delta = addExact(deltas.getLong(nextDeltaIndex), balanceToAdd.longValue());
-              deltas.set(nextDeltaIndex.intValue(), delta);
-            });
+    if (nodeIndex == NO_NODE_INDEX) {
+      return;
+    }
+    checkState(nodeIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nodeIndex] = addExact(deltas[nodeIndex], balanceToAdd);
   }
 
   private static void subtractBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
-      final Bytes32 targetRoot,
-      final UInt64 balanceToRemove) {
-
+      final long[] deltas, final int nodeIndex, final long balanceToRemove) {
     // We ignore the change if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            currentDeltaIndex -> {
-              checkState(
-                  currentDeltaIndex < deltas.size(),
-                  "ProtoArrayForkChoice: Invalid node delta index");
-              long delta =
-                  subtractExact(deltas.getLong(currentDeltaIndex), balanceToRemove.longValue());
-              deltas.set(currentDeltaIndex.intValue(), delta);
-            });
+    if (nodeIndex == NO_NODE_INDEX) {
+      return;
+    }
+    checkState(nodeIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nodeIndex] = subtractExact(deltas[nodeIndex], balanceToRemove);
   }
+
+  private record DeltaChunk(long[] deltas, IntList changedVotes) {}
 }
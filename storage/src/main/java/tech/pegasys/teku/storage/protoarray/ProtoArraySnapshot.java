@@ -0,0 +1,200 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
+import tech.pegasys.teku.storage.protoarray.BlockMetadataStore.HaltableNodeProcessor;
+import tech.pegasys.teku.storage.protoarray.BlockMetadataStore.NodeProcessor;
+
+/**
+ * Immutable copy of the block data held by a {@link ProtoArray} at a point in time.
+ *
+ * <p>A new snapshot is published by {@link ForkChoiceStrategy} after each update so that queries
+ * which only need block data can be answered without taking the proto array lock.
+ */
+final class ProtoArraySnapshot {
+  private static final int NO_INDEX = -1;
+
+  private final ProtoNodeData[] nodes;
+  private final int[] parentIndices;
+  private final Object2IntMap<Bytes32> indices;
+
+  private ProtoArraySnapshot(
+      final ProtoNodeData[] nodes,
+      final int[] parentIndices,
+      final Object2IntMap<Bytes32> indices) {
+    this.nodes = nodes;
+    this.parentIndices = parentIndices;
+    this.indices = indices;
+  }
+
+  /** Must be called while holding a lock which prevents protoArray being modified. */
+  static ProtoArraySnapshot create(final ProtoArray protoArray) {
+    final List<ProtoNode> protoNodes = protoArray.getNodes();
+    final ProtoNodeData[] nodes = new ProtoNodeData[protoNodes.size()];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = protoNodes.get(i).getBlockData();
+    }
+    return createWithNodes(protoArray, nodes);
+  }
+
+  /**
+   * Creates a snapshot of the current state of protoArray, reusing data from this snapshot where
+   * possible so that publishing after an update only allocates for the nodes which changed.
+   *
+   * <p>Must be called while holding a lock which prevents protoArray being modified.
+   */
+  ProtoArraySnapshot update(final ProtoArray protoArray) {
+    final List<ProtoNode> protoNodes = protoArray.getNodes();
+    final ProtoNodeData[] updatedNodes = new ProtoNodeData[protoNodes.size()];
+    // Pruning moves nodes to new positions so the index structures can only be reused when every
+    // node is still at the same position and has the same indexed state
+    boolean structureUnchanged = updatedNodes.length == nodes.length;
+    for (int i = 0; i < updatedNodes.length; i++) {
+      final ProtoNode node = protoNodes.get(i);
+      if (i < nodes.length && node.hasBlockData(nodes[i])) {
+        updatedNodes[i] = nodes[i];
+      } else {
+        updatedNodes[i] = node.getBlockData();
+      }
+      structureUnchanged =
+          structureUnchanged
+              && node.getBlockRoot().equals(nodes[i].getRoot())
+              && contains(node.getBlockRoot()) == protoArray.contains(node.getBlockRoot());
+    }
+    if (structureUnchanged) {
+      return new ProtoArraySnapshot(updatedNodes, parentIndices, indices);
+    }
+    return createWithNodes(protoArray, updatedNodes);
+  }
+
+  private static ProtoArraySnapshot createWithNodes(
+      final ProtoArray protoArray, final ProtoNodeData[] nodes) {
+    final List<ProtoNode> protoNodes = protoArray.getNodes();
+    final int[] parentIndices = new int[nodes.length];
+    final Object2IntMap<Bytes32> indices = new Object2IntOpenHashMap<>(nodes.length);
+    indices.defaultReturnValue(NO_INDEX);
+    for (int i = 0; i < nodes.length; i++) {
+      final ProtoNode node = protoNodes.get(i);
+      parentIndices[i] = node.getParentIndex().orElse(NO_INDEX);
+      // Nodes which have been removed stay in the array until pruned but are no longer indexed
+      if (protoArray.contains(node.getBlockRoot())) {
+        indices.put(node.getBlockRoot(), i);
+      }
+    }
+    return new ProtoArraySnapshot(nodes, parentIndices, indices);
+  }
+
+  int getTotalTrackedNodeCount() {
+    return nodes.length;
+  }
+
+  boolean contains(final Bytes32 blockRoot) {
+    return indices.containsKey(blockRoot);
+  }
+
+  Optional<ProtoNodeData> getNode(final Bytes32 blockRoot) {
+    final int index = indices.getInt(blockRoot);
+    return index == NO_INDEX ? Optional.empty() : Optional.of(nodes[index]);
+  }
+
+  Optional<Bytes32> getAncestor(final Bytes32 blockRoot, final UInt64 slot) {
+    int index = indices.getInt(blockRoot);
+    if (index == NO_INDEX) {
+      return Optional.empty();
+    }
+    while (nodes[index].getSlot().isGreaterThan(slot)) {
+      index = parentIndices[index];
+      if (index == NO_INDEX) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(nodes[index].getRoot());
+  }
+
+  List<Bytes32> getBlockRootsAtSlot(final UInt64 slot) {
+    final List<Bytes32> roots = new ArrayList<>();
+    for (ProtoNodeData node : nodes) {
+      if (node.getSlot().equals(slot)) {
+        roots.add(node.getRoot());
+      }
+    }
+    return roots;
+  }
+
+  void processHashesInChainWhile(final Bytes32 head, final HaltableNodeProcessor nodeProcessor) {
+    int index = indices.getInt(head);
+    if (index == NO_INDEX) {
+      throw new IllegalArgumentException("Unknown root supplied: " + head);
+    }
+    while (contains(nodes[index].getRoot())) {
+      final ProtoNodeData node = nodes[index];
+      final boolean shouldContinue =
+          nodeProcessor.process(
+              node.getRoot(), node.getSlot(), node.getParentRoot(), node.getExecutionBlockHash());
+      index = parentIndices[index];
+      if (!shouldContinue || index == NO_INDEX) {
+        break;
+      }
+    }
+  }
+
+  void processAllInOrder(final NodeProcessor nodeProcessor) {
+    for (ProtoNodeData node : nodes) {
+      // Skip nodes that could be pruned but are still in the protoarray
+      if (contains(node.getRoot())) {
+        nodeProcessor.process(node.getRoot(), node.getSlot(), node.getParentRoot());
+      }
+    }
+  }
+
+  List<ProtoNodeData> getBlockData() {
+    return Arrays.asList(nodes.clone());
+  }
+
+  Optional<SlotAndBlockRoot> findCommonAncestor(final Bytes32 root1, final Bytes32 root2) {
+    int index1 = indices.getInt(root1);
+    int index2 = indices.getInt(root2);
+    while (index1 != NO_INDEX && index2 != NO_INDEX) {
+      final ProtoNodeData node1 = nodes[index1];
+      final ProtoNodeData node2 = nodes[index2];
+      if (node1.getSlot().isGreaterThan(node2.getSlot())) {
+        // Chain 1 is longer than chain 2 so need to move further up chain 2
+        index1 = parentIndices[index1];
+      } else if (node2.getSlot().isGreaterThan(node1.getSlot())) {
+        // Chain 2 is longer than chain 1 so need to move further up chain 1
+        index2 = parentIndices[index2];
+      } else {
+        // At the same slot, check if this is the common ancestor
+        if (node1.getRoot().equals(node2.getRoot())) {
+          return Optional.of(new SlotAndBlockRoot(node1.getSlot(), node1.getRoot()));
+        }
+        // Nope, need to move further up both chains
+        index1 = parentIndices[index1];
+        index2 = parentIndices[index2];
+      }
+    }
+    // Reached the start of protoarray without finding a common ancestor
+    return Optional.empty();
+  }
+}
@@ -216,6 +216,14 @@ public class ProtoNode {
         weight);
   }
 
+  /** Returns true if data still describes this node, so it can be reused instead of reallocated. */
+  boolean hasBlockData(final ProtoNodeData data) {
+    return blockRoot.equals(data.getRoot())
+        && weight.equals(data.getWeight())
+        && validationStatus == data.getValidationStatus()
+        && checkpoints.equals(data.getCheckpoints());
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
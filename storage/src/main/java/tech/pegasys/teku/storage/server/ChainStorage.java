@@ -21,8 +21,11 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -82,6 +85,28 @@ public class ChainStorage
         dataStorageMode);
   }
 
+  public static ChainStorage create(
+      final Database database,
+      final Spec spec,
+      final StateStorageMode dataStorageMode,
+      final int stateRebuildTimeoutSeconds,
+      final MetricsSystem metricsSystem,
+      final AsyncRunner statePrefetchAsyncRunner) {
+    final int slotsPerEpoch = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH);
+    return new ChainStorage(
+        database,
+        new FinalizedStateCache(
+            spec,
+            database,
+            slotsPerEpoch * 3,
+            true,
+            stateRebuildTimeoutSeconds,
+            metricsSystem,
+            statePrefetchAsyncRunner,
+            slotsPerEpoch),
+        dataStorageMode);
+  }
+
   private synchronized Optional<OnDiskStoreData> getStore() {
     if (cachedStoreData.isEmpty()) {
       // Create store from database
@@ -137,6 +162,11 @@ public class ChainStorage
         () -> database.storeReconstructedFinalizedState(finalizedState, blockRoot));
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedStatesProgress(final UInt64 slot) {
+    return SafeFuture.fromRunnable(() -> database.storeReconstructedStatesSlot(slot));
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
     database.storeInitialAnchor(initialAnchor);
@@ -180,6 +210,16 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return SafeFuture.of(() -> database.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlockAsSszByBlockRoot(final Bytes32 blockRoot) {
+    return SafeFuture.of(() -> database.getSignedBlockAsSsz(blockRoot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
@@ -306,6 +346,11 @@ public class ChainStorage
     return SafeFuture.of(database::getEarliestBlobSidecarSlot);
   }
 
+  @Override
+  public SafeFuture<Optional<UInt64>> getReconstructedStatesSlot() {
+    return SafeFuture.of(database::getReconstructedStatesSlot);
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     return SafeFuture.of(() -> database.getBlobSidecar(key));
@@ -317,6 +362,11 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getNonCanonicalBlobSidecar(key));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return SafeFuture.of(() -> database.getBlobSidecarAsSsz(key));
+  }
+
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(final UInt64 slot) {
     return SafeFuture.of(
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -48,9 +49,17 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
  *
  * <p>This guarantees that queries are only ever processed after the updates that were sent before
  * them but without allowing queries to delay updates.
+ *
+ * <p>Block, blob sidecar, hot state and finalized state queries are each queued on their own runner
+ * so that expensive finalized state regeneration or long range scans can't starve cheap point
+ * lookups of other data.
  */
 public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
   private final AsyncRunner asyncRunner;
+  private final AsyncRunner blockQueryRunner;
+  private final AsyncRunner blobSidecarQueryRunner;
+  private final AsyncRunner hotStateQueryRunner;
+  private final AsyncRunner finalizedStateQueryRunner;
   private final StorageQueryChannel queryDelegate;
   private final StorageUpdateChannel updateDelegate;
 
@@ -58,7 +67,29 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
       final AsyncRunner asyncRunner,
       final StorageUpdateChannel updateDelegate,
       final StorageQueryChannel queryDelegate) {
+    this(
+        asyncRunner,
+        asyncRunner,
+        asyncRunner,
+        asyncRunner,
+        asyncRunner,
+        updateDelegate,
+        queryDelegate);
+  }
+
+  public CombinedStorageChannelSplitter(
+      final AsyncRunner asyncRunner,
+      final AsyncRunner blockQueryRunner,
+      final AsyncRunner blobSidecarQueryRunner,
+      final AsyncRunner hotStateQueryRunner,
+      final AsyncRunner finalizedStateQueryRunner,
+      final StorageUpdateChannel updateDelegate,
+      final StorageQueryChannel queryDelegate) {
     this.asyncRunner = asyncRunner;
+    this.blockQueryRunner = blockQueryRunner;
+    this.blobSidecarQueryRunner = blobSidecarQueryRunner;
+    this.hotStateQueryRunner = hotStateQueryRunner;
+    this.finalizedStateQueryRunner = finalizedStateQueryRunner;
     this.queryDelegate = queryDelegate;
     this.updateDelegate = updateDelegate;
   }
@@ -83,6 +114,11 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return updateDelegate.onReconstructedFinalizedState(finalizedState, blockRoot);
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedStatesProgress(final UInt64 slot) {
+    return updateDelegate.onReconstructedStatesProgress(slot);
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
@@ -117,47 +153,58 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getEarliestAvailableBlock() {
-    return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlock);
+    return blockQueryRunner.runAsync(queryDelegate::getEarliestAvailableBlock);
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
+    return blockQueryRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
+    return blockQueryRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
+    return blockQueryRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return blockQueryRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlotAsSsz(slot));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlockAsSszByBlockRoot(final Bytes32 blockRoot) {
+    return blockQueryRunner.runAsync(() -> queryDelegate.getBlockAsSszByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
+    return hotStateQueryRunner.runAsync(
+        () -> queryDelegate.getHotBlockAndStateByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Optional<StateAndBlockSummary>> getHotStateAndBlockSummaryByBlockRoot(
       final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(
+    return hotStateQueryRunner.runAsync(
         () -> queryDelegate.getHotStateAndBlockSummaryByBlockRoot(blockRoot));
   }
 
   @Override
   public SafeFuture<Map<Bytes32, SignedBeaconBlock>> getHotBlocksByRoot(
       final Set<Bytes32> blockRoots) {
-    return asyncRunner.runAsync(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
+    return blockQueryRunner.runAsync(() -> queryDelegate.getHotBlocksByRoot(blockRoots));
   }
 
   @Override
   public SafeFuture<List<BlobSidecar>> getBlobSidecarsBySlotAndBlockRoot(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(
+    return blobSidecarQueryRunner.runAsync(
         () -> queryDelegate.getBlobSidecarsBySlotAndBlockRoot(slotAndBlockRoot));
   }
 
@@ -169,12 +216,14 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestFinalizedStateAtSlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
+    return finalizedStateQueryRunner.runAsync(
+        () -> queryDelegate.getLatestFinalizedStateAtSlot(slot));
   }
 
   @Override
   public SafeFuture<Optional<BeaconState>> getLatestAvailableFinalizedState(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getLatestAvailableFinalizedState(slot));
+    return finalizedStateQueryRunner.runAsync(
+        () -> queryDelegate.getLatestAvailableFinalizedState(slot));
   }
 
   @Override
@@ -184,7 +233,8 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<Optional<BeaconState>> getFinalizedStateByBlockRoot(final Bytes32 blockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
+    return finalizedStateQueryRunner.runAsync(
+        () -> queryDelegate.getFinalizedStateByBlockRoot(blockRoot));
   }
 
   @Override
@@ -194,7 +244,7 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
 
   @Override
   public SafeFuture<List<SignedBeaconBlock>> getNonCanonicalBlocksBySlot(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
+    return blockQueryRunner.runAsync(() -> queryDelegate.getNonCanonicalBlocksBySlot(slot));
   }
 
   @Override
@@ -212,36 +262,48 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(queryDelegate::getEarliestAvailableBlobSidecarSlot);
   }
 
+  @Override
+  public SafeFuture<Optional<UInt64>> getReconstructedStatesSlot() {
+    return asyncRunner.runAsync(queryDelegate::getReconstructedStatesSlot);
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
+    return blobSidecarQueryRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return blobSidecarQueryRunner.runAsync(() -> queryDelegate.getBlobSidecarAsSsz(key));
   }
 
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
-    return asyncRunner.runAsync(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
+    return blobSidecarQueryRunner.runAsync(() -> queryDelegate.getNonCanonicalBlobSidecar(key));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slot));
+    return blobSidecarQueryRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getAllBlobSidecarKeys(final UInt64 slot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getAllBlobSidecarKeys(slot));
+    return blobSidecarQueryRunner.runAsync(() -> queryDelegate.getAllBlobSidecarKeys(slot));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final long limit) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
+    return blobSidecarQueryRunner.runAsync(
+        () -> queryDelegate.getBlobSidecarKeys(startSlot, endSlot, limit));
   }
 
   @Override
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
+    return blobSidecarQueryRunner.runAsync(
+        () -> queryDelegate.getBlobSidecarKeys(slotAndBlockRoot));
   }
 }
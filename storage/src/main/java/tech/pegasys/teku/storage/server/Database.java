@@ -55,6 +55,12 @@ public interface Database extends AutoCloseable {
 
   void storeReconstructedFinalizedState(BeaconState state, Bytes32 blockRoot);
 
+  /**
+   * Records that finalized states for every slot before {@code slot} have been reconstructed, so
+   * that reconstruction can resume from this point after a restart.
+   */
+  void storeReconstructedStatesSlot(UInt64 slot);
+
   void updateWeakSubjectivityState(WeakSubjectivityUpdate weakSubjectivityUpdate);
 
   void storeBlobSidecar(BlobSidecar blobSidecar);
@@ -65,6 +71,9 @@ public interface Database extends AutoCloseable {
 
   Optional<BlobSidecar> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** Return the blob sidecar as stored SSZ bytes, without deserializing it. */
+  Optional<Bytes> getBlobSidecarAsSsz(SlotAndBlockRootAndBlobIndex key);
+
   /**
    * This prune method will delete BlobSidecars starting from the oldest BlobSidecars (by slot) up
    * to BlobSidecars at {@code lastSlotToPrune} (inclusive). The pruning process will be stopped if
@@ -110,6 +119,8 @@ public interface Database extends AutoCloseable {
 
   Optional<UInt64> getEarliestBlobSidecarSlot();
 
+  Optional<UInt64> getReconstructedStatesSlot();
+
   Optional<OnDiskStoreData> createMemoryStore();
 
   WeakSubjectivityState getWeakSubjectivityState();
@@ -128,6 +139,14 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Return the finalized block at this slot as stored SSZ bytes, without deserializing it.
+   *
+   * @param slot The slot to query
+   * @return Returns the SSZ of the finalized block proposed at this slot, if such a block exists
+   */
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
   /**
    * @return The earliest available finalized block's slot
    */
@@ -152,6 +171,12 @@ public interface Database extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getSignedBlock(Bytes32 root);
 
+  /**
+   * Return the canonical hot or finalized block with the given root as stored SSZ bytes, without
+   * deserializing it.
+   */
+  Optional<Bytes> getSignedBlockAsSsz(Bytes32 root);
+
   Optional<BeaconState> getHotState(Bytes32 root);
 
   Optional<UInt64> getGenesisTime();
@@ -245,4 +270,10 @@ public interface Database extends AutoCloseable {
 
   Optional<UInt64> pruneFinalizedStates(
       Optional<UInt64> lastPrunedSlot, UInt64 lastSlotToPruneStateFor, long pruneLimit);
+
+  /**
+   * Returns false if finalized states can't be deleted from this database, in which case the state
+   * pruner must not be enabled.
+   */
+  boolean isFinalizedStatePruningSupported();
 }
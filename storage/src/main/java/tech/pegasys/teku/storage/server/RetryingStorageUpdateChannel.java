@@ -103,6 +103,11 @@ public class RetryingStorageUpdateChannel implements StorageUpdateChannel {
     return this.retry(() -> delegate.onReconstructedFinalizedState(finalizedState, blockRoot));
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedStatesProgress(final UInt64 slot) {
+    return retry(() -> delegate.onReconstructedStatesProgress(slot));
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
@@ -33,8 +33,10 @@ import tech.pegasys.teku.spec.Spec;
 
 public class StorageConfiguration {
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
+  public static final boolean DEFAULT_BLOB_SIDECAR_SEGMENT_FILES_ENABLED = false;
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
+  public static final long DEFAULT_STORAGE_SNAPSHOT_FREQUENCY = 0L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
   public static final Duration DEFAULT_BLOCK_PRUNING_INTERVAL = Duration.ofMinutes(15);
   public static final int DEFAULT_BLOCK_PRUNING_LIMIT = 5000;
@@ -54,9 +56,11 @@ public class StorageConfiguration {
 
   private final StateStorageMode dataStorageMode;
   private final long dataStorageFrequency;
+  private final long dataStorageSnapshotFrequency;
   private final DatabaseVersion dataStorageCreateDbVersion;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean blobSidecarSegmentFilesEnabled;
   private final int maxKnownNodeCacheSize;
   private final Duration blockPruningInterval;
   private final int blockPruningLimit;
@@ -73,8 +77,10 @@ public class StorageConfiguration {
       final Eth1Address eth1DepositContract,
       final StateStorageMode dataStorageMode,
       final long dataStorageFrequency,
+      final long dataStorageSnapshotFrequency,
       final DatabaseVersion dataStorageCreateDbVersion,
       final boolean storeNonCanonicalBlocks,
+      final boolean blobSidecarSegmentFilesEnabled,
       final int maxKnownNodeCacheSize,
       final Duration blockPruningInterval,
       final int blockPruningLimit,
@@ -89,8 +95,10 @@ public class StorageConfiguration {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
     this.dataStorageFrequency = dataStorageFrequency;
+    this.dataStorageSnapshotFrequency = dataStorageSnapshotFrequency;
     this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
+    this.blobSidecarSegmentFilesEnabled = blobSidecarSegmentFilesEnabled;
     this.maxKnownNodeCacheSize = maxKnownNodeCacheSize;
     this.blockPruningInterval = blockPruningInterval;
     this.blockPruningLimit = blockPruningLimit;
@@ -124,6 +132,14 @@ public class StorageConfiguration {
     return dataStorageFrequency;
   }
 
+  /**
+   * The frequency, in slots, of full finalized state snapshots when finalized states in between are
+   * stored as diffs. Zero when every stored finalized state is a full snapshot.
+   */
+  public long getDataStorageSnapshotFrequency() {
+    return dataStorageSnapshotFrequency;
+  }
+
   public DatabaseVersion getDataStorageCreateDbVersion() {
     return dataStorageCreateDbVersion;
   }
@@ -132,6 +148,14 @@ public class StorageConfiguration {
     return storeNonCanonicalBlocks;
   }
 
+  /**
+   * Whether canonical blob sidecars are stored in append-only segment files next to the database
+   * rather than in the database itself.
+   */
+  public boolean isBlobSidecarSegmentFilesEnabled() {
+    return blobSidecarSegmentFilesEnabled;
+  }
+
   public int getMaxKnownNodeCacheSize() {
     return maxKnownNodeCacheSize;
   }
@@ -177,10 +201,12 @@ public class StorageConfiguration {
     private Eth1Address eth1DepositContract;
     private StateStorageMode dataStorageMode = StateStorageMode.DEFAULT_MODE;
     private long dataStorageFrequency = DEFAULT_STORAGE_FREQUENCY;
+    private long dataStorageSnapshotFrequency = DEFAULT_STORAGE_SNAPSHOT_FREQUENCY;
     private DatabaseVersion dataStorageCreateDbVersion = DatabaseVersion.DEFAULT_VERSION;
     private Spec spec;
     private DataConfig dataConfig;
     private boolean storeNonCanonicalBlocks = DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
+    private boolean blobSidecarSegmentFilesEnabled = DEFAULT_BLOB_SIDECAR_SEGMENT_FILES_ENABLED;
     private int maxKnownNodeCacheSize = DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
     private Duration blockPruningInterval = DEFAULT_BLOCK_PRUNING_INTERVAL;
     private int blockPruningLimit = DEFAULT_BLOCK_PRUNING_LIMIT;
@@ -220,6 +246,16 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder dataStorageSnapshotFrequency(final long dataStorageSnapshotFrequency) {
+      if (dataStorageSnapshotFrequency < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid dataStorageSnapshotFrequency: %d", dataStorageSnapshotFrequency));
+      }
+      this.dataStorageSnapshotFrequency = dataStorageSnapshotFrequency;
+      return this;
+    }
+
     public Builder dataStorageCreateDbVersion(final DatabaseVersion dataStorageCreateDbVersion) {
       this.dataStorageCreateDbVersion = dataStorageCreateDbVersion;
       return this;
@@ -240,6 +276,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder blobSidecarSegmentFilesEnabled(final boolean blobSidecarSegmentFilesEnabled) {
+      this.blobSidecarSegmentFilesEnabled = blobSidecarSegmentFilesEnabled;
+      return this;
+    }
+
     public Builder maxKnownNodeCacheSize(final int maxKnownNodeCacheSize) {
       if (maxKnownNodeCacheSize < 0) {
         throw new InvalidConfigurationException(
@@ -329,12 +370,15 @@ public class StorageConfiguration {
     public StorageConfiguration build() {
       determineDataStorageMode();
       validateStatePruningConfiguration();
+      validateStateSnapshotConfiguration();
       return new StorageConfiguration(
           eth1DepositContract,
           dataStorageMode,
           dataStorageFrequency,
+          dataStorageSnapshotFrequency,
           dataStorageCreateDbVersion,
           storeNonCanonicalBlocks,
+          blobSidecarSegmentFilesEnabled,
           maxKnownNodeCacheSize,
           blockPruningInterval,
           blockPruningLimit,
@@ -384,6 +428,16 @@ public class StorageConfiguration {
       }
     }
 
+    private void validateStateSnapshotConfiguration() {
+      if (dataStorageSnapshotFrequency > 0
+          && dataStorageSnapshotFrequency <= dataStorageFrequency) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "State snapshot frequency %d must be greater than the archive frequency %d",
+                dataStorageSnapshotFrequency, dataStorageFrequency));
+      }
+    }
+
     public Builder stateRebuildTimeoutSeconds(final int stateRebuildTimeoutSeconds) {
       if (stateRebuildTimeoutSeconds < 10 || stateRebuildTimeoutSeconds > 300) {
         LOG.warn(
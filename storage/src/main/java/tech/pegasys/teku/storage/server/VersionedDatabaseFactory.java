@@ -30,6 +30,9 @@ import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.BlobSidecarStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreBlobSidecarStorageLogic;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.SegmentFileBlobSidecarStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
 import tech.pegasys.teku.storage.server.metadata.V5DatabaseMetadata;
@@ -37,12 +40,14 @@ import tech.pegasys.teku.storage.server.metadata.V6DatabaseMetadata;
 import tech.pegasys.teku.storage.server.network.DatabaseNetwork;
 import tech.pegasys.teku.storage.server.noop.NoOpDatabase;
 import tech.pegasys.teku.storage.server.rocksdb.RocksDbDatabaseFactory;
+import tech.pegasys.teku.storage.server.segment.BlobSidecarSegmentStore;
 
 public class VersionedDatabaseFactory implements DatabaseFactory {
   private static final Logger LOG = LogManager.getLogger();
 
   @VisibleForTesting static final String DB_PATH = "db";
   @VisibleForTesting static final String ARCHIVE_PATH = "archive";
+  @VisibleForTesting static final String BLOB_SIDECAR_SEGMENTS_PATH = "blob-sidecars";
   @VisibleForTesting static final String DB_VERSION_PATH = "db.version";
 
   @VisibleForTesting static final String STORAGE_MODE_PATH = "data-storage-mode.txt";
@@ -53,14 +58,17 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final int maxKnownNodeCacheSize;
   private final File dbDirectory;
   private final File v5ArchiveDirectory;
+  private final File blobSidecarSegmentsDirectory;
   private final File dbVersionFile;
   private final File dbStorageModeFile;
   private final StateStorageMode stateStorageMode;
   private final DatabaseVersion createDatabaseVersion;
   private final long stateStorageFrequency;
+  private final long stateSnapshotFrequency;
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean blobSidecarSegmentFilesEnabled;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
 
@@ -77,12 +85,16 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.createDatabaseVersion = config.getDataStorageCreateDbVersion();
     this.maxKnownNodeCacheSize = config.getMaxKnownNodeCacheSize();
     this.stateStorageFrequency = config.getDataStorageFrequency();
+    this.stateSnapshotFrequency = config.getDataStorageSnapshotFrequency();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
+    this.blobSidecarSegmentFilesEnabled = config.isBlobSidecarSegmentFilesEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
     this.v5ArchiveDirectory = this.dataDirectory.toPath().resolve(ARCHIVE_PATH).toFile();
+    this.blobSidecarSegmentsDirectory =
+        this.dataDirectory.toPath().resolve(BLOB_SIDECAR_SEGMENTS_PATH).toFile();
     this.dbVersionFile = this.dataDirectory.toPath().resolve(DB_VERSION_PATH).toFile();
     this.dbStorageModeFile = this.dataDirectory.toPath().resolve(STORAGE_MODE_PATH).toFile();
 
@@ -98,6 +110,15 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     createDirectories(dbVersion);
     saveDatabaseVersion(dbVersion);
     saveStorageMode(stateStorageMode);
+    if (blobSidecarSegmentFilesEnabled
+        && (dbVersion == DatabaseVersion.V4
+            || dbVersion == DatabaseVersion.V5
+            || dbVersion == DatabaseVersion.LEVELDB1)) {
+      LOG.warn(
+          "Blob sidecar segment files are not supported by {} databases, storing blob sidecars in"
+              + " the database",
+          dbVersion.getValue());
+    }
 
     Database database;
     switch (dbVersion) {
@@ -230,7 +251,9 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           schema,
           stateStorageMode,
           stateStorageFrequency,
+          stateSnapshotFrequency,
           storeNonCanonicalBlocks,
+          createBlobSidecarStorageLogic(),
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -274,7 +297,9 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           stateStorageFrequency,
+          stateSnapshotFrequency,
           storeNonCanonicalBlocks,
+          createBlobSidecarStorageLogic(),
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -290,6 +315,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           storeNonCanonicalBlocks,
+          createBlobSidecarStorageLogic(),
           maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
@@ -297,6 +323,19 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     }
   }
 
+  private BlobSidecarStorageLogic createBlobSidecarStorageLogic() {
+    if (!blobSidecarSegmentFilesEnabled) {
+      return new KvStoreBlobSidecarStorageLogic();
+    }
+    LOG.info(
+        "Storing blob sidecars in segment files at {}",
+        blobSidecarSegmentsDirectory.getAbsolutePath());
+    return new SegmentFileBlobSidecarStorageLogic(
+        BlobSidecarSegmentStore.create(
+            blobSidecarSegmentsDirectory.toPath(),
+            BlobSidecarSegmentStore.DEFAULT_SLOTS_PER_SEGMENT));
+  }
+
   private KvStoreConfiguration initV6Configuration() throws IOException {
     final V6DatabaseMetadata metaData =
         V6DatabaseMetadata.init(getMetadataFile(), V6DatabaseMetadata.singleDBDefault());
@@ -110,6 +110,17 @@ public interface KvStoreAccessor extends AutoCloseable {
 
   KvStoreTransaction startTransaction();
 
+  /**
+   * Start a transaction whose writes may bypass the write-ahead log. Data committed through it is
+   * only guaranteed to survive a crash once {@link #flush()} has returned.
+   */
+  default KvStoreTransaction startUnloggedTransaction() {
+    return startTransaction();
+  }
+
+  /** Persist all data currently held in memory, including writes from unlogged transactions. */
+  default void flush() {}
+
   interface KvStoreTransaction extends AutoCloseable {
 
     <T> void put(KvStoreVariable<T> variable, T value);
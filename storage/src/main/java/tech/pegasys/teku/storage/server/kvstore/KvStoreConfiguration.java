@@ -89,6 +89,9 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "writeBufferCapacity", access = Access.WRITE_ONLY)
   private long writeBufferCapacity = DEFAULT_WRITE_BUFFER_CAPACITY;
 
+  @JsonProperty(value = "columnProfilesEnabled", access = Access.WRITE_ONLY)
+  private boolean columnProfilesEnabled = false;
+
   // Safe to change but written to file as we need different defaults for hot and finalized
   @JsonProperty(value = "optimizeForSmallDb")
   private boolean optimizeForSmallDb = DEFAULT_OPTIMISE_FOR_SMALL_DB;
@@ -174,6 +177,14 @@ public class KvStoreConfiguration {
     return optimizeForSmallDb;
   }
 
+  /**
+   * Whether columns are tuned according to their access pattern, with separate block cache shares,
+   * compression and compaction settings, rather than sharing a single set of options.
+   */
+  public boolean isColumnProfilesEnabled() {
+    return columnProfilesEnabled;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -184,6 +195,7 @@ public class KvStoreConfiguration {
         .add("writeBufferCapacity", writeBufferCapacity)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
+        .add("columnProfilesEnabled", columnProfilesEnabled)
         .add("databaseDir", databaseDir)
         .toString();
   }
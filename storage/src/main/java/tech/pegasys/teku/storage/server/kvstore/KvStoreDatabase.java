@@ -74,6 +74,7 @@ import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.DataArchiveWriter;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.StateStorageMode;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.BlobSidecarStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.CombinedKvStoreDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.CombinedUpdater;
@@ -81,6 +82,7 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.Fi
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDaoAdapter;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateDiffStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnapshotStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
@@ -96,11 +98,18 @@ public class KvStoreDatabase implements Database {
 
   protected static final int TX_BATCH_SIZE = 500;
   protected static final int BLOBS_TX_BATCH_SIZE = 100;
+  private static final long UNREFERENCED_STATE_DATA_PRUNE_LIMIT = 250_000;
+  // Maximum number of backfilled blocks written without the WAL before they are flushed and
+  // recorded in the earliest block slot
+  static final int BULK_FLUSH_BLOCK_COUNT = 2048;
   private static final Logger LOG = LogManager.getLogger();
   protected final Spec spec;
   protected final boolean storeNonCanonicalBlocks;
   @VisibleForTesting final KvStoreCombinedDao dao;
   private final StateStorageMode stateStorageMode;
+  private Optional<UInt64> unconfirmedEarliestBlockSlot = Optional.empty();
+  private Optional<UInt64> unconfirmedEarliestBlobSidecarSlot = Optional.empty();
+  private int unconfirmedBlockCount = 0;
 
   KvStoreDatabase(
       final KvStoreCombinedDao dao,
@@ -112,6 +121,7 @@ public class KvStoreDatabase implements Database {
     this.stateStorageMode = stateStorageMode;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.spec = spec;
+    discardUnconfirmedFinalizedBlocks();
   }
 
   public static Database createV4(
@@ -140,12 +150,42 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
       final Spec spec) {
     final V4FinalizedStateSnapshotStorageLogic<SchemaCombinedSnapshotState>
         finalizedStateStorageLogic =
             new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
     return create(
-        db, schema, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedStateStorageLogic);
+        db,
+        schema,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic,
+        blobSidecarStorageLogic);
+  }
+
+  public static Database createWithStateDiffs(
+      final KvStoreAccessor db,
+      final SchemaCombinedSnapshotState schema,
+      final StateStorageMode stateStorageMode,
+      final long stateStorageFrequency,
+      final long stateSnapshotFrequency,
+      final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
+      final Spec spec) {
+    final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState>
+        finalizedStateStorageLogic =
+            new V4FinalizedStateDiffStorageLogic<>(
+                spec, stateStorageFrequency, stateSnapshotFrequency);
+    return create(
+        db,
+        schema,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic,
+        blobSidecarStorageLogic);
   }
 
   public static Database createWithStateTree(
@@ -154,12 +194,19 @@ public class KvStoreDatabase implements Database {
       final SchemaCombinedTreeState schema,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
     final V4FinalizedStateStorageLogic<SchemaCombinedTreeState> finalizedStateStorageLogic =
         new V4FinalizedStateTreeStorageLogic(metricsSystem, spec, maxKnownNodeCacheSize);
     return create(
-        db, schema, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedStateStorageLogic);
+        db,
+        schema,
+        stateStorageMode,
+        storeNonCanonicalBlocks,
+        spec,
+        finalizedStateStorageLogic,
+        blobSidecarStorageLogic);
   }
 
   private static <S extends SchemaCombined> KvStoreDatabase create(
@@ -168,9 +215,10 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final Spec spec,
-      final V4FinalizedStateStorageLogic<S> finalizedStateStorageLogic) {
+      final V4FinalizedStateStorageLogic<S> finalizedStateStorageLogic,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic) {
     final CombinedKvStoreDao<S> dao =
-        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic);
+        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic, blobSidecarStorageLogic);
     return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
   }
 
@@ -204,6 +252,11 @@ public class KvStoreDatabase implements Database {
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return dao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
@@ -238,6 +291,11 @@ public class KvStoreDatabase implements Database {
         .or(() -> dao.getNonCanonicalBlock(root));
   }
 
+  @Override
+  public Optional<Bytes> getSignedBlockAsSsz(final Bytes32 root) {
+    return dao.getHotBlockAsSsz(root).or(() -> dao.getFinalizedBlockAsSsz(root));
+  }
+
   @Override
   public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Set<Bytes32> blockRoots) {
     return blockRoots.stream()
@@ -310,20 +368,9 @@ public class KvStoreDatabase implements Database {
       final Map<SlotAndBlockRoot, List<BlobSidecar>> finalizedBlobSidecarsBySlot,
       final Optional<UInt64> maybeEarliestBlobSidecar) {
     try (final FinalizedUpdater updater = finalizedUpdater()) {
-      blocks.forEach(
-          block -> {
-            updater.addFinalizedBlock(block);
-            // If there is no slot in BlobSidecar's map it means we are pre-Deneb or not in
-            // availability period
-            if (!finalizedBlobSidecarsBySlot.containsKey(block.getSlotAndBlockRoot())) {
-              return;
-            }
-            finalizedBlobSidecarsBySlot
-                .get(block.getSlotAndBlockRoot())
-                .forEach(updater::addBlobSidecar);
-          });
+      addFinalizedBlocks(updater, blocks, finalizedBlobSidecarsBySlot);
 
-      needToUpdateEarliestBlockSlot(blocks.stream().findFirst())
+      needToUpdateEarliestBlockSlot(blocks.stream().findFirst().map(SignedBeaconBlock::getSlot))
           .ifPresent(updater::setEarliestBlockSlot);
       needToUpdateEarliestBlobSidecarSlot(maybeEarliestBlobSidecar)
           .ifPresent(updater::setEarliestBlobSidecarSlot);
@@ -331,8 +378,124 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  /**
+   * Stores backfilled blocks through an updater which may skip the write-ahead log. The earliest
+   * block and blob sidecar slots are only moved down once the written data has been flushed, so
+   * anything found below the earliest block slot after a crash is unconfirmed and discarded on
+   * startup.
+   */
+  private synchronized void bulkStoreFinalizedBlocksToDao(
+      final Collection<SignedBeaconBlock> blocks,
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> finalizedBlobSidecarsBySlot,
+      final Optional<UInt64> maybeEarliestBlobSidecar) {
+    if (unconfirmedBlockCount == 0) {
+      // Make sure the current earliest block slot is recorded before writing anything below it
+      try (final FinalizedUpdater updater = finalizedUpdater()) {
+        dao.getEarliestFinalizedBlockSlot().ifPresent(updater::setEarliestBlockSlot);
+        updater.commit();
+      }
+    }
+    try (final FinalizedUpdater updater = dao.bulkFinalizedUpdater()) {
+      addFinalizedBlocks(updater, blocks, finalizedBlobSidecarsBySlot);
+      updater.commit();
+    }
+
+    blocks.stream()
+        .map(SignedBeaconBlock::getSlot)
+        .min(Comparator.naturalOrder())
+        .ifPresent(slot -> unconfirmedEarliestBlockSlot = min(unconfirmedEarliestBlockSlot, slot));
+    maybeEarliestBlobSidecar.ifPresent(
+        slot -> unconfirmedEarliestBlobSidecarSlot = min(unconfirmedEarliestBlobSidecarSlot, slot));
+    unconfirmedBlockCount += blocks.size();
+    if (unconfirmedBlockCount >= BULK_FLUSH_BLOCK_COUNT) {
+      confirmFinalizedBlocks();
+    }
+  }
+
+  private synchronized void confirmFinalizedBlocks() {
+    if (unconfirmedBlockCount == 0) {
+      return;
+    }
+    LOG.debug("Flushing {} backfilled blocks", unconfirmedBlockCount);
+    dao.flush();
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      needToUpdateEarliestBlockSlot(unconfirmedEarliestBlockSlot)
+          .ifPresent(updater::setEarliestBlockSlot);
+      needToUpdateEarliestBlobSidecarSlot(unconfirmedEarliestBlobSidecarSlot)
+          .ifPresent(updater::setEarliestBlobSidecarSlot);
+      updater.commit();
+    }
+    unconfirmedEarliestBlockSlot = Optional.empty();
+    unconfirmedEarliestBlobSidecarSlot = Optional.empty();
+    unconfirmedBlockCount = 0;
+  }
+
+  private void discardUnconfirmedFinalizedBlocks() {
+    final Optional<UInt64> maybeEarliestBlockSlot = dao.getEarliestFinalizedBlockSlot();
+    final Optional<UInt64> maybeFirstStoredBlockSlot =
+        dao.getEarliestFinalizedBlock().map(SignedBeaconBlock::getSlot);
+    if (maybeEarliestBlockSlot.isEmpty()
+        || maybeFirstStoredBlockSlot.isEmpty()
+        || maybeFirstStoredBlockSlot.get().isGreaterThanOrEqualTo(maybeEarliestBlockSlot.get())) {
+      return;
+    }
+    final UInt64 firstSlot = maybeFirstStoredBlockSlot.get();
+    final UInt64 lastSlot = maybeEarliestBlockSlot.get().minus(1);
+    LOG.info(
+        "Discarding historical blocks from slot {} to {} which were not flushed before shutdown",
+        firstSlot,
+        lastSlot);
+    final List<Pair<UInt64, Bytes32>> blocksToDiscard;
+    try (final Stream<SignedBeaconBlock> stream = dao.streamFinalizedBlocks(firstSlot, lastSlot)) {
+      blocksToDiscard = stream.map(block -> Pair.of(block.getSlot(), block.getRoot())).toList();
+    }
+    final List<SlotAndBlockRootAndBlobIndex> blobSidecarsToDiscard;
+    try (final Stream<SlotAndBlockRootAndBlobIndex> stream =
+        dao.streamBlobSidecarKeys(firstSlot, lastSlot)) {
+      blobSidecarsToDiscard = stream.toList();
+    }
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      blocksToDiscard.forEach(
+          pair -> updater.deleteFinalizedBlock(pair.getLeft(), pair.getRight()));
+      blobSidecarsToDiscard.forEach(updater::removeBlobSidecar);
+      updater.commit();
+    }
+  }
+
+  private void addFinalizedBlocks(
+      final FinalizedUpdater updater,
+      final Collection<SignedBeaconBlock> blocks,
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> finalizedBlobSidecarsBySlot) {
+    blocks.forEach(
+        block -> {
+          updater.addFinalizedBlock(block);
+          // If there is no slot in BlobSidecar's map it means we are pre-Deneb or not in
+          // availability period
+          if (!finalizedBlobSidecarsBySlot.containsKey(block.getSlotAndBlockRoot())) {
+            return;
+          }
+          finalizedBlobSidecarsBySlot
+              .get(block.getSlotAndBlockRoot())
+              .forEach(updater::addBlobSidecar);
+        });
+  }
+
+  private boolean isFarBehindFinalized(final UInt64 slot) {
+    return dao.getFinalizedCheckpoint()
+        .map(checkpoint -> checkpoint.getEpochStartSlot(spec))
+        .map(
+            finalizedSlot ->
+                slot.plus(spec.getSlotsPerHistoricalRoot(finalizedSlot))
+                    .isLessThan(finalizedSlot))
+        .orElse(false);
+  }
+
+  private static Optional<UInt64> min(final Optional<UInt64> current, final UInt64 slot) {
+    return Optional.of(current.map(value -> value.min(slot)).orElse(slot));
+  }
+
   private Optional<UInt64> needToUpdateEarliestBlockSlot(
-      final Optional<SignedBeaconBlock> maybeNewEarliestBlockSlot) {
+      final Optional<UInt64> maybeNewEarliestBlockSlot) {
     // New value is absent - not updating
     if (maybeNewEarliestBlockSlot.isEmpty()) {
       return Optional.empty();
@@ -340,12 +503,12 @@ public class KvStoreDatabase implements Database {
     // New value is present, value from DB is absent - updating
     final Optional<UInt64> maybeEarliestFinalizedBlockSlotDb = dao.getEarliestFinalizedBlockSlot();
     if (maybeEarliestFinalizedBlockSlotDb.isEmpty()) {
-      return maybeNewEarliestBlockSlot.map(SignedBeaconBlock::getSlot);
+      return maybeNewEarliestBlockSlot;
     }
     // New value is smaller than value from DB - updating
-    final UInt64 newEarliestBlockSlot = maybeNewEarliestBlockSlot.get().getSlot();
+    final UInt64 newEarliestBlockSlot = maybeNewEarliestBlockSlot.get();
     if (newEarliestBlockSlot.isLessThan(maybeEarliestFinalizedBlockSlotDb.get())) {
-      return maybeNewEarliestBlockSlot.map(SignedBeaconBlock::getSlot);
+      return maybeNewEarliestBlockSlot;
     } else {
       return Optional.empty();
     }
@@ -489,9 +652,25 @@ public class KvStoreDatabase implements Database {
             earliestFinalizedStateSlot.isEmpty()
                 ? "EMPTY"
                 : earliestFinalizedStateSlot.get().toString());
-    return earliestFinalizedStateSlot
-        .map(uInt64 -> pruneFinalizedStateForSlots(uInt64, lastSlotToPrune, pruneLimit))
-        .or(() -> Optional.of(lastSlotToPrune));
+    final Optional<UInt64> lastPrunedStateSlot =
+        earliestFinalizedStateSlot
+            .map(uInt64 -> pruneFinalizedStateForSlots(uInt64, lastSlotToPrune, pruneLimit))
+            .or(() -> Optional.of(lastSlotToPrune));
+    pruneUnreferencedFinalizedStateData();
+    return lastPrunedStateSlot;
+  }
+
+  @Override
+  public boolean isFinalizedStatePruningSupported() {
+    return dao.isFinalizedStateDeletionSupported();
+  }
+
+  private void pruneUnreferencedFinalizedStateData() {
+    final long prunedEntries =
+        dao.pruneUnreferencedFinalizedStateData(UNREFERENCED_STATE_DATA_PRUNE_LIMIT);
+    if (prunedEntries > 0) {
+      LOG.debug("Pruned {} unreferenced finalized state entries", prunedEntries);
+    }
   }
 
   private UInt64 pruneFinalizedStateForSlots(
@@ -643,6 +822,10 @@ public class KvStoreDatabase implements Database {
     if (event.isEmpty()) {
       return UpdateResult.EMPTY;
     }
+    if (event.getFinalizedCheckpoint().isPresent()) {
+      // Bound how long backfilled blocks can stay unconfirmed once historic sync slows or stops
+      confirmFinalizedBlocks();
+    }
     return doUpdate(event);
   }
 
@@ -680,7 +863,15 @@ public class KvStoreDatabase implements Database {
       expectedRoot = block.getParentRoot();
     }
 
-    storeFinalizedBlocksToDao(blocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot);
+    // Far from the finalized checkpoint backfilled blocks are written in bulk and only confirmed
+    // periodically. There must be a known earliest block to fall back to after a crash.
+    if (isFarBehindFinalized(sorted.get(0).getSlot())
+        && dao.getEarliestFinalizedBlockSlot().isPresent()) {
+      bulkStoreFinalizedBlocksToDao(blocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot);
+    } else {
+      confirmFinalizedBlocks();
+      storeFinalizedBlocksToDao(blocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot);
+    }
   }
 
   @Override
@@ -701,6 +892,14 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public void storeReconstructedStatesSlot(final UInt64 slot) {
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      updater.setReconstructedStatesSlot(slot);
+      updater.commit();
+    }
+  }
+
   private void handleAddFinalizedStateRoot(
       final BeaconState state, final FinalizedUpdater updater) {
     final Optional<BeaconState> maybeLastState =
@@ -917,6 +1116,11 @@ public class KvStoreDatabase implements Database {
     return maybePayload.map(payload -> spec.deserializeBlobSidecar(payload, key.getSlot()));
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return dao.getBlobSidecar(key);
+  }
+
   @Override
   public boolean pruneOldestBlobSidecars(
       final UInt64 lastSlotToPrune,
@@ -1045,6 +1249,11 @@ public class KvStoreDatabase implements Database {
     return dao.getEarliestBlobSidecarSlot();
   }
 
+  @Override
+  public Optional<UInt64> getReconstructedStatesSlot() {
+    return dao.getReconstructedStatesSlot();
+  }
+
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {
     try (final HotUpdater hotUpdater = hotUpdater()) {
@@ -1078,6 +1287,7 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void close() throws Exception {
+    confirmFinalizedBlocks();
     dao.close();
   }
 
@@ -0,0 +1,71 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+
+/** Determines where canonical blob sidecars are stored. Non-canonical sidecars stay in the db. */
+public interface BlobSidecarStorageLogic extends AutoCloseable {
+  Optional<Bytes> getBlobSidecar(
+      KvStoreAccessor db, SchemaCombined schema, SlotAndBlockRootAndBlobIndex key);
+
+  @MustBeClosed
+  Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(
+      KvStoreAccessor db, SchemaCombined schema, UInt64 startSlot, UInt64 endSlot);
+
+  @MustBeClosed
+  Stream<Bytes> streamBlobSidecars(
+      KvStoreAccessor db, SchemaCombined schema, SlotAndBlockRoot slotAndBlockRoot);
+
+  List<SlotAndBlockRootAndBlobIndex> getBlobSidecarKeys(
+      KvStoreAccessor db, SchemaCombined schema, SlotAndBlockRoot slotAndBlockRoot);
+
+  long getBlobSidecarCount(KvStoreAccessor db, SchemaCombined schema);
+
+  BlobSidecarUpdater updater();
+
+  @Override
+  default void close() {}
+
+  interface BlobSidecarUpdater {
+    void addBlobSidecar(
+        KvStoreTransaction transaction, SchemaCombined schema, BlobSidecar blobSidecar);
+
+    void removeBlobSidecar(
+        KvStoreTransaction transaction, SchemaCombined schema, SlotAndBlockRootAndBlobIndex key);
+
+    /**
+     * Called before the db transaction is committed. Added sidecars stored outside the db must be
+     * durable once this returns, as the committed db may refer to them.
+     */
+    void prepareCommit();
+
+    /**
+     * Called once the db transaction has been committed. Must not throw, as the db changes are
+     * already durable.
+     */
+    void commit();
+  }
+}
@@ -44,6 +44,7 @@ import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.BlobSidecarStorageLogic.BlobSidecarUpdater;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
@@ -55,14 +56,24 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   private final KvStoreAccessor db;
   private final S schema;
   private final V4FinalizedStateStorageLogic<S> stateStorageLogic;
+  private final BlobSidecarStorageLogic blobSidecarStorageLogic;
 
   public CombinedKvStoreDao(
       final KvStoreAccessor db,
       final S schema,
       final V4FinalizedStateStorageLogic<S> stateStorageLogic) {
+    this(db, schema, stateStorageLogic, new KvStoreBlobSidecarStorageLogic());
+  }
+
+  public CombinedKvStoreDao(
+      final KvStoreAccessor db,
+      final S schema,
+      final V4FinalizedStateStorageLogic<S> stateStorageLogic,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic) {
     this.db = db;
     this.schema = schema;
     this.stateStorageLogic = stateStorageLogic;
+    this.blobSidecarStorageLogic = blobSidecarStorageLogic;
   }
 
   @Override
@@ -185,7 +196,28 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   @MustBeClosed
   public CombinedUpdater combinedUpdater() {
-    return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater());
+    return new V4CombinedUpdater<>(
+        db.startTransaction(),
+        db,
+        schema,
+        stateStorageLogic.updater(),
+        blobSidecarStorageLogic.updater());
+  }
+
+  @Override
+  @MustBeClosed
+  public FinalizedUpdater bulkFinalizedUpdater() {
+    return new V4CombinedUpdater<>(
+        db.startUnloggedTransaction(),
+        db,
+        schema,
+        stateStorageLogic.updater(),
+        blobSidecarStorageLogic.updater());
+  }
+
+  @Override
+  public void flush() {
+    db.flush();
   }
 
   @Override
@@ -257,6 +289,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public void close() throws Exception {
+    blobSidecarStorageLogic.close();
     db.close();
   }
 
@@ -265,6 +298,17 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
+  @Override
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return db.get(schema.getColumnSlotsByFinalizedRoot(), root)
+        .flatMap(this::getFinalizedBlockAtSlotAsSsz);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
@@ -344,7 +388,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public Optional<Bytes> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-    return db.get(schema.getColumnBlobSidecarBySlotRootBlobIndex(), key);
+    return blobSidecarStorageLogic.getBlobSidecar(db, schema, key);
   }
 
   @Override
@@ -356,10 +400,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   public Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot) {
-    return db.streamKeys(
-        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
-        new SlotAndBlockRootAndBlobIndex(startSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
-        new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
+    return blobSidecarStorageLogic.streamBlobSidecarKeys(db, schema, startSlot, endSlot);
   }
 
   @MustBeClosed
@@ -375,27 +416,13 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @MustBeClosed
   @Override
   public Stream<Bytes> streamBlobSidecars(final SlotAndBlockRoot slotAndBlockRoot) {
-    return db.stream(
-            schema.getColumnBlobSidecarBySlotRootBlobIndex(),
-            new SlotAndBlockRootAndBlobIndex(
-                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.ZERO),
-            new SlotAndBlockRootAndBlobIndex(
-                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.MAX_VALUE))
-        .map(ColumnEntry::getValue);
+    return blobSidecarStorageLogic.streamBlobSidecars(db, schema, slotAndBlockRoot);
   }
 
   @Override
   public List<SlotAndBlockRootAndBlobIndex> getBlobSidecarKeys(
       final SlotAndBlockRoot slotAndBlockRoot) {
-    try (final Stream<SlotAndBlockRootAndBlobIndex> streamKeys =
-        db.streamKeys(
-            schema.getColumnBlobSidecarBySlotRootBlobIndex(),
-            new SlotAndBlockRootAndBlobIndex(
-                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.ZERO),
-            new SlotAndBlockRootAndBlobIndex(
-                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.MAX_VALUE))) {
-      return streamKeys.toList();
-    }
+    return blobSidecarStorageLogic.getBlobSidecarKeys(db, schema, slotAndBlockRoot);
   }
 
   @Override
@@ -417,6 +444,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getVariableEarliestBlobSidecarSlot());
   }
 
+  @Override
+  public Optional<UInt64> getReconstructedStatesSlot() {
+    return db.get(schema.getVariableReconstructedStatesSlot());
+  }
+
   @Override
   public Map<String, Long> getColumnCounts(final Optional<String> maybeColumnFilter) {
     final Map<String, Long> columnCounts = new LinkedHashMap<>();
@@ -434,9 +466,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public long getBlobSidecarColumnCount() {
-    final KvStoreColumn<?, ?> column =
-        schema.getColumnMap().get("BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX");
-    return db.size(column);
+    return blobSidecarStorageLogic.getBlobSidecarCount(db, schema);
   }
 
   @Override
@@ -454,6 +484,16 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return stateStorageLogic.streamFinalizedStateSlots(db, schema, startSlot, endSlot);
   }
 
+  @Override
+  public long pruneUnreferencedFinalizedStateData(final long pruneLimit) {
+    return stateStorageLogic.pruneUnreferencedStateData(db, schema, pruneLimit);
+  }
+
+  @Override
+  public boolean isFinalizedStateDeletionSupported() {
+    return stateStorageLogic.isFinalizedStateDeletionSupported(db, schema);
+  }
+
   @Override
   public Optional<? extends SignedBeaconBlock> getNonCanonicalBlock(final Bytes32 root) {
     return db.get(schema.getColumnNonCanonicalBlocksByRoot(), root);
@@ -525,15 +565,19 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     private final KvStoreAccessor db;
     private final S schema;
     private final FinalizedStateUpdater<S> stateStorageUpdater;
+    private final BlobSidecarUpdater blobSidecarUpdater;
 
     V4CombinedUpdater(
+        final KvStoreTransaction transaction,
         final KvStoreAccessor db,
         final S schema,
-        final FinalizedStateUpdater<S> stateStorageUpdater) {
-      this.transaction = db.startTransaction();
+        final FinalizedStateUpdater<S> stateStorageUpdater,
+        final BlobSidecarUpdater blobSidecarUpdater) {
+      this.transaction = transaction;
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
+      this.blobSidecarUpdater = blobSidecarUpdater;
     }
 
     @Override
@@ -652,6 +696,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.put(schema.getVariableEarliestBlobSidecarSlot(), slot);
     }
 
+    @Override
+    public void setReconstructedStatesSlot(final UInt64 slot) {
+      transaction.put(schema.getVariableReconstructedStatesSlot(), slot);
+    }
+
     @Override
     public void setEarliestBlockSlot(final UInt64 slot) {
       transaction.put(schema.getVariableEarliestBlockSlot(), slot);
@@ -664,9 +713,12 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void commit() {
+      // Blob sidecars stored outside the db must be durable before the db can refer to them
+      blobSidecarUpdater.prepareCommit();
       // Commit db updates
       transaction.commit();
       stateStorageUpdater.commit();
+      blobSidecarUpdater.commit();
       close();
     }
 
@@ -678,7 +730,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void close() {
-      transaction.close();
+      try {
+        transaction.close();
+      } finally {
+        stateStorageUpdater.close();
+      }
     }
 
     @Override
@@ -731,7 +787,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void deleteFinalizedState(final UInt64 slot) {
-      stateStorageUpdater.deleteFinalizedState(transaction, schema, slot);
+      stateStorageUpdater.deleteFinalizedState(db, transaction, schema, slot);
     }
 
     @Override
@@ -765,11 +821,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void addBlobSidecar(final BlobSidecar blobSidecar) {
-      transaction.put(
-          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
-          new SlotAndBlockRootAndBlobIndex(
-              blobSidecar.getSlot(), blobSidecar.getBlockRoot(), blobSidecar.getIndex()),
-          blobSidecar.sszSerialize());
+      blobSidecarUpdater.addBlobSidecar(transaction, schema, blobSidecar);
     }
 
     @Override
@@ -792,7 +844,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void removeBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
-      transaction.delete(schema.getColumnBlobSidecarBySlotRootBlobIndex(), key);
+      blobSidecarUpdater.removeBlobSidecar(transaction, schema, key);
     }
 
     @Override
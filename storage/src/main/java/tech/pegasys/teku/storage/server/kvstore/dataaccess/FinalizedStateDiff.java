@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.common.base.MoreObjects;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+
+/**
+ * The tree nodes of a finalized state which are not present, at the same generalized index, in the
+ * previously stored state it is based on.
+ *
+ * <p>Unchanged subtrees (typically most of the validator registry) are omitted entirely, so a diff
+ * only holds changed balances, mutated validators and appended list items plus the branch nodes
+ * leading to them.
+ */
+public class FinalizedStateDiff {
+  static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+
+  private final UInt64 baseSlot;
+  private final Bytes32 stateRoot;
+  private final Map<Bytes32, CompressedBranchInfo> branchNodes;
+  private final Map<Bytes32, Bytes> leafNodes;
+
+  public FinalizedStateDiff(
+      final UInt64 baseSlot,
+      final Bytes32 stateRoot,
+      final Map<Bytes32, CompressedBranchInfo> branchNodes,
+      final Map<Bytes32, Bytes> leafNodes) {
+    this.baseSlot = baseSlot;
+    this.stateRoot = stateRoot;
+    this.branchNodes = branchNodes;
+    this.leafNodes = leafNodes;
+  }
+
+  public static FinalizedStateDiff create(final BeaconState baseState, final BeaconState state) {
+    final FinalizedStateDiffTreeNodeStore nodeStore =
+        new FinalizedStateDiffTreeNodeStore(baseState.getBackingNode());
+    state
+        .getSchema()
+        .storeBackingNodes(
+            nodeStore, MAX_BRANCH_LEVELS_SKIPPED, GIndexUtil.SELF_G_INDEX, state.getBackingNode());
+    return new FinalizedStateDiff(
+        baseState.getSlot(),
+        state.hashTreeRoot(),
+        nodeStore.getBranchNodes(),
+        nodeStore.getLeafNodes());
+  }
+
+  public BeaconState apply(
+      final BeaconState baseState, final BeaconStateSchema<?, ?> stateSchema) {
+    return stateSchema.load(
+        new FinalizedStateDiffTreeNodeSource(this, baseState.getBackingNode()),
+        stateRoot,
+        GIndexUtil.SELF_G_INDEX);
+  }
+
+  /** The slot of the stored state this diff has to be applied to. */
+  public UInt64 getBaseSlot() {
+    return baseSlot;
+  }
+
+  public Bytes32 getStateRoot() {
+    return stateRoot;
+  }
+
+  public Map<Bytes32, CompressedBranchInfo> getBranchNodes() {
+    return branchNodes;
+  }
+
+  public Map<Bytes32, Bytes> getLeafNodes() {
+    return leafNodes;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final FinalizedStateDiff that = (FinalizedStateDiff) o;
+    return Objects.equals(baseSlot, that.baseSlot)
+        && Objects.equals(stateRoot, that.stateRoot)
+        && Objects.equals(branchNodes, that.branchNodes)
+        && Objects.equals(leafNodes, that.leafNodes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(baseSlot, stateRoot, branchNodes, leafNodes);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("baseSlot", baseSlot)
+        .add("stateRoot", stateRoot)
+        .add("branchNodes", branchNodes.size())
+        .add("leafNodes", leafNodes.size())
+        .toString();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+
+/**
+ * Loads a state from a {@link FinalizedStateDiff}, reusing the base state nodes for every subtree
+ * the diff doesn't contain.
+ */
+class FinalizedStateDiffTreeNodeSource implements TreeNodeSource {
+
+  private final FinalizedStateDiff diff;
+  private final TreeNode baseNode;
+
+  FinalizedStateDiffTreeNodeSource(final FinalizedStateDiff diff, final TreeNode baseNode) {
+    this.diff = diff;
+    this.baseNode = baseNode;
+  }
+
+  @Override
+  public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
+    final CompressedBranchInfo branchInfo = diff.getBranchNodes().get(rootHash);
+    if (branchInfo == null) {
+      throw new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex);
+    }
+    return branchInfo;
+  }
+
+  @Override
+  public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+    final Bytes data = diff.getLeafNodes().get(rootHash);
+    if (data != null) {
+      return data;
+    }
+    return FinalizedStateDiffTreeNodeStore.findMatchingNode(baseNode, rootHash, gIndex)
+        .filter(node -> node instanceof LeafDataNode)
+        .map(node -> ((LeafDataNode) node).getData())
+        .orElse(rootHash);
+  }
+
+  @Override
+  public Optional<TreeNode> findExistingNode(final Bytes32 rootHash, final long gIndex) {
+    return FinalizedStateDiffTreeNodeStore.findMatchingNode(baseNode, rootHash, gIndex);
+  }
+}
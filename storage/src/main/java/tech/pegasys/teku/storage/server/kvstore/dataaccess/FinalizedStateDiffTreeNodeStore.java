@@ -0,0 +1,111 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+
+/**
+ * Collects the nodes of a state tree which differ from the base state tree at the same generalized
+ * index. Subtrees identical to the base are skipped and restored from the base when loading.
+ */
+class FinalizedStateDiffTreeNodeStore implements TreeNodeStore {
+
+  private final TreeNode baseNode;
+  private final Map<Bytes32, CompressedBranchInfo> branchNodes = new LinkedHashMap<>();
+  private final Map<Bytes32, Bytes> leafNodes = new LinkedHashMap<>();
+
+  private int skippedBranchNodes = 0;
+
+  FinalizedStateDiffTreeNodeStore(final TreeNode baseNode) {
+    this.baseNode = baseNode;
+  }
+
+  static Optional<TreeNode> findMatchingNode(
+      final TreeNode rootNode, final Bytes32 root, final long gIndex) {
+    final TreeNode node;
+    try {
+      node = rootNode.get(gIndex);
+    } catch (final IllegalArgumentException e) {
+      // The base tree has a different shape at this position
+      return Optional.empty();
+    }
+    return node.hashTreeRoot().equals(root) ? Optional.of(node) : Optional.empty();
+  }
+
+  @Override
+  public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
+    final boolean result = findMatchingNode(baseNode, root, gIndex).isPresent();
+    if (result) {
+      skippedBranchNodes++;
+    }
+    return result;
+  }
+
+  @Override
+  public void storeBranchNode(
+      final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
+    branchNodes.putIfAbsent(root, new CompressedBranchInfo(depth, children));
+  }
+
+  @Override
+  public void storeLeafNode(final TreeNode treeNode, final long gIndex) {
+    checkArgument(treeNode instanceof LeafDataNode, "Can't store a non-leaf node");
+    final LeafDataNode node = (LeafDataNode) treeNode;
+    final Bytes32 root = node.hashTreeRoot();
+    if (node.getData().size() > Bytes32.SIZE
+        && !root.isZero()
+        && findMatchingNode(baseNode, root, gIndex).isEmpty()) {
+      leafNodes.putIfAbsent(root, node.getData());
+    }
+  }
+
+  Map<Bytes32, CompressedBranchInfo> getBranchNodes() {
+    return branchNodes;
+  }
+
+  Map<Bytes32, Bytes> getLeafNodes() {
+    return leafNodes;
+  }
+
+  @Override
+  public Collection<Bytes32> getStoredBranchRoots() {
+    return branchNodes.keySet();
+  }
+
+  @Override
+  public int getStoredBranchNodeCount() {
+    return branchNodes.size();
+  }
+
+  @Override
+  public int getSkippedBranchNodeCount() {
+    return skippedBranchNodes;
+  }
+
+  @Override
+  public int getStoredLeafNodeCount() {
+    return leafNodes.size();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.MAX_BLOCK_ROOT;
+import static tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.MIN_BLOCK_ROOT;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+
+/** Stores blob sidecars in the BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX column. */
+public class KvStoreBlobSidecarStorageLogic implements BlobSidecarStorageLogic {
+
+  @Override
+  public Optional<Bytes> getBlobSidecar(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRootAndBlobIndex key) {
+    return db.get(schema.getColumnBlobSidecarBySlotRootBlobIndex(), key);
+  }
+
+  @MustBeClosed
+  @Override
+  public Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final UInt64 startSlot,
+      final UInt64 endSlot) {
+    return db.streamKeys(
+        schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+        new SlotAndBlockRootAndBlobIndex(startSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
+  }
+
+  @MustBeClosed
+  @Override
+  public Stream<Bytes> streamBlobSidecars(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    return db.stream(
+            schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+            new SlotAndBlockRootAndBlobIndex(
+                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.ZERO),
+            new SlotAndBlockRootAndBlobIndex(
+                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.MAX_VALUE))
+        .map(ColumnEntry::getValue);
+  }
+
+  @Override
+  public List<SlotAndBlockRootAndBlobIndex> getBlobSidecarKeys(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    try (final Stream<SlotAndBlockRootAndBlobIndex> streamKeys =
+        db.streamKeys(
+            schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+            new SlotAndBlockRootAndBlobIndex(
+                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.ZERO),
+            new SlotAndBlockRootAndBlobIndex(
+                slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.MAX_VALUE))) {
+      return streamKeys.toList();
+    }
+  }
+
+  @Override
+  public long getBlobSidecarCount(final KvStoreAccessor db, final SchemaCombined schema) {
+    return db.size(schema.getColumnBlobSidecarBySlotRootBlobIndex());
+  }
+
+  @Override
+  public BlobSidecarUpdater updater() {
+    return new KvStoreBlobSidecarUpdater();
+  }
+
+  private static class KvStoreBlobSidecarUpdater implements BlobSidecarUpdater {
+
+    @Override
+    public void addBlobSidecar(
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final BlobSidecar blobSidecar) {
+      transaction.put(
+          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(
+              blobSidecar.getSlot(), blobSidecar.getBlockRoot(), blobSidecar.getIndex()),
+          blobSidecar.sszSerialize());
+    }
+
+    @Override
+    public void removeBlobSidecar(
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final SlotAndBlockRootAndBlobIndex key) {
+      transaction.delete(schema.getColumnBlobSidecarBySlotRootBlobIndex(), key);
+    }
+
+    @Override
+    public void prepareCommit() {}
+
+    @Override
+    public void commit() {}
+  }
+}
@@ -47,6 +47,18 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   @MustBeClosed
   FinalizedUpdater finalizedUpdater();
 
+  /**
+   * Creates a finalized updater for bulk imports whose writes may skip the write-ahead log. Data
+   * written through it is only guaranteed to be durable after {@link #flush()}.
+   */
+  @MustBeClosed
+  default FinalizedUpdater bulkFinalizedUpdater() {
+    return finalizedUpdater();
+  }
+
+  /** Persists any data written through {@link #bulkFinalizedUpdater()}. */
+  default void flush() {}
+
   @MustBeClosed
   CombinedUpdater combinedUpdater();
 
@@ -63,6 +75,10 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
+  Optional<Bytes> getFinalizedBlockAsSsz(Bytes32 root);
+
   Optional<UInt64> getEarliestFinalizedBlockSlot();
 
   Optional<SignedBeaconBlock> getEarliestFinalizedBlock();
@@ -152,6 +168,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<UInt64> getEarliestBlobSidecarSlot();
 
+  Optional<UInt64> getReconstructedStatesSlot();
+
   Map<String, Long> getColumnCounts(final Optional<String> maybeColumnFilter);
 
   long getBlobSidecarColumnCount();
@@ -161,6 +179,10 @@ public interface KvStoreCombinedDao extends AutoCloseable {
   @MustBeClosed
   Stream<UInt64> streamFinalizedStateSlots(final UInt64 startSlot, final UInt64 endSlot);
 
+  long pruneUnreferencedFinalizedStateData(long pruneLimit);
+
+  boolean isFinalizedStateDeletionSupported();
+
   Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
 
   interface CombinedUpdater extends HotUpdater, FinalizedUpdater {}
@@ -240,6 +262,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void addReconstructedFinalizedState(final Bytes32 blockRoot, final BeaconState state);
 
+    void setReconstructedStatesSlot(final UInt64 slot);
+
     void addFinalizedStateRoot(final Bytes32 stateRoot, final UInt64 slot);
 
     void deleteFinalizedStateRoot(final Bytes32 stateRoot);
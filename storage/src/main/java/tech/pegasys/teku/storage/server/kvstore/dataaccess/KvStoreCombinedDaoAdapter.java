@@ -157,6 +157,16 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return finalizedDao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
+  @Override
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return finalizedDao.getFinalizedBlockAsSsz(root);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
@@ -244,6 +254,17 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.streamFinalizedStateSlots(startSlot, endSlot);
   }
 
+  @Override
+  public long pruneUnreferencedFinalizedStateData(final long pruneLimit) {
+    // Finalized states are stored as independent snapshots so there is no shared data to prune
+    return 0;
+  }
+
+  @Override
+  public boolean isFinalizedStateDeletionSupported() {
+    return true;
+  }
+
   @Override
   public Optional<? extends SignedBeaconBlock> getNonCanonicalBlock(final Bytes32 root) {
     return finalizedDao.getNonCanonicalBlock(root);
@@ -296,6 +317,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getEarliestBlobSidecarSlot();
   }
 
+  @Override
+  public Optional<UInt64> getReconstructedStatesSlot() {
+    return finalizedDao.getReconstructedStatesSlot();
+  }
+
   @Override
   @MustBeClosed
   public Stream<Map.Entry<Bytes32, UInt64>> getFinalizedStateRoots() {
@@ -588,6 +614,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.setEarliestBlobSidecarSlot(slot);
     }
 
+    @Override
+    public void setReconstructedStatesSlot(final UInt64 slot) {
+      finalizedUpdater.setReconstructedStatesSlot(slot);
+    }
+
     @Override
     public void setEarliestBlockSlot(final UInt64 slot) {
       finalizedUpdater.setEarliestBlockSlot(slot);
@@ -0,0 +1,95 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
+
+/**
+ * Tracks how many times each stored finalized state tree node is referenced.
+ *
+ * <p>A node is referenced once by each stored branch node that counted it as a child and once by
+ * each slot that maps to it as a state root. Nodes are only tracked once they have been counted,
+ * so nodes stored before reference counting was introduced are never released.
+ *
+ * <p>Updates are written to the transaction immediately and cached so that multiple changes to the
+ * same node within a transaction accumulate correctly.
+ */
+class KvStoreTreeNodeReferenceCounts {
+
+  private final Map<Bytes32, Optional<UInt64>> referenceCounts = new HashMap<>();
+  private final KvStoreAccessor db;
+  private final KvStoreTransaction transaction;
+  private final SchemaCombinedTreeState schema;
+
+  KvStoreTreeNodeReferenceCounts(
+      final KvStoreAccessor db,
+      final KvStoreTransaction transaction,
+      final SchemaCombinedTreeState schema) {
+    this.db = db;
+    this.transaction = transaction;
+    this.schema = schema;
+  }
+
+  boolean isTracked(final Bytes32 root) {
+    return getReferenceCount(root).isPresent();
+  }
+
+  boolean isReferenced(final Bytes32 root) {
+    return getReferenceCount(root).map(count -> !count.isZero()).orElse(false);
+  }
+
+  void addReference(final Bytes32 root) {
+    setReferenceCount(root, getReferenceCount(root).orElse(UInt64.ZERO).increment());
+  }
+
+  /**
+   * Removes a reference to the node, queueing it for deletion when no references remain.
+   *
+   * @param root the root of the referenced node
+   */
+  void removeReference(final Bytes32 root) {
+    final Optional<UInt64> referenceCount = getReferenceCount(root);
+    if (referenceCount.isEmpty() || referenceCount.get().isZero()) {
+      return;
+    }
+    final UInt64 updatedCount = referenceCount.get().decrement();
+    setReferenceCount(root, updatedCount);
+    if (updatedCount.isZero()) {
+      transaction.put(schema.getColumnFinalizedStateMerkleTreeUnreferencedNodes(), root, null);
+    }
+  }
+
+  void delete(final Bytes32 root) {
+    referenceCounts.put(root, Optional.empty());
+    transaction.delete(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), root);
+  }
+
+  private Optional<UInt64> getReferenceCount(final Bytes32 root) {
+    return referenceCounts.computeIfAbsent(
+        root, __ -> db.get(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), root));
+  }
+
+  private void setReferenceCount(final Bytes32 root, final UInt64 referenceCount) {
+    referenceCounts.put(root, Optional.of(referenceCount));
+    transaction.put(
+        schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), root, referenceCount);
+  }
+}
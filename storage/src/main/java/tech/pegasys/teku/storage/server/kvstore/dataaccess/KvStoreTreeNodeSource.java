@@ -13,32 +13,71 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
+/**
+ * Loads finalized state tree nodes from the database.
+ *
+ * <p>States loaded from this source are backed by lazy branch nodes, so only the nodes actually
+ * accessed are read. Decoded nodes are kept in caches shared by all states loaded from the same
+ * database, which are safe to share because nodes are stored by their hash tree root.
+ */
 class KvStoreTreeNodeSource implements TreeNodeSource {
 
   private final KvStoreAccessor db;
   private final SchemaCombinedTreeState schema;
+  private final Cache<Bytes32, CompressedBranchInfo> branchNodeCache;
+  private final Cache<Bytes32, Bytes> leafNodeCache;
 
   public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+    this(db, schema, NoOpCache.getNoOpCache(), NoOpCache.getNoOpCache());
+  }
+
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final Cache<Bytes32, CompressedBranchInfo> branchNodeCache,
+      final Cache<Bytes32, Bytes> leafNodeCache) {
     this.db = db;
     this.schema = schema;
+    this.branchNodeCache = branchNodeCache;
+    this.leafNodeCache = leafNodeCache;
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
-        .orElseThrow(
-            () ->
-                new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
+    final Optional<CompressedBranchInfo> cachedBranch = branchNodeCache.getCached(rootHash);
+    if (cachedBranch.isPresent()) {
+      return cachedBranch.get();
+    }
+    final CompressedBranchInfo branchInfo =
+        db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Unknown branch node: " + rootHash + " at " + gIndex));
+    branchNodeCache.invalidateWithNewValue(rootHash, branchInfo);
+    return branchInfo;
   }
 
   @Override
   public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
+    final Optional<Bytes> cachedLeaf = leafNodeCache.getCached(rootHash);
+    if (cachedLeaf.isPresent()) {
+      return cachedLeaf.get();
+    }
+    // Leaves of 32 bytes or less aren't stored, their data is the hash itself. Only stored leaves
+    // are cached so a missing entry never hides data stored later for the same root
+    final Optional<Bytes> storedLeaf =
+        db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash);
+    storedLeaf.ifPresent(data -> leafNodeCache.invalidateWithNewValue(rootHash, data));
+    return storedLeaf.orElse(rootHash);
   }
 }
@@ -15,9 +15,11 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
@@ -26,12 +28,22 @@ import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
+/**
+ * Stores finalized state tree nodes, deduplicating by root and maintaining reference counts.
+ *
+ * <p>When a new branch node is stored, every child that is itself a stored node gets a reference
+ * and the children counted are recorded so the same references can be released when the branch is
+ * deleted. Child roots which are simply leaf values are never counted, even if they happen to match
+ * the root of a stored node.
+ */
 public class KvStoreTreeNodeStore implements TreeNodeStore {
 
   private final Set<Bytes32> knownStoredBranchesCache;
   private final Set<Bytes32> newlyStoredBranches = new HashSet<>();
+  private final Set<Bytes32> storedNodes = new HashSet<>();
   private final KvStoreTransaction transaction;
   private final SchemaCombinedTreeState schema;
+  private final KvStoreTreeNodeReferenceCounts referenceCounts;
 
   private int storedBranchNodes = 0;
   private int skippedBranchNodes = 0;
@@ -40,16 +52,17 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
   public KvStoreTreeNodeStore(
       final Set<Bytes32> knownStoredBranchesCache,
       final KvStoreTransaction transaction,
-      final SchemaCombinedTreeState schema) {
+      final SchemaCombinedTreeState schema,
+      final KvStoreTreeNodeReferenceCounts referenceCounts) {
     this.knownStoredBranchesCache = knownStoredBranchesCache;
     this.transaction = transaction;
     this.schema = schema;
+    this.referenceCounts = referenceCounts;
   }
 
   @Override
   public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
-    final boolean result =
-        newlyStoredBranches.contains(root) || knownStoredBranchesCache.contains(root);
+    final boolean result = isBranchStored(root);
     if (result) {
       skippedBranchNodes++;
     }
@@ -59,14 +72,30 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
   @Override
   public void storeBranchNode(
       final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
-    if (knownStoredBranchesCache.contains(root) || !newlyStoredBranches.add(root)) {
+    if (isBranchStored(root)) {
       return;
     }
+    newlyStoredBranches.add(root);
+    storedNodes.add(root);
     storedBranchNodes++;
     transaction.put(
         schema.getColumnFinalizedStateMerkleTreeBranches(),
         root,
         new CompressedBranchInfo(depth, children));
+
+    final BitSet referencedChildren = new BitSet(children.length);
+    for (int i = 0; i < children.length; i++) {
+      if (storedNodes.contains(children[i])) {
+        referenceCounts.addReference(children[i]);
+        referencedChildren.set(i);
+      }
+    }
+    if (!referencedChildren.isEmpty()) {
+      transaction.put(
+          schema.getColumnFinalizedStateMerkleTreeReferencedChildren(),
+          root,
+          Bytes.wrap(referencedChildren.toByteArray()));
+    }
   }
 
   @Override
@@ -75,11 +104,25 @@ public class KvStoreTreeNodeStore implements TreeNodeStore {
     final LeafDataNode node = (LeafDataNode) treeNode;
     if (node.getData().size() > Bytes32.SIZE && !node.hashTreeRoot().isZero()) {
       storedLeafNodes++;
+      storedNodes.add(node.hashTreeRoot());
       transaction.put(
           schema.getColumnFinalizedStateMerkleTreeLeaves(), node.hashTreeRoot(), node.getData());
     }
   }
 
+  private boolean isBranchStored(final Bytes32 root) {
+    if (storedNodes.contains(root) || knownStoredBranchesCache.contains(root)) {
+      storedNodes.add(root);
+      return true;
+    }
+    // Branches which have been reference counted are already stored along with their children
+    if (referenceCounts.isTracked(root)) {
+      storedNodes.add(root);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public Collection<Bytes32> getStoredBranchRoots() {
     return newlyStoredBranches;
@@ -0,0 +1,164 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+import tech.pegasys.teku.storage.server.segment.BlobSidecarSegmentStore;
+
+/**
+ * Stores blob sidecars in a {@link BlobSidecarSegmentStore}. Sidecars which were stored in the db
+ * before segment files were enabled are still read from and pruned from the db.
+ */
+public class SegmentFileBlobSidecarStorageLogic implements BlobSidecarStorageLogic {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final BlobSidecarSegmentStore segmentStore;
+  private final KvStoreBlobSidecarStorageLogic kvStoreLogic = new KvStoreBlobSidecarStorageLogic();
+
+  public SegmentFileBlobSidecarStorageLogic(final BlobSidecarSegmentStore segmentStore) {
+    this.segmentStore = segmentStore;
+  }
+
+  @Override
+  public Optional<Bytes> getBlobSidecar(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRootAndBlobIndex key) {
+    return segmentStore.get(key).or(() -> kvStoreLogic.getBlobSidecar(db, schema, key));
+  }
+
+  @MustBeClosed
+  @Override
+  public Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final UInt64 startSlot,
+      final UInt64 endSlot) {
+    final List<SlotAndBlockRootAndBlobIndex> segmentKeys = segmentStore.getKeys(startSlot, endSlot);
+    final List<SlotAndBlockRootAndBlobIndex> dbKeys;
+    try (final Stream<SlotAndBlockRootAndBlobIndex> keys =
+        kvStoreLogic.streamBlobSidecarKeys(db, schema, startSlot, endSlot)) {
+      dbKeys = keys.toList();
+    }
+    if (dbKeys.isEmpty()) {
+      return segmentKeys.stream();
+    }
+    return Stream.concat(dbKeys.stream(), segmentKeys.stream()).sorted();
+  }
+
+  @MustBeClosed
+  @Override
+  public Stream<Bytes> streamBlobSidecars(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    final List<Bytes> blobSidecars = segmentStore.getBlobSidecars(slotAndBlockRoot);
+    if (blobSidecars.isEmpty()) {
+      return kvStoreLogic.streamBlobSidecars(db, schema, slotAndBlockRoot);
+    }
+    return blobSidecars.stream();
+  }
+
+  @Override
+  public List<SlotAndBlockRootAndBlobIndex> getBlobSidecarKeys(
+      final KvStoreAccessor db,
+      final SchemaCombined schema,
+      final SlotAndBlockRoot slotAndBlockRoot) {
+    final List<SlotAndBlockRootAndBlobIndex> keys = segmentStore.getKeys(slotAndBlockRoot);
+    if (keys.isEmpty()) {
+      return kvStoreLogic.getBlobSidecarKeys(db, schema, slotAndBlockRoot);
+    }
+    return keys;
+  }
+
+  @Override
+  public long getBlobSidecarCount(final KvStoreAccessor db, final SchemaCombined schema) {
+    return segmentStore.size() + kvStoreLogic.getBlobSidecarCount(db, schema);
+  }
+
+  @Override
+  public BlobSidecarUpdater updater() {
+    return new SegmentFileBlobSidecarUpdater();
+  }
+
+  @Override
+  public void close() {
+    segmentStore.close();
+  }
+
+  private class SegmentFileBlobSidecarUpdater implements BlobSidecarUpdater {
+    private final Map<SlotAndBlockRootAndBlobIndex, Bytes> additions = new LinkedHashMap<>();
+    private final Set<SlotAndBlockRootAndBlobIndex> removals = new HashSet<>();
+
+    @Override
+    public void addBlobSidecar(
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final BlobSidecar blobSidecar) {
+      final SlotAndBlockRootAndBlobIndex key =
+          new SlotAndBlockRootAndBlobIndex(
+              blobSidecar.getSlot(), blobSidecar.getBlockRoot(), blobSidecar.getIndex());
+      removals.remove(key);
+      additions.put(key, blobSidecar.sszSerialize());
+    }
+
+    @Override
+    public void removeBlobSidecar(
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final SlotAndBlockRootAndBlobIndex key) {
+      additions.remove(key);
+      if (segmentStore.contains(key)) {
+        removals.add(key);
+      } else {
+        kvStoreLogic.updater().removeBlobSidecar(transaction, schema, key);
+      }
+    }
+
+    @Override
+    public void prepareCommit() {
+      segmentStore.add(additions);
+      additions.clear();
+    }
+
+    @Override
+    public void commit() {
+      try {
+        segmentStore.remove(removals);
+      } catch (final DatabaseStorageException e) {
+        // The removed sidecars are left in place and will be removed when next pruned
+        LOG.warn("Failed to remove blob sidecars from segment files", e);
+      }
+      removals.clear();
+    }
+  }
+}
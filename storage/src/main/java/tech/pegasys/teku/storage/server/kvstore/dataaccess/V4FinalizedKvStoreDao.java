@@ -64,6 +64,15 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
+  public Optional<Bytes> getFinalizedBlockAsSsz(final Bytes32 root) {
+    return db.get(schema.getColumnSlotsByFinalizedRoot(), root)
+        .flatMap(this::getFinalizedBlockAtSlotAsSsz);
+  }
+
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.get(schema.getVariableEarliestBlockSlot())
         .or(
@@ -195,6 +204,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getVariableEarliestBlobSidecarSlot());
   }
 
+  public Optional<UInt64> getReconstructedStatesSlot() {
+    return db.get(schema.getVariableReconstructedStatesSlot());
+  }
+
   public <T> Optional<Bytes> getRawVariable(final KvStoreVariable<T> var) {
     return db.getRaw(var);
   }
@@ -415,6 +428,11 @@ public class V4FinalizedKvStoreDao {
       transaction.put(schema.getVariableEarliestBlobSidecarSlot(), slot);
     }
 
+    @Override
+    public void setReconstructedStatesSlot(final UInt64 slot) {
+      transaction.put(schema.getVariableReconstructedStatesSlot(), slot);
+    }
+
     @Override
     public void setEarliestBlockSlot(final UInt64 slot) {
       transaction.put(schema.getVariableEarliestBlockSlot(), slot);
@@ -442,6 +460,7 @@ public class V4FinalizedKvStoreDao {
     @Override
     public void close() {
       transaction.close();
+      stateStorageUpdater.close();
     }
   }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+
+/**
+ * Stores full state snapshots every {@code stateSnapshotFrequency} slots and, in between, a {@link
+ * FinalizedStateDiff} against the previously stored state every {@code stateStorageFrequency}
+ * slots.
+ *
+ * <p>States are read back by loading the nearest snapshot and applying the chain of diffs after
+ * it. A diff is only applied if it was created against the state the chain has reached, so the
+ * chain stops at the first gap (e.g. after the snapshot a diff was based on has been pruned) and
+ * the latest state that could be rebuilt is returned.
+ */
+public class V4FinalizedStateDiffStorageLogic<S extends SchemaCombinedSnapshotState>
+    implements V4FinalizedStateStorageLogic<S> {
+
+  private final Spec spec;
+  private final UInt64 stateStorageFrequency;
+  private final UInt64 stateSnapshotFrequency;
+
+  public V4FinalizedStateDiffStorageLogic(
+      final Spec spec, final long stateStorageFrequency, final long stateSnapshotFrequency) {
+    this.spec = spec;
+    this.stateStorageFrequency = UInt64.valueOf(stateStorageFrequency);
+    this.stateSnapshotFrequency = UInt64.valueOf(stateSnapshotFrequency);
+  }
+
+  @Override
+  public Optional<BeaconState> getLatestAvailableFinalizedState(
+      final KvStoreAccessor db, final S schema, final UInt64 maxSlot) {
+    final Optional<BeaconState> maybeSnapshot =
+        db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), maxSlot)
+            .map(ColumnEntry::getValue);
+    if (maybeSnapshot.isEmpty() || maybeSnapshot.get().getSlot().equals(maxSlot)) {
+      return maybeSnapshot;
+    }
+    BeaconState state = maybeSnapshot.get();
+    try (final Stream<ColumnEntry<UInt64, FinalizedStateDiff>> diffs =
+        db.stream(
+            schema.getColumnFinalizedStateDiffsBySlot(), state.getSlot().increment(), maxSlot)) {
+      final Iterator<ColumnEntry<UInt64, FinalizedStateDiff>> iterator = diffs.iterator();
+      while (iterator.hasNext()) {
+        final ColumnEntry<UInt64, FinalizedStateDiff> entry = iterator.next();
+        final FinalizedStateDiff diff = entry.getValue();
+        if (!diff.getBaseSlot().equals(state.getSlot())) {
+          break;
+        }
+        state =
+            diff.apply(
+                state, spec.atSlot(entry.getKey()).getSchemaDefinitions().getBeaconStateSchema());
+      }
+    }
+    return Optional.of(state);
+  }
+
+  @Override
+  public Optional<UInt64> getEarliestAvailableFinalizedStateSlot(
+      final KvStoreAccessor db, final S schema) {
+    return db.getFirstEntry(schema.getColumnFinalizedStatesBySlot()).map(ColumnEntry::getKey);
+  }
+
+  @Override
+  public FinalizedStateUpdater<S> updater() {
+    return new FinalizedStateDiffUpdater();
+  }
+
+  @Override
+  @MustBeClosed
+  public Stream<UInt64> streamFinalizedStateSlots(
+      final KvStoreAccessor db, final S schema, final UInt64 startSlot, final UInt64 endSlot) {
+    final List<UInt64> slots = new ArrayList<>();
+    try (final Stream<UInt64> snapshotSlots =
+        db.streamKeys(schema.getColumnFinalizedStatesBySlot(), startSlot, endSlot)) {
+      snapshotSlots.forEach(slots::add);
+    }
+    try (final Stream<UInt64> diffSlots =
+        db.streamKeys(schema.getColumnFinalizedStateDiffsBySlot(), startSlot, endSlot)) {
+      diffSlots.forEach(slots::add);
+    }
+    return slots.stream().sorted();
+  }
+
+  private class FinalizedStateDiffUpdater implements FinalizedStateUpdater<S> {
+
+    private Optional<BeaconState> lastStoredState = Optional.empty();
+    private Optional<UInt64> lastSnapshotSlot = Optional.empty();
+    private boolean loadedLastStoredState = false;
+
+    private Optional<BeaconState> lastReconstructedState = Optional.empty();
+    private Optional<UInt64> lastReconstructedSnapshotSlot = Optional.empty();
+    private boolean loadedLastReconstructedState = false;
+
+    @Override
+    public void addFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      if (!loadedLastStoredState) {
+        lastStoredState = getLatestAvailableFinalizedState(db, schema, UInt64.MAX_VALUE);
+        lastSnapshotSlot = db.getLastKey(schema.getColumnFinalizedStatesBySlot());
+        loadedLastStoredState = true;
+      }
+      if (isTooCloseToPreviousState(lastStoredState, state)) {
+        return;
+      }
+      lastSnapshotSlot = storeState(transaction, schema, lastStoredState, lastSnapshotSlot, state);
+      lastStoredState = Optional.of(state);
+    }
+
+    @Override
+    public void addReconstructedFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final BeaconState state) {
+      if (!loadedLastReconstructedState) {
+        lastReconstructedState = getLatestAvailableFinalizedState(db, schema, state.getSlot());
+        lastReconstructedSnapshotSlot =
+            db.getFloorEntry(schema.getColumnFinalizedStatesBySlot(), state.getSlot())
+                .map(ColumnEntry::getKey);
+        loadedLastReconstructedState = true;
+      }
+      if (isTooCloseToPreviousState(lastReconstructedState, state)) {
+        return;
+      }
+      lastReconstructedSnapshotSlot =
+          storeState(
+              transaction, schema, lastReconstructedState, lastReconstructedSnapshotSlot, state);
+      lastReconstructedState = Optional.of(state);
+    }
+
+    @Override
+    public void deleteFinalizedState(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final S schema,
+        final UInt64 slot) {
+      transaction.delete(schema.getColumnFinalizedStatesBySlot(), slot);
+      transaction.delete(schema.getColumnFinalizedStateDiffsBySlot(), slot);
+    }
+
+    @Override
+    public void commit() {}
+
+    private boolean isTooCloseToPreviousState(
+        final Optional<BeaconState> previousState, final BeaconState state) {
+      return previousState.isPresent()
+          && state.getSlot().isLessThan(previousState.get().getSlot().plus(stateStorageFrequency));
+    }
+
+    /**
+     * Stores the state as a snapshot or a diff against the base state.
+     *
+     * @return the slot of the latest snapshot after storing the state
+     */
+    private Optional<UInt64> storeState(
+        final KvStoreTransaction transaction,
+        final S schema,
+        final Optional<BeaconState> baseState,
+        final Optional<UInt64> snapshotSlot,
+        final BeaconState state) {
+      if (requiresSnapshot(baseState, snapshotSlot, state)) {
+        transaction.put(schema.getColumnFinalizedStatesBySlot(), state.getSlot(), state);
+        return Optional.of(state.getSlot());
+      }
+      transaction.put(
+          schema.getColumnFinalizedStateDiffsBySlot(),
+          state.getSlot(),
+          FinalizedStateDiff.create(baseState.orElseThrow(), state));
+      return snapshotSlot;
+    }
+
+    private boolean requiresSnapshot(
+        final Optional<BeaconState> baseState,
+        final Optional<UInt64> snapshotSlot,
+        final BeaconState state) {
+      if (baseState.isEmpty() || snapshotSlot.isEmpty()) {
+        return true;
+      }
+      // Diffs rely on both states sharing the same tree shape so always start a new chain at forks
+      return state.getSlot().isGreaterThanOrEqualTo(snapshotSlot.get().plus(stateSnapshotFrequency))
+          || !spec.atSlot(state.getSlot())
+              .getMilestone()
+              .equals(spec.atSlot(baseState.get().getSlot()).getMilestone());
+    }
+  }
+}
@@ -33,6 +33,29 @@ public interface V4FinalizedStateStorageLogic<S> {
   Stream<UInt64> streamFinalizedStateSlots(
       KvStoreAccessor db, final S schema, UInt64 startSlot, UInt64 endSlot);
 
+  /**
+   * Deletes stored state data which is no longer referenced by any finalized state.
+   *
+   * @param db the database to prune
+   * @param schema the database schema
+   * @param pruneLimit the maximum number of entries to process
+   * @return the number of entries deleted
+   */
+  default long pruneUnreferencedStateData(
+      final KvStoreAccessor db, final S schema, final long pruneLimit) {
+    return 0;
+  }
+
+  /**
+   * Returns false if finalized states stored in {@code db} can't be safely deleted.
+   *
+   * @param db the database to check
+   * @param schema the database schema
+   */
+  default boolean isFinalizedStateDeletionSupported(final KvStoreAccessor db, final S schema) {
+    return true;
+  }
+
   interface FinalizedStateUpdater<S> {
     void addFinalizedState(
         KvStoreAccessor db, KvStoreTransaction transaction, S schema, BeaconState state);
@@ -40,8 +63,12 @@ public interface V4FinalizedStateStorageLogic<S> {
     void addReconstructedFinalizedState(
         KvStoreAccessor db, KvStoreTransaction transaction, S schema, BeaconState state);
 
-    void deleteFinalizedState(KvStoreTransaction transaction, S schema, UInt64 slot);
+    void deleteFinalizedState(
+        KvStoreAccessor db, KvStoreTransaction transaction, S schema, UInt64 slot);
 
     void commit();
+
+    /** Releases any resources held by the updater, whether or not it was committed. */
+    default void close() {}
   }
 }
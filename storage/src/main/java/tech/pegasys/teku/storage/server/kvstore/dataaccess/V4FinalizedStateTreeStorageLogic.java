@@ -14,17 +14,26 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
-import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -33,14 +42,36 @@ import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
+/**
+ * Stores finalized states as deduplicated Merkle tree nodes.
+ *
+ * <p>Nodes are reference counted so that deleting a finalized state releases the nodes no other
+ * state uses. Released nodes are queued and deleted incrementally by {@link
+ * #pruneUnreferencedStateData(KvStoreAccessor, SchemaCombinedTreeState, long)}, which cascades to
+ * their children as they become unreferenced. Updaters which modify finalized states hold a lock
+ * until they are closed so that nodes are never deleted while a new state may be referencing them.
+ *
+ * <p>Loaded states are lazy, only reading the nodes that are accessed. Loaded nodes are kept in
+ * bounded caches shared across all loaded states so repeated queries against finalized states
+ * don't go back to the database.
+ */
 public class V4FinalizedStateTreeStorageLogic
     implements V4FinalizedStateStorageLogic<SchemaCombinedTreeState> {
   private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+  private static final int UNREFERENCED_NODE_BATCH_SIZE = 1000;
+  static final int LOADED_BRANCH_NODE_CACHE_SIZE = 10_000;
+  static final int LOADED_LEAF_NODE_CACHE_SIZE = 50_000;
   private final LabelledMetric<Counter> branchNodeStoredCounter;
   private final Counter statesStoredCounter;
   private final Set<Bytes32> knownStoredBranchesCache;
   private final Spec spec;
+  private final Cache<Bytes32, CompressedBranchInfo> loadedBranchNodeCache =
+      LRUCache.create(LOADED_BRANCH_NODE_CACHE_SIZE);
+  private final Cache<Bytes32, Bytes> loadedLeafNodeCache =
+      LRUCache.create(LOADED_LEAF_NODE_CACHE_SIZE);
   private final Counter leafNodeStoredCounter;
+  private final Counter nodesPrunedCounter;
+  private final ReentrantLock nodeLock = new ReentrantLock();
 
   public V4FinalizedStateTreeStorageLogic(
       final MetricsSystem metricsSystem, final Spec spec, final int maxKnownNodeCacheSize) {
@@ -62,6 +93,11 @@ public class V4FinalizedStateTreeStorageLogic
             TekuMetricCategory.STORAGE_FINALIZED_DB,
             "states_stored_total",
             "Number of finalized states stored");
+    nodesPrunedCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE_FINALIZED_DB,
+            "state_tree_nodes_pruned_total",
+            "Number of unreferenced finalized state tree nodes deleted");
   }
 
   @Override
@@ -74,11 +110,16 @@ public class V4FinalizedStateTreeStorageLogic
                     .getSchemaDefinitions()
                     .getBeaconStateSchema()
                     .load(
-                        new KvStoreTreeNodeSource(db, dbSchema),
+                        createNodeSource(db, dbSchema),
                         entry.getValue(),
                         GIndexUtil.SELF_G_INDEX));
   }
 
+  KvStoreTreeNodeSource createNodeSource(
+      final KvStoreAccessor db, final SchemaCombinedTreeState dbSchema) {
+    return new KvStoreTreeNodeSource(db, dbSchema, loadedBranchNodeCache, loadedLeafNodeCache);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableFinalizedStateSlot(
       final KvStoreAccessor db, final SchemaCombinedTreeState dbSchema) {
@@ -88,6 +129,7 @@ public class V4FinalizedStateTreeStorageLogic
   @Override
   public FinalizedStateUpdater<SchemaCombinedTreeState> updater() {
     return new StateTreeUpdater(
+        nodeLock,
         knownStoredBranchesCache,
         branchNodeStoredCounter,
         statesStoredCounter,
@@ -105,20 +147,118 @@ public class V4FinalizedStateTreeStorageLogic
         .map(ColumnEntry::getKey);
   }
 
+  @Override
+  public long pruneUnreferencedStateData(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema, final long pruneLimit) {
+    long processedNodes = 0;
+    long prunedNodes = 0;
+    while (processedNodes < pruneLimit) {
+      final List<Bytes32> unreferencedNodes;
+      try (final Stream<Bytes32> stream =
+          db.streamKeys(schema.getColumnFinalizedStateMerkleTreeUnreferencedNodes())) {
+        final long batchSize = Math.min(pruneLimit - processedNodes, UNREFERENCED_NODE_BATCH_SIZE);
+        unreferencedNodes = stream.limit(batchSize).toList();
+      }
+      if (unreferencedNodes.isEmpty()) {
+        break;
+      }
+      processedNodes += unreferencedNodes.size();
+      prunedNodes += deleteUnreferencedNodes(db, schema, unreferencedNodes);
+    }
+    nodesPrunedCounter.inc(prunedNodes);
+    return prunedNodes;
+  }
+
+  private int deleteUnreferencedNodes(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final List<Bytes32> unreferencedNodes) {
+    final List<Bytes32> deletedNodes = new ArrayList<>();
+    nodeLock.lock();
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final KvStoreTreeNodeReferenceCounts referenceCounts =
+          new KvStoreTreeNodeReferenceCounts(db, transaction, schema);
+      for (final Bytes32 root : unreferencedNodes) {
+        transaction.delete(schema.getColumnFinalizedStateMerkleTreeUnreferencedNodes(), root);
+        if (referenceCounts.isReferenced(root)) {
+          // Reused by a state stored after it became unreferenced
+          continue;
+        }
+        releaseReferencedChildren(db, schema, referenceCounts, root);
+        transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+        transaction.delete(schema.getColumnFinalizedStateMerkleTreeReferencedChildren(), root);
+        transaction.delete(schema.getColumnFinalizedStateMerkleTreeLeaves(), root);
+        referenceCounts.delete(root);
+        deletedNodes.add(root);
+      }
+      transaction.commit();
+      deletedNodes.forEach(
+          root -> {
+            knownStoredBranchesCache.remove(root);
+            loadedBranchNodeCache.invalidate(root);
+            loadedLeafNodeCache.invalidate(root);
+          });
+    } finally {
+      nodeLock.unlock();
+    }
+    return deletedNodes.size();
+  }
+
+  private void releaseReferencedChildren(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final KvStoreTreeNodeReferenceCounts referenceCounts,
+      final Bytes32 root) {
+    final Optional<Bytes> referencedChildren =
+        db.get(schema.getColumnFinalizedStateMerkleTreeReferencedChildren(), root);
+    final Optional<CompressedBranchInfo> branch =
+        db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+    if (referencedChildren.isEmpty() || branch.isEmpty()) {
+      return;
+    }
+    final Bytes32[] children = branch.get().getChildren();
+    final BitSet referencedChildIndices = BitSet.valueOf(referencedChildren.get().toArrayUnsafe());
+    referencedChildIndices.stream()
+        .filter(childIndex -> childIndex < children.length)
+        .forEach(childIndex -> referenceCounts.removeReference(children[childIndex]));
+  }
+
+  /**
+   * Nodes stored before reference counting was introduced have no reference counts, so it is not
+   * safe to release any nodes while states stored by earlier versions remain. The state pruner is
+   * not enabled for such databases.
+   */
+  @Override
+  public boolean isFinalizedStateDeletionSupported(
+      final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+    return db.getFirstEntry(schema.getColumnFinalizedStateRootsBySlot())
+        .map(
+            entry ->
+                db.get(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), entry.getValue())
+                    .isPresent())
+        .orElse(true);
+  }
+
   private static class StateTreeUpdater implements FinalizedStateUpdater<SchemaCombinedTreeState> {
 
+    private final ReentrantLock nodeLock;
     private final Set<Bytes32> knownStoredBranchesCache;
     private final LabelledMetric<Counter> branchNodeStoredCounter;
     private final Counter statesStoredCounter;
     private final Counter leafNodeStoredCounter;
-    private TreeNodeStore nodeStore;
+    private final Map<UInt64, Optional<Bytes32>> updatedStateRoots = new HashMap<>();
+    private KvStoreTreeNodeReferenceCounts referenceCounts;
+    private KvStoreTreeNodeStore nodeStore;
+    private boolean lockHeld = false;
     private int statesStored = 0;
 
     private StateTreeUpdater(
+        final ReentrantLock nodeLock,
         final Set<Bytes32> knownStoredBranchesCache,
         final LabelledMetric<Counter> branchNodeStoredCounter,
         final Counter statesStoredCounter,
         final Counter leafNodeStoredCounter) {
+      this.nodeLock = nodeLock;
       this.knownStoredBranchesCache = knownStoredBranchesCache;
       this.branchNodeStoredCounter = branchNodeStoredCounter;
       this.statesStoredCounter = statesStoredCounter;
@@ -131,11 +271,14 @@ public class V4FinalizedStateTreeStorageLogic
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final BeaconState state) {
-      if (nodeStore == null) {
-        nodeStore = new KvStoreTreeNodeStore(knownStoredBranchesCache, transaction, schema);
+      init(db, transaction, schema);
+      final Bytes32 stateRoot = state.hashTreeRoot();
+      final Optional<Bytes32> previousStateRoot = getStateRoot(db, schema, state.getSlot());
+      if (previousStateRoot.isPresent() && previousStateRoot.get().equals(stateRoot)) {
+        return;
       }
-      transaction.put(
-          schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), state.hashTreeRoot());
+      transaction.put(schema.getColumnFinalizedStateRootsBySlot(), state.getSlot(), stateRoot);
+      updatedStateRoots.put(state.getSlot(), Optional.of(stateRoot));
       state
           .getSchema()
           .storeBackingNodes(
@@ -143,6 +286,8 @@ public class V4FinalizedStateTreeStorageLogic
               MAX_BRANCH_LEVELS_SKIPPED,
               GIndexUtil.SELF_G_INDEX,
               state.getBackingNode());
+      referenceCounts.addReference(stateRoot);
+      previousStateRoot.ifPresent(referenceCounts::removeReference);
       statesStored++;
     }
 
@@ -157,10 +302,15 @@ public class V4FinalizedStateTreeStorageLogic
 
     @Override
     public void deleteFinalizedState(
+        final KvStoreAccessor db,
         final KvStoreTransaction transaction,
         final SchemaCombinedTreeState schema,
         final UInt64 slot) {
-      throw new RuntimeException("Tree mode does not support deleting finalized states");
+      init(db, transaction, schema);
+      final Optional<Bytes32> stateRoot = getStateRoot(db, schema, slot);
+      transaction.delete(schema.getColumnFinalizedStateRootsBySlot(), slot);
+      updatedStateRoots.put(slot, Optional.empty());
+      stateRoot.ifPresent(referenceCounts::removeReference);
     }
 
     @Override
@@ -173,5 +323,35 @@ public class V4FinalizedStateTreeStorageLogic
         statesStoredCounter.inc(statesStored);
       }
     }
+
+    @Override
+    public void close() {
+      if (lockHeld) {
+        lockHeld = false;
+        nodeLock.unlock();
+      }
+    }
+
+    private void init(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombinedTreeState schema) {
+      if (!lockHeld) {
+        nodeLock.lock();
+        lockHeld = true;
+      }
+      if (nodeStore == null) {
+        referenceCounts = new KvStoreTreeNodeReferenceCounts(db, transaction, schema);
+        nodeStore =
+            new KvStoreTreeNodeStore(
+                knownStoredBranchesCache, transaction, schema, referenceCounts);
+      }
+    }
+
+    private Optional<Bytes32> getStateRoot(
+        final KvStoreAccessor db, final SchemaCombinedTreeState schema, final UInt64 slot) {
+      return updatedStateRoots.computeIfAbsent(
+          slot, __ -> db.get(schema.getColumnFinalizedStateRootsBySlot(), slot));
+    }
   }
 }
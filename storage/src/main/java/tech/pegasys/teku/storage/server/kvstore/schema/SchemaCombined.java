@@ -85,6 +85,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<UInt64> getVariableEarliestBlockSlot();
 
+  KvStoreVariable<UInt64> getVariableReconstructedStatesSlot();
+
   KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
 
   Map<String, KvStoreColumn<?, ?>> getColumnMap();
@@ -15,9 +15,13 @@ package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import java.util.Collection;
 import java.util.Map;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.FinalizedStateDiff;
 
 public interface SchemaCombinedSnapshotState extends SchemaCombined, SchemaFinalizedSnapshotState {
 
+  KvStoreColumn<UInt64, FinalizedStateDiff> getColumnFinalizedStateDiffsBySlot();
+
   @Override
   Map<String, KvStoreColumn<?, ?>> getColumnMap();
 
@@ -43,4 +43,10 @@ public interface SchemaCombinedTreeState extends SchemaCombined {
   KvStoreColumn<Bytes32, Bytes> getColumnFinalizedStateMerkleTreeLeaves();
 
   KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnFinalizedStateMerkleTreeBranches();
+
+  KvStoreColumn<Bytes32, UInt64> getColumnFinalizedStateMerkleTreeReferenceCounts();
+
+  KvStoreColumn<Bytes32, Bytes> getColumnFinalizedStateMerkleTreeReferencedChildren();
+
+  KvStoreColumn<Bytes32, Void> getColumnFinalizedStateMerkleTreeUnreferencedNodes();
 }
@@ -23,6 +23,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.FinalizedStateDiff;
 
 public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnapshotState {
 
@@ -39,6 +40,10 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
     return snapshotDelegate.getColumnFinalizedStatesBySlot();
   }
 
+  public KvStoreColumn<UInt64, FinalizedStateDiff> getColumnFinalizedStateDiffsBySlot() {
+    return snapshotDelegate.getColumnFinalizedStateDiffsBySlot();
+  }
+
   public KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
       getColumnBlobSidecarBySlotRootBlobIndex() {
     return delegate.getColumnBlobSidecarBySlotRootBlobIndex();
@@ -54,6 +59,7 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
+        .put("FINALIZED_STATE_DIFFS_BY_SLOT", getColumnFinalizedStateDiffsBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
@@ -110,6 +116,10 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
     return delegate.getVariableEarliestBlockSlot();
   }
 
+  public KvStoreVariable<UInt64> getVariableReconstructedStatesSlot() {
+    return delegate.getVariableReconstructedStatesSlot();
+  }
+
   public Map<String, KvStoreVariable<?>> getVariableMap() {
     return Map.of(
         "OPTIMISTIC_TRANSITION_BLOCK_SLOT",
@@ -117,6 +127,8 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
         "EARLIEST_BLOB_SIDECAR_SLOT",
         getVariableEarliestBlobSidecarSlot(),
         "EARLIEST_BLOCK_SLOT_AVAILABLE",
-        getVariableEarliestBlockSlot());
+        getVariableEarliestBlockSlot(),
+        "RECONSTRUCTED_STATES_SLOT",
+        getVariableReconstructedStatesSlot());
   }
 }
@@ -85,6 +85,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private final KvStoreVariable<UInt64> optimisticTransitionBlockSlot;
   private final KvStoreVariable<UInt64> earliestBlobSidecarSlot;
   private final KvStoreVariable<UInt64> earliestBlockSlot;
+  private final KvStoreVariable<UInt64> reconstructedStatesSlot;
 
   protected V6SchemaCombined(final Spec spec, final int finalizedOffset) {
     this.finalizedOffset = finalizedOffset;
@@ -102,6 +103,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     optimisticTransitionBlockSlot = KvStoreVariable.create(finalizedOffset + 1, UINT64_SERIALIZER);
     earliestBlobSidecarSlot = KvStoreVariable.create(finalizedOffset + 2, UINT64_SERIALIZER);
     earliestBlockSlot = KvStoreVariable.create(finalizedOffset + 3, UINT64_SERIALIZER);
+    reconstructedStatesSlot = KvStoreVariable.create(finalizedOffset + 4, UINT64_SERIALIZER);
   }
 
   @Override
@@ -199,6 +201,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return earliestBlockSlot;
   }
 
+  @Override
+  public KvStoreVariable<UInt64> getVariableReconstructedStatesSlot() {
+    return reconstructedStatesSlot;
+  }
+
   @Override
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return ImmutableMap.<String, KvStoreColumn<?, ?>>builder()
@@ -235,6 +242,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot())
         .put("EARLIEST_BLOB_SIDECAR_SLOT", getVariableEarliestBlobSidecarSlot())
         .put("EARLIEST_BLOCK_SLOT_AVAILABLE", getVariableEarliestBlockSlot())
+        .put("RECONSTRUCTED_STATES_SLOT", getVariableReconstructedStatesSlot())
         .build();
   }
 }
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asCo
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.FINALIZED_STATE_DIFF_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 
@@ -32,6 +33,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.FinalizedStateDiff;
 import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public class V6SchemaCombinedSnapshot extends V6SchemaCombined
@@ -43,6 +45,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private final KvStoreColumn<Bytes32, UInt64> slotsByFinalizedStateRoot;
   private final KvStoreColumn<UInt64, Set<Bytes32>> nonCanonicalBlockRootsBySlot;
   private final KvStoreColumn<UInt64, BeaconState> finalizedStatesBySlot;
+  private final KvStoreColumn<UInt64, FinalizedStateDiff> finalizedStateDiffsBySlot;
 
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecarBySlotRootBlobIndex;
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
@@ -82,6 +85,10 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
             BYTES_SERIALIZER);
 
+    finalizedStateDiffsBySlot =
+        KvStoreColumn.create(
+            finalizedOffset + 14, UINT64_SERIALIZER, FINALIZED_STATE_DIFF_SERIALIZER);
+
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 7),
@@ -104,6 +111,11 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
     return finalizedStatesBySlot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, FinalizedStateDiff> getColumnFinalizedStateDiffsBySlot() {
+    return finalizedStateDiffsBySlot;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot() {
     return slotsByFinalizedRoot;
@@ -154,6 +166,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
+        .put("FINALIZED_STATE_DIFFS_BY_SLOT", getColumnFinalizedStateDiffsBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
@@ -20,6 +20,7 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.VOID_SERIALIZER;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collection;
@@ -45,6 +46,9 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
   private final KvStoreColumn<UInt64, Bytes32> finalizedStateRootsBySlot;
   private final KvStoreColumn<Bytes32, Bytes> finalizedStateTreeLeavesByRoot;
   private final KvStoreColumn<Bytes32, CompressedBranchInfo> finalizedStateTreeBranchesByRoot;
+  private final KvStoreColumn<Bytes32, UInt64> finalizedStateTreeReferenceCountsByRoot;
+  private final KvStoreColumn<Bytes32, Bytes> finalizedStateTreeReferencedChildrenByRoot;
+  private final KvStoreColumn<Bytes32, Void> finalizedStateTreeUnreferencedNodes;
 
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecarBySlotRootBlobIndex;
   private final KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
@@ -88,6 +92,12 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
             finalizedOffset + 15,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
             BYTES_SERIALIZER);
+    finalizedStateTreeReferenceCountsByRoot =
+        KvStoreColumn.create(finalizedOffset + 16, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+    finalizedStateTreeReferencedChildrenByRoot =
+        KvStoreColumn.create(finalizedOffset + 17, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+    finalizedStateTreeUnreferencedNodes =
+        KvStoreColumn.create(finalizedOffset + 18, BYTES32_SERIALIZER, VOID_SERIALIZER);
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 9),
@@ -112,6 +122,21 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
     return finalizedStateTreeBranchesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<Bytes32, UInt64> getColumnFinalizedStateMerkleTreeReferenceCounts() {
+    return finalizedStateTreeReferenceCountsByRoot;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, Bytes> getColumnFinalizedStateMerkleTreeReferencedChildren() {
+    return finalizedStateTreeReferencedChildrenByRoot;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, Void> getColumnFinalizedStateMerkleTreeUnreferencedNodes() {
+    return finalizedStateTreeUnreferencedNodes;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot() {
     return slotsByFinalizedRoot;
@@ -164,6 +189,7 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot())
         .put("EARLIEST_BLOB_SIDECAR_SLOT", getVariableEarliestBlobSidecarSlot())
         .put("EARLIEST_BLOCK_SLOT", getVariableEarliestBlockSlot())
+        .put("RECONSTRUCTED_STATES_SLOT", getVariableReconstructedStatesSlot())
         .build();
   }
 
@@ -182,6 +208,15 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("FINALIZED_STATE_ROOTS_BY_SLOT", getColumnFinalizedStateRootsBySlot())
         .put("FINALIZED_STATE_TREE_LEAVES", getColumnFinalizedStateMerkleTreeLeaves())
         .put("FINALIZED_STATE_TREE_BRANCHES", getColumnFinalizedStateMerkleTreeBranches())
+        .put(
+            "FINALIZED_STATE_TREE_REFERENCE_COUNTS",
+            getColumnFinalizedStateMerkleTreeReferenceCounts())
+        .put(
+            "FINALIZED_STATE_TREE_REFERENCED_CHILDREN",
+            getColumnFinalizedStateMerkleTreeReferencedChildren())
+        .put(
+            "FINALIZED_STATE_TREE_UNREFERENCED_NODES",
+            getColumnFinalizedStateMerkleTreeUnreferencedNodes())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
         .put("NON_CANONICAL_BLOCKS_BY_ROOT", getColumnNonCanonicalBlocksByRoot())
         .put("NON_CANONICAL_BLOCK_ROOTS_BY_SLOT", getColumnNonCanonicalRootsBySlot())
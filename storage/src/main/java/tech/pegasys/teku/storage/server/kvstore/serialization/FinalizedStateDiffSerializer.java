@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.FinalizedStateDiff;
+
+class FinalizedStateDiffSerializer implements KvStoreSerializer<FinalizedStateDiff> {
+
+  @Override
+  public FinalizedStateDiff deserialize(final byte[] data) {
+    return SSZ.decode(
+        Bytes.wrap(data),
+        reader -> {
+          final UInt64 baseSlot = UInt64.fromLongBits(reader.readUInt64());
+          final Bytes32 stateRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+
+          final int branchCount = Math.toIntExact(reader.readUInt32());
+          final Map<Bytes32, CompressedBranchInfo> branchNodes = new LinkedHashMap<>();
+          for (int i = 0; i < branchCount; i++) {
+            final Bytes32 root = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final int depth = Math.toIntExact(reader.readUInt32());
+            final Bytes32[] children = new Bytes32[Math.toIntExact(reader.readUInt32())];
+            for (int j = 0; j < children.length; j++) {
+              children[j] = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            }
+            branchNodes.put(root, new CompressedBranchInfo(depth, children));
+          }
+
+          final int leafCount = Math.toIntExact(reader.readUInt32());
+          final Map<Bytes32, Bytes> leafNodes = new LinkedHashMap<>();
+          for (int i = 0; i < leafCount; i++) {
+            final Bytes32 root = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            leafNodes.put(root, reader.readBytes());
+          }
+          return new FinalizedStateDiff(baseSlot, stateRoot, branchNodes, leafNodes);
+        });
+  }
+
+  @Override
+  public byte[] serialize(final FinalizedStateDiff value) {
+    return SSZ.encode(
+            writer -> {
+              writer.writeUInt64(value.getBaseSlot().longValue());
+              writer.writeFixedBytes(value.getStateRoot());
+
+              writer.writeUInt32(value.getBranchNodes().size());
+              value
+                  .getBranchNodes()
+                  .forEach(
+                      (root, branchInfo) -> {
+                        writer.writeFixedBytes(root);
+                        writer.writeUInt32(branchInfo.getDepth());
+                        writer.writeUInt32(branchInfo.getChildren().length);
+                        for (Bytes32 child : branchInfo.getChildren()) {
+                          writer.writeFixedBytes(child);
+                        }
+                      });
+
+              writer.writeUInt32(value.getLeafNodes().size());
+              value
+                  .getLeafNodes()
+                  .forEach(
+                      (root, leafData) -> {
+                        writer.writeFixedBytes(root);
+                        writer.writeBytes(leafData);
+                      });
+            })
+        .toArrayUnsafe();
+  }
+}
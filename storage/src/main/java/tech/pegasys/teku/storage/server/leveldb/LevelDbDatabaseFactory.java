@@ -24,6 +24,7 @@ import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.BlobSidecarStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
@@ -67,15 +68,34 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final long stateSnapshotFrequency,
       final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
       final Spec spec) {
     final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
     final KvStoreAccessor db =
         LevelDbInstanceFactory.create(
             metricsSystem, STORAGE, hotConfiguration, schema.getAllColumns());
 
+    if (stateSnapshotFrequency > 0) {
+      return KvStoreDatabase.createWithStateDiffs(
+          db,
+          schema,
+          stateStorageMode,
+          stateStorageFrequency,
+          stateSnapshotFrequency,
+          storeNonCanonicalBlocks,
+          blobSidecarStorageLogic,
+          spec);
+    }
     return KvStoreDatabase.createWithStateSnapshots(
-        db, schema, stateStorageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+        db,
+        schema,
+        stateStorageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        blobSidecarStorageLogic,
+        spec);
   }
 
   public static Database createLevelDbTree(
@@ -83,6 +103,7 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
 
@@ -96,6 +117,7 @@ public class LevelDbDatabaseFactory {
         schema,
         stateStorageMode,
         storeNonCanonicalBlocks,
+        blobSidecarStorageLogic,
         maxKnownNodeCacheSize,
         spec);
   }
@@ -65,6 +65,9 @@ public class NoOpDatabase implements Database {
   @Override
   public void storeReconstructedFinalizedState(final BeaconState state, final Bytes32 blockRoot) {}
 
+  @Override
+  public void storeReconstructedStatesSlot(final UInt64 slot) {}
+
   @Override
   public void updateWeakSubjectivityState(final WeakSubjectivityUpdate weakSubjectivityUpdate) {}
 
@@ -98,6 +101,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return Optional.empty();
@@ -133,6 +141,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getSignedBlockAsSsz(final Bytes32 root) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
     return Optional.empty();
@@ -239,6 +252,11 @@ public class NoOpDatabase implements Database {
     return Optional.of(lastSlotToPruneStateFor);
   }
 
+  @Override
+  public boolean isFinalizedStatePruningSupported() {
+    return true;
+  }
+
   @Override
   public void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {}
 
@@ -295,6 +313,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return Optional.empty();
+  }
+
   @Override
   public Stream<SlotAndBlockRootAndBlobIndex> streamBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot) {
@@ -323,6 +346,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<UInt64> getReconstructedStatesSlot() {
+    return Optional.empty();
+  }
+
   @Override
   public boolean pruneOldestBlobSidecars(
       final UInt64 lastSlotToPrune,
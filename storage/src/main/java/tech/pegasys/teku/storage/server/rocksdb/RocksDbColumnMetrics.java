@@ -0,0 +1,53 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+
+/** Tracks the point lookup hit rate of each column. */
+class RocksDbColumnMetrics {
+  private final Map<KvStoreColumn<?, ?>, Counter> hitCounters = new HashMap<>();
+  private final Map<KvStoreColumn<?, ?>, Counter> missCounters = new HashMap<>();
+
+  RocksDbColumnMetrics(
+      final MetricsSystem metricsSystem,
+      final MetricCategory metricCategory,
+      final Map<String, KvStoreColumn<?, ?>> columns) {
+    final LabelledMetric<Counter> getCounter =
+        metricsSystem.createLabelledCounter(
+            metricCategory,
+            "column_get_total",
+            "Total number of point lookups by column and whether the key was found",
+            "column",
+            "result");
+    columns.forEach(
+        (name, column) -> {
+          hitCounters.put(column, getCounter.labels(name, "hit"));
+          missCounters.put(column, getCounter.labels(name, "miss"));
+        });
+  }
+
+  void recordGet(final KvStoreColumn<?, ?> column, final boolean found) {
+    final Counter counter = found ? hitCounters.get(column) : missCounters.get(column);
+    if (counter != null) {
+      counter.inc();
+    }
+  }
+}
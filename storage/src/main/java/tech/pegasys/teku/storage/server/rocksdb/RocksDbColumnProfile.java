@@ -0,0 +1,133 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_BLOCK_SIZE;
+
+import java.time.Duration;
+import java.util.Set;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+
+/**
+ * Groups columns with similar access patterns so each group can be tuned independently. Each
+ * profile is given its own share of the block cache so that, for example, scanning large blocks
+ * can't evict the index and filter blocks needed for point lookups.
+ */
+public enum RocksDbColumnProfile {
+  /** Small, frequently updated values such as votes and checkpoints. */
+  DEFAULT(CompressionType.LZ4_COMPRESSION, CompressionType.NO_COMPRESSION, false, 0, 0.2),
+  /** Lookup tables keyed and valued by roots and slots, which don't compress. */
+  INDEX(CompressionType.NO_COMPRESSION, CompressionType.NO_COMPRESSION, false, 0, 0.4),
+  /** Large immutable values such as blocks and states. */
+  LARGE_VALUE(CompressionType.LZ4_COMPRESSION, CompressionType.ZSTD_COMPRESSION, true, 0, 0.3),
+  /**
+   * Blob sidecars, which are written once, rarely read and deleted after the retention period.
+   * Files are periodically recompacted so space from pruned sidecars is reclaimed promptly.
+   */
+  BLOB_SIDECAR(
+      CompressionType.LZ4_COMPRESSION,
+      CompressionType.ZSTD_COMPRESSION,
+      true,
+      Duration.ofDays(1).toSeconds(),
+      0.1);
+
+  private static final Set<String> INDEX_COLUMNS =
+      Set.of(
+          "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT",
+          "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT",
+          "SLOTS_BY_FINALIZED_ROOT",
+          "SLOTS_BY_FINALIZED_STATE_ROOT",
+          "NON_CANONICAL_BLOCK_ROOTS_BY_SLOT",
+          "FINALIZED_STATE_ROOTS_BY_SLOT",
+          "FINALIZED_STATE_TREE_BRANCHES",
+          "FINALIZED_STATE_TREE_REFERENCE_COUNTS",
+          "FINALIZED_STATE_TREE_REFERENCED_CHILDREN",
+          "FINALIZED_STATE_TREE_UNREFERENCED_NODES");
+
+  private static final Set<String> LARGE_VALUE_COLUMNS =
+      Set.of(
+          "HOT_BLOCKS_BY_ROOT",
+          "FINALIZED_BLOCKS_BY_SLOT",
+          "NON_CANONICAL_BLOCKS_BY_ROOT",
+          "HOT_STATES_BY_ROOT",
+          "CHECKPOINT_STATES",
+          "FINALIZED_STATES_BY_SLOT",
+          "FINALIZED_STATE_DIFFS_BY_SLOT",
+          "FINALIZED_STATE_TREE_LEAVES");
+
+  private static final Set<String> BLOB_SIDECAR_COLUMNS =
+      Set.of(
+          "BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX",
+          "NON_CANONICAL_BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX");
+
+  private final CompressionType compressionType;
+  private final CompressionType bottomMostCompressionType;
+  private final boolean optimizeFiltersForHits;
+  private final long ttlSeconds;
+  private final double cacheShare;
+
+  RocksDbColumnProfile(
+      final CompressionType compressionType,
+      final CompressionType bottomMostCompressionType,
+      final boolean optimizeFiltersForHits,
+      final long ttlSeconds,
+      final double cacheShare) {
+    this.compressionType = compressionType;
+    this.bottomMostCompressionType = bottomMostCompressionType;
+    this.optimizeFiltersForHits = optimizeFiltersForHits;
+    this.ttlSeconds = ttlSeconds;
+    this.cacheShare = cacheShare;
+  }
+
+  public static RocksDbColumnProfile forColumn(final String columnName) {
+    if (INDEX_COLUMNS.contains(columnName)) {
+      return INDEX;
+    } else if (LARGE_VALUE_COLUMNS.contains(columnName)) {
+      return LARGE_VALUE;
+    } else if (BLOB_SIDECAR_COLUMNS.contains(columnName)) {
+      return BLOB_SIDECAR;
+    }
+    return DEFAULT;
+  }
+
+  /** The share of the total block cache capacity allocated to columns using this profile. */
+  public double getCacheShare() {
+    return cacheShare;
+  }
+
+  ColumnFamilyOptions createColumnFamilyOptions(final Cache cache) {
+    return new ColumnFamilyOptions()
+        .setCompressionType(compressionType)
+        .setBottommostCompressionType(bottomMostCompressionType)
+        .setOptimizeFiltersForHits(optimizeFiltersForHits)
+        .setTtl(ttlSeconds)
+        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+  }
+
+  private BlockBasedTableConfig createBlockBasedTableConfig(final Cache cache) {
+    return new BlockBasedTableConfig()
+        .setFormatVersion(5)
+        .setBlockCache(cache)
+        .setFilterPolicy(new BloomFilter(10, false))
+        .setPartitionFilters(true)
+        .setCacheIndexAndFilterBlocks(true)
+        // Keep point lookup filters resident so misses don't need to read from disk
+        .setPinL0FilterAndIndexBlocksInCache(this == INDEX)
+        .setBlockSize(ROCKSDB_BLOCK_SIZE);
+  }
+}
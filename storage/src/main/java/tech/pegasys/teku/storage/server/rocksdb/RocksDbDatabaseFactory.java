@@ -24,6 +24,7 @@ import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.BlobSidecarStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
@@ -48,14 +49,14 @@ public class RocksDbDatabaseFactory {
             metricsSystem,
             STORAGE_HOT_DB,
             hotConfiguration,
-            schemaHot.getAllColumns(),
+            schemaHot.getColumnMap(),
             schemaHot.getDeletedColumnIds());
     final KvStoreAccessor finalizedDb =
         RocksDbInstanceFactory.create(
             metricsSystem,
             STORAGE_FINALIZED_DB,
             finalizedConfiguration,
-            schemaFinalized.getAllColumns(),
+            schemaFinalized.getColumnMap(),
             schemaFinalized.getDeletedColumnIds());
     return KvStoreDatabase.createV4(
         hotDb,
@@ -74,7 +75,9 @@ public class RocksDbDatabaseFactory {
       final SchemaCombinedSnapshotState schema,
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
+      final long stateSnapshotFrequency,
       final boolean storeNonCanonicalBlocks,
+      final BlobSidecarStorageLogic blobSidecarStorageLogic,
       final Spec spec) {
 
     final KvStoreAccessor db =
@@ -82,10 +85,27 @@ public class RocksDbDatabaseFactory {
             metricsSystem,
             STORAGE,
             hotConfiguration,
-            schema.getAllColumns(),
+            schema.getColumnMap(),
             schema.getDeletedColumnIds());
 
+    if (stateSnapshotFrequency > 0) {
+      return KvStoreDatabase.createWithStateDiffs(
+          db,
+          schema,
+          stateStorageMode,
+          stateStorageFrequency,
+          stateSnapshotFrequency,
+          storeNonCanonicalBlocks,
+          blobSidecarStorageLogic,
+          spec);
+    }
     return KvStoreDatabase.createWithStateSnapshots(
-        db, schema, stateStorageMode, stateStorageFrequency, storeNonCanonicalBlocks, spec);
+        db,
+        schema,
+        stateStorageMode,
+        stateStorageFrequency,
+        storeNonCanonicalBlocks,
+        blobSidecarStorageLogic,
+        spec);
   }
 }
@@ -28,6 +28,7 @@ import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.AbstractRocksIterator;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.TransactionDB;
@@ -43,6 +44,7 @@ public class RocksDbInstance implements KvStoreAccessor {
   private final ColumnFamilyHandle defaultHandle;
   private final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles;
   private final List<AutoCloseable> resources;
+  private final RocksDbColumnMetrics columnMetrics;
   private final Set<RocksDbTransaction> openTransactions = new HashSet<>();
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -51,11 +53,13 @@ public class RocksDbInstance implements KvStoreAccessor {
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles,
-      final List<AutoCloseable> resources) {
+      final List<AutoCloseable> resources,
+      final RocksDbColumnMetrics columnMetrics) {
     this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
     this.resources = resources;
+    this.columnMetrics = columnMetrics;
   }
 
   @Override
@@ -80,8 +84,9 @@ public class RocksDbInstance implements KvStoreAccessor {
     final ColumnFamilyHandle handle = columnHandles.get(column);
     final byte[] keyBytes = column.getKeySerializer().serialize(key);
     try {
-      return Optional.ofNullable(db.get(handle, keyBytes))
-          .map(data -> column.getValueSerializer().deserialize(data));
+      final byte[] data = db.get(handle, keyBytes);
+      columnMetrics.recordGet(column, data != null);
+      return Optional.ofNullable(data).map(column.getValueSerializer()::deserialize);
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException("Failed to get value", e);
     }
@@ -169,7 +174,9 @@ public class RocksDbInstance implements KvStoreAccessor {
     final ColumnFamilyHandle handle = columnHandles.get(column);
     final byte[] keyBytes = column.getKeySerializer().serialize(key);
     try {
-      return Optional.ofNullable(db.get(handle, keyBytes)).map(Bytes::wrap);
+      final byte[] data = db.get(handle, keyBytes);
+      columnMetrics.recordGet(column, data != null);
+      return Optional.ofNullable(data).map(Bytes::wrap);
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException("Failed to get value", e);
     }
@@ -199,14 +206,36 @@ public class RocksDbInstance implements KvStoreAccessor {
 
   @Override
   @MustBeClosed
-  public synchronized KvStoreTransaction startTransaction() {
+  public KvStoreTransaction startTransaction() {
+    return startTransaction(false);
+  }
+
+  @Override
+  @MustBeClosed
+  public KvStoreTransaction startUnloggedTransaction() {
+    return startTransaction(true);
+  }
+
+  @MustBeClosed
+  private synchronized KvStoreTransaction startTransaction(final boolean disableWal) {
     assertOpen();
     RocksDbTransaction tx =
-        new RocksDbTransaction(db, defaultHandle, columnHandles, openTransactions::remove);
+        new RocksDbTransaction(
+            db, defaultHandle, columnHandles, disableWal, openTransactions::remove);
     openTransactions.add(tx);
     return tx;
   }
 
+  @Override
+  public void flush() {
+    assertOpen();
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions, columnHandles.values().asList());
+    } catch (RocksDBException e) {
+      throw RocksDbExceptionUtil.wrapException("Failed to flush database", e);
+    }
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> createStream(
       final KvStoreColumn<K, V> column, final Consumer<RocksIterator> setupIterator) {
@@ -22,8 +22,11 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,9 +61,10 @@ public class RocksDbInstanceFactory {
       final MetricsSystem metricsSystem,
       final MetricCategory metricCategory,
       final KvStoreConfiguration configuration,
-      final Collection<KvStoreColumn<?, ?>> columns,
+      final Map<String, KvStoreColumn<?, ?>> columnsByName,
       final Collection<Bytes> deletedColumns)
       throws DatabaseStorageException {
+    final Collection<KvStoreColumn<?, ?>> columns = columnsByName.values();
     // Track resources that need to be closed
     checkArgument(
         Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
@@ -73,15 +77,25 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats));
+
+    final Function<Bytes, ColumnFamilyOptions> columnFamilyOptionsById;
+    if (configuration.isColumnProfilesEnabled()) {
+      columnFamilyOptionsById =
+          createColumnProfileOptions(
+              configuration, columnsByName, resources, rocksDbStats::registerBlockCacheMetrics);
+    } else {
+      final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
+      final ColumnFamilyOptions columnFamilyOptions =
+          createColumnFamilyOptions(configuration, blockCache);
+      resources.add(columnFamilyOptions);
+      resources.add(blockCache);
+      columnFamilyOptionsById = id -> columnFamilyOptions;
+    }
 
     List<ColumnFamilyDescriptor> columnDescriptors =
-        createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
+        createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptionsById);
     Map<Bytes, KvStoreColumn<?, ?>> columnsById =
         columns.stream().collect(Collectors.toMap(KvStoreColumn::getId, Function.identity()));
 
@@ -114,7 +128,12 @@ public class RocksDbInstanceFactory {
 
       rocksDbStats.registerMetrics(db);
 
-      return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
+      return new RocksDbInstance(
+          db,
+          defaultHandle,
+          columnHandlesMap,
+          resources,
+          new RocksDbColumnMetrics(metricsSystem, metricCategory, columnsByName));
     } catch (RocksDBException e) {
       throw RocksDbExceptionUtil.wrapException(
           "Failed to open database at path: " + configuration.getDatabaseDir(), e);
@@ -170,16 +189,48 @@ public class RocksDbInstanceFactory {
         .setTableFormatConfig(createBlockBasedTableConfig(cache));
   }
 
+  private static Function<Bytes, ColumnFamilyOptions> createColumnProfileOptions(
+      final KvStoreConfiguration configuration,
+      final Map<String, KvStoreColumn<?, ?>> columnsByName,
+      final List<AutoCloseable> resources,
+      final Consumer<Map<RocksDbColumnProfile, Cache>> cacheMetricsRegistrar) {
+    final Map<Bytes, RocksDbColumnProfile> profilesById = new HashMap<>();
+    columnsByName.forEach(
+        (name, column) -> profilesById.put(column.getId(), RocksDbColumnProfile.forColumn(name)));
+
+    final Map<RocksDbColumnProfile, Cache> caches = new EnumMap<>(RocksDbColumnProfile.class);
+    final Map<RocksDbColumnProfile, ColumnFamilyOptions> options =
+        new EnumMap<>(RocksDbColumnProfile.class);
+    for (RocksDbColumnProfile profile : RocksDbColumnProfile.values()) {
+      final LRUCache cache =
+          new LRUCache((long) (configuration.getCacheCapacity() * profile.getCacheShare()));
+      final ColumnFamilyOptions columnFamilyOptions = profile.createColumnFamilyOptions(cache);
+      resources.add(columnFamilyOptions);
+      resources.add(cache);
+      caches.put(profile, cache);
+      options.put(profile, columnFamilyOptions);
+    }
+    cacheMetricsRegistrar.accept(caches);
+
+    // Deleted columns and the default column use the default profile
+    return id -> options.get(profilesById.getOrDefault(id, RocksDbColumnProfile.DEFAULT));
+  }
+
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Function<Bytes, ColumnFamilyOptions> columnFamilyOptionsById) {
     final List<ColumnFamilyDescriptor> columnDescriptors =
         Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+            .map(
+                id ->
+                    new ColumnFamilyDescriptor(
+                        id.toArrayUnsafe(), columnFamilyOptionsById.apply(id)))
             .collect(Collectors.toCollection(ArrayList::new));
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(
+            Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(),
+            columnFamilyOptionsById.apply(Schema.DEFAULT_COLUMN_ID)));
     return Collections.unmodifiableList(columnDescriptors);
   }
 
@@ -18,12 +18,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.Cache;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
@@ -201,6 +203,18 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  public void registerBlockCacheMetrics(final Map<RocksDbColumnProfile, Cache> caches) {
+    caches.forEach(
+        (profile, cache) ->
+            metricsSystem.createLongGauge(
+                category,
+                "block_cache_usage_" + profile.name().toLowerCase(Locale.ROOT),
+                "Memory used by the block cache shared by "
+                    + profile.name()
+                    + " profile columns",
+                () -> ifOpen(cache::getUsage, 0L)));
+  }
+
   private long getLongProperty(final RocksDB database, final String name) {
     return ifOpen(
         () -> {
@@ -44,10 +44,11 @@ public class RocksDbTransaction implements KvStoreTransaction {
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles,
+      final boolean disableWal,
       final Consumer<RocksDbTransaction> onClosed) {
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
-    this.writeOptions = new WriteOptions();
+    this.writeOptions = new WriteOptions().setDisableWAL(disableWal);
     this.rocksDbTx = db.beginTransaction(writeOptions);
     this.onClosed = onClosed;
   }
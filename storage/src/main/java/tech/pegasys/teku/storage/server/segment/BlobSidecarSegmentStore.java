@@ -0,0 +1,497 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.segment;
+
+import static tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.MAX_BLOCK_ROOT;
+import static tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.MIN_BLOCK_ROOT;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+
+/**
+ * Stores blob sidecars in append-only segment files, each covering a fixed range of slots, instead
+ * of in the key-value store.
+ *
+ * <p>A segment consists of a data file holding the SSZ encoded sidecars back to back and an index
+ * file recording where each sidecar starts and when it was removed. Data is never rewritten: a
+ * segment is deleted as a whole once every sidecar in it has been removed, which is what pruning
+ * by slot does. The index of every segment is kept in memory and rebuilt from the index files on
+ * startup.
+ *
+ * <p>Added sidecars are forced to disk before {@link #add(Map)} returns so they can be referred to
+ * by a db transaction committed afterwards. Segment files are only opened for the duration of each
+ * read or write so the number of open files doesn't grow with the number of segments retained.
+ */
+public class BlobSidecarSegmentStore implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final int DEFAULT_SLOTS_PER_SEGMENT = 256;
+
+  static final String DATA_FILE_SUFFIX = ".ssz";
+  static final String INDEX_FILE_SUFFIX = ".idx";
+
+  private static final byte RECORD_TYPE_DELETE = 0;
+  private static final byte RECORD_TYPE_PUT = 1;
+  // Record type, slot, block root, blob index, data offset and data length
+  static final int INDEX_RECORD_SIZE =
+      1 + Long.BYTES + Bytes32.SIZE + Long.BYTES + Long.BYTES + Integer.BYTES;
+
+  private final Path directory;
+  private final int slotsPerSegment;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<UInt64, Segment> segments = new TreeMap<>();
+
+  private BlobSidecarSegmentStore(final Path directory, final int slotsPerSegment) {
+    this.directory = directory;
+    this.slotsPerSegment = slotsPerSegment;
+  }
+
+  public static BlobSidecarSegmentStore create(final Path directory, final int slotsPerSegment) {
+    final BlobSidecarSegmentStore store = new BlobSidecarSegmentStore(directory, slotsPerSegment);
+    try {
+      Files.createDirectories(directory);
+      store.loadSegments();
+    } catch (final IOException e) {
+      store.close();
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to load blob sidecar segments from " + directory, e);
+    }
+    return store;
+  }
+
+  public Optional<Bytes> get(final SlotAndBlockRootAndBlobIndex key) {
+    lock.readLock().lock();
+    try {
+      final Segment segment = segments.get(getSegmentStartSlot(key.getSlot()));
+      if (segment == null) {
+        return Optional.empty();
+      }
+      final Location location = segment.entries.get(key);
+      if (location == null) {
+        return Optional.empty();
+      }
+      try (final FileChannel data = segment.openDataForRead()) {
+        return Optional.of(Segment.read(data, location));
+      }
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable("Failed to read blob sidecar " + key, e);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean contains(final SlotAndBlockRootAndBlobIndex key) {
+    lock.readLock().lock();
+    try {
+      final Segment segment = segments.get(getSegmentStartSlot(key.getSlot()));
+      return segment != null && segment.entries.containsKey(key);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<Bytes> getBlobSidecars(final SlotAndBlockRoot slotAndBlockRoot) {
+    lock.readLock().lock();
+    try {
+      final Segment segment = segments.get(getSegmentStartSlot(slotAndBlockRoot.getSlot()));
+      if (segment == null) {
+        return List.of();
+      }
+      final Collection<Location> locations =
+          segment.entries.subMap(minKey(slotAndBlockRoot), true, maxKey(slotAndBlockRoot), true)
+              .values();
+      if (locations.isEmpty()) {
+        return List.of();
+      }
+      final List<Bytes> blobSidecars = new ArrayList<>();
+      try (final FileChannel data = segment.openDataForRead()) {
+        for (final Location location : locations) {
+          blobSidecars.add(Segment.read(data, location));
+        }
+      }
+      return blobSidecars;
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to read blob sidecars for " + slotAndBlockRoot, e);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<SlotAndBlockRootAndBlobIndex> getKeys(final UInt64 startSlot, final UInt64 endSlot) {
+    if (startSlot.isGreaterThan(endSlot)) {
+      return List.of();
+    }
+    return getKeys(
+        new SlotAndBlockRootAndBlobIndex(startSlot, MIN_BLOCK_ROOT, UInt64.ZERO),
+        new SlotAndBlockRootAndBlobIndex(endSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE));
+  }
+
+  public List<SlotAndBlockRootAndBlobIndex> getKeys(final SlotAndBlockRoot slotAndBlockRoot) {
+    return getKeys(minKey(slotAndBlockRoot), maxKey(slotAndBlockRoot));
+  }
+
+  private List<SlotAndBlockRootAndBlobIndex> getKeys(
+      final SlotAndBlockRootAndBlobIndex from, final SlotAndBlockRootAndBlobIndex to) {
+    lock.readLock().lock();
+    try {
+      final List<SlotAndBlockRootAndBlobIndex> keys = new ArrayList<>();
+      final UInt64 fromSegment = getSegmentStartSlot(from.getSlot());
+      final UInt64 toSegment = getSegmentStartSlot(to.getSlot());
+      segments
+          .subMap(fromSegment, true, toSegment, true)
+          .values()
+          .forEach(segment -> keys.addAll(segment.entries.subMap(from, true, to, true).keySet()));
+      return keys;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long size() {
+    lock.readLock().lock();
+    try {
+      return segments.values().stream().mapToLong(segment -> segment.entries.size()).sum();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int getSegmentCount() {
+    lock.readLock().lock();
+    try {
+      return segments.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Adds blob sidecars, returning once they have been forced to disk.
+   *
+   * @param additions the sidecars to add, as SSZ
+   */
+  public void add(final Map<SlotAndBlockRootAndBlobIndex, Bytes> additions) {
+    if (additions.isEmpty()) {
+      return;
+    }
+    final Map<UInt64, NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> additionsBySegment =
+        new TreeMap<>();
+    additions.forEach(
+        (key, blobSidecar) ->
+            additionsBySegment
+                .computeIfAbsent(getSegmentStartSlot(key.getSlot()), __ -> new TreeMap<>())
+                .put(key, blobSidecar));
+
+    lock.writeLock().lock();
+    try {
+      for (final Map.Entry<UInt64, NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes>> entry :
+          additionsBySegment.entrySet()) {
+        final Segment segment =
+            segments.computeIfAbsent(
+                entry.getKey(), startSlot -> new Segment(directory, startSlot));
+        segment.append(entry.getValue());
+      }
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable("Failed to add blob sidecars to segments", e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes blob sidecars. Removing the last remaining sidecar of a segment deletes the segment's
+   * files rather than recording the removal.
+   *
+   * <p>Removals are not forced to disk, a removal lost by an unclean shutdown leaves the sidecar in
+   * place to be removed again.
+   *
+   * @param removals the keys of the sidecars to remove
+   */
+  public void remove(final Collection<SlotAndBlockRootAndBlobIndex> removals) {
+    if (removals.isEmpty()) {
+      return;
+    }
+    final Map<UInt64, List<SlotAndBlockRootAndBlobIndex>> removalsBySegment = new TreeMap<>();
+    removals.forEach(
+        key ->
+            removalsBySegment
+                .computeIfAbsent(getSegmentStartSlot(key.getSlot()), __ -> new ArrayList<>())
+                .add(key));
+
+    lock.writeLock().lock();
+    try {
+      for (final Map.Entry<UInt64, List<SlotAndBlockRootAndBlobIndex>> entry :
+          removalsBySegment.entrySet()) {
+        removeFromSegment(entry.getKey(), entry.getValue());
+      }
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to remove blob sidecars from segments", e);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeFromSegment(
+      final UInt64 segmentStartSlot, final List<SlotAndBlockRootAndBlobIndex> keys)
+      throws IOException {
+    final Segment segment = segments.get(segmentStartSlot);
+    if (segment == null) {
+      return;
+    }
+    final List<SlotAndBlockRootAndBlobIndex> storedKeys =
+        keys.stream().filter(segment.entries::containsKey).distinct().toList();
+    if (storedKeys.isEmpty()) {
+      return;
+    }
+    if (storedKeys.size() == segment.entries.size()) {
+      segments.remove(segmentStartSlot);
+      segment.delete();
+      LOG.debug("Deleted blob sidecar segment starting at slot {}", segmentStartSlot);
+    } else {
+      segment.remove(storedKeys);
+    }
+  }
+
+  private void loadSegments() throws IOException {
+    final List<Path> indexFiles;
+    try (final Stream<Path> files = Files.list(directory)) {
+      indexFiles =
+          files.filter(file -> file.getFileName().toString().endsWith(INDEX_FILE_SUFFIX)).toList();
+    }
+    for (final Path indexFile : indexFiles) {
+      final String fileName = indexFile.getFileName().toString();
+      final Optional<UInt64> maybeStartSlot =
+          parseStartSlot(fileName.substring(0, fileName.length() - INDEX_FILE_SUFFIX.length()));
+      if (maybeStartSlot.isEmpty()) {
+        LOG.warn("Ignoring unexpected file {} in blob sidecar segment directory", indexFile);
+        continue;
+      }
+      final Segment segment = new Segment(directory, maybeStartSlot.get());
+      segment.load();
+      if (segment.entries.isEmpty()) {
+        segment.delete();
+      } else {
+        segments.put(maybeStartSlot.get(), segment);
+      }
+    }
+    LOG.debug("Loaded {} blob sidecar segments from {}", segments.size(), directory);
+  }
+
+  private Optional<UInt64> parseStartSlot(final String value) {
+    try {
+      final UInt64 startSlot = UInt64.valueOf(value);
+      return startSlot.mod(slotsPerSegment).isZero() ? Optional.of(startSlot) : Optional.empty();
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private UInt64 getSegmentStartSlot(final UInt64 slot) {
+    return slot.minus(slot.mod(slotsPerSegment));
+  }
+
+  private static SlotAndBlockRootAndBlobIndex minKey(final SlotAndBlockRoot slotAndBlockRoot) {
+    return new SlotAndBlockRootAndBlobIndex(
+        slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.ZERO);
+  }
+
+  private static SlotAndBlockRootAndBlobIndex maxKey(final SlotAndBlockRoot slotAndBlockRoot) {
+    return new SlotAndBlockRootAndBlobIndex(
+        slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), UInt64.MAX_VALUE);
+  }
+
+  @Override
+  public void close() {
+    lock.writeLock().lock();
+    try {
+      segments.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private record Location(long offset, int length) {}
+
+  private static class Segment {
+    private final Path dataFile;
+    private final Path indexFile;
+    private final NavigableMap<SlotAndBlockRootAndBlobIndex, Location> entries = new TreeMap<>();
+
+    Segment(final Path directory, final UInt64 startSlot) {
+      this.dataFile = directory.resolve(startSlot + DATA_FILE_SUFFIX);
+      this.indexFile = directory.resolve(startSlot + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Replays the index file. Records left incomplete by an unclean shutdown, or referring to data
+     * which never made it to disk, are discarded.
+     */
+    void load() throws IOException {
+      try (final FileChannel data = openForWrite(dataFile);
+          final FileChannel index = openForWrite(indexFile)) {
+        load(data, index);
+      }
+    }
+
+    private void load(final FileChannel data, final FileChannel index) throws IOException {
+      final long dataSize = data.size();
+      final long completeRecords = index.size() / INDEX_RECORD_SIZE;
+      final ByteBuffer buffer = ByteBuffer.allocate(INDEX_RECORD_SIZE);
+      long validRecords = 0;
+      while (validRecords < completeRecords) {
+        buffer.clear();
+        readFully(index, buffer, validRecords * INDEX_RECORD_SIZE);
+        buffer.flip();
+        final byte type = buffer.get();
+        final SlotAndBlockRootAndBlobIndex key = readKey(buffer);
+        final Location location = new Location(buffer.getLong(), buffer.getInt());
+        if (type == RECORD_TYPE_PUT && location.offset() + location.length() <= dataSize) {
+          entries.put(key, location);
+        } else if (type == RECORD_TYPE_DELETE) {
+          entries.remove(key);
+        } else {
+          break;
+        }
+        validRecords++;
+      }
+      if (index.size() > validRecords * INDEX_RECORD_SIZE) {
+        LOG.warn("Discarding incomplete records from blob sidecar segment index {}", indexFile);
+        index.truncate(validRecords * INDEX_RECORD_SIZE);
+      }
+    }
+
+    FileChannel openDataForRead() throws IOException {
+      return FileChannel.open(dataFile, StandardOpenOption.READ);
+    }
+
+    static Bytes read(final FileChannel data, final Location location) throws IOException {
+      final ByteBuffer buffer = ByteBuffer.allocate(location.length());
+      readFully(data, buffer, location.offset());
+      return Bytes.wrap(buffer.array());
+    }
+
+    void append(final NavigableMap<SlotAndBlockRootAndBlobIndex, Bytes> blobSidecars)
+        throws IOException {
+      final Map<SlotAndBlockRootAndBlobIndex, Location> added = new TreeMap<>();
+      final ByteBuffer records = ByteBuffer.allocate(blobSidecars.size() * INDEX_RECORD_SIZE);
+      try (final FileChannel data = openForWrite(dataFile);
+          final FileChannel index = openForWrite(indexFile)) {
+        long offset = data.size();
+        for (final Map.Entry<SlotAndBlockRootAndBlobIndex, Bytes> entry :
+            blobSidecars.entrySet()) {
+          final Bytes blobSidecar = entry.getValue();
+          writeFully(data, ByteBuffer.wrap(blobSidecar.toArrayUnsafe()), offset);
+          final Location location = new Location(offset, blobSidecar.size());
+          writeRecord(records, RECORD_TYPE_PUT, entry.getKey(), location);
+          added.put(entry.getKey(), location);
+          offset += blobSidecar.size();
+        }
+        // Data is forced before the index is written so a loaded index never refers to missing data
+        data.force(true);
+        records.flip();
+        writeFully(index, records, index.size());
+        index.force(true);
+      }
+      entries.putAll(added);
+    }
+
+    void remove(final List<SlotAndBlockRootAndBlobIndex> keys) throws IOException {
+      final ByteBuffer records = ByteBuffer.allocate(keys.size() * INDEX_RECORD_SIZE);
+      keys.forEach(key -> writeRecord(records, RECORD_TYPE_DELETE, key, new Location(0, 0)));
+      records.flip();
+      try (final FileChannel index = openForWrite(indexFile)) {
+        writeFully(index, records, index.size());
+      }
+      keys.forEach(entries::remove);
+    }
+
+    void delete() throws IOException {
+      Files.deleteIfExists(indexFile);
+      Files.deleteIfExists(dataFile);
+    }
+
+    private static FileChannel openForWrite(final Path file) throws IOException {
+      return FileChannel.open(
+          file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void writeRecord(
+        final ByteBuffer buffer,
+        final byte type,
+        final SlotAndBlockRootAndBlobIndex key,
+        final Location location) {
+      buffer.put(type);
+      buffer.putLong(key.getSlot().longValue());
+      buffer.put(key.getBlockRoot().toArrayUnsafe());
+      buffer.putLong(key.getBlobIndex().longValue());
+      buffer.putLong(location.offset());
+      buffer.putInt(location.length());
+    }
+
+    private static SlotAndBlockRootAndBlobIndex readKey(final ByteBuffer buffer) {
+      final UInt64 slot = UInt64.fromLongBits(buffer.getLong());
+      final byte[] blockRoot = new byte[Bytes32.SIZE];
+      buffer.get(blockRoot);
+      final UInt64 blobIndex = UInt64.fromLongBits(buffer.getLong());
+      return new SlotAndBlockRootAndBlobIndex(slot, Bytes32.wrap(blockRoot), blobIndex);
+    }
+
+    private static void readFully(
+        final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+      long currentPosition = position;
+      while (buffer.hasRemaining()) {
+        final int read = channel.read(buffer, currentPosition);
+        if (read < 0) {
+          throw new EOFException("Unexpected end of blob sidecar segment file");
+        }
+        currentPosition += read;
+      }
+    }
+
+    private static void writeFully(
+        final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+      long currentPosition = position;
+      while (buffer.hasRemaining()) {
+        currentPosition += channel.write(buffer, currentPosition);
+      }
+    }
+  }
+}
@@ -22,6 +22,8 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -39,6 +41,7 @@ public class FinalizedStateCache {
   private final NavigableSet<UInt64> availableSlots = new ConcurrentSkipListSet<>();
 
   private final LoadingCache<UInt64, BeaconState> stateCache;
+  private final Optional<FinalizedStatePrefetcher> prefetcher;
 
   public FinalizedStateCache(
       final Spec spec,
@@ -52,7 +55,33 @@ public class FinalizedStateCache {
         maximumCacheSize,
         useSoftReferences,
         stateRebuildTimeoutSeconds,
-        MAX_REGENERATE_LOTS);
+        MAX_REGENERATE_LOTS,
+        Optional.empty());
+  }
+
+  /**
+   * Creates a cache which, when states are requested at a regular slot interval, regenerates the
+   * next {@code prefetchStateCount} states in the background using {@code prefetchAsyncRunner}.
+   */
+  public FinalizedStateCache(
+      final Spec spec,
+      final Database database,
+      final int maximumCacheSize,
+      final boolean useSoftReferences,
+      final int stateRebuildTimeoutSeconds,
+      final MetricsSystem metricsSystem,
+      final AsyncRunner prefetchAsyncRunner,
+      final int prefetchStateCount) {
+    this(
+        spec,
+        database,
+        maximumCacheSize,
+        useSoftReferences,
+        stateRebuildTimeoutSeconds,
+        MAX_REGENERATE_LOTS,
+        Optional.of(
+            new FinalizedStatePrefetcher(
+                spec, database, metricsSystem, prefetchAsyncRunner, prefetchStateCount)));
   }
 
   FinalizedStateCache(
@@ -61,7 +90,9 @@ public class FinalizedStateCache {
       final int maximumCacheSize,
       final boolean useSoftReferences,
       final int stateRebuildTimeoutSeconds,
-      final long maxRegenerateSlots) {
+      final long maxRegenerateSlots,
+      final Optional<FinalizedStatePrefetcher> prefetcher) {
+    this.prefetcher = prefetcher;
     final CacheBuilder<UInt64, BeaconState> cacheBuilder =
         CacheBuilder.newBuilder()
             .maximumSize(maximumCacheSize)
@@ -79,10 +110,17 @@ public class FinalizedStateCache {
       final RemovalNotification<UInt64, BeaconState> removalNotification) {
     if (removalNotification.getCause() != RemovalCause.REPLACED) {
       availableSlots.remove(removalNotification.getKey());
+      prefetcher.ifPresent(p -> p.onStateRemoved(removalNotification.getKey()));
     }
   }
 
   public Optional<BeaconState> getFinalizedState(final UInt64 slot) {
+    final Optional<BeaconState> state = loadState(slot);
+    prefetcher.ifPresent(p -> p.onStateRequested(slot, this));
+    return state;
+  }
+
+  Optional<BeaconState> loadState(final UInt64 slot) {
     try {
       return Optional.of(stateCache.getUnchecked(slot));
     } catch (final UncheckedExecutionException e) {
@@ -97,6 +135,10 @@ public class FinalizedStateCache {
     return Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
   }
 
+  boolean isCached(final UInt64 slot) {
+    return stateCache.getIfPresent(slot) != null;
+  }
+
   NavigableSet<UInt64> getAvailableSlots() {
     return availableSlots;
   }
@@ -0,0 +1,141 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.state;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.storage.server.Database;
+
+/**
+ * Detects finalized states being requested at a fixed slot interval, as happens when a client walks
+ * through historic states in order, and regenerates the next states in the background. Each
+ * prefetched state is regenerated from the one before it rather than from the stored state.
+ */
+class FinalizedStatePrefetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int SEQUENTIAL_REQUESTS_BEFORE_PREFETCH = 3;
+
+  private final Spec spec;
+  private final Database database;
+  private final AsyncRunner asyncRunner;
+  private final int prefetchStateCount;
+  private final LabelledMetric<Counter> prefetchCounter;
+
+  private final Set<UInt64> prefetchedSlots = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean prefetchInProgress = new AtomicBoolean(false);
+
+  private Optional<UInt64> lastRequestedSlot = Optional.empty();
+  private UInt64 lastInterval = UInt64.ZERO;
+  private int sequentialRequests = 0;
+
+  FinalizedStatePrefetcher(
+      final Spec spec,
+      final Database database,
+      final MetricsSystem metricsSystem,
+      final AsyncRunner asyncRunner,
+      final int prefetchStateCount) {
+    this.spec = spec;
+    this.database = database;
+    this.asyncRunner = asyncRunner;
+    this.prefetchStateCount = prefetchStateCount;
+    this.prefetchCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "finalized_state_prefetch_total",
+            "Number of finalized states regenerated ahead of sequential requests, and whether they"
+                + " were later requested",
+            "result");
+  }
+
+  void onStateRequested(final UInt64 slot, final FinalizedStateCache cache) {
+    if (prefetchedSlots.remove(slot)) {
+      prefetchCounter.labels("hit").inc();
+    }
+    recordRequest(slot).ifPresent(interval -> startPrefetch(slot, interval, cache));
+  }
+
+  void onStateRemoved(final UInt64 slot) {
+    if (prefetchedSlots.remove(slot)) {
+      prefetchCounter.labels("unused").inc();
+    }
+  }
+
+  /** Returns the slot interval to prefetch at if the recent requests were sequential. */
+  private synchronized Optional<UInt64> recordRequest(final UInt64 slot) {
+    final UInt64 interval =
+        lastRequestedSlot.filter(slot::isGreaterThan).map(slot::minus).orElse(UInt64.ZERO);
+    lastRequestedSlot = Optional.of(slot);
+    if (interval.isZero()
+        || interval.isGreaterThan(spec.getSlotsPerEpoch(slot))
+        || !interval.equals(lastInterval)) {
+      lastInterval = interval;
+      sequentialRequests = interval.isZero() ? 1 : 2;
+      return Optional.empty();
+    }
+    sequentialRequests++;
+    return sequentialRequests >= SEQUENTIAL_REQUESTS_BEFORE_PREFETCH
+        ? Optional.of(interval)
+        : Optional.empty();
+  }
+
+  private void startPrefetch(
+      final UInt64 slot, final UInt64 interval, final FinalizedStateCache cache) {
+    if (!prefetchInProgress.compareAndSet(false, true)) {
+      return;
+    }
+    asyncRunner
+        .runAsync(() -> prefetch(slot, interval, cache))
+        .alwaysRun(() -> prefetchInProgress.set(false))
+        .finish(
+            error -> LOG.debug("Failed to prefetch finalized states after slot {}", slot, error));
+  }
+
+  private void prefetch(
+      final UInt64 requestedSlot, final UInt64 interval, final FinalizedStateCache cache) {
+    final Optional<UInt64> finalizedSlot =
+        database.getFinalizedCheckpoint().map(checkpoint -> checkpoint.getEpochStartSlot(spec));
+    if (finalizedSlot.isEmpty()) {
+      return;
+    }
+    UInt64 slot = requestedSlot;
+    for (int i = 0; i < prefetchStateCount; i++) {
+      slot = slot.plus(interval);
+      if (slot.isGreaterThan(finalizedSlot.get())) {
+        return;
+      }
+      if (cache.isCached(slot)) {
+        continue;
+      }
+      // Track before loading so a request which arrives during regeneration counts as a hit
+      prefetchedSlots.add(slot);
+      if (cache.loadState(slot).isEmpty()) {
+        prefetchedSlots.remove(slot);
+        return;
+      }
+      prefetchCounter.labels("prefetched").inc();
+    }
+  }
+}
@@ -58,7 +58,9 @@ class StateCacheLoader extends CacheLoader<UInt64, BeaconState> {
   }
 
   private Optional<BeaconState> regenerateState(final UInt64 slot) {
-    final Optional<BeaconState> maybeState = database.getLatestAvailableFinalizedState(slot);
+    final Optional<BeaconState> maybeState =
+        getCachedStateIfNoNewerStoredState(slot)
+            .or(() -> database.getLatestAvailableFinalizedState(slot));
     if (maybeState.isEmpty()) {
       return Optional.empty();
     }
@@ -80,6 +82,26 @@ class StateCacheLoader extends CacheLoader<UInt64, BeaconState> {
     }
   }
 
+  /**
+   * Avoids loading a stored state when a cached state is at least as close to the requested slot,
+   * which is the common case for sequential requests.
+   */
+  private Optional<BeaconState> getCachedStateIfNoNewerStoredState(final UInt64 slot) {
+    final Optional<BeaconState> latestStateFromCache =
+        finalizedStateCache.getLatestStateFromCache(slot);
+    if (latestStateFromCache.isEmpty()) {
+      return Optional.empty();
+    }
+    final UInt64 cachedSlot = latestStateFromCache.get().getSlot();
+    if (cachedSlot.isGreaterThanOrEqualTo(slot)) {
+      return latestStateFromCache;
+    }
+    try (final Stream<UInt64> storedSlots =
+        database.streamFinalizedStateSlots(cachedSlot.plus(ONE), slot)) {
+      return storedSlots.findAny().isPresent() ? Optional.empty() : latestStateFromCache;
+    }
+  }
+
   private SafeFuture<BeaconState> regenerateStateWithinReasonableTime(
       final UInt64 slot, final BeaconState stateFromDisk) {
     final Optional<BeaconState> latestStateFromCache =
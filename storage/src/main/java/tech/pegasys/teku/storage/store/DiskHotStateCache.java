@@ -0,0 +1,296 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A {@link PersistentHotStateCache} which stores each state as SSZ, optionally snappy compressed,
+ * in a separate file named {@code <slot>-<blockRoot>.ssz[_snappy]} in the specified directory.
+ *
+ * <p>The index of available states is rebuilt from the directory listing on startup so cached
+ * states survive restarts. When the cache is full the states with the lowest slot are evicted.
+ * Files which cannot be read or do not match their block root are deleted and treated as a miss.
+ *
+ * <p>This implementation is thread-safe.
+ */
+public class DiskHotStateCache implements PersistentHotStateCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String SSZ_EXTENSION = ".ssz";
+  static final String SNAPPY_EXTENSION = ".ssz_snappy";
+  private static final Pattern FILE_NAME_PATTERN =
+      Pattern.compile("^(\\d+)-(0x[0-9a-f]{64})(\\.ssz|\\.ssz_snappy)$");
+
+  private final Spec spec;
+  private final AsyncRunner asyncRunner;
+  private final Path directory;
+  private final SyncDataAccessor syncDataAccessor;
+  private final int maxSize;
+  private final boolean compressionEnabled;
+
+  private final NavigableMap<SlotAndBlockRoot, Path> filesBySlot = new TreeMap<>();
+  private final Map<Bytes32, SlotAndBlockRoot> entriesByRoot = new HashMap<>();
+  private final Set<Bytes32> pendingWrites = new HashSet<>();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  private DiskHotStateCache(
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final Path directory,
+      final int maxSize,
+      final boolean compressionEnabled) {
+    this.spec = spec;
+    this.asyncRunner = asyncRunner;
+    this.directory = directory;
+    this.syncDataAccessor = SyncDataAccessor.create(directory);
+    this.maxSize = maxSize;
+    this.compressionEnabled = compressionEnabled;
+    this.hitCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE,
+            "hot_state_disk_cache_hits_total",
+            "Total number of states loaded from the on-disk hot state cache");
+    this.missCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.STORAGE,
+            "hot_state_disk_cache_misses_total",
+            "Total number of on-disk hot state cache lookups which failed to load a state");
+  }
+
+  public static PersistentHotStateCache create(
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final Path directory,
+      final int maxSize,
+      final boolean compressionEnabled) {
+    if (maxSize <= 0) {
+      return PersistentHotStateCache.NOOP;
+    }
+    final DiskHotStateCache cache =
+        new DiskHotStateCache(
+            spec, asyncRunner, metricsSystem, directory, maxSize, compressionEnabled);
+    cache.loadIndex();
+    return cache;
+  }
+
+  private void loadIndex() {
+    final List<Path> files;
+    try (Stream<Path> paths = Files.list(directory)) {
+      files = paths.toList();
+    } catch (final IOException e) {
+      LOG.warn("Failed to list hot state cache directory {}", directory, e);
+      return;
+    }
+    synchronized (this) {
+      for (Path file : files) {
+        final Matcher matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+          // Left over temporary files from interrupted writes
+          deleteFile(file);
+          continue;
+        }
+        final SlotAndBlockRoot key =
+            new SlotAndBlockRoot(
+                UInt64.valueOf(matcher.group(1)), Bytes32.fromHexString(matcher.group(2)));
+        final SlotAndBlockRoot existing = entriesByRoot.put(key.getBlockRoot(), key);
+        if (existing != null) {
+          deleteFile(filesBySlot.remove(existing));
+        }
+        filesBySlot.put(key, file);
+      }
+      evictExcessEntries();
+    }
+    LOG.debug("Loaded {} states from hot state cache at {}", entriesByRoot.size(), directory);
+  }
+
+  @Override
+  public synchronized boolean contains(final Bytes32 blockRoot) {
+    return entriesByRoot.containsKey(blockRoot);
+  }
+
+  @Override
+  public SafeFuture<Optional<StateAndBlockSummary>> get(final Bytes32 blockRoot) {
+    final Optional<Path> maybeFile;
+    synchronized (this) {
+      maybeFile = Optional.ofNullable(entriesByRoot.get(blockRoot)).map(filesBySlot::get);
+    }
+    if (maybeFile.isEmpty()) {
+      missCounter.inc();
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return asyncRunner.runAsync(() -> load(blockRoot, maybeFile.get()));
+  }
+
+  private Optional<StateAndBlockSummary> load(final Bytes32 blockRoot, final Path file) {
+    try {
+      final Optional<Bytes> maybeData = syncDataAccessor.read(file);
+      if (maybeData.isEmpty()) {
+        // Evicted or removed while the read was queued
+        missCounter.inc();
+        return Optional.empty();
+      }
+      final Bytes data =
+          file.getFileName().toString().endsWith(SNAPPY_EXTENSION)
+              ? Bytes.wrap(Snappy.uncompress(maybeData.get().toArrayUnsafe()))
+              : maybeData.get();
+      final BeaconState state = spec.deserializeBeaconState(data);
+      final StateAndBlockSummary stateAndBlockSummary = StateAndBlockSummary.create(state);
+      if (!stateAndBlockSummary.getRoot().equals(blockRoot)) {
+        throw new IllegalStateException(
+            "Cached state is for block " + stateAndBlockSummary.getRoot());
+      }
+      hitCounter.inc();
+      return Optional.of(stateAndBlockSummary);
+    } catch (final Exception e) {
+      LOG.warn("Discarding unreadable hot state cache file {}", file, e);
+      missCounter.inc();
+      remove(blockRoot);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(final StateAndBlockSummary stateAndBlockSummary) {
+    final SlotAndBlockRoot key =
+        new SlotAndBlockRoot(stateAndBlockSummary.getSlot(), stateAndBlockSummary.getRoot());
+    synchronized (this) {
+      if (entriesByRoot.containsKey(key.getBlockRoot())
+          || pendingWrites.contains(key.getBlockRoot())
+          || isEvictedImmediately(key)) {
+        return;
+      }
+      pendingWrites.add(key.getBlockRoot());
+    }
+    asyncRunner
+        .runAsync(() -> write(key, stateAndBlockSummary.getState()))
+        .finish(
+            error -> {
+              LOG.debug("Failed to write state to hot state cache", error);
+              synchronized (this) {
+                pendingWrites.remove(key.getBlockRoot());
+              }
+            });
+  }
+
+  private synchronized boolean isEvictedImmediately(final SlotAndBlockRoot key) {
+    return filesBySlot.size() >= maxSize && filesBySlot.firstKey().compareTo(key) > 0;
+  }
+
+  private void write(final SlotAndBlockRoot key, final BeaconState state) throws IOException {
+    final Path file;
+    if (compressionEnabled) {
+      file = directory.resolve(fileName(key, SNAPPY_EXTENSION));
+      final Bytes ssz = state.sszSerialize();
+      syncDataAccessor.syncedWrite(file, Bytes.wrap(Snappy.compress(ssz.toArrayUnsafe())));
+    } else {
+      // Uncompressed states are written in chunks rather than as one large serialized array
+      file = directory.resolve(fileName(key, SSZ_EXTENSION));
+      syncDataAccessor.syncedChannelWrite(file, state::sszSerialize);
+    }
+
+    synchronized (this) {
+      if (!pendingWrites.remove(key.getBlockRoot())) {
+        // Removed or pruned while the write was in progress
+        deleteFile(file);
+        return;
+      }
+      entriesByRoot.put(key.getBlockRoot(), key);
+      filesBySlot.put(key, file);
+      evictExcessEntries();
+    }
+  }
+
+  @Override
+  public synchronized void remove(final Bytes32 blockRoot) {
+    pendingWrites.remove(blockRoot);
+    final SlotAndBlockRoot key = entriesByRoot.remove(blockRoot);
+    if (key != null) {
+      deleteFile(filesBySlot.remove(key));
+    }
+  }
+
+  @Override
+  public synchronized void prune(final UInt64 finalizedSlot) {
+    final NavigableMap<SlotAndBlockRoot, Path> prunable =
+        filesBySlot.headMap(new SlotAndBlockRoot(finalizedSlot, Bytes32.ZERO), false);
+    prunable.forEach(
+        (key, file) -> {
+          entriesByRoot.remove(key.getBlockRoot());
+          deleteFile(file);
+        });
+    prunable.clear();
+  }
+
+  private void evictExcessEntries() {
+    while (filesBySlot.size() > maxSize) {
+      final Map.Entry<SlotAndBlockRoot, Path> evicted = filesBySlot.pollFirstEntry();
+      entriesByRoot.remove(evicted.getKey().getBlockRoot());
+      deleteFile(evicted.getValue());
+    }
+  }
+
+  private void deleteFile(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.debug("Failed to delete hot state cache file {}", file, e);
+    }
+  }
+
+  @VisibleForTesting
+  static String fileName(final SlotAndBlockRoot key, final String extension) {
+    return key.getSlot() + "-" + key.getBlockRoot().toHexString() + extension;
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return entriesByRoot.size();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAnalyzer;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeMemoryAnalyzer.MemoryUsage;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Estimated heap memory retained by the states cached in the in-memory store, split into the bytes
+ * unique to each state and the bytes of tree nodes shared between states.
+ *
+ * <p>Only the {@link #MAX_ANALYZED_STATES} most recent states are analyzed, as tracking the nodes
+ * of every cached state can take hundreds of MB. The number of older states left out is reported
+ * as skippedStates. Nodes an analyzed state shares only with skipped states are counted as unique
+ * to it.
+ */
+public record StateCacheMemoryReport(
+    List<CachedStateMemory> states, long sharedBytes, int skippedStates) {
+
+  public static final String STATES_CACHE = "states";
+  public static final String CHECKPOINT_STATES_CACHE = "checkpoint_states";
+  public static final int MAX_ANALYZED_STATES = 8;
+
+  static StateCacheMemoryReport create(final Map<CachedState, TreeNode> cachedStates) {
+    final Map<CachedState, TreeNode> analyzedStates = new HashMap<>();
+    cachedStates.keySet().stream()
+        .sorted(Comparator.comparing(CachedState::slot).reversed())
+        .limit(MAX_ANALYZED_STATES)
+        .forEach(state -> analyzedStates.put(state, cachedStates.get(state)));
+    final MemoryUsage<CachedState> usage = TreeMemoryAnalyzer.analyze(analyzedStates);
+    final List<CachedStateMemory> states =
+        usage.uniqueBytes().entrySet().stream()
+            .map(entry -> new CachedStateMemory(entry.getKey(), entry.getValue()))
+            .sorted(
+                Comparator.comparing((CachedStateMemory state) -> state.state().slot())
+                    .thenComparing(state -> state.state().cache()))
+            .toList();
+    return new StateCacheMemoryReport(
+        states, usage.sharedBytes(), cachedStates.size() - analyzedStates.size());
+  }
+
+  /** Bytes which would be freed if every state was dropped from the cache on its own */
+  public long totalUniqueBytes() {
+    return states.stream().mapToLong(CachedStateMemory::uniqueBytes).sum();
+  }
+
+  public long totalBytes() {
+    return totalUniqueBytes() + sharedBytes;
+  }
+
+  public record CachedState(String cache, UInt64 slot, Bytes32 blockRoot) {}
+
+  public record CachedStateMemory(CachedState state, long uniqueBytes) {}
+}
@@ -17,13 +17,15 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.dataproviders.generators.StateAtSlotTask.AsyncStateProvider.fromAnchor;
 import static tech.pegasys.teku.dataproviders.lookup.BlockProvider.fromDynamicMap;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
+import static tech.pegasys.teku.storage.store.StateCacheMemoryReport.CHECKPOINT_STATES_CACHE;
+import static tech.pegasys.teku.storage.store.StateCacheMemoryReport.STATES_CACHE;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,12 +46,14 @@ import tech.pegasys.teku.dataproviders.generators.StateGenerationTask;
 import tech.pegasys.teku.dataproviders.generators.StateRegenerationBaseSelector;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.EarliestBlobSidecarSlotProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
@@ -61,6 +65,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.hashtree.HashTree;
@@ -76,6 +81,7 @@ import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.storage.protoarray.ProtoArray;
 import tech.pegasys.teku.storage.protoarray.ProtoNode;
+import tech.pegasys.teku.storage.store.StateCacheMemoryReport.CachedState;
 
 class Store extends CacheableStore {
   private static final Logger LOG = LogManager.getLogger();
@@ -92,6 +98,9 @@ class Store extends CacheableStore {
   private Optional<SettableGauge> blockCountGauge = Optional.empty();
   private Optional<SettableGauge> epochStatesCountGauge = Optional.empty();
   private Optional<SettableGauge> blobSidecarsBlocksCountGauge = Optional.empty();
+  private Optional<SettableGauge> stateCacheUniqueBytesGauge = Optional.empty();
+  private Optional<SettableGauge> stateCacheSharedBytesGauge = Optional.empty();
+  private Optional<SettableGauge> stateCacheSkippedStatesGauge = Optional.empty();
 
   private final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates;
 
@@ -99,6 +108,7 @@ class Store extends CacheableStore {
   private final StateAndBlockSummaryProvider stateProvider;
   private final BlockProvider blockProvider;
   private final EarliestBlobSidecarSlotProvider earliestBlobSidecarSlotProvider;
+  private final PersistentHotStateCache hotStateCache;
   private final ForkChoiceStrategy forkChoiceStrategy;
 
   private final Optional<Checkpoint> initialCheckpoint;
@@ -113,7 +123,7 @@ class Store extends CacheableStore {
   private Checkpoint bestJustifiedCheckpoint;
   private Optional<SlotAndExecutionPayloadSummary> finalizedOptimisticTransitionPayload;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
-  private VoteTracker[] votes;
+  private final VoteTable votes;
   private UInt64 highestVotedValidatorIndex;
 
   private UInt64 reorgThreshold = UInt64.ZERO;
@@ -126,6 +136,7 @@ class Store extends CacheableStore {
       final BlockProvider blockProvider,
       final StateAndBlockSummaryProvider stateProvider,
       final EarliestBlobSidecarSlotProvider earliestBlobSidecarSlotProvider,
+      final PersistentHotStateCache hotStateCache,
       final CachingTaskQueue<Bytes32, StateAndBlockSummary> states,
       final Optional<Checkpoint> initialCheckpoint,
       final UInt64 time,
@@ -167,8 +178,8 @@ class Store extends CacheableStore {
     this.highestVotedValidatorIndex =
         votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
     this.votes =
-        new VoteTracker[this.highestVotedValidatorIndex.intValue() + VOTE_TRACKER_SPARE_CAPACITY];
-    votes.forEach((key, value) -> this.votes[key.intValue()] = value);
+        new VoteTable(this.highestVotedValidatorIndex.intValue() + VOTE_TRACKER_SPARE_CAPACITY);
+    votes.forEach((key, value) -> this.votes.setVote(key.intValue(), value));
 
     // Track latest finalized block
     this.finalizedAnchor = finalizedAnchor;
@@ -189,6 +200,7 @@ class Store extends CacheableStore {
             blockProvider);
 
     this.earliestBlobSidecarSlotProvider = earliestBlobSidecarSlotProvider;
+    this.hotStateCache = hotStateCache;
   }
 
   private BlockProvider createBlockProviderFromMapWhileLocked(
@@ -213,6 +225,7 @@ class Store extends CacheableStore {
       final BlockProvider blockProvider,
       final StateAndBlockSummaryProvider stateAndBlockProvider,
       final EarliestBlobSidecarSlotProvider earliestBlobSidecarSlotProvider,
+      final PersistentHotStateCache hotStateCache,
       final Optional<Checkpoint> initialCheckpoint,
       final UInt64 time,
       final UInt64 genesisTime,
@@ -249,6 +262,7 @@ class Store extends CacheableStore {
         blockProvider,
         stateAndBlockProvider,
         earliestBlobSidecarSlotProvider,
+        hotStateCache,
         stateTaskQueue,
         initialCheckpoint,
         time,
@@ -272,6 +286,7 @@ class Store extends CacheableStore {
       final BlockProvider blockProvider,
       final StateAndBlockSummaryProvider stateAndBlockProvider,
       final EarliestBlobSidecarSlotProvider earliestBlobSidecarSlotProvider,
+      final PersistentHotStateCache hotStateCache,
       final Optional<Checkpoint> initialCheckpoint,
       final UInt64 time,
       final UInt64 genesisTime,
@@ -300,6 +315,7 @@ class Store extends CacheableStore {
         blockProvider,
         stateAndBlockProvider,
         earliestBlobSidecarSlotProvider,
+        hotStateCache,
         initialCheckpoint,
         time,
         genesisTime,
@@ -383,6 +399,32 @@ class Store extends CacheableStore {
                     "memory_epoch_states_cache_size",
                     "Number of Epoch aligned states held in the in-memory store"));
       }
+      // Only updated when a state cache memory report is requested, which is too expensive to
+      // compute on a schedule
+      stateCacheUniqueBytesGauge =
+          Optional.of(
+              SettableGauge.create(
+                  metricsSystem,
+                  TekuMetricCategory.STORAGE,
+                  "memory_states_last_report_unique_bytes",
+                  "Estimated bytes retained only by individual states among the newest cached "
+                      + "states analyzed by the last on-demand state cache memory report"));
+      stateCacheSharedBytesGauge =
+          Optional.of(
+              SettableGauge.create(
+                  metricsSystem,
+                  TekuMetricCategory.STORAGE,
+                  "memory_states_last_report_shared_bytes",
+                  "Estimated bytes of tree nodes shared between the newest cached states "
+                      + "analyzed by the last on-demand state cache memory report"));
+      stateCacheSkippedStatesGauge =
+          Optional.of(
+              SettableGauge.create(
+                  metricsSystem,
+                  TekuMetricCategory.STORAGE,
+                  "memory_states_last_report_skipped_count",
+                  "Number of older cached states not analyzed by the last on-demand state cache "
+                      + "memory report"));
       states.startMetrics();
       checkpointStates.startMetrics();
     } finally {
@@ -396,6 +438,33 @@ class Store extends CacheableStore {
     return forkChoiceStrategy;
   }
 
+  @Override
+  public StateCacheMemoryReport getStateCacheMemoryReport() {
+    final Map<CachedState, TreeNode> cachedStates = new HashMap<>();
+    states
+        .getCachedValues()
+        .forEach(
+            (blockRoot, stateAndBlockSummary) ->
+                cachedStates.put(
+                    new CachedState(STATES_CACHE, stateAndBlockSummary.getSlot(), blockRoot),
+                    stateAndBlockSummary.getState().getBackingNode()));
+    checkpointStates
+        .getCachedValues()
+        .forEach(
+            (slotAndBlockRoot, state) ->
+                cachedStates.put(
+                    new CachedState(
+                        CHECKPOINT_STATES_CACHE,
+                        slotAndBlockRoot.getSlot(),
+                        slotAndBlockRoot.getBlockRoot()),
+                    state.getBackingNode()));
+    final StateCacheMemoryReport report = StateCacheMemoryReport.create(cachedStates);
+    stateCacheUniqueBytesGauge.ifPresent(gauge -> gauge.set(report.totalUniqueBytes()));
+    stateCacheSharedBytesGauge.ifPresent(gauge -> gauge.set(report.sharedBytes()));
+    stateCacheSkippedStatesGauge.ifPresent(gauge -> gauge.set(report.skippedStates()));
+    return report;
+  }
+
   @Override
   @VisibleForTesting
   public void clearCaches() {
@@ -758,6 +827,9 @@ class Store extends CacheableStore {
   @Override
   void cacheStates(final Map<Bytes32, StateAndBlockSummary> stateAndBlockSummaries) {
     states.cacheAll(stateAndBlockSummaries);
+    stateAndBlockSummaries.values().stream()
+        .filter(state -> isSlotAtNthEpochBoundary(state.getSlot(), state.getParentRoot(), 1))
+        .forEach(hotStateCache::put);
   }
 
   /** Non-synchronized, no lock, unsafe if Store is not locked externally */
@@ -787,18 +859,21 @@ class Store extends CacheableStore {
   void setHighestVotedValidatorIndex(final UInt64 highestVotedValidatorIndex) {
     this.highestVotedValidatorIndex = highestVotedValidatorIndex;
 
-    // Expand votes array if needed
-    if (highestVotedValidatorIndex.isGreaterThanOrEqualTo(votes.length)) {
-      this.votes =
-          Arrays.copyOf(
-              votes, highestVotedValidatorIndex.plus(VOTE_TRACKER_SPARE_CAPACITY).intValue());
+    // Expand votes table if needed
+    if (highestVotedValidatorIndex.isGreaterThanOrEqualTo(votes.capacity())) {
+      votes.ensureCapacity(highestVotedValidatorIndex.plus(VOTE_TRACKER_SPARE_CAPACITY).intValue());
     }
   }
 
   /** Non-synchronized, no lock, unsafe if Store is not locked externally */
   @Override
   void setVote(final int index, final VoteTracker voteTracker) {
-    votes[index] = voteTracker;
+    votes.setVote(index, voteTracker);
+  }
+
+  /** Non-synchronized, no lock, unsafe if Store is not locked externally */
+  VoteTable getVoteTable() {
+    return votes;
   }
 
   UInt64 getHighestVotedValidatorIndex() {
@@ -813,10 +888,7 @@ class Store extends CacheableStore {
   VoteTracker getVote(final UInt64 validatorIndex) {
     readVotesLock.lock();
     try {
-      if (validatorIndex.intValue() >= votes.length) {
-        return null;
-      }
-      return votes[validatorIndex.intValue()];
+      return votes.getVote(validatorIndex.intValue());
     } finally {
       readVotesLock.unlock();
     }
@@ -880,7 +952,10 @@ class Store extends CacheableStore {
         .thenCompose(
             maybeTask ->
                 maybeTask.isPresent()
-                    ? states.perform(maybeTask.get()).thenPeek(this::cacheIfEpochState)
+                    ? states
+                        .perform(maybeTask.get())
+                        .thenPeek(this::cacheIfEpochState)
+                        .thenPeek(maybeState -> maybeState.ifPresent(hotStateCache::put))
                     : EmptyStoreResults.EMPTY_STATE_AND_BLOCK_SUMMARY_FUTURE);
   }
 
@@ -955,7 +1030,8 @@ class Store extends CacheableStore {
                     () -> getClosestAvailableBlockRootAndState(blockRoot),
                     stateProvider,
                     Optional.empty(),
-                    hotStatePersistenceFrequencyInEpochs))));
+                    hotStatePersistenceFrequencyInEpochs),
+                hotStateCache)));
   }
 
   private Optional<BlockRootAndState> getClosestAvailableBlockRootAndState(
@@ -1042,6 +1118,7 @@ class Store extends CacheableStore {
   void removeStateAndBlock(final Bytes32 root) {
     blocks.remove(root);
     states.remove(root);
+    hotStateCache.remove(root);
     maybeEpochStates.ifPresent(
         epochStates -> {
           if (!finalizedAnchor.getRoot().equals(root)) {
@@ -1056,6 +1133,7 @@ class Store extends CacheableStore {
   void updateFinalizedAnchor(final AnchorPoint latestFinalized) {
     pruneOldFinalizedStateFromEpochCache(this.finalizedAnchor);
     finalizedAnchor = latestFinalized;
+    hotStateCache.prune(latestFinalized.getSlot());
     cacheFinalizedAnchorPoint(latestFinalized);
   }
 
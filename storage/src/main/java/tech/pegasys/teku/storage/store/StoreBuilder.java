@@ -24,6 +24,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.EarliestBlobSidecarSlotProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -43,6 +44,7 @@ public class StoreBuilder {
   private BlockProvider blockProvider;
   private StateAndBlockSummaryProvider stateAndBlockProvider;
   private EarliestBlobSidecarSlotProvider earliestBlobSidecarSlotProvider;
+  private PersistentHotStateCache hotStateCache = PersistentHotStateCache.NOOP;
   private StoreConfig storeConfig = StoreConfig.createDefault();
 
   private final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot = new HashMap<>();
@@ -116,6 +118,7 @@ public class StoreBuilder {
           blockProvider,
           stateAndBlockProvider,
           earliestBlobSidecarSlotProvider,
+          hotStateCache,
           anchor,
           time,
           genesisTime,
@@ -135,6 +138,7 @@ public class StoreBuilder {
         blockProvider,
         stateAndBlockProvider,
         earliestBlobSidecarSlotProvider,
+        hotStateCache,
         anchor,
         time,
         genesisTime,
@@ -204,6 +208,12 @@ public class StoreBuilder {
     return this;
   }
 
+  public StoreBuilder hotStateCache(final PersistentHotStateCache hotStateCache) {
+    checkNotNull(hotStateCache);
+    this.hotStateCache = hotStateCache;
+    return this;
+  }
+
   public StoreBuilder anchor(final Checkpoint anchorPoint) {
     checkNotNull(anchorPoint);
     return anchor(Optional.of(anchorPoint));
@@ -30,6 +30,9 @@ public class StoreConfig {
 
   public static final int DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY = 0;
 
+  public static final int DEFAULT_HOT_STATE_DISK_CACHE_SIZE = 0;
+  public static final boolean DEFAULT_HOT_STATE_DISK_CACHE_COMPRESSION_ENABLED = true;
+
   private final int stateCacheSize;
 
   private final int epochStateCacheSize;
@@ -37,6 +40,8 @@ public class StoreConfig {
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
   private final int earliestAvailableBlockSlotFrequency;
+  private final int hotStateDiskCacheSize;
+  private final boolean hotStateDiskCacheCompressionEnabled;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -44,13 +49,17 @@ public class StoreConfig {
       final int checkpointStateCacheSize,
       final int hotStatePersistenceFrequencyInEpochs,
       final int earliestAvailableBlockSlotFrequency,
-      final int epochStateCacheSize) {
+      final int epochStateCacheSize,
+      final int hotStateDiskCacheSize,
+      final boolean hotStateDiskCacheCompressionEnabled) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
     this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotFrequency;
     this.epochStateCacheSize = epochStateCacheSize;
+    this.hotStateDiskCacheSize = hotStateDiskCacheSize;
+    this.hotStateDiskCacheCompressionEnabled = hotStateDiskCacheCompressionEnabled;
   }
 
   public static Builder builder() {
@@ -85,6 +94,14 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  public int getHotStateDiskCacheSize() {
+    return hotStateDiskCacheSize;
+  }
+
+  public boolean isHotStateDiskCacheCompressionEnabled() {
+    return hotStateDiskCacheCompressionEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -98,7 +115,9 @@ public class StoreConfig {
         && epochStateCacheSize == that.epochStateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && hotStateDiskCacheSize == that.hotStateDiskCacheSize
+        && hotStateDiskCacheCompressionEnabled == that.hotStateDiskCacheCompressionEnabled;
   }
 
   @Override
@@ -108,7 +127,9 @@ public class StoreConfig {
         epochStateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        hotStateDiskCacheSize,
+        hotStateDiskCacheCompressionEnabled);
   }
 
   public static class Builder {
@@ -120,6 +141,9 @@ public class StoreConfig {
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private int earliestAvailableBlockSlotFrequency = 0;
+    private int hotStateDiskCacheSize = DEFAULT_HOT_STATE_DISK_CACHE_SIZE;
+    private boolean hotStateDiskCacheCompressionEnabled =
+        DEFAULT_HOT_STATE_DISK_CACHE_COMPRESSION_ENABLED;
 
     private Builder() {}
 
@@ -130,7 +154,9 @@ public class StoreConfig {
           checkpointStateCacheSize,
           hotStatePersistenceFrequencyInEpochs,
           earliestAvailableBlockSlotFrequency,
-          epochStateCacheSize);
+          epochStateCacheSize,
+          hotStateDiskCacheSize,
+          hotStateDiskCacheCompressionEnabled);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -175,6 +201,18 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder hotStateDiskCacheSize(final int hotStateDiskCacheSize) {
+      validateCacheSize(hotStateDiskCacheSize);
+      this.hotStateDiskCacheSize = hotStateDiskCacheSize;
+      return this;
+    }
+
+    public Builder hotStateDiskCacheCompressionEnabled(
+        final boolean hotStateDiskCacheCompressionEnabled) {
+      this.hotStateDiskCacheCompressionEnabled = hotStateDiskCacheCompressionEnabled;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
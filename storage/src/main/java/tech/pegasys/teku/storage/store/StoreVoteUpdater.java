@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.concurrent.locks.ReadWriteLock;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
@@ -62,6 +63,12 @@ public class StoreVoteUpdater implements VoteUpdater {
     highestVotedValidatorIndex = highestVotedValidatorIndex.max(validatorIndex);
   }
 
+  @Override
+  public Optional<VoteTable> getVoteTable() {
+    // Only valid while the store votes lock is held, as it is when applying score changes
+    return votes.isEmpty() ? Optional.of(store.getVoteTable()) : Optional.empty();
+  }
+
   @Override
   public Bytes32 applyForkChoiceScoreChanges(
       final UInt64 currentEpoch,
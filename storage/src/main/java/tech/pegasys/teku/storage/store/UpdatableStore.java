@@ -37,6 +37,12 @@ public interface UpdatableStore extends ReadOnlyStore {
   @Override
   ForkChoiceStrategy getForkChoiceStrategy();
 
+  /**
+   * Walks the trees of all cached states to estimate how much memory each of them retains on its
+   * own and how much is shared between them. This is expensive and intended for debugging.
+   */
+  StateCacheMemoryReport getStateCacheMemoryReport();
+
   /** Clears in-memory caches. This is not something you'll want to do in production codee... */
   void clearCaches();
 
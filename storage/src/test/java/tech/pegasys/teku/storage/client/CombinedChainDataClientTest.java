@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -245,6 +246,44 @@ class CombinedChainDataClientTest {
     verify(store, never()).retrieveStateAtSlot(slotAndBlockRoot);
   }
 
+  @Test
+  void getBlockAsSszByBlockRoot_shouldSerializeBlockHeldInMemory() {
+    when(recentChainData.getStore()).thenReturn(store);
+    when(store.getBlockIfAvailable(firstBlock.getRoot())).thenReturn(Optional.of(firstBlock));
+
+    final Optional<Bytes> result =
+        SafeFutureAssert.safeJoin(client.getBlockAsSszByBlockRoot(firstBlock.getRoot()));
+    assertThat(result).contains(firstBlock.sszSerialize());
+    verify(historicalChainData, never()).getBlockAsSszByBlockRoot(any());
+  }
+
+  @Test
+  void getBlockAsSszByBlockRoot_shouldReturnStoredSszWhenNotInMemory() {
+    when(recentChainData.getStore()).thenReturn(store);
+    when(store.getBlockIfAvailable(firstBlock.getRoot())).thenReturn(Optional.empty());
+    when(historicalChainData.getBlockAsSszByBlockRoot(firstBlock.getRoot()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(firstBlock.sszSerialize())));
+
+    final Optional<Bytes> result =
+        SafeFutureAssert.safeJoin(client.getBlockAsSszByBlockRoot(firstBlock.getRoot()));
+    assertThat(result).contains(firstBlock.sszSerialize());
+    verify(historicalChainData, never()).getBlockByBlockRoot(any());
+  }
+
+  @Test
+  void getBlobSidecarAsSszByKey_shouldReturnStoredSsz() {
+    final SlotAndBlockRootAndBlobIndex key =
+        new SlotAndBlockRootAndBlobIndex(
+            sidecar.getSlot(), sidecar.getBlockRoot(), sidecar.getIndex());
+    when(recentChainData.getBlobSidecars(key.getSlotAndBlockRoot())).thenReturn(Optional.empty());
+    when(historicalChainData.getBlobSidecarAsSsz(key))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(sidecar.sszSerialize())));
+
+    final Optional<Bytes> result = SafeFutureAssert.safeJoin(client.getBlobSidecarAsSszByKey(key));
+    assertThat(result).contains(sidecar.sszSerialize());
+    verify(historicalChainData, never()).getBlobSidecar(any());
+  }
+
   @Test
   void getsBlobSidecarBySlotAndBlockRootAndBlobIndex() {
     final SlotAndBlockRootAndBlobIndex correctKey =
@@ -27,6 +27,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.SingleBlobSidecarProvider;
 import tech.pegasys.teku.dataproviders.lookup.SingleBlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
@@ -86,6 +87,7 @@ public class StorageBackedRecentChainDataTest {
             SingleBlockProvider.NOOP,
             SingleBlobSidecarProvider.NOOP,
             storageQueryChannel,
+            PersistentHotStateCache.NOOP,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -137,6 +139,7 @@ public class StorageBackedRecentChainDataTest {
             SingleBlockProvider.NOOP,
             SingleBlobSidecarProvider.NOOP,
             storageQueryChannel,
+            PersistentHotStateCache.NOOP,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -191,6 +194,7 @@ public class StorageBackedRecentChainDataTest {
             SingleBlockProvider.NOOP,
             SingleBlobSidecarProvider.NOOP,
             storageQueryChannel,
+            PersistentHotStateCache.NOOP,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -241,6 +245,7 @@ public class StorageBackedRecentChainDataTest {
             SingleBlockProvider.NOOP,
             SingleBlobSidecarProvider.NOOP,
             storageQueryChannel,
+            PersistentHotStateCache.NOOP,
             storageUpdateChannel,
             voteUpdateChannel,
             finalizedCheckpointChannel,
@@ -18,16 +18,22 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
@@ -123,6 +129,52 @@ public class ForkChoiceStrategyTest extends AbstractBlockMetadataStoreTest {
     verify(protoArray, never()).markNodeValid(any());
   }
 
+  @Test
+  void blockDataQueries_shouldNotWaitForInProgressUpdates() throws Exception {
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+    final SignedBlockAndState block1 = chainBuilder.generateBlockAtSlot(1);
+    final ProtoArray protoArray =
+        spy(
+            ProtoArray.builder()
+                .spec(spec)
+                .currentEpoch(ZERO)
+                .finalizedCheckpoint(genesis.getState().getFinalizedCheckpoint())
+                .justifiedCheckpoint(genesis.getState().getCurrentJustifiedCheckpoint())
+                .build());
+    addBlocksFromBuilder(chainBuilder, protoArray);
+    final ForkChoiceStrategy strategy = ForkChoiceStrategy.initialize(spec, protoArray);
+
+    final CountDownLatch updateStarted = new CountDownLatch(1);
+    final CountDownLatch releaseUpdate = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              updateStarted.countDown();
+              releaseUpdate.await();
+              return invocation.callRealMethod();
+            })
+        .when(protoArray)
+        .markNodeValid(block1.getRoot());
+    final CompletableFuture<Void> update =
+        CompletableFuture.runAsync(
+            () -> strategy.onExecutionPayloadResult(block1.getRoot(), PayloadStatus.VALID, false));
+    try {
+      assertThat(updateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      // The update holds the proto array write lock until released
+      assertThat(
+              CompletableFuture.supplyAsync(
+                  () -> strategy.getAncestor(block1.getRoot(), genesis.getSlot())))
+          .succeedsWithin(Duration.ofSeconds(5))
+          .isEqualTo(Optional.of(genesis.getRoot()));
+      assertThat(CompletableFuture.supplyAsync(() -> strategy.blockSlot(block1.getRoot())))
+          .succeedsWithin(Duration.ofSeconds(5))
+          .isEqualTo(Optional.of(block1.getSlot()));
+    } finally {
+      releaseUpdate.countDown();
+    }
+    assertThat(update).succeedsWithin(Duration.ofSeconds(5));
+  }
+
   @Test
   public void findHead_worksForChainInitializedFromNonGenesisAnchor() {
     // Set up store with an anchor point that has justified and finalized checkpoints prior to its
@@ -275,6 +327,24 @@ public class ForkChoiceStrategyTest extends AbstractBlockMetadataStoreTest {
     assertThat(strategy.contains(block2.getRoot())).isFalse();
   }
 
+  @Test
+  void applyTransaction_shouldReuseBlockDataForUnchangedNodes() {
+    final StorageSystem storageSystem = initStorageSystem();
+    final SignedBlockAndState block1 = storageSystem.chainUpdater().addNewBestBlock();
+    final SignedBlockAndState block2 = storageSystem.chainUpdater().addNewBestBlock();
+
+    final ForkChoiceStrategy strategy = getProtoArray(storageSystem);
+    final ProtoNodeData block1Data = strategy.getBlockData(block1.getRoot()).orElseThrow();
+    strategy.applyUpdate(
+        emptyList(),
+        emptySet(),
+        Map.of(block2.getRoot(), block2.getSlot()),
+        storageSystem.recentChainData().getFinalizedCheckpoint().orElseThrow());
+
+    assertThat(strategy.getBlockData(block1.getRoot())).containsSame(block1Data);
+    assertThat(strategy.getBlockData(block2.getRoot())).isEmpty();
+  }
+
   @Test
   void applyTransaction_shouldAddNewBlocks() {
     final StorageSystem storageSystem = initStorageSystem();
@@ -14,11 +14,18 @@
 package tech.pegasys.teku.storage.protoarray;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.storage.protoarray.ProtoArrayScoreCalculator.computeDeltas;
 import static tech.pegasys.teku.storage.protoarray.ProtoArrayTestUtil.createStoreToManipulateVotes;
 import static tech.pegasys.teku.storage.protoarray.ProtoArrayTestUtil.getHash;
 
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
@@ -28,6 +35,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTable;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
@@ -581,6 +589,166 @@ public class ProtoArrayScoreCalculatorTest {
     }
   }
 
+  @Test
+  void computeDeltas_readsVotesFromVoteTable() {
+    final UInt64 balance = UInt64.valueOf(42);
+    indices.put(getHash(1), 0);
+    indices.put(getHash(2), 1);
+
+    final VoteTable votes = new VoteTable(3);
+    votes.setVote(0, new VoteTracker(getHash(1), getHash(2), UInt64.ONE));
+    votes.setVote(1, new VoteTracker(getHash(1), getHash(1), UInt64.ONE));
+    // Validator 2 has never voted
+    final VoteUpdater tableStore = mockTableStore(votes, 2);
+    oldBalances.addAll(List.of(balance, balance, balance));
+    newBalances.addAll(List.of(balance, balance, balance));
+
+    List<Long> deltas =
+        computeDeltas(
+            tableStore,
+            indices.size(),
+            this::getIndex,
+            oldBalances,
+            newBalances,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+
+    assertThat(deltas).containsExactly(-balance.longValue(), balance.longValue());
+    verify(tableStore, never()).getVote(any());
+    verify(tableStore).putVote(ZERO, new VoteTracker(getHash(2), getHash(2), UInt64.ONE));
+    verify(tableStore, never()).putVote(UInt64.ONE, votes.getVote(1));
+    verify(tableStore, never()).putVote(UInt64.valueOf(2), VoteTracker.DEFAULT);
+  }
+
+  @Test
+  void computeDeltas_sumsDeltasAcrossValidatorChunks() {
+    final int validatorCount = ProtoArrayScoreCalculator.VALIDATORS_PER_CHUNK * 2 + 5;
+    indices.put(getHash(1), 0);
+    indices.put(getHash(2), 1);
+
+    final VoteTable votes = new VoteTable(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      // Each validator moves its vote from block 1 to block 2
+      votes.setVote(i, new VoteTracker(getHash(1), getHash(2), ZERO));
+      oldBalances.add(UInt64.valueOf(1));
+      newBalances.add(UInt64.valueOf(2));
+    }
+    final VoteUpdater tableStore = mockTableStore(votes, validatorCount - 1);
+
+    List<Long> deltas =
+        computeDeltas(
+            tableStore,
+            indices.size(),
+            this::getIndex,
+            oldBalances,
+            newBalances,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+
+    assertThat(deltas).containsExactly(-(long) validatorCount, 2L * validatorCount);
+    verify(tableStore)
+        .putVote(UInt64.valueOf(validatorCount - 1), new VoteTracker(getHash(2), getHash(2), ZERO));
+  }
+
+  @Test
+  void computeDeltas_pendingVotesOnlyMatchesAllVotesWhenBalancesAreUnchanged() {
+    final long balance = 42;
+    indices.put(getHash(1), 0);
+    indices.put(getHash(2), 1);
+
+    final VoteTable votes = new VoteTable(5);
+    // Settled vote
+    votes.setVote(0, new VoteTracker(getHash(1), getHash(1), UInt64.ONE));
+    // Moved vote
+    votes.setVote(1, new VoteTracker(getHash(1), getHash(2), UInt64.ONE));
+    // Newly equivocating
+    votes.setVote(2, new VoteTracker(getHash(2), getHash(2), UInt64.ONE, true, false));
+    // Already equivocating
+    votes.setVote(3, new VoteTracker(getHash(2), getHash(1), UInt64.ONE, true, true));
+    // Validator 4 has never voted
+    final long[] balances = {balance, balance, balance, balance, balance};
+
+    final LongList pendingDeltas =
+        computeDeltas(
+            mockTableStore(votes, 4),
+            indices.size(),
+            this::getIndex,
+            balances,
+            balances,
+            true,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+    final LongList allDeltas =
+        computeDeltas(
+            mockTableStore(votes, 4),
+            indices.size(),
+            this::getIndex,
+            balances,
+            balances,
+            false,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+
+    assertThat(pendingDeltas).containsExactly(-balance, 0L);
+    assertThat(pendingDeltas).isEqualTo(allDeltas);
+  }
+
+  @Test
+  void computeDeltas_pendingVotesOnlyShouldNotReapplyVotes() {
+    final long balance = 42;
+    indices.put(getHash(1), 0);
+    indices.put(getHash(2), 1);
+
+    final VoteTable votes = new VoteTable(2);
+    votes.setVote(0, new VoteTracker(getHash(1), getHash(1), UInt64.ONE));
+    votes.setVote(1, new VoteTracker(getHash(1), getHash(2), UInt64.ONE));
+    final VoteUpdater tableStore = mockTableStore(votes, 1);
+    // Write applied votes back to the table as the real store does
+    doAnswer(
+            invocation -> {
+              votes.setVote(
+                  invocation.<UInt64>getArgument(0).intValue(), invocation.getArgument(1));
+              return null;
+            })
+        .when(tableStore)
+        .putVote(any(), any());
+    final long[] balances = {balance, balance};
+
+    assertThat(computePendingDeltas(tableStore, balances)).containsExactly(-balance, balance);
+    // The moved vote has been applied so is no longer pending
+    assertThat(computePendingDeltas(tableStore, balances)).containsExactly(0L, 0L);
+  }
+
+  private LongList computePendingDeltas(final VoteUpdater tableStore, final long[] balances) {
+    return computeDeltas(
+        tableStore,
+        indices.size(),
+        this::getIndex,
+        balances,
+        balances,
+        true,
+        oldProposerBoostRoot,
+        newProposerBoostRoot,
+        oldProposerBoostAmount,
+        newProposerBoostAmount);
+  }
+
+  private VoteUpdater mockTableStore(final VoteTable votes, final int highestVotedValidatorIndex) {
+    final VoteUpdater tableStore = mock(VoteUpdater.class);
+    when(tableStore.getVoteTable()).thenReturn(Optional.of(votes));
+    when(tableStore.getHighestVotedValidatorIndex())
+        .thenReturn(UInt64.valueOf(highestVotedValidatorIndex));
+    return tableStore;
+  }
+
   private void votesShouldBeUpdated(final VoteUpdater store) {
     UInt64.rangeClosed(ZERO, store.getHighestVotedValidatorIndex())
         .forEach(
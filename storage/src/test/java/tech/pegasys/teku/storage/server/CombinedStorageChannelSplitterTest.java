@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.storage.server;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -20,11 +21,14 @@ import static org.mockito.Mockito.verify;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 
@@ -36,6 +40,49 @@ class CombinedStorageChannelSplitterTest {
   private final CombinedStorageChannelSplitter splitter =
       new CombinedStorageChannelSplitter(asyncRunner, storageUpdateChannel, storageQueryChannel);
 
+  @Test
+  void shouldQueueQueriesForDifferentDataOnSeparateRunners() {
+    final StubAsyncRunner blockQueryRunner = new StubAsyncRunner();
+    final StubAsyncRunner blobSidecarQueryRunner = new StubAsyncRunner();
+    final StubAsyncRunner hotStateQueryRunner = new StubAsyncRunner();
+    final StubAsyncRunner finalizedStateQueryRunner = new StubAsyncRunner();
+    final CombinedStorageChannelSplitter separatedSplitter =
+        new CombinedStorageChannelSplitter(
+            asyncRunner,
+            blockQueryRunner,
+            blobSidecarQueryRunner,
+            hotStateQueryRunner,
+            finalizedStateQueryRunner,
+            storageUpdateChannel,
+            storageQueryChannel);
+
+    separatedSplitter.getLatestAvailableFinalizedState(UInt64.ONE);
+    separatedSplitter.getHotBlockAndStateByBlockRoot(Bytes32.ZERO);
+    separatedSplitter.getBlockByBlockRoot(Bytes32.ZERO);
+    separatedSplitter.getBlobSidecarKeys(UInt64.ONE);
+    separatedSplitter.getAnchor();
+
+    blockQueryRunner.executeQueuedActions();
+    verify(storageQueryChannel).getBlockByBlockRoot(Bytes32.ZERO);
+    verify(storageQueryChannel, never()).getLatestAvailableFinalizedState(any());
+    verify(storageQueryChannel, never()).getHotBlockAndStateByBlockRoot(any());
+    verify(storageQueryChannel, never()).getBlobSidecarKeys(any(UInt64.class));
+    verify(storageQueryChannel, never()).getAnchor();
+
+    blobSidecarQueryRunner.executeQueuedActions();
+    verify(storageQueryChannel).getBlobSidecarKeys(UInt64.ONE);
+
+    hotStateQueryRunner.executeQueuedActions();
+    verify(storageQueryChannel).getHotBlockAndStateByBlockRoot(Bytes32.ZERO);
+    verify(storageQueryChannel, never()).getLatestAvailableFinalizedState(any());
+
+    finalizedStateQueryRunner.executeQueuedActions();
+    verify(storageQueryChannel).getLatestAvailableFinalizedState(UInt64.ONE);
+
+    asyncRunner.executeQueuedActions();
+    verify(storageQueryChannel).getAnchor();
+  }
+
   @ParameterizedTest
   @MethodSource("updateChannelMethods")
   void shouldApplyUpdateMethodsSynchronously(final Method method) throws Exception {
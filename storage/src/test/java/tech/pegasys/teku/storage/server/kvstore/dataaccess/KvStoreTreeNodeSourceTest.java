@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -38,6 +40,11 @@ class KvStoreTreeNodeSourceTest {
 
   private final KvStoreTreeNodeSource nodeSource = new KvStoreTreeNodeSource(accessor, schema);
 
+  private final Cache<Bytes32, CompressedBranchInfo> branchNodeCache = LRUCache.create(10);
+  private final Cache<Bytes32, Bytes> leafNodeCache = LRUCache.create(10);
+  private final KvStoreTreeNodeSource cachingNodeSource =
+      new KvStoreTreeNodeSource(accessor, schema, branchNodeCache, leafNodeCache);
+
   @Test
   void loadBranchNode_shouldLoadBranchNode() {
     final Bytes32 root = dataStructureUtil.randomBytes32();
@@ -85,6 +92,51 @@ class KvStoreTreeNodeSourceTest {
     assertThat(nodeSource.loadLeafNode(root, 23)).isEqualTo(root);
   }
 
+  @Test
+  void loadBranchNode_shouldUseCachedBranchNode() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 1, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+    assertThat(cachingNodeSource.loadBranchNode(root, 2)).isEqualTo(branchInfo);
+
+    delete(root);
+
+    assertThat(branchNodeCache.getCached(root)).contains(branchInfo);
+    assertThat(cachingNodeSource.loadBranchNode(root, 2)).isEqualTo(branchInfo);
+  }
+
+  @Test
+  void loadLeafNode_shouldUseCachedLeafData() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final Bytes value = dataStructureUtil.randomBytes(48);
+    storeLeaf(root, value);
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(value);
+
+    delete(root);
+
+    assertThat(leafNodeCache.getCached(root)).contains(value);
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(value);
+  }
+
+  @Test
+  void loadLeafNode_shouldNotCacheUnstoredLeaves() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(root);
+    assertThat(leafNodeCache.size()).isZero();
+
+    final Bytes value = dataStructureUtil.randomBytes(48);
+    storeLeaf(root, value);
+    assertThat(cachingNodeSource.loadLeafNode(root, 5)).isEqualTo(value);
+  }
+
+  private void delete(final Bytes32 root) {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeLeaves(), root);
+      transaction.commit();
+    }
+  }
+
   private void storeLeaf(final Bytes32 root, final Bytes value) {
     try (final KvStoreTransaction transaction = accessor.startTransaction()) {
       transaction.put(schema.getColumnFinalizedStateMerkleTreeLeaves(), root, value);
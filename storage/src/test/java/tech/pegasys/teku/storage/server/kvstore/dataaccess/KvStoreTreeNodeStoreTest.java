@@ -15,18 +15,24 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedTreeState;
@@ -36,11 +42,16 @@ class KvStoreTreeNodeStoreTest {
   private final Spec spec = TestSpecFactory.createDefault();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
   private final Set<Bytes32> knownBranchCache = new HashSet<>();
+  private final KvStoreAccessor db = mock(KvStoreAccessor.class);
   private final KvStoreTransaction transaction = mock(KvStoreTransaction.class);
   private final SchemaCombinedTreeState schema = new V6SchemaCombinedTreeState(spec);
 
   private final KvStoreTreeNodeStore store =
-      new KvStoreTreeNodeStore(knownBranchCache, transaction, schema);
+      new KvStoreTreeNodeStore(
+          knownBranchCache,
+          transaction,
+          schema,
+          new KvStoreTreeNodeReferenceCounts(db, transaction, schema));
 
   @Test
   void canSkipBranch_shouldSkipBranchWhenInKnownBranchCache() {
@@ -63,6 +74,16 @@ class KvStoreTreeNodeStoreTest {
     assertThat(store.getStoredLeafNodeCount()).isZero();
   }
 
+  @Test
+  void canSkipBranch_shouldSkipBranchWhenReferenceCounted() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    when(db.get(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), root))
+        .thenReturn(Optional.of(UInt64.ONE));
+
+    assertThat(store.canSkipBranch(root, 3)).isTrue();
+    assertThat(store.getSkippedBranchNodeCount()).isEqualTo(1);
+  }
+
   @Test
   void canSkipBranch_shouldSkipBranchWhenNewlyStored() {
     final Bytes32 root = dataStructureUtil.randomBytes32();
@@ -147,4 +168,21 @@ class KvStoreTreeNodeStoreTest {
     assertThat(store.getStoredBranchNodeCount()).isEqualTo(3);
     assertThat(store.getStoredBranchRoots()).containsExactlyInAnyOrder(root1, root2, root3);
   }
+
+  @Test
+  void storeBranchNode_shouldReferenceStoredChildren() {
+    final Bytes32 storedChild = dataStructureUtil.randomBytes32();
+    final Bytes32 leafValueChild = dataStructureUtil.randomBytes32();
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    store.storeBranchNode(storedChild, 10, 1, new Bytes32[0]);
+
+    store.storeBranchNode(root, 5, 1, new Bytes32[] {leafValueChild, storedChild});
+
+    verify(transaction)
+        .put(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), storedChild, UInt64.ONE);
+    verify(transaction)
+        .put(schema.getColumnFinalizedStateMerkleTreeReferencedChildren(), root, Bytes.of(0b10));
+    verify(transaction, never())
+        .put(schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), leafValueChild, UInt64.ONE);
+  }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic.FinalizedStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class V4FinalizedStateDiffStorageLogicTest {
+
+  private static final int STATE_STORAGE_FREQUENCY = 10;
+  private static final int STATE_SNAPSHOT_FREQUENCY = 100;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaCombinedSnapshotState schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final V4FinalizedStateDiffStorageLogic<SchemaCombinedSnapshotState> logic =
+      new V4FinalizedStateDiffStorageLogic<>(
+          spec, STATE_STORAGE_FREQUENCY, STATE_SNAPSHOT_FREQUENCY);
+
+  @Test
+  void shouldStoreFirstStateAsSnapshot() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+
+    storeStates(state);
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), state.getSlot())).contains(state);
+    assertThat(db.size(schema.getColumnFinalizedStateDiffsBySlot())).isZero();
+    assertStateReloads(state);
+  }
+
+  @Test
+  void shouldStoreSubsequentStatesAsDiffs() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = nextState(state2, STATE_STORAGE_FREQUENCY);
+
+    storeStates(state1, state2, state3);
+
+    assertThat(db.size(schema.getColumnFinalizedStatesBySlot())).isEqualTo(1);
+    assertThat(db.get(schema.getColumnFinalizedStateDiffsBySlot(), state2.getSlot()))
+        .hasValueSatisfying(diff -> assertThat(diff.getBaseSlot()).isEqualTo(state1.getSlot()));
+    assertThat(db.get(schema.getColumnFinalizedStateDiffsBySlot(), state3.getSlot()))
+        .hasValueSatisfying(diff -> assertThat(diff.getBaseSlot()).isEqualTo(state2.getSlot()));
+    assertStateReloads(state1);
+    assertStateReloads(state2);
+    assertStateReloads(state3);
+  }
+
+  @Test
+  void shouldGetMostRecentStateBeforeRequestedSlot() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+
+    storeStates(state1, state2);
+
+    assertStateReloads(state1, state2.getSlot().decrement());
+    assertStateReloads(state2, state2.getSlot().plus(5));
+  }
+
+  @Test
+  void shouldNotStoreStateIfTooCloseToPreviousState() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY - 1);
+
+    storeStates(state1, state2);
+
+    assertThat(db.size(schema.getColumnFinalizedStatesBySlot())).isEqualTo(1);
+    assertThat(db.size(schema.getColumnFinalizedStateDiffsBySlot())).isZero();
+  }
+
+  @Test
+  void shouldStoreSnapshotWhenSnapshotFrequencyReached() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = nextState(state1, STATE_SNAPSHOT_FREQUENCY);
+
+    storeStates(state1, state2, state3);
+
+    assertThat(db.get(schema.getColumnFinalizedStatesBySlot(), state3.getSlot())).contains(state3);
+    assertThat(db.size(schema.getColumnFinalizedStateDiffsBySlot())).isEqualTo(1);
+    assertStateReloads(state3);
+  }
+
+  @Test
+  void shouldContinueDiffChainFromStoredStateInNewUpdater() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = nextState(state2, STATE_STORAGE_FREQUENCY);
+
+    storeStates(state1, state2);
+    storeStates(state3);
+
+    assertThat(db.get(schema.getColumnFinalizedStateDiffsBySlot(), state3.getSlot()))
+        .hasValueSatisfying(diff -> assertThat(diff.getBaseSlot()).isEqualTo(state2.getSlot()));
+    assertStateReloads(state3);
+  }
+
+  @Test
+  void shouldStopDiffChainWhenBaseStateWasDeleted() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = nextState(state2, STATE_STORAGE_FREQUENCY);
+    storeStates(state1, state2, state3);
+
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      logic.updater().deleteFinalizedState(db, transaction, schema, state2.getSlot());
+      transaction.commit();
+    }
+
+    assertStateReloads(state1, state3.getSlot());
+  }
+
+  @Test
+  void shouldStreamSnapshotAndDiffSlots() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(20));
+    final BeaconState state2 = nextState(state1, STATE_STORAGE_FREQUENCY);
+    final BeaconState state3 = nextState(state2, STATE_STORAGE_FREQUENCY);
+    storeStates(state1, state2, state3);
+
+    try (final Stream<UInt64> slots =
+        logic.streamFinalizedStateSlots(db, schema, UInt64.ZERO, UInt64.valueOf(1000))) {
+      assertThat(slots).containsExactly(state1.getSlot(), state2.getSlot(), state3.getSlot());
+    }
+    assertThat(logic.getEarliestAvailableFinalizedStateSlot(db, schema)).contains(state1.getSlot());
+  }
+
+  private BeaconState nextState(final BeaconState state, final int slotsAfter) {
+    return state.updated(
+        mutableState -> {
+          mutableState.setSlot(state.getSlot().plus(slotsAfter));
+          mutableState
+              .getBalances()
+              .setElement(0, mutableState.getBalances().getElement(0).plus(slotsAfter));
+          mutableState.getValidators().append(dataStructureUtil.randomValidator());
+          mutableState.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+        });
+  }
+
+  private void assertStateReloads(final BeaconState state) {
+    assertStateReloads(state, state.getSlot());
+  }
+
+  private void assertStateReloads(final BeaconState expectedState, final UInt64 slot) {
+    final Optional<BeaconState> loadedState =
+        logic.getLatestAvailableFinalizedState(db, schema, slot);
+    assertThat(loadedState).contains(expectedState);
+  }
+
+  private void storeStates(final BeaconState... states) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      final FinalizedStateUpdater<SchemaCombinedSnapshotState> updater = logic.updater();
+      for (BeaconState state : states) {
+        updater.addFinalizedState(db, transaction, schema, state);
+      }
+      transaction.commit();
+    }
+  }
+}
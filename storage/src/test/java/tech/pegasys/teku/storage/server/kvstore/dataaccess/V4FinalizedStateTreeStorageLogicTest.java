@@ -14,8 +14,16 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -78,6 +86,141 @@ class V4FinalizedStateTreeStorageLogicTest {
     assertStateReloads(state4);
   }
 
+  @Test
+  void shouldOnlyLoadNodesOnPathToAccessedBalance() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(4096);
+    storeState(state);
+
+    final KvStoreAccessor countingDb = spy(db);
+    final BeaconState loadedState =
+        logic.getLatestAvailableFinalizedState(countingDb, schema, state.getSlot()).orElseThrow();
+    assertThat(loadedState.getBalances().getElement(2000))
+        .isEqualTo(state.getBalances().getElement(2000));
+
+    // Loading the whole balances list would read more than a hundred branch nodes
+    verify(countingDb, atMost(25))
+        .get(eq(schema.getColumnFinalizedStateMerkleTreeBranches()), any());
+  }
+
+  @Test
+  void shouldOnlyKeepNodesReferencedByRemainingStatesAfterPruning() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    final BeaconState state2 = nextState(state1, 5);
+    storeState(state1);
+    storeState(state2);
+
+    deleteState(state1.getSlot());
+    assertThat(logic.pruneUnreferencedStateData(db, schema, Long.MAX_VALUE)).isPositive();
+
+    assertThat(logic.getLatestAvailableFinalizedState(db, schema, state1.getSlot())).isEmpty();
+    assertStateReloads(state2);
+
+    // Should be exactly the same data as if state1 had never been stored
+    final KvStoreAccessor expectedDb =
+        MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+    try (final KvStoreTransaction transaction = expectedDb.startTransaction()) {
+      new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000)
+          .updater()
+          .addFinalizedState(expectedDb, transaction, schema, state2);
+      transaction.commit();
+    }
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeBranches()))
+        .isEqualTo(expectedDb.getAll(schema.getColumnFinalizedStateMerkleTreeBranches()));
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeLeaves()))
+        .isEqualTo(expectedDb.getAll(schema.getColumnFinalizedStateMerkleTreeLeaves()));
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeReferenceCounts()))
+        .isEqualTo(expectedDb.getAll(schema.getColumnFinalizedStateMerkleTreeReferenceCounts()));
+    assertThat(getUnreferencedNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteAllNodesWhenAllStatesArePruned() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    final BeaconState state2 = nextState(state1, 5);
+    storeState(state1);
+    storeState(state2);
+
+    deleteState(state1.getSlot());
+    deleteState(state2.getSlot());
+    logic.pruneUnreferencedStateData(db, schema, Long.MAX_VALUE);
+
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeBranches())).isEmpty();
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeLeaves())).isEmpty();
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeReferenceCounts())).isEmpty();
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeReferencedChildren())).isEmpty();
+    assertThat(getUnreferencedNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldPruneIncrementallyWithinLimit() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    storeState(state);
+    deleteState(state.getSlot());
+
+    assertThat(logic.pruneUnreferencedStateData(db, schema, 1)).isEqualTo(1);
+    assertThat(getUnreferencedNodes()).isNotEmpty();
+
+    logic.pruneUnreferencedStateData(db, schema, Long.MAX_VALUE);
+    assertThat(db.getAll(schema.getColumnFinalizedStateMerkleTreeBranches())).isEmpty();
+  }
+
+  @Test
+  void shouldNotDeleteNodesReusedBeforePruning() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    storeState(state);
+    deleteState(state.getSlot());
+    storeState(state);
+
+    assertThat(logic.pruneUnreferencedStateData(db, schema, Long.MAX_VALUE)).isZero();
+
+    assertStateReloads(state);
+  }
+
+  @Test
+  void shouldSupportDeletingReferenceCountedStates() {
+    storeState(dataStructureUtil.randomBeaconState(UInt64.valueOf(3)));
+
+    assertThat(logic.isFinalizedStateDeletionSupported(db, schema)).isTrue();
+  }
+
+  @Test
+  void shouldNotSupportDeletingStatesStoredWithoutReferenceCounts() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(3));
+    storeState(state);
+    // States stored by earlier versions have no reference counts
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.delete(
+          schema.getColumnFinalizedStateMerkleTreeReferenceCounts(), state.hashTreeRoot());
+      transaction.commit();
+    }
+
+    assertThat(logic.isFinalizedStateDeletionSupported(db, schema)).isFalse();
+  }
+
+  private BeaconState nextState(final BeaconState state, final int slotsAfter) {
+    return state.updated(
+        mutableState -> {
+          mutableState.setSlot(state.getSlot().plus(slotsAfter));
+          mutableState
+              .getBalances()
+              .setElement(0, mutableState.getBalances().getElement(0).plus(slotsAfter));
+        });
+  }
+
+  private List<Bytes32> getUnreferencedNodes() {
+    try (final Stream<Bytes32> stream =
+        db.streamKeys(schema.getColumnFinalizedStateMerkleTreeUnreferencedNodes())) {
+      return stream.toList();
+    }
+  }
+
+  private void deleteState(final UInt64 slot) {
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      logic.updater().deleteFinalizedState(db, transaction, schema, slot);
+      transaction.commit();
+    }
+  }
+
   private void assertStateReloads(final BeaconState state) {
     assertStateReloads(state, state.getSlot());
   }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class RocksDbColumnProfileTest {
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final Map<String, KvStoreColumn<?, ?>> columns =
+      V6SchemaCombinedSnapshot.createV6(spec).getColumnMap();
+
+  @Test
+  void cacheSharesShouldCoverWholeCache() {
+    final double totalShare =
+        Arrays.stream(RocksDbColumnProfile.values())
+            .mapToDouble(RocksDbColumnProfile::getCacheShare)
+            .sum();
+    assertThat(totalShare).isCloseTo(1.0, within(0.0001));
+  }
+
+  @Test
+  void shouldUseLargeValueProfileForBlocksAndStates() {
+    assertThat(columns).containsKeys("HOT_BLOCKS_BY_ROOT", "FINALIZED_STATES_BY_SLOT");
+    assertThat(RocksDbColumnProfile.forColumn("HOT_BLOCKS_BY_ROOT"))
+        .isEqualTo(RocksDbColumnProfile.LARGE_VALUE);
+    assertThat(RocksDbColumnProfile.forColumn("FINALIZED_STATES_BY_SLOT"))
+        .isEqualTo(RocksDbColumnProfile.LARGE_VALUE);
+  }
+
+  @Test
+  void shouldUseIndexProfileForRootLookups() {
+    assertThat(columns).containsKey("SLOTS_BY_FINALIZED_ROOT");
+    assertThat(RocksDbColumnProfile.forColumn("SLOTS_BY_FINALIZED_ROOT"))
+        .isEqualTo(RocksDbColumnProfile.INDEX);
+  }
+
+  @Test
+  void shouldUseBlobSidecarProfileForBlobSidecars() {
+    assertThat(columns).containsKey("BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX");
+    assertThat(
+            RocksDbColumnProfile.forColumn("BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX"))
+        .isEqualTo(RocksDbColumnProfile.BLOB_SIDECAR);
+  }
+
+  @Test
+  void shouldUseDefaultProfileForUnknownColumns() {
+    assertThat(RocksDbColumnProfile.forColumn("VOTES")).isEqualTo(RocksDbColumnProfile.DEFAULT);
+    assertThat(RocksDbColumnProfile.forColumn("UNKNOWN")).isEqualTo(RocksDbColumnProfile.DEFAULT);
+  }
+}
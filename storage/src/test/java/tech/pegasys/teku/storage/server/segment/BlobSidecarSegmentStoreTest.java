@@ -0,0 +1,150 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+
+class BlobSidecarSegmentStoreTest {
+  private static final int SLOTS_PER_SEGMENT = 8;
+
+  @TempDir Path directory;
+
+  private BlobSidecarSegmentStore store;
+
+  @AfterEach
+  void tearDown() {
+    if (store != null) {
+      store.close();
+    }
+  }
+
+  @Test
+  void shouldStoreAndRetrieveBlobSidecars() {
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    final SlotAndBlockRootAndBlobIndex key0 = key(3, 0);
+    final SlotAndBlockRootAndBlobIndex key1 = key(3, 1);
+
+    store.add(Map.of(key0, blobSidecar(1), key1, blobSidecar(2)));
+
+    assertThat(store.get(key0)).contains(blobSidecar(1));
+    assertThat(store.get(key1)).contains(blobSidecar(2));
+    assertThat(store.get(key(3, 2))).isEmpty();
+    assertThat(store.contains(key1)).isTrue();
+    assertThat(store.getBlobSidecars(key0.getSlotAndBlockRoot()))
+        .containsExactly(blobSidecar(1), blobSidecar(2));
+    assertThat(store.getKeys(key0.getSlotAndBlockRoot())).containsExactly(key0, key1);
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReturnKeysInOrderAcrossSegments() {
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    final SlotAndBlockRootAndBlobIndex key1 = key(1, 0);
+    final SlotAndBlockRootAndBlobIndex key9 = key(9, 0);
+    final SlotAndBlockRootAndBlobIndex key17 = key(17, 0);
+    store.add(Map.of(key17, blobSidecar(3), key1, blobSidecar(1), key9, blobSidecar(2)));
+
+    assertThat(store.getSegmentCount()).isEqualTo(3);
+    assertThat(store.getKeys(UInt64.ZERO, UInt64.valueOf(100)))
+        .containsExactly(key1, key9, key17);
+    assertThat(store.getKeys(UInt64.valueOf(2), UInt64.valueOf(9))).containsExactly(key9);
+    assertThat(store.getKeys(UInt64.valueOf(10), UInt64.valueOf(2))).isEmpty();
+  }
+
+  @Test
+  void shouldDeleteSegmentFilesWhenAllBlobSidecarsAreRemoved() {
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    final SlotAndBlockRootAndBlobIndex key1 = key(1, 0);
+    final SlotAndBlockRootAndBlobIndex key2 = key(2, 0);
+    final SlotAndBlockRootAndBlobIndex key9 = key(9, 0);
+    store.add(Map.of(key1, blobSidecar(1), key2, blobSidecar(2), key9, blobSidecar(3)));
+
+    store.remove(List.of(key1));
+    assertThat(segmentFile(0, BlobSidecarSegmentStore.DATA_FILE_SUFFIX)).exists();
+
+    store.remove(List.of(key2));
+    assertThat(store.getSegmentCount()).isEqualTo(1);
+    assertThat(segmentFile(0, BlobSidecarSegmentStore.DATA_FILE_SUFFIX)).doesNotExist();
+    assertThat(segmentFile(0, BlobSidecarSegmentStore.INDEX_FILE_SUFFIX)).doesNotExist();
+    assertThat(store.get(key9)).contains(blobSidecar(3));
+  }
+
+  @Test
+  void shouldReloadSegmentsOnRestart() {
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    final SlotAndBlockRootAndBlobIndex key1 = key(1, 0);
+    final SlotAndBlockRootAndBlobIndex key2 = key(2, 0);
+    final SlotAndBlockRootAndBlobIndex key9 = key(9, 0);
+    store.add(Map.of(key1, blobSidecar(1), key2, blobSidecar(2), key9, blobSidecar(3)));
+    store.remove(List.of(key1));
+    store.close();
+
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+
+    assertThat(store.get(key1)).isEmpty();
+    assertThat(store.get(key2)).contains(blobSidecar(2));
+    assertThat(store.get(key9)).contains(blobSidecar(3));
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDiscardIncompleteIndexRecordOnRestart() throws IOException {
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    final SlotAndBlockRootAndBlobIndex key1 = key(1, 0);
+    store.add(Map.of(key1, blobSidecar(1)));
+    store.close();
+    Files.write(
+        segmentFile(0, BlobSidecarSegmentStore.INDEX_FILE_SUFFIX),
+        new byte[BlobSidecarSegmentStore.INDEX_RECORD_SIZE / 2],
+        StandardOpenOption.APPEND);
+
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    assertThat(store.get(key1)).contains(blobSidecar(1));
+    assertThat(Files.size(segmentFile(0, BlobSidecarSegmentStore.INDEX_FILE_SUFFIX)))
+        .isEqualTo(BlobSidecarSegmentStore.INDEX_RECORD_SIZE);
+
+    final SlotAndBlockRootAndBlobIndex key2 = key(2, 0);
+    store.add(Map.of(key2, blobSidecar(2)));
+    store.close();
+    store = BlobSidecarSegmentStore.create(directory, SLOTS_PER_SEGMENT);
+    assertThat(store.get(key2)).contains(blobSidecar(2));
+  }
+
+  private Path segmentFile(final long startSlot, final String suffix) {
+    return directory.resolve(startSlot + suffix);
+  }
+
+  private static SlotAndBlockRootAndBlobIndex key(final long slot, final long index) {
+    return new SlotAndBlockRootAndBlobIndex(
+        UInt64.valueOf(slot), Bytes32.fromHexStringLenient("0x" + slot), UInt64.valueOf(index));
+  }
+
+  private static Bytes blobSidecar(final int seed) {
+    return Bytes.repeat((byte) seed, 1024 + seed);
+  }
+}
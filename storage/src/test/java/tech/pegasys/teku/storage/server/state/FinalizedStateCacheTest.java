@@ -20,6 +20,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import java.util.List;
@@ -28,10 +29,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.storage.server.Database;
@@ -45,6 +49,7 @@ class FinalizedStateCacheTest {
   // We don't use soft references in unit tests to avoid intermittency
   private final FinalizedStateCache cache =
       new FinalizedStateCache(spec, database, MAXIMUM_CACHE_SIZE, false, 120);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   @BeforeEach
   public void setUp() {
@@ -112,6 +117,83 @@ class FinalizedStateCacheTest {
     assertThat(cache.getFinalizedState(ONE)).isEmpty();
   }
 
+  @Test
+  void shouldPrefetchStatesWhenRequestedSequentially() {
+    final FinalizedStateCache prefetchingCache = createPrefetchingCache(2);
+    chainBuilder.generateBlocksUpToSlot(spec.getSlotsPerEpoch(UInt64.ZERO));
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    when(database.getFinalizedCheckpoint()).thenReturn(Optional.of(finalizedCheckpoint(ONE)));
+    allowStreamingBlocks();
+
+    for (int i = 1; i <= FinalizedStatePrefetcher.SEQUENTIAL_REQUESTS_BEFORE_PREFETCH; i++) {
+      prefetchingCache.getFinalizedState(UInt64.valueOf(i));
+    }
+
+    assertThat(prefetchingCache.isCached(UInt64.valueOf(4))).isTrue();
+    assertThat(prefetchingCache.isCached(UInt64.valueOf(5))).isTrue();
+    assertThat(prefetchingCache.isCached(UInt64.valueOf(6))).isFalse();
+    // Each prefetched state is regenerated from the previous one
+    verify(database).streamFinalizedBlocks(UInt64.valueOf(4), UInt64.valueOf(4));
+    verify(database).streamFinalizedBlocks(UInt64.valueOf(5), UInt64.valueOf(5));
+    assertThat(getPrefetchCount("prefetched")).isEqualTo(2);
+
+    assertThat(prefetchingCache.getFinalizedState(UInt64.valueOf(4)))
+        .contains(chainBuilder.getStateAtSlot(4));
+    assertThat(getPrefetchCount("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotPrefetchStatesWhenRequestedRandomly() {
+    final FinalizedStateCache prefetchingCache = createPrefetchingCache(2);
+    chainBuilder.generateBlocksUpToSlot(spec.getSlotsPerEpoch(UInt64.ZERO));
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    when(database.getFinalizedCheckpoint()).thenReturn(Optional.of(finalizedCheckpoint(ONE)));
+    allowStreamingBlocks();
+
+    prefetchingCache.getFinalizedState(UInt64.valueOf(1));
+    prefetchingCache.getFinalizedState(UInt64.valueOf(5));
+    prefetchingCache.getFinalizedState(UInt64.valueOf(2));
+    prefetchingCache.getFinalizedState(UInt64.valueOf(3));
+
+    assertThat(prefetchingCache.isCached(UInt64.valueOf(4))).isFalse();
+    assertThat(getPrefetchCount("prefetched")).isZero();
+  }
+
+  @Test
+  void shouldNotPrefetchStatesBeyondFinalizedCheckpoint() {
+    final FinalizedStateCache prefetchingCache = createPrefetchingCache(3);
+    final UInt64 finalizedSlot = UInt64.valueOf(spec.getSlotsPerEpoch(UInt64.ZERO));
+    chainBuilder.generateBlocksUpToSlot(finalizedSlot);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    when(database.getFinalizedCheckpoint()).thenReturn(Optional.of(finalizedCheckpoint(ONE)));
+    allowStreamingBlocks();
+
+    for (int i = 3; i >= 1; i--) {
+      prefetchingCache.getFinalizedState(finalizedSlot.minus(i));
+    }
+
+    assertThat(prefetchingCache.isCached(finalizedSlot)).isTrue();
+    assertThat(getPrefetchCount("prefetched")).isEqualTo(1);
+  }
+
+  private FinalizedStateCache createPrefetchingCache(final int prefetchStateCount) {
+    return new FinalizedStateCache(
+        spec, database, 16, false, 120, metricsSystem, SYNC_RUNNER, prefetchStateCount);
+  }
+
+  private Checkpoint finalizedCheckpoint(final UInt64 epoch) {
+    return new Checkpoint(epoch, chainBuilder.getLatestBlockAndState().getRoot());
+  }
+
+  private long getPrefetchCount(final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.STORAGE, "finalized_state_prefetch_total")
+        .getValue(result);
+  }
+
   private void allowStreamingBlocks() {
     when(database.streamFinalizedBlocks(any(), any()))
         .thenAnswer(
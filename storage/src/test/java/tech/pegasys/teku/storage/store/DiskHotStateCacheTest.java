@@ -0,0 +1,171 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+
+class DiskHotStateCacheTest {
+  private static final int MAX_SIZE = 3;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+
+  @TempDir Path directory;
+
+  @BeforeEach
+  void setUp() {
+    chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(5);
+  }
+
+  @Test
+  void create_shouldReturnNoopWhenDisabled() {
+    assertThat(createCache(0, true)).isSameAs(PersistentHotStateCache.NOOP);
+  }
+
+  @Test
+  void get_shouldReturnStoredState() {
+    final PersistentHotStateCache cache = createCache(MAX_SIZE, true);
+    final SignedBlockAndState blockAndState = chainBuilder.getBlockAndStateAtSlot(2);
+    cache.put(blockAndState);
+
+    assertThat(cache.contains(blockAndState.getRoot())).isTrue();
+    assertLoadedState(cache, blockAndState);
+  }
+
+  @Test
+  void get_shouldReturnStoredStateWhenUncompressed() {
+    final PersistentHotStateCache cache = createCache(MAX_SIZE, false);
+    final SignedBlockAndState blockAndState = chainBuilder.getBlockAndStateAtSlot(2);
+    cache.put(blockAndState);
+
+    assertThat(directory.resolve(fileName(blockAndState, DiskHotStateCache.SSZ_EXTENSION)))
+        .exists();
+    assertLoadedState(cache, blockAndState);
+  }
+
+  @Test
+  void create_shouldLoadStatesStoredByPreviousInstance() {
+    final SignedBlockAndState blockAndState = chainBuilder.getBlockAndStateAtSlot(3);
+    createCache(MAX_SIZE, true).put(blockAndState);
+
+    final PersistentHotStateCache reloadedCache = createCache(MAX_SIZE, true);
+    assertThat(reloadedCache.contains(blockAndState.getRoot())).isTrue();
+    assertLoadedState(reloadedCache, blockAndState);
+  }
+
+  @Test
+  void put_shouldEvictLowestSlotWhenFull() {
+    final DiskHotStateCache cache = (DiskHotStateCache) createCache(MAX_SIZE, true);
+    for (int slot = 1; slot <= 4; slot++) {
+      cache.put(chainBuilder.getBlockAndStateAtSlot(slot));
+    }
+
+    assertThat(cache.size()).isEqualTo(MAX_SIZE);
+    assertThat(cache.contains(chainBuilder.getBlockAtSlot(1).getRoot())).isFalse();
+    assertThat(cache.contains(chainBuilder.getBlockAtSlot(4).getRoot())).isTrue();
+
+    // States older than everything in a full cache are not written at all
+    cache.put(chainBuilder.getBlockAndStateAtSlot(1));
+    assertThat(cache.contains(chainBuilder.getBlockAtSlot(1).getRoot())).isFalse();
+  }
+
+  @Test
+  void prune_shouldRemoveStatesBeforeFinalizedSlot() {
+    final DiskHotStateCache cache = (DiskHotStateCache) createCache(MAX_SIZE, true);
+    final SignedBlockAndState slot2 = chainBuilder.getBlockAndStateAtSlot(2);
+    final SignedBlockAndState slot3 = chainBuilder.getBlockAndStateAtSlot(3);
+    cache.put(slot2);
+    cache.put(slot3);
+
+    cache.prune(UInt64.valueOf(3));
+
+    assertThat(cache.contains(slot2.getRoot())).isFalse();
+    assertThat(cache.contains(slot3.getRoot())).isTrue();
+    assertThat(directory.resolve(fileName(slot2, DiskHotStateCache.SNAPPY_EXTENSION)))
+        .doesNotExist();
+  }
+
+  @Test
+  void remove_shouldDeleteState() {
+    final PersistentHotStateCache cache = createCache(MAX_SIZE, true);
+    final SignedBlockAndState blockAndState = chainBuilder.getBlockAndStateAtSlot(2);
+    cache.put(blockAndState);
+
+    cache.remove(blockAndState.getRoot());
+
+    assertThat(cache.contains(blockAndState.getRoot())).isFalse();
+    assertThat(cache.get(blockAndState.getRoot())).isCompletedWithValue(Optional.empty());
+  }
+
+  @Test
+  void get_shouldDiscardCorruptFile() throws IOException {
+    final PersistentHotStateCache cache = createCache(MAX_SIZE, false);
+    final SignedBlockAndState blockAndState = chainBuilder.getBlockAndStateAtSlot(2);
+    cache.put(blockAndState);
+    final Path file = directory.resolve(fileName(blockAndState, DiskHotStateCache.SSZ_EXTENSION));
+    Files.write(file, new byte[] {1, 2, 3});
+
+    assertThat(cache.get(blockAndState.getRoot())).isCompletedWithValue(Optional.empty());
+    assertThat(cache.contains(blockAndState.getRoot())).isFalse();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void create_shouldRemoveUnrecognisedFiles() throws IOException {
+    final Path tmpFile = directory.resolve(Bytes32.ZERO.toHexString() + ".tmp");
+    Files.write(tmpFile, new byte[] {1});
+
+    createCache(MAX_SIZE, true);
+
+    assertThat(tmpFile).doesNotExist();
+  }
+
+  private void assertLoadedState(
+      final PersistentHotStateCache cache, final SignedBlockAndState expected) {
+    final Optional<StateAndBlockSummary> loaded = cache.get(expected.getRoot()).join();
+    assertThat(loaded).isPresent();
+    assertThat(loaded.get().getRoot()).isEqualTo(expected.getRoot());
+    assertThat(loaded.get().getState()).isEqualTo(expected.getState());
+  }
+
+  private String fileName(final SignedBlockAndState blockAndState, final String extension) {
+    return DiskHotStateCache.fileName(
+        new SlotAndBlockRoot(blockAndState.getSlot(), blockAndState.getRoot()), extension);
+  }
+
+  private PersistentHotStateCache createCache(final int maxSize, final boolean compress) {
+    return DiskHotStateCache.create(
+        spec, SYNC_RUNNER, new StubMetricsSystem(), directory, maxSize, compress);
+  }
+}
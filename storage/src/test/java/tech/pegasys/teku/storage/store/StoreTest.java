@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.lookup.EarliestBlobSidecarSlotProvider;
+import tech.pegasys.teku.dataproviders.lookup.PersistentHotStateCache;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -72,6 +73,7 @@ class StoreTest extends AbstractStoreTest {
                     blockProviderFromChainBuilder(),
                     StateAndBlockSummaryProvider.NOOP,
                     EarliestBlobSidecarSlotProvider.NOOP,
+                    PersistentHotStateCache.NOOP,
                     Optional.empty(),
                     genesisTime.minus(1),
                     genesisTime,
@@ -350,6 +352,26 @@ class StoreTest extends AbstractStoreTest {
             "Blob sidecars must be empty");
   }
 
+  @Test
+  public void getStateCacheMemoryReport_shouldSeparateSharedAndUniqueBytes() {
+    final UpdatableStore store = createGenesisStore();
+    addBlocks(
+        store,
+        List.of(
+            chainBuilder.generateBlockAtSlot(UInt64.ONE),
+            chainBuilder.generateBlockAtSlot(UInt64.valueOf(2))));
+
+    final StateCacheMemoryReport report = store.getStateCacheMemoryReport();
+
+    assertThat(report.states())
+        .extracting(state -> state.state().slot())
+        .containsExactly(UInt64.ZERO, UInt64.ONE, UInt64.valueOf(2));
+    assertThat(report.states()).allMatch(state -> state.uniqueBytes() > 0);
+    // consecutive states share unmodified subtrees such as the validator registry
+    assertThat(report.sharedBytes()).isPositive();
+    assertThat(report.skippedStates()).isZero();
+  }
+
   @Test
   public void retrieveSignedBlock_shouldReturnEmptyIfBlockNotPresent() {
     final UpdatableStore store = createGenesisStore();
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -69,6 +70,16 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
+
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlockAsSszByBlockRoot(final Bytes32 blockRoot) {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
+
   @Override
   public SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(
       final Bytes32 blockRoot) {
@@ -138,11 +149,21 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<Optional<UInt64>> getReconstructedStatesSlot() {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     return SafeFuture.completedFuture(Optional.empty());
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarAsSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
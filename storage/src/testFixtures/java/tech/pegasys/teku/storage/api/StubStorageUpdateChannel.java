@@ -48,6 +48,11 @@ public class StubStorageUpdateChannel implements StorageUpdateChannel {
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedStatesProgress(final UInt64 slot) {
+    return SafeFuture.COMPLETE;
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
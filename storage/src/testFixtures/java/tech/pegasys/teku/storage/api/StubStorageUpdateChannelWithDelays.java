@@ -54,6 +54,11 @@ public class StubStorageUpdateChannelWithDelays implements StorageUpdateChannel
     return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedStatesProgress(final UInt64 slot) {
+    return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
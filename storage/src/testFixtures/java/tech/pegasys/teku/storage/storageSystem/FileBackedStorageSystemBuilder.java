@@ -25,6 +25,7 @@ import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreBlobSidecarStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
 import tech.pegasys.teku.storage.server.rocksdb.RocksDbDatabaseFactory;
@@ -183,7 +184,9 @@ public class FileBackedStorageSystemBuilder {
         schema,
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
+        new KvStoreBlobSidecarStorageLogic(),
         spec);
   }
 
@@ -194,7 +197,9 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         stateStorageFrequency,
+        0,
         storeNonCanonicalBlocks,
+        new KvStoreBlobSidecarStorageLogic(),
         spec);
   }
 
@@ -205,6 +210,7 @@ public class FileBackedStorageSystemBuilder {
         configDefault.withDatabaseDir(hotDir),
         storageMode,
         storeNonCanonicalBlocks,
+        new KvStoreBlobSidecarStorageLogic(),
         10_000,
         spec);
   }
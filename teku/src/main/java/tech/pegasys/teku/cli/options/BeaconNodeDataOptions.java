@@ -55,6 +55,19 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       arity = "1")
   private long dataStorageFrequency = StorageConfiguration.DEFAULT_STORAGE_FREQUENCY;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-archive-snapshot-frequency"},
+      paramLabel = "<FREQUENCY>",
+      description =
+          "Sets the frequency, in slots, at which to store full finalized state snapshots. "
+              + "Finalized states in between are stored as diffs against the previous state. "
+              + "Set to 0 to store every finalized state as a full snapshot. "
+              + "This option is ignored if --data-storage-mode is set to PRUNE",
+      arity = "1",
+      hidden = true)
+  private long dataStorageSnapshotFrequency =
+      StorageConfiguration.DEFAULT_STORAGE_SNAPSHOT_FREQUENCY;
+
   @CommandLine.Option(
       names = {"--Xdata-storage-archive-finalized-states-retained"},
       paramLabel = "<INTEGER>",
@@ -104,6 +117,19 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
   private boolean storeNonCanonicalBlocksEnabled =
       StorageConfiguration.DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-blob-sidecar-segment-files-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Store blob sidecars in append-only segment files, each covering a range of slots, "
+              + "instead of in the database. Pruning deletes whole files.",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean blobSidecarSegmentFilesEnabled =
+      StorageConfiguration.DEFAULT_BLOB_SIDECAR_SEGMENT_FILES_ENABLED;
+
   /**
    * Default value selected based on experimentation to minimise memory usage without affecting sync
    * time. Not that states later in the chain with more validators have more branches so need a
@@ -215,8 +241,10 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
         b ->
             b.dataStorageMode(dataStorageMode)
                 .dataStorageFrequency(dataStorageFrequency)
+                .dataStorageSnapshotFrequency(dataStorageSnapshotFrequency)
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
+                .blobSidecarSegmentFilesEnabled(blobSidecarSegmentFilesEnabled)
                 .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
                 .blockPruningInterval(Duration.ofSeconds(blockPruningIntervalSeconds))
                 .blockPruningLimit(blockPruningLimit)
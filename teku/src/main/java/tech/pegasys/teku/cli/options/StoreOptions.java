@@ -15,6 +15,7 @@ package tech.pegasys.teku.cli.options;
 
 import static tech.pegasys.teku.storage.store.StoreConfig.DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY;
 
+import picocli.CommandLine.Help.Visibility;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.storage.store.StoreConfig;
@@ -62,6 +63,26 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-hot-state-disk-cache-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of recently used hot states to cache on disk so they survive restarts. A value of zero disables the cache.",
+      arity = "1")
+  private int hotStateDiskCacheSize = StoreConfig.DEFAULT_HOT_STATE_DISK_CACHE_SIZE;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-hot-state-disk-cache-compression-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Whether to snappy compress states stored in the on-disk hot state cache",
+      showDefaultValue = Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean hotStateDiskCacheCompressionEnabled =
+      StoreConfig.DEFAULT_HOT_STATE_DISK_CACHE_COMPRESSION_ENABLED;
+
   @Option(
       names = {"--Xstore-earliest-available-block-slot-cache-seconds"},
       hidden = true,
@@ -80,6 +101,8 @@ public class StoreOptions {
                 .stateCacheSize(stateCacheSize)
                 .epochStateCacheSize(epochStateCacheSize)
                 .earliestAvailableBlockSlotFrequency(earliestAvailableBlockSlotQueryFrequency)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .hotStateDiskCacheSize(hotStateDiskCacheSize)
+                .hotStateDiskCacheCompressionEnabled(hotStateDiskCacheCompressionEnabled));
   }
 }
@@ -15,6 +15,8 @@ package tech.pegasys.teku.cli.subcommand.debug;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -891,9 +893,14 @@ public class DebugDbCommand implements Runnable {
       System.err.println("No state available.");
       return 2;
     }
-    try {
-      Files.write(outputFile, state.get().sszSerialize().toArrayUnsafe());
-    } catch (IOException e) {
+    try (FileChannel channel =
+        FileChannel.open(
+            outputFile,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      state.get().sszSerialize(channel);
+    } catch (IOException | UncheckedIOException e) {
       System.err.println("Unable to write state to " + outputFile + ": " + e.getMessage());
       return 1;
     }
@@ -84,6 +84,49 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getDataStorageFrequency()).isEqualTo(1024000L);
   }
 
+  @Test
+  public void dataStorageSnapshotFrequency_shouldDefault() {
+    final StorageConfiguration config = getTekuConfigurationFromArguments().storageConfiguration();
+    assertThat(config.getDataStorageSnapshotFrequency()).isZero();
+  }
+
+  @Test
+  public void dataStorageSnapshotFrequency_shouldAcceptNonDefaultValues() {
+    final StorageConfiguration config =
+        getTekuConfigurationFromArguments(
+                "--data-storage-archive-frequency",
+                "32",
+                "--Xdata-storage-archive-snapshot-frequency",
+                "8192")
+            .storageConfiguration();
+    assertThat(config.getDataStorageSnapshotFrequency()).isEqualTo(8192L);
+  }
+
+  @Test
+  public void dataStorageSnapshotFrequency_shouldRejectValuesNotAboveArchiveFrequency() {
+    assertThatThrownBy(
+            () ->
+                createConfigBuilder()
+                    .storageConfiguration(
+                        b -> b.dataStorageFrequency(2048).dataStorageSnapshotFrequency(1024))
+                    .build())
+        .isInstanceOf(InvalidConfigurationException.class);
+  }
+
+  @Test
+  public void blobSidecarSegmentFiles_shouldDefaultToDisabled() {
+    final StorageConfiguration config = getTekuConfigurationFromArguments().storageConfiguration();
+    assertThat(config.isBlobSidecarSegmentFilesEnabled()).isFalse();
+  }
+
+  @Test
+  public void blobSidecarSegmentFiles_shouldBeEnabledByFlag() {
+    final StorageConfiguration config =
+        getTekuConfigurationFromArguments("--Xdata-storage-blob-sidecar-segment-files-enabled")
+            .storageConfiguration();
+    assertThat(config.isBlobSidecarSegmentFilesEnabled()).isTrue();
+  }
+
   @Test
   public void dataStorageCreateDbVersion_shouldDefault() {
     final StorageConfiguration config = getTekuConfigurationFromArguments().storageConfiguration();
@@ -62,4 +62,58 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void hotStateDiskCacheSize_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xstore-hot-state-disk-cache-size", "16",
+    };
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(globalConfiguration.getHotStateDiskCacheSize()).isEqualTo(16);
+  }
+
+  @Test
+  public void hotStateDiskCacheSize_shouldSetDefaultValue() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getHotStateDiskCacheSize()).isEqualTo(0);
+  }
+
+  @Test
+  public void hotStateDiskCacheSize_invalidNumber() {
+    final String[] args = {
+      "--Xstore-hot-state-disk-cache-size", "1.5",
+    };
+    beaconNodeCommand.parse(args);
+    final String output = getCommandLineOutput();
+
+    assertThat(output).isNotEmpty();
+    assertThat(output).contains("Invalid value");
+  }
+
+  @Test
+  public void hotStateDiskCacheCompressionEnabled_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xstore-hot-state-disk-cache-compression-enabled", "false",
+    };
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(globalConfiguration.isHotStateDiskCacheCompressionEnabled()).isFalse();
+  }
+
+  @Test
+  public void hotStateDiskCacheCompressionEnabled_shouldBeEnabledWhenSpecifiedWithoutValue() {
+    final String[] args = {"--Xstore-hot-state-disk-cache-compression-enabled"};
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(globalConfiguration.isHotStateDiskCacheCompressionEnabled()).isTrue();
+  }
+
+  @Test
+  public void hotStateDiskCacheCompressionEnabled_shouldSetDefaultValue() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isHotStateDiskCacheCompressionEnabled()).isTrue();
+  }
 }